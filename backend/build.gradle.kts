@@ -5,6 +5,7 @@ plugins {
 	kotlin("kapt") version "1.9.25"  // kapt 플러그인 추가
 	id("org.springframework.boot") version "3.2.4"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2" // JMH 벤치마크 (src/jmh)
 }
 
 group = "com.tripfriend"
@@ -29,6 +30,7 @@ dependencies {
 	implementation("org.springframework.boot:spring-boot-starter-security")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
 	implementation("org.springframework.boot:spring-boot-starter-web")
+	implementation("org.springframework.boot:spring-boot-starter-actuator") // 지표 (Micrometer)
 
 	// Kotlin
 	implementation("org.jetbrains.kotlin:kotlin-reflect")
@@ -86,6 +88,8 @@ dependencies {
 	implementation(kotlin("stdlib-jdk8"))
 
 	implementation("software.amazon.awssdk:s3:2.31.18")
+	implementation("software.amazon.awssdk:apache-client:2.31.18") // 동기 클라이언트 커넥션 풀
+	implementation("software.amazon.awssdk:netty-nio-client:2.31.18") // 비동기(멀티파트) 업로드
 }
 
 kotlin {
@@ -104,6 +108,13 @@ tasks.withType<Test> {
 	useJUnitPlatform()
 }
 
+// JMH 벤치마크 설정 (./gradlew jmh)
+jmh {
+	warmupIterations.set(2)
+	iterations.set(5)
+	fork.set(1)
+}
+
 // QueryDSL 설정
 val querydslDir = "$buildDir/generated/querydsl"
 
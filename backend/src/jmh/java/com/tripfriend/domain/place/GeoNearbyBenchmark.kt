@@ -0,0 +1,77 @@
+package com.tripfriend.domain.place
+
+import com.tripfriend.global.util.GeoUtil
+import org.openjdk.jmh.annotations.*
+import java.util.concurrent.TimeUnit
+import kotlin.random.Random
+
+// 여행지 100만 개 기준 주변 검색 성능 측정: 전체 Haversine 스캔 vs geohash 접두사 범위 검색
+// (정렬된 geohash 배열에 대한 이진 탐색은 DB의 geohash 인덱스 범위 검색을 흉내낸다)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+open class GeoNearbyBenchmark {
+
+    @Param("1000000")
+    var places: Int = 0
+
+    @Param("1", "5", "20")
+    var radiusKm: Double = 0.0
+
+    private lateinit var latitudes: DoubleArray
+    private lateinit var longitudes: DoubleArray
+
+    // geohash 순으로 정렬된 색인
+    private lateinit var sortedHashes: Array<String>
+    private lateinit var sortedIndexes: IntArray
+
+    private val queryLat = 37.5663
+    private val queryLng = 126.9779
+
+    @Setup
+    fun setUp() {
+        // 국내 범위의 임의 좌표
+        val random = Random(42)
+        latitudes = DoubleArray(places) { 33.1 + random.nextDouble() * 5.5 }
+        longitudes = DoubleArray(places) { 124.6 + random.nextDouble() * 6.9 }
+
+        val hashes = Array(places) { GeoUtil.geohash(latitudes[it], longitudes[it]) }
+        val order = (0 until places).sortedBy { hashes[it] }
+        sortedHashes = Array(places) { hashes[order[it]] }
+        sortedIndexes = order.toIntArray()
+    }
+
+    @Benchmark
+    fun fullScan(): Int {
+        var count = 0
+        for (i in 0 until places) {
+            if (GeoUtil.haversineKm(queryLat, queryLng, latitudes[i], longitudes[i]) <= radiusKm) count++
+        }
+        return count
+    }
+
+    @Benchmark
+    fun geohashPrefixRange(): Int {
+        var count = 0
+        for (prefix in GeoUtil.coveringGeohashes(queryLat, queryLng, radiusKm)) {
+            var i = lowerBound(prefix)
+            while (i < places && sortedHashes[i].startsWith(prefix)) {
+                val index = sortedIndexes[i]
+                if (GeoUtil.haversineKm(queryLat, queryLng, latitudes[index], longitudes[index]) <= radiusKm) count++
+                i++
+            }
+        }
+        return count
+    }
+
+    // prefix 이상인 첫 위치
+    private fun lowerBound(prefix: String): Int {
+        var low = 0
+        var high = places
+        while (low < high) {
+            val mid = (low + high) ushr 1
+            if (sortedHashes[mid] < prefix) low = mid + 1 else high = mid
+        }
+        return low
+    }
+}
@@ -0,0 +1,37 @@
+package com.tripfriend.domain.trip.planner
+
+import com.tripfriend.domain.trip.planner.service.RouteSolver
+import com.tripfriend.global.util.GeoUtil
+import org.openjdk.jmh.annotations.*
+import java.util.concurrent.TimeUnit
+import kotlin.random.Random
+
+// 하루 최대 100개 장소 기준 경로 계산 성능 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+open class RouteSolverBenchmark {
+
+    @Param("10", "30", "100")
+    var stops: Int = 0
+
+    private lateinit var matrix: Array<DoubleArray>
+
+    @Setup
+    fun setUp() {
+        // 서울 시내 범위의 임의 좌표
+        val random = Random(42)
+        val coordinates = List(stops) { 37.45 + random.nextDouble() * 0.2 to 126.85 + random.nextDouble() * 0.3 }
+        matrix = Array(stops) { i ->
+            DoubleArray(stops) { j ->
+                GeoUtil.haversineKm(coordinates[i].first, coordinates[i].second, coordinates[j].first, coordinates[j].second)
+            }
+        }
+    }
+
+    @Benchmark
+    fun nearestNeighbour(): IntArray = RouteSolver.nearestNeighbour(matrix)
+
+    @Benchmark
+    fun nearestNeighbourWithTwoOpt(): RouteSolver.Result = RouteSolver.solve(matrix, Long.MAX_VALUE)
+}
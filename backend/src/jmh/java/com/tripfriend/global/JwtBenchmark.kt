@@ -0,0 +1,54 @@
+package com.tripfriend.global
+
+import com.tripfriend.global.util.JwtKeyRing
+import io.jsonwebtoken.Claims
+import io.jsonwebtoken.Jwts
+import io.jsonwebtoken.SignatureAlgorithm
+import org.openjdk.jmh.annotations.*
+import java.util.*
+import java.util.concurrent.TimeUnit
+import javax.crypto.spec.SecretKeySpec
+
+// JWT 발급 / 검증 처리량: 호출마다 키와 파서를 만드는 기존 방식 vs 미리 만든 키 목록(JwtKeyRing)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+open class JwtBenchmark {
+
+    private val secret = "tripfriend-benchmark-secret-key-".repeat(4)
+
+    private lateinit var keyRing: JwtKeyRing
+    private lateinit var token: String
+
+    @Setup
+    fun setUp() {
+        keyRing = JwtKeyRing("v2", secret, mapOf("v1" to secret.reversed()))
+        token = keyRing.sign(builder())
+    }
+
+    private fun builder() = Jwts.builder()
+        .setSubject("user1")
+        .setIssuedAt(Date())
+        .setExpiration(Date(System.currentTimeMillis() + 3_600_000))
+        .addClaims(mapOf("authority" to "USER", "verified" to true))
+
+    @Benchmark
+    fun generatePerCallKey(): String =
+        builder()
+            .signWith(SecretKeySpec(secret.toByteArray(), SignatureAlgorithm.HS512.jcaName), SignatureAlgorithm.HS512)
+            .compact()
+
+    @Benchmark
+    fun generateCachedKey(): String = keyRing.sign(builder())
+
+    @Benchmark
+    fun verifyPerCallParser(): Claims =
+        Jwts.parser()
+            .setSigningKey(SecretKeySpec(secret.toByteArray(), SignatureAlgorithm.HS512.jcaName))
+            .build()
+            .parseSignedClaims(token)
+            .payload
+
+    @Benchmark
+    fun verifyCachedParser(): Claims = keyRing.verify(token)
+}
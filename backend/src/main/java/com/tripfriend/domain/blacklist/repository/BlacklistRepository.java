@@ -3,10 +3,16 @@ package com.tripfriend.domain.blacklist.repository;
 import com.tripfriend.domain.blacklist.entity.Blacklist;
 import com.tripfriend.domain.member.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface BlacklistRepository extends JpaRepository<Blacklist, Long> {
     Optional<Blacklist> findByMember(Member member);
     boolean existsByMember(Member member);
+
+    // 블랙리스트 회원의 [id, 사용자 아이디] 목록 (메모리 스냅샷 구성용)
+    @Query("select m.id, m.username from Blacklist b join b.member m")
+    List<Object[]> findBlacklistedMembers();
 }
@@ -4,6 +4,9 @@ import com.tripfriend.domain.blacklist.entity.Blacklist;
 import com.tripfriend.domain.blacklist.repository.BlacklistRepository;
 import com.tripfriend.domain.member.member.entity.Member;
 import com.tripfriend.domain.member.member.repository.MemberRepository;
+import com.tripfriend.domain.member.member.service.AuthService;
+import com.tripfriend.global.security.CustomUserDetailsService;
+import com.tripfriend.global.util.TransactionCallbacks;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -16,6 +19,9 @@ import java.util.List;
 public class BlacklistService {
     private final BlacklistRepository blacklistRepository;
     private final MemberRepository memberRepository;
+    private final BlacklistSnapshot blacklistSnapshot;
+    private final AuthService authService;
+    private final CustomUserDetailsService customUserDetailsService;
 
     //블랙리스트 추가
     @Transactional
@@ -31,7 +37,12 @@ public class BlacklistService {
                 .reason(reason)
                 .build();
         blacklistRepository.save(blacklist);
+        blacklistSnapshot.invalidate(); // 모든 서버의 블랙리스트 스냅샷 갱신
+        customUserDetailsService.evict(member.getUsername()); // 캐시된 인증 회원 정보 갱신
 
+        // 커밋 후 이미 발급된 토큰 / 세션을 모두 무효화 (등록이 롤백되면 로그인 유지)
+        String username = member.getUsername();
+        TransactionCallbacks.afterCommit(() -> authService.revokeAllTokens(username));
     }
     //블랙리스트 삭제
     @Transactional
@@ -43,6 +54,8 @@ public class BlacklistService {
                 .orElseThrow(() -> new IllegalArgumentException("블랙리스트에 등록되지 않은 회원입니다."));
 
         blacklistRepository.delete(blacklist);
+        blacklistSnapshot.invalidate();
+        customUserDetailsService.evict(member.getUsername());
     }
 
     // 블랙리스트 조회
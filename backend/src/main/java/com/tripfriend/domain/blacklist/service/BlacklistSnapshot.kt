@@ -0,0 +1,102 @@
+package com.tripfriend.domain.blacklist.service
+
+import com.tripfriend.domain.blacklist.repository.BlacklistRepository
+import com.tripfriend.global.cache.LocalCacheInvalidation
+import jakarta.annotation.PostConstruct
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.listener.RedisMessageListenerContainer
+import org.springframework.stereotype.Component
+import java.util.*
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.locks.ReentrantLock
+
+/**
+ * 블랙리스트 회원 메모리 스냅샷
+ *
+ * 인증 필터와 로그인이 요청마다 DB를 조회하지 않도록 차단된 회원을 회원 id 비트맵과 사용자 아이디 집합으로 보관한다.
+ * (토큰에는 사용자 아이디만 있으므로 필터는 아이디로, 로그인은 회원 id로 확인)
+ * 블랙리스트가 바뀌면 invalidate()로 스냅샷을 버리고 Redis 채널로 다른 서버에도 알리며, 다음 조회 때 다시 만든다.
+ * 무효화 메시지는 Redis 장애 중에 유실될 수 있으므로, 스냅샷은 최대 보관 시간이 지나면 메시지가 없어도 다시 만든다.
+ * (다시 만드는 동안 다른 요청은 기존 스냅샷을 사용)
+ */
+@Component
+class BlacklistSnapshot(
+    private val blacklistRepository: BlacklistRepository,
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val listenerContainer: RedisMessageListenerContainer,
+    @Value("\${custom.blacklist.snapshot-max-age-seconds:60}") maxAgeSeconds: Long
+) {
+
+    companion object {
+        const val INVALIDATE_CHANNEL = "blacklist:snapshot:invalidate"
+    }
+
+    private class Snapshot(members: List<Array<out Any?>>, val builtAt: Long) {
+        // 회원 id는 자동 증가 값이므로 비트맵이 집합보다 훨씬 작다 (회원 100만 명 기준 최대 125KB)
+        val memberIds = BitSet()
+        val usernames = HashSet<String>(members.size * 2)
+
+        init {
+            for (member in members) {
+                val id = (member[0] as Number).toLong()
+                if (id in 0..Int.MAX_VALUE) memberIds.set(id.toInt())
+                usernames.add(member[1] as String)
+            }
+        }
+    }
+
+    private val maxAgeNanos = TimeUnit.SECONDS.toNanos(maxAgeSeconds)
+
+    private val lock = ReentrantLock()
+
+    @Volatile
+    private var snapshot: Snapshot? = null
+
+    private val invalidation = LocalCacheInvalidation(INVALIDATE_CHANNEL, redisTemplate, evict = { snapshot = null })
+
+    @PostConstruct
+    fun subscribe() {
+        invalidation.subscribe(listenerContainer)
+    }
+
+    // 차단된 회원인지 확인 (회원 id)
+    fun isBlacklisted(memberId: Long): Boolean =
+        memberId in 0..Int.MAX_VALUE && snapshot().memberIds.get(memberId.toInt())
+
+    // 차단된 회원인지 확인 (사용자 아이디)
+    fun isBlacklisted(username: String): Boolean = snapshot().usernames.contains(username)
+
+    /**
+     * 블랙리스트가 변경되었을 때 호출한다.
+     * 즉시 로컬 스냅샷을 버리고, 트랜잭션이 끝나면(커밋/롤백) 한 번 더 버린 뒤 다른 서버에 무효화를 알린다.
+     */
+    fun invalidate() {
+        invalidation.invalidate()
+    }
+
+    private fun snapshot(): Snapshot {
+        val current = snapshot
+        if (current != null && isFresh(current)) return current
+
+        // 오래된 스냅샷은 한 스레드만 다시 만들고, 나머지는 기존 스냅샷을 사용
+        if (current != null) {
+            if (!lock.tryLock()) return current
+        } else {
+            lock.lock()
+        }
+        try {
+            snapshot?.let { if (isFresh(it)) return it }
+            val startGeneration = invalidation.generation()
+            val built = Snapshot(blacklistRepository.findBlacklistedMembers(), System.nanoTime())
+            if (invalidation.generation() == startGeneration) {
+                snapshot = built
+            }
+            return built
+        } finally {
+            lock.unlock()
+        }
+    }
+
+    private fun isFresh(snapshot: Snapshot): Boolean = System.nanoTime() - snapshot.builtAt < maxAgeNanos
+}
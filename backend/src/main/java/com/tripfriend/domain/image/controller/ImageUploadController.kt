@@ -0,0 +1,59 @@
+package com.tripfriend.domain.image.controller
+
+import com.tripfriend.domain.image.dto.ImageUploadReqDto
+import com.tripfriend.domain.image.dto.ImageUploadResDto
+import com.tripfriend.domain.image.service.ImageUploadService
+import com.tripfriend.domain.member.member.entity.Member
+import com.tripfriend.global.annotation.CheckPermission
+import com.tripfriend.global.annotation.LoginMember
+import com.tripfriend.global.dto.RsData
+import io.swagger.v3.oas.annotations.Operation
+import io.swagger.v3.oas.annotations.tags.Tag
+import jakarta.validation.Valid
+import org.springframework.web.bind.annotation.*
+
+@RestController
+@RequestMapping("/images/uploads")
+@Tag(name = "Image Upload API", description = "이미지를 저장소에 직접 업로드하는 기능을 제공합니다.")
+class ImageUploadController(
+    private val imageUploadService: ImageUploadService
+) {
+
+    // 직접 업로드 주소 발급
+    @PostMapping
+    @Operation(
+        summary = "이미지 업로드 주소 발급",
+        description = "이미지의 형식 / 크기 / SHA-256으로 저장소에 직접 올릴 수 있는 PUT 주소를 발급합니다. 업로드 후 완료 요청으로 회원 / 여행지에 연결합니다."
+    )
+    fun requestUpload(
+        @LoginMember loggedInMember: Member,
+        @Valid @RequestBody req: ImageUploadReqDto
+    ): RsData<ImageUploadResDto> {
+        val upload = imageUploadService.requestUpload(loggedInMember.id!!, req)
+        return RsData("200-1", "이미지 업로드 주소가 발급되었습니다.", upload)
+    }
+
+    // 업로드 완료 - 프로필 이미지로 등록
+    @PostMapping("/{uploadId}/profile")
+    @Operation(summary = "프로필 이미지 업로드 완료", description = "업로드된 이미지를 확인하고 프로필 이미지로 등록합니다.")
+    fun completeProfileImage(
+        @LoginMember loggedInMember: Member,
+        @PathVariable uploadId: String
+    ): RsData<String> {
+        val imageUrl = imageUploadService.completeProfileImage(loggedInMember.id!!, uploadId)
+        return RsData("200-2", "프로필 이미지가 등록되었습니다.", imageUrl)
+    }
+
+    // 업로드 완료 - 여행지 이미지로 등록
+    @PostMapping("/{uploadId}/place/{placeId}")
+    @CheckPermission("ADMIN")
+    @Operation(summary = "여행지 이미지 업로드 완료", description = "업로드된 이미지를 확인하고 여행지 이미지로 등록합니다.")
+    fun completePlaceImage(
+        @LoginMember loggedInMember: Member,
+        @PathVariable uploadId: String,
+        @PathVariable placeId: Long
+    ): RsData<String> {
+        val imageUrl = imageUploadService.completePlaceImage(loggedInMember.id!!, uploadId, placeId)
+        return RsData("200-3", "여행지 이미지가 등록되었습니다.", imageUrl)
+    }
+}
@@ -0,0 +1,16 @@
+package com.tripfriend.domain.image.dto
+
+import jakarta.validation.constraints.NotBlank
+import jakarta.validation.constraints.Pattern
+import jakarta.validation.constraints.Positive
+
+data class ImageUploadReqDto(
+    @field:NotBlank(message = "이미지 형식을 입력해주세요.")
+    val contentType: String,
+
+    @field:Positive(message = "이미지 크기를 입력해주세요.")
+    val size: Long,
+
+    @field:Pattern(regexp = "[0-9a-fA-F]{64}", message = "SHA-256 해시(16진수 64자리)를 입력해주세요.")
+    val sha256: String, // 클라이언트가 계산한 내용 해시 (저장소가 업로드 시 검증)
+)
@@ -0,0 +1,11 @@
+package com.tripfriend.domain.image.dto
+
+import java.time.Instant
+
+data class ImageUploadResDto(
+    val uploadId: String,
+    val alreadyUploaded: Boolean, // 같은 내용이 이미 저장되어 있으면 업로드 없이 바로 완료 요청
+    val uploadUrl: String?, // PUT 요청 주소 (alreadyUploaded면 null)
+    val headers: Map<String, String>, // PUT 요청에 그대로 붙여야 하는 헤더
+    val expiresAt: Instant?,
+)
@@ -0,0 +1,18 @@
+package com.tripfriend.domain.image.dto
+
+import com.tripfriend.domain.image.entity.ImageVariant
+import com.tripfriend.domain.image.entity.ImageVariantSet
+
+data class ImageVariantsDto(
+    val small: String,
+    val medium: String,
+    val large: String,
+    val placeholder: String?, // data URI (별도 요청 없이 바로 표시)
+) {
+    constructor(variantSet: ImageVariantSet) : this(
+        small = ImageVariant.SMALL.nameOf(variantSet.imageUrl),
+        medium = ImageVariant.MEDIUM.nameOf(variantSet.imageUrl),
+        large = ImageVariant.LARGE.nameOf(variantSet.imageUrl),
+        placeholder = variantSet.placeholder
+    )
+}
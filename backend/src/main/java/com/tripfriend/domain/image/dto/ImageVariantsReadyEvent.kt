@@ -0,0 +1,4 @@
+package com.tripfriend.domain.image.dto
+
+// 크기별 이미지 생성 완료 알림 (원본 이미지를 참조하는 캐시 갱신용)
+data class ImageVariantsReadyEvent(val imageUrl: String)
@@ -0,0 +1,15 @@
+package com.tripfriend.domain.image.entity
+
+// 업로드 시 만들어 두는 너비 제한 JPEG 크기
+enum class ImageVariant(val width: Int) {
+    SMALL(320), // 목록 카드, 프로필
+    MEDIUM(768), // 상세 화면 (모바일)
+    LARGE(1280); // 상세 화면 (데스크톱)
+
+    // 원본 URL(또는 키) 뒤에 크기를 붙인 이름 (저장소와 무관하게 URL과 키가 같은 규칙을 따른다)
+    fun nameOf(original: String) = "$original.w$width.jpg"
+
+    companion object {
+        const val PLACEHOLDER_WIDTH = 24 // 로딩 중 흐리게 보여 줄 미리보기 너비
+    }
+}
@@ -0,0 +1,20 @@
+package com.tripfriend.domain.image.entity
+
+import jakarta.persistence.*
+import java.time.LocalDateTime
+
+// 크기별 이미지 생성이 끝난 원본 이미지 (원본 URL로 조회)
+@Entity
+@Table(name = "image_variant_set")
+class ImageVariantSet(
+
+    @Id
+    @Column(name = "image_url", length = 512)
+    var imageUrl: String,
+
+    @Column(name = "placeholder", columnDefinition = "TEXT")
+    var placeholder: String?, // 미리보기 이미지 data URI
+
+    @Column(name = "created_at", nullable = false)
+    var createdAt: LocalDateTime = LocalDateTime.now()
+)
@@ -0,0 +1,45 @@
+package com.tripfriend.domain.image.entity
+
+import jakarta.persistence.*
+import org.springframework.data.domain.Persistable
+import java.time.LocalDateTime
+
+// 내용 해시로 저장된 이미지와 참조 수 (같은 내용을 다시 올리면 참조 수만 늘어난다)
+@Entity
+@Table(name = "stored_image")
+class StoredImage(
+
+    @Id
+    @Column(name = "storage_key", length = 255)
+    var storageKey: String, // "images/{sha256}.{확장자}"
+
+    @Column(name = "sha256", nullable = false, length = 64)
+    var sha256: String,
+
+    @Column(name = "size", nullable = false)
+    var size: Long,
+
+    @Column(name = "content_type")
+    var contentType: String?,
+
+    @Column(name = "ref_count", nullable = false)
+    var refCount: Int = 0,
+
+    @Column(name = "created_at", nullable = false)
+    var createdAt: LocalDateTime = LocalDateTime.now()
+) : Persistable<String> {
+
+    // 식별자를 직접 지정하므로 merge(조회 후 덮어쓰기) 대신 항상 insert 되도록 새 엔티티 여부를 따로 관리
+    @Transient
+    private var isNewEntity = true
+
+    override fun getId(): String = storageKey
+
+    override fun isNew(): Boolean = isNewEntity
+
+    @PostLoad
+    @PostPersist
+    fun markNotNew() {
+        isNewEntity = false
+    }
+}
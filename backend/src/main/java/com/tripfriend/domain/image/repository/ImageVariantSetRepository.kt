@@ -0,0 +1,6 @@
+package com.tripfriend.domain.image.repository
+
+import com.tripfriend.domain.image.entity.ImageVariantSet
+import org.springframework.data.jpa.repository.JpaRepository
+
+interface ImageVariantSetRepository : JpaRepository<ImageVariantSet, String>
@@ -0,0 +1,25 @@
+package com.tripfriend.domain.image.repository
+
+import com.tripfriend.domain.image.entity.StoredImage
+import jakarta.persistence.LockModeType
+import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Lock
+import org.springframework.data.jpa.repository.Modifying
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
+
+interface StoredImageRepository : JpaRepository<StoredImage, String> {
+
+    @Modifying
+    @Query("UPDATE StoredImage s SET s.refCount = s.refCount + 1 WHERE s.storageKey = :storageKey")
+    fun incrementRefCount(@Param("storageKey") storageKey: String): Int
+
+    @Modifying
+    @Query("UPDATE StoredImage s SET s.refCount = s.refCount - 1 WHERE s.storageKey = :storageKey AND s.refCount > 0")
+    fun decrementRefCount(@Param("storageKey") storageKey: String): Int
+
+    // 정리 대상 확인용 (삭제하는 동안 같은 이미지의 참조 증가가 끼어들지 않도록 행 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM StoredImage s WHERE s.storageKey IN :storageKeys")
+    fun findAllForUpdate(@Param("storageKeys") storageKeys: Collection<String>): List<StoredImage>
+}
@@ -0,0 +1,103 @@
+package com.tripfriend.domain.image.service
+
+import com.tripfriend.domain.image.repository.ImageVariantSetRepository
+import com.tripfriend.domain.image.repository.StoredImageRepository
+import com.tripfriend.domain.member.member.repository.MemberRepository
+import com.tripfriend.domain.place.place.repository.PlaceRepository
+import com.tripfriend.global.storage.ImageStorage
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Service
+import org.springframework.transaction.support.TransactionTemplate
+import java.time.Duration
+import java.time.Instant
+
+/**
+ * 참조되지 않는 이미지 정리 작업.
+ *
+ * 저장소 키를 페이지 단위로 훑으며, 참조 수가 0이거나 등록되지 않은 이미지 중
+ * 회원 / 여행지가 직접 참조하지도 않는 것을 크기별 이미지와 함께 일괄 삭제한다.
+ * 막 업로드되어 아직 엔티티에 연결되지 않은 이미지를 지우지 않도록 유예 시간이 지난 객체만 대상으로 한다.
+ */
+@Service
+class ImageGarbageCollectionService(
+    private val imageStorage: ImageStorage,
+    private val storedImageRepository: StoredImageRepository,
+    private val imageVariantSetRepository: ImageVariantSetRepository,
+    private val placeRepository: PlaceRepository,
+    private val memberRepository: MemberRepository,
+    private val transactionTemplate: TransactionTemplate
+) {
+
+    companion object {
+        // 크기별 이미지 키 ("원본키.w320.jpg") -> 원본 키
+        private val VARIANT_SUFFIX = Regex("\\.w\\d+\\.jpg$")
+    }
+
+    private val logger = LoggerFactory.getLogger(this::class.java)
+
+    @Value("\${custom.image.gc.enabled:false}")
+    private var enabled: Boolean = false
+
+    @Value("\${custom.image.gc.page-size:1000}")
+    private var pageSize: Int = 1000
+
+    @Value("\${custom.image.gc.grace-hours:24}")
+    private var graceHours: Long = 24
+
+    @Scheduled(cron = "0 30 4 * * ?") // 매일 새벽 4시 30분에 실행
+    fun scheduledCollect() {
+        if (enabled) {
+            collect()
+        }
+    }
+
+    /**
+     * 참조되지 않는 이미지를 삭제한다.
+     *
+     * @return 삭제한 객체 수 (크기별 이미지 포함)
+     */
+    fun collect(): Int {
+        val referencedKeys = loadReferencedKeys()
+        val cutoff = Instant.now().minus(Duration.ofHours(graceHours))
+
+        var deleted = 0
+        var token: String? = null
+        do {
+            val page = imageStorage.list(token, pageSize)
+            val candidates = page.objects.filter { it.lastModified.isBefore(cutoff) }.map { it.key }
+            if (candidates.isNotEmpty()) {
+                deleted += deleteUnreferenced(candidates, referencedKeys)
+            }
+            token = page.nextToken
+        } while (token != null)
+
+        logger.info("이미지 정리 완료 - 삭제 {}건", deleted)
+        return deleted
+    }
+
+    // 회원 / 여행지가 직접 참조하는 이미지 키 (참조 수가 없는 예전 업로드도 보호)
+    private fun loadReferencedKeys(): Set<String> =
+        (placeRepository.findAllImageUrls() + memberRepository.findAllProfileImages())
+            .mapNotNullTo(HashSet()) { imageStorage.keyOf(it) }
+
+    // 한 페이지의 삭제 대상 처리 (참조 수 행을 잠근 채 객체 삭제 후 행 삭제)
+    private fun deleteUnreferenced(keys: List<String>, referencedKeys: Set<String>): Int = transactionTemplate.execute {
+        val originals = keys.associateWith { it.replace(VARIANT_SUFFIX, "") }
+        val rows = storedImageRepository.findAllForUpdate(originals.values.toSet()).associateBy { it.storageKey }
+
+        val dead = keys.filter { key ->
+            val original = originals.getValue(key)
+            original !in referencedKeys && (rows[original]?.refCount ?: 0) == 0
+        }
+        if (dead.isEmpty()) return@execute 0
+
+        imageStorage.deleteAll(dead)
+
+        val deadOriginals = dead.mapTo(HashSet()) { originals.getValue(it) }
+        storedImageRepository.deleteAllByIdInBatch(deadOriginals.filter { it in rows })
+        imageVariantSetRepository.deleteAllByIdInBatch(deadOriginals.map { imageStorage.urlOf(it) })
+        dead.size
+    } ?: 0
+}
@@ -0,0 +1,187 @@
+package com.tripfriend.domain.image.service
+
+import com.tripfriend.domain.image.dto.ImageUploadReqDto
+import com.tripfriend.domain.image.dto.ImageUploadResDto
+import com.tripfriend.domain.member.member.service.MemberService
+import com.tripfriend.domain.place.place.service.PlaceService
+import com.tripfriend.global.exception.ServiceException
+import com.tripfriend.global.storage.ImageStorage
+import com.tripfriend.global.util.ImageUtil
+import com.tripfriend.global.util.TransactionCallbacks
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.script.DefaultRedisScript
+import org.springframework.stereotype.Service
+import org.springframework.transaction.annotation.Transactional
+import java.io.IOException
+import java.time.Duration
+import java.util.*
+
+/**
+ * 클라이언트가 이미지를 저장소(S3)에 직접 올리는 업로드.
+ *
+ * 1. 업로드 요청: 크기 / 형식 / SHA-256을 받아 서명된 PUT 주소를 발급하고 요청 정보를 Redis에 보관한다.
+ *    키는 내용 해시이므로 이미 저장된 내용이면 주소 없이 바로 완료할 수 있다.
+ * 2. 업로드 완료: 요청 정보를 원자적으로 꺼내(한 번만 사용) 저장된 객체의 크기 / 형식 / 체크섬을 확인한 뒤
+ *    등록하고 회원 / 여행지에 연결한다. 완료 처리가 롤백되면 요청 정보를 되돌려 다시 완료할 수 있다.
+ *
+ * 이미지 내용은 애플리케이션 서버를 거치지 않는다.
+ */
+@Service
+class ImageUploadService(
+    private val imageStorage: ImageStorage,
+    private val storedImageService: StoredImageService,
+    private val imageVariantService: ImageVariantService,
+    private val memberService: MemberService,
+    private val placeService: PlaceService,
+    private val redisTemplate: RedisTemplate<String, String>,
+    @Value("\${custom.image.direct-upload.max-size-mb:20}") private val maxSizeMb: Long,
+    @Value("\${custom.image.direct-upload.ttl-minutes:10}") private val ttlMinutes: Long
+) {
+
+    companion object {
+        private const val TICKET_KEY_PREFIX = "image-upload:"
+        private val TICKET_GRACE = Duration.ofMinutes(10) // 주소 만료 직전에 올린 경우의 완료 요청 여유 시간
+
+        // 업로드 요청 정보를 읽고 삭제 (ARGV: 회원 ID, 다른 회원의 요청이면 삭제하지 않음)
+        // 동시에 들어온 완료 요청 중 하나만 정보를 받으므로 참조 수가 두 번 늘지 않는다
+        @Suppress("UNCHECKED_CAST")
+        private val CONSUME_SCRIPT = DefaultRedisScript(
+            """
+            local fields = redis.call('HGETALL', KEYS[1])
+            for i = 1, #fields, 2 do
+              if fields[i] == 'memberId' and fields[i + 1] ~= ARGV[1] then
+                return fields
+              end
+            end
+            if #fields > 0 then
+              redis.call('DEL', KEYS[1])
+            end
+            return fields
+            """.trimIndent(),
+            List::class.java as Class<List<String>>
+        )
+    }
+
+    // Redis에 보관하는 업로드 요청 정보
+    private data class Ticket(val memberId: Long, val key: String, val sha256: String, val size: Long, val contentType: String)
+
+    /**
+     * 직접 업로드 주소를 발급한다.
+     *
+     * @param memberId 요청한 회원 ID (완료 요청도 같은 회원만 가능)
+     */
+    fun requestUpload(memberId: Long, req: ImageUploadReqDto): ImageUploadResDto {
+        val extension = ImageUtil.CONTENT_TYPE_EXTENSIONS[req.contentType]
+            ?: throw ServiceException("400-1", "지원하지 않는 이미지 형식입니다.")
+        if (req.size > maxSizeMb * 1024 * 1024) {
+            throw ServiceException("400-2", "이미지는 ${maxSizeMb}MB 이하만 업로드할 수 있습니다.")
+        }
+
+        val sha256 = req.sha256.lowercase()
+        val key = "${ImageStorage.KEY_PREFIX}$sha256.$extension"
+        val ttl = Duration.ofMinutes(ttlMinutes)
+
+        val presigned = if (storedImageService.exists(key)) {
+            null
+        } else {
+            imageStorage.presignUpload(key, req.contentType, req.size, sha256, ttl)
+                ?: throw ServiceException("400-3", "현재 이미지 저장소는 직접 업로드를 지원하지 않습니다.")
+        }
+
+        val uploadId = UUID.randomUUID().toString()
+        saveTicket(uploadId, Ticket(memberId, key, sha256, req.size, req.contentType), ttl.plus(TICKET_GRACE))
+        return ImageUploadResDto(uploadId, presigned == null, presigned?.url, presigned?.headers ?: emptyMap(), presigned?.expiresAt)
+    }
+
+    // 업로드 완료 - 프로필 이미지로 연결
+    @Transactional
+    fun completeProfileImage(memberId: Long, uploadId: String): String {
+        val imageUrl = confirm(memberId, uploadId)
+        try {
+            memberService.changeProfileImage(memberId, imageUrl)
+        } catch (e: IOException) {
+            throw ServiceException("404-2", "이미지 업로드에 실패했습니다.")
+        }
+        return imageUrl
+    }
+
+    // 업로드 완료 - 여행지 이미지로 연결
+    @Transactional
+    fun completePlaceImage(memberId: Long, uploadId: String, placeId: Long): String {
+        val imageUrl = confirm(memberId, uploadId)
+        try {
+            placeService.changePlaceImage(placeId, imageUrl)
+        } catch (e: IOException) {
+            throw ServiceException("404-2", "이미지 업로드에 실패했습니다.")
+        }
+        return imageUrl
+    }
+
+    // 업로드된 객체를 확인하고 참조 수를 1 늘린다 (처음 저장된 내용이면 등록 후 크기별 이미지 생성 요청)
+    private fun confirm(memberId: Long, uploadId: String): String {
+        val ticket = consumeTicket(memberId, uploadId)
+            ?: throw ServiceException("404-1", "업로드 요청을 찾을 수 없거나 만료되었습니다.")
+        if (ticket.memberId != memberId) {
+            throw ServiceException("403-1", "본인이 요청한 업로드만 완료할 수 있습니다.")
+        }
+        restoreTicketOnRollback(uploadId, ticket)
+
+        val imageUrl = imageStorage.urlOf(ticket.key)
+        if (!storedImageService.acquire(ticket.key)) {
+            val info = try {
+                imageStorage.stat(ticket.key)
+            } catch (e: IOException) {
+                throw ServiceException("404-2", "이미지 업로드에 실패했습니다.")
+            } ?: throw ServiceException("404-3", "업로드된 이미지가 없습니다.")
+
+            // 서명 조건을 검사하지 않는 S3 호환 저장소 대비 (내용이 다르면 해시 키가 틀리므로 객체 삭제)
+            if (info.size != ticket.size || info.contentType != ticket.contentType ||
+                (info.sha256 != null && info.sha256 != ticket.sha256)
+            ) {
+                runCatching { imageStorage.delete(ticket.key) }
+                throw ServiceException("400-4", "업로드된 이미지가 요청한 크기 또는 형식과 다릅니다.")
+            }
+
+            storedImageService.register(ticket.key, ticket.sha256, ticket.size, ticket.contentType)
+            storedImageService.acquire(ticket.key)
+            imageVariantService.requestVariants(imageUrl)
+        }
+
+        return imageUrl
+    }
+
+    private fun saveTicket(uploadId: String, ticket: Ticket, ttl: Duration) {
+        val key = TICKET_KEY_PREFIX + uploadId
+        redisTemplate.opsForHash<String, String>().putAll(
+            key,
+            mapOf(
+                "memberId" to ticket.memberId.toString(),
+                "key" to ticket.key,
+                "sha256" to ticket.sha256,
+                "size" to ticket.size.toString(),
+                "contentType" to ticket.contentType
+            )
+        )
+        redisTemplate.expire(key, ttl)
+    }
+
+    // 업로드 요청 정보를 꺼낸다 (본인 요청이면 삭제, 없으면 null)
+    private fun consumeTicket(memberId: Long, uploadId: String): Ticket? {
+        val entries = redisTemplate.execute(CONSUME_SCRIPT, listOf(TICKET_KEY_PREFIX + uploadId), memberId.toString())
+        if (entries.isNullOrEmpty()) return null
+        val fields = entries.chunked(2).associate { (field, value) -> field to value }
+        return Ticket(
+            fields.getValue("memberId").toLong(),
+            fields.getValue("key"),
+            fields.getValue("sha256"),
+            fields.getValue("size").toLong(),
+            fields.getValue("contentType")
+        )
+    }
+
+    // 완료 처리(참조 수 증가 / 연결)가 롤백되면 꺼낸 요청 정보를 다시 저장
+    private fun restoreTicketOnRollback(uploadId: String, ticket: Ticket) {
+        TransactionCallbacks.afterRollback { saveTicket(uploadId, ticket, TICKET_GRACE) }
+    }
+}
@@ -0,0 +1,186 @@
+package com.tripfriend.domain.image.service
+
+import com.tripfriend.domain.image.dto.ImageVariantsDto
+import com.tripfriend.domain.image.dto.ImageVariantsReadyEvent
+import com.tripfriend.domain.image.entity.ImageVariant
+import com.tripfriend.domain.image.entity.ImageVariantSet
+import com.tripfriend.domain.image.repository.ImageVariantSetRepository
+import com.tripfriend.global.storage.ImageStorage
+import jakarta.annotation.PreDestroy
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.context.ApplicationEventPublisher
+import org.springframework.stereotype.Service
+import java.awt.Color
+import java.awt.RenderingHints
+import java.awt.image.BufferedImage
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.io.InputStream
+import java.util.*
+import java.util.concurrent.ArrayBlockingQueue
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import javax.imageio.IIOImage
+import javax.imageio.ImageIO
+import javax.imageio.ImageWriteParam
+
+/**
+ * 업로드된 이미지의 크기별 JPEG(작음 / 중간 / 큼)와 미리보기를 만든다.
+ *
+ * 원본은 수 MB~수십 MB일 수 있으므로 업로드 요청과 분리해 고정 크기 작업자 풀에서 처리하고,
+ * 대기열이 가득 차면 생성을 건너뛴다. (생성 전까지 DTO는 원본 URL을 그대로 사용)
+ * 헤더의 가로 x 세로 픽셀 수가 제한을 넘는 원본(압축 폭탄 등)은 디코딩하지 않고 건너뛴다.
+ */
+@Service
+class ImageVariantService(
+    private val imageStorage: ImageStorage,
+    private val imageVariantSetRepository: ImageVariantSetRepository,
+    private val eventPublisher: ApplicationEventPublisher,
+    @Value("\${custom.image.variant-workers:2}") workers: Int,
+    @Value("\${custom.image.variant-queue-size:100}") queueSize: Int,
+    @Value("\${custom.image.variant-max-pixels:50000000}") private val maxPixels: Long
+) {
+
+    companion object {
+        private const val JPEG_QUALITY = 0.82f
+        private const val PLACEHOLDER_QUALITY = 0.5f
+        private const val JPEG_CONTENT_TYPE = "image/jpeg"
+    }
+
+    private val logger = LoggerFactory.getLogger(this::class.java)
+
+    // 디코딩 메모리 사용량을 제한하기 위한 고정 크기 작업자 풀
+    private val executor = ThreadPoolExecutor(
+        workers, workers, 0L, TimeUnit.MILLISECONDS, ArrayBlockingQueue(queueSize)
+    ) { runnable -> Thread(runnable, "image-variant").apply { isDaemon = true } }
+
+    /**
+     * 크기별 이미지 생성을 예약한다.
+     *
+     * @param imageUrl 저장된 원본 이미지 URL
+     */
+    fun requestVariants(imageUrl: String) {
+        try {
+            executor.execute {
+                try {
+                    generate(imageUrl)
+                } catch (e: Exception) {
+                    logger.warn("크기별 이미지 생성 실패 - {}", imageUrl, e)
+                }
+            }
+        } catch (e: RejectedExecutionException) {
+            logger.warn("이미지 작업 대기열이 가득 차 크기별 이미지 생성을 건너뜀 - {}", imageUrl)
+        }
+    }
+
+    /**
+     * 원본을 읽어 크기별 JPEG와 미리보기를 저장한다.
+     *
+     * @return 생성 여부 (이미지가 아니거나 읽을 수 없거나 픽셀 수 제한을 넘으면 false)
+     */
+    fun generate(imageUrl: String): Boolean {
+        val key = imageStorage.keyOf(imageUrl) ?: return false
+        val source = imageStorage.load(key).use { readImage(it, ImageVariant.LARGE.width) } ?: return false
+
+        // 큰 크기부터 차례로 줄여 나가며 저장 (이전 결과를 다음 축소의 입력으로 사용)
+        var current = source
+        for (variant in ImageVariant.entries.sortedByDescending { it.width }) {
+            current = resize(current, minOf(variant.width, current.width))
+            val bytes = encodeJpeg(current, JPEG_QUALITY)
+            imageStorage.store(variant.nameOf(key), ByteArrayInputStream(bytes), bytes.size.toLong(), JPEG_CONTENT_TYPE)
+        }
+        val placeholder = encodeJpeg(resize(current, minOf(ImageVariant.PLACEHOLDER_WIDTH, current.width)), PLACEHOLDER_QUALITY)
+
+        imageVariantSetRepository.save(
+            ImageVariantSet(imageUrl, "data:$JPEG_CONTENT_TYPE;base64," + Base64.getEncoder().encodeToString(placeholder))
+        )
+        eventPublisher.publishEvent(ImageVariantsReadyEvent(imageUrl))
+        return true
+    }
+
+    /**
+     * 생성이 끝난 이미지들의 크기별 URL을 조회한다.
+     *
+     * @param imageUrls 원본 이미지 URL 목록
+     * @return 원본 URL -> 크기별 URL (생성 전인 이미지는 포함되지 않음)
+     */
+    fun findVariants(imageUrls: Collection<String>): Map<String, ImageVariantsDto> {
+        if (imageUrls.isEmpty()) return emptyMap()
+        return imageVariantSetRepository.findAllById(imageUrls.toSet())
+            .associate { it.imageUrl to ImageVariantsDto(it) }
+    }
+
+    @PreDestroy
+    fun shutdown() {
+        executor.shutdown()
+    }
+
+    // 목표 너비의 2배 이상은 남기도록 디코딩 단계에서 픽셀을 건너뛰어 읽는다 (대용량 원본의 메모리 사용량 감소)
+    private fun readImage(input: InputStream, maxWidth: Int): BufferedImage? {
+        val imageInput = ImageIO.createImageInputStream(input) ?: return null
+        imageInput.use {
+            val reader = ImageIO.getImageReaders(imageInput).asSequence().firstOrNull() ?: return null
+            try {
+                reader.setInput(imageInput, true, true)
+                // 헤더만 읽어 픽셀 수 확인 (너무 큰 이미지는 디코딩하지 않음)
+                val pixels = reader.getWidth(0).toLong() * reader.getHeight(0)
+                if (pixels > maxPixels) {
+                    logger.warn("픽셀 수 제한을 넘는 이미지라 크기별 이미지 생성을 건너뜀 - {}x{}", reader.getWidth(0), reader.getHeight(0))
+                    return null
+                }
+                val param = reader.defaultReadParam
+                val step = reader.getWidth(0) / (maxWidth * 2)
+                if (step > 1) param.setSourceSubsampling(step, step, 0, 0)
+                return reader.read(0, param)
+            } finally {
+                reader.dispose()
+            }
+        }
+    }
+
+    // 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄인 뒤 목표 너비로 맞춘다
+    private fun resize(source: BufferedImage, targetWidth: Int): BufferedImage {
+        var current = source
+        while (current.width / 2 >= targetWidth) {
+            current = scale(current, current.width / 2)
+        }
+        return if (current.width == targetWidth && current.type == BufferedImage.TYPE_INT_RGB) current else scale(current, targetWidth)
+    }
+
+    // 투명 영역은 흰 배경으로 채운 RGB 이미지로 변환 (JPEG는 알파 채널 미지원)
+    private fun scale(source: BufferedImage, width: Int): BufferedImage {
+        val height = maxOf(1, (source.height.toLong() * width / source.width).toInt())
+        val target = BufferedImage(width, height, BufferedImage.TYPE_INT_RGB)
+        val graphics = target.createGraphics()
+        try {
+            graphics.color = Color.WHITE
+            graphics.fillRect(0, 0, width, height)
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR)
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY)
+            graphics.drawImage(source, 0, 0, width, height, null)
+        } finally {
+            graphics.dispose()
+        }
+        return target
+    }
+
+    private fun encodeJpeg(image: BufferedImage, quality: Float): ByteArray {
+        val writer = ImageIO.getImageWritersByFormatName("jpeg").next()
+        val output = ByteArrayOutputStream()
+        try {
+            ImageIO.createImageOutputStream(output).use { imageOutput ->
+                writer.output = imageOutput
+                val param = writer.defaultWriteParam.apply {
+                    compressionMode = ImageWriteParam.MODE_EXPLICIT
+                    compressionQuality = quality
+                }
+                writer.write(null, IIOImage(image, null, null), param)
+            }
+        } finally {
+            writer.dispose()
+        }
+        return output.toByteArray()
+    }
+}
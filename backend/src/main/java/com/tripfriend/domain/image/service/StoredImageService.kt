@@ -0,0 +1,56 @@
+package com.tripfriend.domain.image.service
+
+import com.tripfriend.domain.image.entity.StoredImage
+import com.tripfriend.domain.image.repository.StoredImageRepository
+import org.springframework.dao.DataIntegrityViolationException
+import org.springframework.stereotype.Service
+import org.springframework.transaction.PlatformTransactionManager
+import org.springframework.transaction.TransactionDefinition
+import org.springframework.transaction.annotation.Transactional
+import org.springframework.transaction.support.TransactionTemplate
+
+/**
+ * 내용 해시로 저장된 이미지의 참조 수 관리.
+ * 참조 증감은 호출한 트랜잭션에 포함되어, 회원 / 여행지 변경이 롤백되면 참조 수도 함께 되돌아간다.
+ * 참조 수가 0이 된 이미지는 바로 지우지 않고 ImageGarbageCollectionService가 정리한다.
+ */
+@Service
+class StoredImageService(
+    private val storedImageRepository: StoredImageRepository,
+    transactionManager: PlatformTransactionManager
+) {
+
+    // 이미지 등록은 호출한 트랜잭션과 분리 (동시 등록으로 인한 키 중복이 바깥 트랜잭션을 실패시키지 않도록)
+    private val requiresNewTemplate = TransactionTemplate(transactionManager).apply {
+        propagationBehavior = TransactionDefinition.PROPAGATION_REQUIRES_NEW
+    }
+
+    /**
+     * 저장된 이미지의 참조 수를 1 늘린다.
+     *
+     * @return 등록된 이미지인지 여부 (false면 저장 후 register 필요)
+     */
+    @Transactional
+    fun acquire(storageKey: String): Boolean = storedImageRepository.incrementRefCount(storageKey) > 0
+
+    // 이미 등록된 이미지인지 확인 (같은 내용은 다시 올릴 필요 없음)
+    @Transactional(readOnly = true)
+    fun exists(storageKey: String): Boolean = storedImageRepository.existsById(storageKey)
+
+    // 이미지 참조 해제 (등록되지 않은 예전 이미지는 무시)
+    @Transactional
+    fun release(storageKey: String) {
+        storedImageRepository.decrementRefCount(storageKey)
+    }
+
+    // 새로 저장한 이미지 등록 (참조 수 0, 다른 요청이 먼저 등록했으면 무시)
+    fun register(storageKey: String, sha256: String, size: Long, contentType: String?) {
+        try {
+            requiresNewTemplate.executeWithoutResult {
+                storedImageRepository.saveAndFlush(StoredImage(storageKey, sha256, size, contentType))
+            }
+        } catch (e: DataIntegrityViolationException) {
+            // 같은 내용이 동시에 업로드되어 이미 등록됨
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.tripfriend.domain.member.member.controller
 
 import com.tripfriend.domain.member.member.dto.*
+import com.tripfriend.domain.member.member.entity.Member
 import com.tripfriend.domain.member.member.service.AuthService
 import com.tripfriend.domain.member.member.service.MailService
 import com.tripfriend.domain.member.member.service.MemberService
 import com.tripfriend.global.annotation.CheckPermission
+import com.tripfriend.global.annotation.LoginMember
+import com.tripfriend.global.annotation.RateLimit
 import com.tripfriend.global.dto.RsData
+import com.tripfriend.global.security.AuthContext
 import io.swagger.v3.oas.annotations.Operation
 import io.swagger.v3.oas.annotations.tags.Tag
 import jakarta.mail.MessagingException
@@ -30,9 +34,7 @@ class MemberController(
     // 회원정보 조회
     @Operation(summary = "회원정보 조회")
     @GetMapping("/me")
-    fun getCurrentUser(@RequestHeader("Authorization") token: String): ResponseEntity<Map<String, Any>> {
-        val member = authService.getLoggedInMember(token)
-
+    fun getCurrentUser(@LoginMember member: Member): ResponseEntity<Map<String, Any>> {
         val response = HashMap<String, Any>()
         response["id"] = member.id!!  // null 안전 연산자 추가
         response["username"] = member.username
@@ -50,8 +52,13 @@ class MemberController(
 
     @Operation(summary = "로그인")
     @PostMapping("/login")
-    fun login(@RequestBody loginRequestDto: LoginRequestDto, response: HttpServletResponse): RsData<AuthResponseDto> {
-        val authResponse = authService.login(loginRequestDto, response)
+    @RateLimit(name = "login", key = RateLimit.Key.IP, capacity = 20, refillPerMinute = 10) // 계정별 제한은 로그인 실패 시 AuthService에서 차감
+    fun login(
+        @RequestBody loginRequestDto: LoginRequestDto,
+        @RequestHeader(name = "X-Device-Id", required = false) deviceId: String?,
+        response: HttpServletResponse
+    ): RsData<AuthResponseDto> {
+        val authResponse = authService.login(loginRequestDto, response, deviceId)
         return RsData("200-1", "로그인 성공", authResponse)
     }
 
@@ -64,27 +71,43 @@ class MemberController(
 
     @Operation(summary = "액세스 토큰 재발급")
     @PostMapping("/refresh")
-    fun refresh(@CookieValue(name = "accessToken", required = false) accessToken: String?, response: HttpServletResponse): RsData<AuthResponseDto?> {  // nullable로 변경
+    fun refresh(
+        @CookieValue(name = "accessToken", required = false) accessToken: String?,
+        @CookieValue(name = "refreshToken", required = false) refreshToken: String?,
+        response: HttpServletResponse
+    ): RsData<AuthResponseDto?> {  // nullable로 변경
         return try {
             if (accessToken == null) {
                 return RsData("401-2", "액세스 토큰이 없습니다.", null)
             }
 
-            val authResponseDto = authService.refreshToken(accessToken, response)
+            val authResponseDto = authService.refreshToken(accessToken, response, refreshToken)
             RsData("200-1", "토큰이 재발급되었습니다.", authResponseDto)
         } catch (e: Exception) {
             RsData("401-1", "토큰 재발급에 실패했습니다: ${e.message}", null)
         }
     }
 
+    @Operation(summary = "로그인된 기기 목록 조회")
+    @GetMapping("/sessions")
+    fun getSessions(@LoginMember loggedInMember: Member, request: HttpServletRequest): RsData<List<SessionResponseDto>> {
+        val sessions = authService.getSessions(loggedInMember.username, AuthContext.from(request)?.sessionId)
+        return RsData("200-1", "로그인된 기기 목록을 조회했습니다.", sessions)
+    }
+
+    @Operation(summary = "기기 로그아웃")
+    @DeleteMapping("/sessions/{deviceId}")
+    fun revokeSession(@LoginMember loggedInMember: Member, @PathVariable deviceId: String): RsData<Unit> {
+        authService.revokeSession(loggedInMember.username, deviceId)
+        return RsData("200-1", "해당 기기에서 로그아웃되었습니다.", Unit)
+    }
+
     @Operation(summary = "회원정보 수정")
     @PutMapping("/update")
     fun updateMember(
-        @RequestHeader(value = "Authorization", required = false) token: String,
+        @LoginMember loggedInMember: Member,
         @RequestBody memberUpdateRequestDto: MemberUpdateRequestDto
     ): RsData<MemberResponseDto> {
-        val loggedInMember = authService.getLoggedInMember(token)
-
         val response = memberService.updateMember(loggedInMember.id!!, memberUpdateRequestDto)  // null 안전 연산자 추가
         return RsData("200-1", "회원 정보가 수정되었습니다.", response)
     }
@@ -92,20 +115,17 @@ class MemberController(
     @Operation(summary = "회원 삭제")
     @DeleteMapping("/delete")
     fun deleteMember(
-        @RequestHeader(value = "Authorization", required = false) token: String,
+        @LoginMember loggedInMember: Member,
         request: HttpServletRequest,
         response: HttpServletResponse
     ): RsData<Unit> {  // Void -> Unit
-        val loggedInMember = authService.getLoggedInMember(token)
-
         memberService.deleteMember(loggedInMember.id!!, request, response)  // null 안전 연산자 추가
         return RsData("204-1", "회원이 삭제되었습니다.", Unit)  // null -> Unit
     }
 
     @Operation(summary = "회원 복구")
     @PostMapping("/restore")
-    fun restoreMember(@RequestHeader(value = "Authorization", required = false) token: String): RsData<Unit> {  // Void -> Unit
-        val loggedInMember = authService.getLoggedInMember(token)
+    fun restoreMember(@LoginMember loggedInMember: Member): RsData<Unit> {  // Void -> Unit
         memberService.restoreMember(loggedInMember.id!!)  // null 안전 연산자 추가
 
         return RsData("200-1", "계정이 성공적으로 복구되었습니다.", Unit)  // null -> Unit
@@ -113,6 +133,8 @@ class MemberController(
 
     @Operation(summary = "이메일 인증 코드 전송")
     @GetMapping("/auth/verify-email")
+    @RateLimit(name = "verify-email", key = RateLimit.Key.IP, capacity = 5, refillPerMinute = 2)
+    @RateLimit(name = "verify-email", key = RateLimit.Key.ACCOUNT, capacity = 3, refillPerMinute = 1, account = "#email")
     @Throws(MessagingException::class)
     fun requestAuthCode(email: String): RsData<Unit> {  // Void -> Unit
         val isSend = mailService.sendAuthCode(email)
@@ -134,9 +156,7 @@ class MemberController(
 
     @Operation(summary = "마이페이지")
     @GetMapping("/mypage")
-    fun getMyPage(@RequestHeader(value = "Authorization", required = false) token: String): RsData<MemberResponseDto> {
-        val loggedInMember = authService.getLoggedInMember(token)
-
+    fun getMyPage(@LoginMember loggedInMember: Member): RsData<MemberResponseDto> {
         val response = memberService.getMyPage(loggedInMember.id!!, loggedInMember.username)  // null 안전 연산자 추가
         return RsData("200-1", "마이페이지 정보 조회 성공", response)
     }
@@ -154,10 +174,9 @@ class MemberController(
     @PostMapping(value = ["/profile-image/upload"], consumes = [MediaType.MULTIPART_FORM_DATA_VALUE])
     @Throws(IOException::class)
     fun uploadProfileImage(
-        @RequestHeader(value = "Authorization", required = false) token: String,
+        @LoginMember loggedInMember: Member,
         @RequestPart("image") imageFile: MultipartFile
     ): RsData<String> {
-        val loggedInMember = authService.getLoggedInMember(token)
         val imageUrl = memberService.uploadProfileImage(loggedInMember.id!!, imageFile)  // null 안전 연산자 추가
 
         return RsData("200-1", "이미지 업로드 성공", imageUrl!!)
@@ -166,9 +185,7 @@ class MemberController(
     @Operation(summary = "프로필 이미지 삭제")
     @DeleteMapping("/profile-image/delete")
     @Throws(IOException::class)
-    fun deleteProfileImage(@RequestHeader(value = "Authorization", required = false) token: String): RsData<String?> {
-        val loggedInMember = authService.getLoggedInMember(token)
-
+    fun deleteProfileImage(@LoginMember loggedInMember: Member): RsData<String?> {
         if (loggedInMember.profileImage == null) {
             return RsData("400-1", "삭제할 이미지가 없습니다.", null)
         }
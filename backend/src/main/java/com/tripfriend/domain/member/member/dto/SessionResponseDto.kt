@@ -0,0 +1,22 @@
+package com.tripfriend.domain.member.member.dto
+
+import com.tripfriend.global.security.SessionRegistry
+import java.time.Instant
+import java.time.LocalDateTime
+import java.time.ZoneId
+
+data class SessionResponseDto(
+    val deviceId: String,
+    val expiresAt: LocalDateTime,
+    val current: Boolean // 요청한 기기의 세션인지 여부
+) {
+    companion object {
+        fun of(session: SessionRegistry.Session, currentSessionId: String?): SessionResponseDto {
+            return SessionResponseDto(
+                deviceId = session.sessionId,
+                expiresAt = LocalDateTime.ofInstant(Instant.ofEpochSecond(session.expiresAt), ZoneId.systemDefault()),
+                current = session.sessionId == currentSessionId
+            )
+        }
+    }
+}
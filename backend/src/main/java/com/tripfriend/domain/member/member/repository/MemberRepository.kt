@@ -2,6 +2,7 @@ package com.tripfriend.domain.member.member.repository
 
 import com.tripfriend.domain.member.member.entity.Member
 import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Query
 import java.time.LocalDateTime
 import java.util.*
 
@@ -28,4 +29,8 @@ interface MemberRepository : JpaRepository<Member, Long> {
 
     // 삭제된 계정 중 해당 날짜 이전에 삭제된 계정들 조회
     fun findByDeletedTrueAndDeletedAtBefore(date: LocalDateTime): List<Member>
+
+    // 이미지 정리 작업용 - 회원이 참조하는 프로필 이미지 URL
+    @Query("SELECT DISTINCT m.profileImage FROM Member m WHERE m.profileImage IS NOT NULL")
+    fun findAllProfileImages(): List<String>
 }
@@ -1,15 +1,17 @@
 package com.tripfriend.domain.member.member.service
 
+import com.tripfriend.domain.blacklist.service.BlacklistSnapshot
 import com.tripfriend.domain.member.member.dto.AuthResponseDto
 import com.tripfriend.domain.member.member.dto.LoginRequestDto
-import com.tripfriend.domain.member.member.dto.TokenInfoDto
-import com.tripfriend.domain.member.member.entity.Member
+import com.tripfriend.domain.member.member.dto.SessionResponseDto
 import com.tripfriend.domain.member.member.repository.MemberRepository
+import com.tripfriend.global.exception.ServiceException
+import com.tripfriend.global.security.RateLimiter
+import com.tripfriend.global.security.SessionRegistry
 import com.tripfriend.global.util.JwtUtil
 import jakarta.servlet.http.Cookie
 import jakarta.servlet.http.HttpServletRequest
 import jakarta.servlet.http.HttpServletResponse
-import org.springframework.data.redis.core.RedisTemplate
 import org.springframework.security.core.userdetails.UsernameNotFoundException
 import org.springframework.security.crypto.password.PasswordEncoder
 import org.springframework.stereotype.Service
@@ -19,26 +21,52 @@ class AuthService(
     private val jwtUtil: JwtUtil,
     private val memberRepository: MemberRepository,
     private val passwordEncoder: PasswordEncoder,
-    private val redisTemplate: RedisTemplate<String, String>
+    private val blacklistSnapshot: BlacklistSnapshot,
+    private val rateLimiter: RateLimiter
 ) {
 
-    // 로그인 처리
-    fun login(loginRequestDto: LoginRequestDto, response: HttpServletResponse): AuthResponseDto {
+    companion object {
+        // 계정별 로그인 실패 제한 (연속 5회, 이후 분당 1회)
+        private const val LOGIN_ACCOUNT_CAPACITY = 5L
+        private const val LOGIN_ACCOUNT_REFILL_PER_MINUTE = 1L
+    }
+
+    // 로그인 처리 (기기 ID가 있으면 같은 기기의 기존 세션을 대체, 없으면 새 세션 생성)
+    fun login(loginRequestDto: LoginRequestDto, response: HttpServletResponse, deviceId: String? = null): AuthResponseDto {
+        // 계정별 제한은 비밀번호 확인에 실패한 요청에만 차감 (아이디만 알고 보낸 요청으로 계정이 잠기지 않도록 사전 확인은 차감하지 않음)
+        val accountKey = "login:account:" + loginRequestDto.username.trim().lowercase()
+        val retryAfterMillis = rateLimiter.check(accountKey, LOGIN_ACCOUNT_CAPACITY, LOGIN_ACCOUNT_REFILL_PER_MINUTE)
+        if (retryAfterMillis > 0) {
+            response.setHeader("Retry-After", ((retryAfterMillis + 999) / 1000).toString())
+            throw ServiceException("429-1", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.")
+        }
+
         // 회원 인증 처리
         val member = memberRepository.findByUsername(loginRequestDto.username)
-            .orElseThrow { UsernameNotFoundException("존재하지 않는 회원입니다.") }
+            .orElseThrow {
+                recordLoginFailure(accountKey)
+                UsernameNotFoundException("존재하지 않는 회원입니다.")
+            }
 
         if (!passwordEncoder.matches(loginRequestDto.password, member.password)) {
+            recordLoginFailure(accountKey)
             throw RuntimeException("비밀번호를 확인하세요.")
         }
 
+        // 차단된 회원은 토큰을 발급하지 않음 (메모리 스냅샷, DB 조회 없음)
+        if (member.id?.let { blacklistSnapshot.isBlacklisted(it) } == true) {
+            throw ServiceException("403-1", "이용이 제한된 회원입니다.")
+        }
+
+        val sessionId = jwtUtil.resolveSessionId(deviceId)
+
         // 계정이 삭제된 상태인 경우
         if (member.deleted) {
             // 복구 가능한 경우
             if (member.canBeRestored()) {
                 // 복구 가능한 경우에만 특별한 토큰 발급
-                val accessToken = jwtUtil.generateAccessToken(member.username, member.authority, member.verified, true)
-                val refreshToken = jwtUtil.generateRefreshToken(member.username, member.authority, member.verified, true)
+                val accessToken = jwtUtil.generateAccessToken(member.username, member.authority, member.verified, true, sessionId)
+                val refreshToken = jwtUtil.generateRefreshToken(member.username, member.authority, member.verified, true, sessionId)
 
                 // 액세스 토큰과 리프레시 토큰을 쿠키에 저장
                 addCookie(response, "accessToken", accessToken, 10 * 60) // 10분
@@ -51,9 +79,9 @@ class AuthService(
             }
         }
 
-        // 토큰 생성 (Redis에 저장됨)
-        val accessToken = jwtUtil.generateAccessToken(member.username, member.authority, member.verified)
-        val refreshToken = jwtUtil.generateRefreshToken(member.username, member.authority, member.verified)
+        // 토큰 생성 (세션에 저장됨)
+        val accessToken = jwtUtil.generateAccessToken(member.username, member.authority, member.verified, sessionId)
+        val refreshToken = jwtUtil.generateRefreshToken(member.username, member.authority, member.verified, sessionId)
 
         // 액세스 토큰과 리프레시 토큰을 쿠키에 저장
         addCookie(response, "accessToken", accessToken, 30 * 60) // 30분
@@ -63,6 +91,11 @@ class AuthService(
         return AuthResponseDto(accessToken, refreshToken, false, member.authority)
     }
 
+    // 로그인 실패 시 계정별 버킷에서 토큰 하나 차감
+    private fun recordLoginFailure(accountKey: String) {
+        rateLimiter.tryAcquire(accountKey, LOGIN_ACCOUNT_CAPACITY, LOGIN_ACCOUNT_REFILL_PER_MINUTE)
+    }
+
     // 로그아웃 처리 - Redis 블랙리스트 활용
     fun logout(request: HttpServletRequest, response: HttpServletResponse) {
         // 쿠키에서 액세스 토큰 추출
@@ -72,13 +105,8 @@ class AuthService(
                 // 액세스 토큰을 블랙리스트에 추가
                 val accessToken = cookie.value
                 if (!accessToken.isNullOrEmpty()) {
-                    val username = jwtUtil.extractUsername(accessToken)
-
-                    // 액세스 토큰 블랙리스트에 추가
+                    // 액세스 토큰 블랙리스트에 추가하고 이 기기의 세션 삭제 (다른 기기의 로그인은 유지)
                     jwtUtil.addToBlacklist(accessToken)
-
-                    // Redis에서 리프레시 토큰 삭제
-                    redisTemplate.delete("refresh:$username")
                 }
             }
         }
@@ -87,17 +115,36 @@ class AuthService(
         addCookie(response, "accessToken", null, 0)
     }
 
-    // 리프레시 토큰으로 새로운 액세스 토큰 발급 - Redis 검증 추가
-    fun refreshToken(accessToken: String, response: HttpServletResponse): AuthResponseDto {
-        // 만료된 액세스 토큰에서 사용자명 추출
+    // 회원의 모든 토큰 무효화 (탈퇴 / 비밀번호 변경 시 다른 기기의 로그인도 해제)
+    fun revokeAllTokens(username: String) {
+        jwtUtil.revokeAllTokens(username)
+    }
+
+    // 로그인된 세션(기기) 목록
+    fun getSessions(username: String, currentSessionId: String?): List<SessionResponseDto> {
+        return jwtUtil.getSessions(username).map { SessionResponseDto.of(it, currentSessionId) }
+    }
+
+    // 세션(기기) 로그아웃
+    fun revokeSession(username: String, sessionId: String) {
+        if (!jwtUtil.revokeSession(username, sessionId)) {
+            throw ServiceException("404-1", "존재하지 않는 세션입니다.")
+        }
+    }
+
+    // 리프레시 토큰으로 새로운 액세스 토큰 발급 - 세션 검증 추가
+    fun refreshToken(accessToken: String, response: HttpServletResponse, refreshToken: String? = null): AuthResponseDto {
+        // 만료된 액세스 토큰에서 사용자명과 세션 ID 추출
         val username = jwtUtil.extractUsername(accessToken)
+        val sessionId = jwtUtil.extractSessionId(accessToken)
+            ?: throw RuntimeException("저장된 리프레시 토큰이 없습니다")
 
-        // Redis에서 해당 사용자의 리프레시 토큰 확인
-        val storedRefreshToken = jwtUtil.getStoredRefreshToken(username)
+        // 해당 기기의 세션 확인 (만료된 세션은 조회되지 않음)
+        val session = jwtUtil.getSession(username, sessionId)
             ?: throw RuntimeException("저장된 리프레시 토큰이 없습니다")
 
-        // 리프레시 토큰 검증
-        if (jwtUtil.isTokenExpired(storedRefreshToken)) {
+        // 리프레시 토큰 쿠키가 있으면 세션에 저장된 토큰인지 확인
+        if (refreshToken != null && !jwtUtil.validateRefreshTokenInRedis(username, refreshToken)) {
             throw RuntimeException("리프레시 토큰이 만료되었습니다")
         }
 
@@ -109,22 +156,22 @@ class AuthService(
         // 새로운 액세스 토큰 생성
         val newAccessToken: String
         if (isDeleted) {
-            newAccessToken = jwtUtil.generateAccessToken(username, authority, isVerified, true)
+            newAccessToken = jwtUtil.generateAccessToken(username, authority, isVerified, true, sessionId)
             addCookie(response, "accessToken", newAccessToken, 10 * 60) // 10분
         } else {
-            newAccessToken = jwtUtil.generateAccessToken(username, authority, isVerified)
+            newAccessToken = jwtUtil.generateAccessToken(username, authority, isVerified, sessionId)
             addCookie(response, "accessToken", newAccessToken, 30 * 60) // 30분
         }
 
-        var newRefreshToken = storedRefreshToken
+        var newRefreshToken = refreshToken
 
         // 리프레시 토큰 재발급 필요성 확인
-        if (isRefreshTokenNeedsRenewal(storedRefreshToken)) {
+        if (isRefreshTokenNeedsRenewal(session)) {
             if (isDeleted) {
-                newRefreshToken = jwtUtil.generateRefreshToken(username, authority, isVerified, true)
+                newRefreshToken = jwtUtil.generateRefreshToken(username, authority, isVerified, true, sessionId)
                 addCookie(response, "refreshToken", newRefreshToken, 60 * 60 * 24) // 1일
             } else {
-                newRefreshToken = jwtUtil.generateRefreshToken(username, authority, isVerified)
+                newRefreshToken = jwtUtil.generateRefreshToken(username, authority, isVerified, sessionId)
                 addCookie(response, "refreshToken", newRefreshToken, 60 * 60 * 24 * 7) // 7일
             }
         }
@@ -133,55 +180,13 @@ class AuthService(
         return AuthResponseDto(newAccessToken, newRefreshToken, isDeleted, authority)
     }
 
-    // 리프레시 토큰 갱신 필요 여부 확인
-    private fun isRefreshTokenNeedsRenewal(refreshToken: String): Boolean {
-        return try {
-            val claims = jwtUtil.getClaims(refreshToken)
-            val expiration = claims.expiration
-
-            // 만료까지 남은 시간 계산 (밀리초)
-            val timeToExpire = expiration.time - System.currentTimeMillis()
-
-            // 만료 기간의 30% 이하로 남았으면 갱신
-            timeToExpire < (jwtUtil.getRefreshTokenExpiration() * 0.3)
-        } catch (e: Exception) {
-            true
-        }
-    }
-
-    // 로그인된 사용자의 정보를 반환하는 메서드
-    fun getLoggedInMember(token: String): Member {
-        // 토큰에서 "Bearer "를 제거
-        val extractedToken = token.replace("Bearer ", "")
-
-        // 토큰이 블랙리스트에 있는지 확인
-        if (jwtUtil.isTokenBlacklisted(extractedToken)) {
-            throw RuntimeException("로그아웃된 토큰입니다.")
-        }
-
-        // Redis에 저장된 토큰과 일치하는지 확인
-        val username = jwtUtil.extractUsername(extractedToken)
-        if (!jwtUtil.validateAccessTokenInRedis(username, extractedToken)) {
-            throw RuntimeException("유효하지 않은 토큰입니다.")
-        }
-
-        // 토큰에서 사용자 정보 추출
-        val tokenInfo = extractTokenInfo(extractedToken)
-        return memberRepository.findByUsername(tokenInfo.username)
-            .orElseThrow { UsernameNotFoundException("User not found") }
-    }
-
-    // 토큰에서 사용자 정보를 추출하는 메서드
-    fun extractTokenInfo(token: String): TokenInfoDto {
-        if (jwtUtil.isTokenExpired(token)) {
-            throw RuntimeException("만료된 토큰입니다.")
-        }
-
-        val username = jwtUtil.extractUsername(token)
-        val authority = jwtUtil.extractAuthority(token)
-        val isVerified = jwtUtil.extractVerified(token)
+    // 리프레시 토큰 갱신 필요 여부 확인 (세션 만료 시각 = 리프레시 토큰 만료 시각)
+    private fun isRefreshTokenNeedsRenewal(session: SessionRegistry.Session): Boolean {
+        // 만료까지 남은 시간 계산 (밀리초)
+        val timeToExpire = session.expiresAt * 1000 - System.currentTimeMillis()
 
-        return TokenInfoDto(username, authority, isVerified)
+        // 만료 기간의 30% 이하로 남았으면 갱신
+        return timeToExpire < (jwtUtil.getRefreshTokenExpiration() * 0.3)
     }
 
     // 쿠키 생성 메서드 (만료 시간 설정)
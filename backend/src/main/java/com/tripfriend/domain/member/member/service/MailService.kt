@@ -2,6 +2,9 @@ package com.tripfriend.domain.member.member.service
 
 import com.tripfriend.domain.member.member.dto.EmailVerificationRequestDto
 import com.tripfriend.domain.member.member.repository.MemberRepository
+import com.tripfriend.global.exception.ServiceException
+import com.tripfriend.global.redis.RedisCircuitBreaker
+import com.tripfriend.global.security.CustomUserDetailsService
 import jakarta.mail.MessagingException
 import jakarta.mail.internet.MimeMessage
 import org.springframework.beans.factory.annotation.Value
@@ -17,7 +20,9 @@ import java.util.concurrent.TimeUnit
 class MailService(
     private val javaMailSender: JavaMailSender,
     private val memberRepository: MemberRepository,
-    private val redisTemplate: StringRedisTemplate
+    private val redisTemplate: StringRedisTemplate,
+    private val customUserDetailsService: CustomUserDetailsService,
+    private val circuitBreaker: RedisCircuitBreaker
 ) {
 
     @Value("\${spring.mail.username}")
@@ -79,17 +84,21 @@ class MailService(
     @Transactional
     @Throws(MessagingException::class)
     fun sendAuthCode(email: String): Boolean {
+        // Redis 장애 중에는 저장할 수 없는 인증 코드를 발송하지 않음
+        if (circuitBreaker.isDegraded()) {
+            throw unavailable()
+        }
+
         val authCode = sendSimpleMessage(email) // 이메일 인증 코드 발송
 
         if (authCode != null) {
-            // Redis에 인증 코드 저장 (만료 시간 설정)
-            val values = redisTemplate.opsForValue()
             // 키 이름에 접두어 추가해서 저장
             val key = EMAIL_AUTH_PREFIX + email
 
-            // Redis에 저장하고 만료 시간 설정 (밀리초를 초 단위로 변환)
-            values.set(key, authCode)
-            redisTemplate.expire(key, 300, TimeUnit.SECONDS) // 5분
+            // Redis에 인증 코드 저장 (만료 시간 설정)
+            authCodeStore("auth-code.save") {
+                redisTemplate.opsForValue().set(key, authCode, 300, TimeUnit.SECONDS) // 5분
+            }
 
             return true
         }
@@ -101,9 +110,8 @@ class MailService(
         val authCode = emailVerificationRequestDto.authCode
 
         // Redis에서 인증 코드 조회
-        val values = redisTemplate.opsForValue()
         val key = EMAIL_AUTH_PREFIX + email
-        val storedAuthCode = values.get(key)
+        val storedAuthCode = authCodeStore("auth-code.find") { redisTemplate.opsForValue().get(key) }
 
         // 인증 코드 검증
         if (storedAuthCode != null && storedAuthCode == authCode) {
@@ -113,13 +121,29 @@ class MailService(
             if (member != null) {
                 member.verified = true
                 memberRepository.save(member)
+                customUserDetailsService.evict(member.username)
             }
 
-            // 인증 성공 후 Redis에서 인증 코드 삭제
-            redisTemplate.delete(key)
+            // 인증 성공 후 Redis에서 인증 코드 삭제 (실패해도 5분 뒤 만료)
+            try {
+                circuitBreaker.execute("auth-code.delete") { redisTemplate.delete(key) }
+            } catch (e: RedisCircuitBreaker.RedisUnavailableException) {
+                // 무시
+            }
 
             return true
         }
         return false
     }
+
+    // 인증 코드 저장소(Redis) 작업 - 장애 중에는 Redis를 기다리지 않고 바로 503 응답
+    private fun <T> authCodeStore(operation: String, action: () -> T): T {
+        return try {
+            circuitBreaker.execute(operation, action)
+        } catch (e: RedisCircuitBreaker.RedisUnavailableException) {
+            throw unavailable()
+        }
+    }
+
+    private fun unavailable() = ServiceException("503-1", "일시적으로 이메일 인증을 처리할 수 없습니다. 잠시 후 다시 시도해주세요.")
 }
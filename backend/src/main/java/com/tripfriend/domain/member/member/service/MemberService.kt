@@ -4,6 +4,7 @@ import com.tripfriend.domain.member.member.dto.JoinRequestDto
 import com.tripfriend.domain.member.member.dto.MemberResponseDto
 import com.tripfriend.domain.member.member.dto.MemberUpdateRequestDto
 import com.tripfriend.domain.member.member.repository.MemberRepository
+import com.tripfriend.global.security.CustomUserDetailsService
 import com.tripfriend.global.util.ImageUtil
 import jakarta.mail.MessagingException
 import jakarta.persistence.EntityNotFoundException
@@ -25,7 +26,8 @@ class MemberService(
     private val authService: AuthService,
     private val mailService: MailService,
     private val imageUtil: ImageUtil,
-    private val passwordEncoder: PasswordEncoder
+    private val passwordEncoder: PasswordEncoder,
+    private val customUserDetailsService: CustomUserDetailsService
 ) {
 
     @Transactional
@@ -78,9 +80,10 @@ class MemberService(
             member.nickname = memberUpdateRequestDto.nickname!!
         }
 
-        // 비밀번호 변경 (값이 있는 경우만)
+        // 비밀번호 변경 (값이 있는 경우만) - 기존에 발급된 토큰은 모두 무효화
         if (!memberUpdateRequestDto.password.isNullOrEmpty()) {
             member.password = memberUpdateRequestDto.password!!
+            authService.revokeAllTokens(member.username)
         }
 
         // 나머지 필드 업데이트 (null이 아닌 경우만)
@@ -92,6 +95,7 @@ class MemberService(
 
         member.updatedAt = LocalDateTime.now()
         val updatedMember = memberRepository.save(member)
+        customUserDetailsService.evict(member.username) // 캐시된 인증 회원 정보 갱신
 
         return MemberResponseDto.fromEntity(updatedMember)
     }
@@ -103,10 +107,12 @@ class MemberService(
             .orElseThrow { RuntimeException("존재하지 않는 회원입니다.") }
 
         authService.logout(request, response)
+        authService.revokeAllTokens(member.username) // 다른 기기에서 발급된 토큰까지 무효화
 
         member.deleted = true
         member.deletedAt = LocalDateTime.now()
         memberRepository.save(member)
+        customUserDetailsService.evict(member.username)
     }
 
     @Transactional
@@ -122,6 +128,7 @@ class MemberService(
         member.deleted = false
         member.deletedAt = null
         memberRepository.save(member)
+        customUserDetailsService.evict(member.username)
     }
 
     fun getMyPage(id: Long, username: String): MemberResponseDto {
@@ -147,6 +154,7 @@ class MemberService(
     fun purgeExpiredDeletedMembers() {
         val cutoffDate = LocalDateTime.now().minusDays(30)
         val expiredMembers = memberRepository.findByDeletedTrueAndDeletedAtBefore(cutoffDate)
+        expiredMembers.forEach { member -> member.profileImage?.let { imageUtil.deleteImage(it) } } // 프로필 이미지 참조 해제
         memberRepository.deleteAll(expiredMembers) // 실제 DB에서 삭제
     }
 
@@ -173,10 +181,27 @@ class MemberService(
         val profileImageUrl = imageUtil.saveImage(profileImage)
         member.profileImage = profileImageUrl
         memberRepository.save(member)
+        customUserDetailsService.evict(member.username)
 
         return profileImageUrl // 저장된 이미지 경로 반환
     }
 
+    // 프로필 이미지 교체 (직접 업로드 완료 후 호출, 새 이미지의 참조 수는 호출한 쪽에서 증가)
+    @Transactional
+    @Throws(IOException::class)
+    fun changeProfileImage(memberId: Long, imageUrl: String) {
+
+        val member = memberRepository.findById(memberId)
+            .orElseThrow { EntityNotFoundException("회원을 찾을 수 없습니다.") }
+
+        member.profileImage?.let {
+            imageUtil.deleteImage(it)
+        }
+        member.profileImage = imageUrl
+        memberRepository.save(member)
+        customUserDetailsService.evict(member.username)
+    }
+
     @Transactional
     @Throws(IOException::class)
     fun deleteProfileImage(memberId: Long) {
@@ -188,6 +213,7 @@ class MemberService(
             imageUtil.deleteImage(it)
             member.profileImage = null
             memberRepository.save(member)
+            customUserDetailsService.evict(member.username)
         }
     }
 }
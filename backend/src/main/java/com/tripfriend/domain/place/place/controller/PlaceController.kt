@@ -1,8 +1,11 @@
 package com.tripfriend.domain.place.place.controller
 
+import com.tripfriend.domain.place.place.dto.NearbyPlaceResDto
 import com.tripfriend.domain.place.place.dto.PlaceCreateReqDto
+import com.tripfriend.domain.place.place.dto.PlaceDeletionJobResDto
 import com.tripfriend.domain.place.place.dto.PlaceResDto
-import com.tripfriend.domain.place.place.entity.Place
+import com.tripfriend.domain.place.place.service.PlaceDeletionService
+import com.tripfriend.domain.place.place.service.PlaceGeoService
 import com.tripfriend.domain.place.place.service.PlaceService
 import com.tripfriend.global.annotation.CheckPermission
 import com.tripfriend.global.dto.RsData
@@ -16,7 +19,9 @@ import org.springframework.web.bind.annotation.*
 @RequestMapping("/place")
 @Tag(name = "Place API", description = "여행지 관련 기능을 제공합니다.")
 class PlaceController(
-    private val placeService: PlaceService
+    private val placeService: PlaceService,
+    private val placeGeoService: PlaceGeoService,
+    private val placeDeletionService: PlaceDeletionService
 ) {
 
     // 여행지 등록
@@ -33,12 +38,11 @@ class PlaceController(
     @GetMapping
     @Operation(summary = "전체 여행지 조회", description = "모든 여행지를 조회합니다.")
     fun getAllPlaces(@RequestParam(required = false) cityName: String?): RsData<List<PlaceResDto>> {
-        val places: List<Place> = if (!cityName.isNullOrEmpty()) {
+        val placeResDtos: List<PlaceResDto> = if (!cityName.isNullOrEmpty()) {
             placeService.getPlacesByCity(cityName)
         } else {
             placeService.getAllPlaces()
         }
-        val placeResDtos = places.map { PlaceResDto(it) }
         return RsData("200-2", "전체 여행지가 성공적으로 조회되었습니다.", placeResDtos)
     }
 
@@ -59,6 +63,30 @@ class PlaceController(
         return RsData("200-7", "도시 목록 조회 성공", cities)
     }
 
+    // 여행지 이름 자동완성
+    @GetMapping("/autocomplete")
+    @Operation(summary = "여행지 이름 자동완성", description = "입력 중인 글자나 초성(예: ㅅㅅㅇ)으로 시작하는 여행지를 인기도 순으로 반환합니다.")
+    fun autocomplete(
+        @RequestParam q: String,
+        @RequestParam(defaultValue = "10") limit: Int
+    ): RsData<List<PlaceResDto>> {
+        val places = placeService.autocomplete(q, limit)
+        return RsData("200-8", "여행지 자동완성 조회 성공", places)
+    }
+
+    // 내 주변 여행지 조회
+    @GetMapping("/nearby")
+    @Operation(summary = "내 주변 여행지 조회", description = "기준 좌표에서 가까운 여행지를 거리순으로 반환합니다. 반경을 생략하면 가장 가까운 limit 개를 찾습니다.")
+    fun getNearbyPlaces(
+        @RequestParam latitude: Double,
+        @RequestParam longitude: Double,
+        @RequestParam(required = false) radiusKm: Double?,
+        @RequestParam(defaultValue = "20") limit: Int
+    ): RsData<List<NearbyPlaceResDto>> {
+        val places = placeGeoService.findNearby(latitude, longitude, radiusKm, limit)
+        return RsData("200-9", "주변 여행지 조회 성공", places)
+    }
+
     // 여행지 검색
     @GetMapping("/search")
     @Operation(summary = "여행지 검색", description = "장소명 또는 도시명으로 검색하여 일치하는 여행지 정보를 반환합니다.")
@@ -71,17 +99,25 @@ class PlaceController(
         return RsData("200-6", "여행지 검색 성공", placeResDtos)
     }
 
-    // 특정 여행지 삭제
+    // 특정 여행지 삭제 (관련 모집글 / 리뷰 / 여행 정보와 함께 백그라운드에서 삭제)
     @DeleteMapping("/{id}")
     @CheckPermission("ADMIN")
-    @Operation(summary = "여행지 삭제", description = "특정 여행지를 삭제합니다.")
+    @Operation(summary = "여행지 삭제", description = "특정 여행지와 관련 데이터를 삭제하는 작업을 등록합니다. 진행 상황은 삭제 작업 조회로 확인합니다.")
     fun deletePlace(
         @Parameter(description = "여행지 ID", required = true, example = "1")
         @PathVariable id: Long
-    ): RsData<Void> {
-        val place = placeService.getPlace(id)
-        placeService.deletePlace(place)
-        return RsData("200-4", "여행지가 성공적으로 삭제되었습니다.")
+    ): RsData<PlaceDeletionJobResDto> {
+        val job = placeDeletionService.requestDeletion(id)
+        return RsData("200-4", "여행지 삭제 작업이 시작되었습니다.", job)
+    }
+
+    // 여행지 삭제 작업 진행 상황 조회
+    @GetMapping("/deletions/{jobId}")
+    @CheckPermission("ADMIN")
+    @Operation(summary = "여행지 삭제 작업 조회", description = "여행지 삭제 작업의 상태와 진행률을 조회합니다.")
+    fun getDeletionJob(@PathVariable jobId: Long): RsData<PlaceDeletionJobResDto> {
+        val job = placeDeletionService.getJob(jobId)
+        return RsData("200-10", "여행지 삭제 작업 조회 성공", job)
     }
 
     // 특정 여행지 정보 수정(사용안함)
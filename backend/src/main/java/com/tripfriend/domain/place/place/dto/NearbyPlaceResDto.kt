@@ -0,0 +1,6 @@
+package com.tripfriend.domain.place.place.dto
+
+data class NearbyPlaceResDto(
+    val place: PlaceResDto,
+    val distanceKm: Double, // 기준 좌표로부터의 거리(km)
+)
@@ -18,7 +18,11 @@ data class PlaceCreateReqDto(
     @field:NotNull(message = "카테고리를 선택해주세요")
     var category: Category,
 
-    var imageUrl: MultipartFile? = null  // 단일 이미지
+    var imageUrl: MultipartFile? = null,  // 단일 이미지
+
+    var latitude: Double? = null, // 위도
+
+    var longitude: Double? = null, // 경도
 ) {
 
     constructor(): this(
@@ -37,6 +41,8 @@ data class PlaceCreateReqDto(
             this.placeName = placeName
             this.description = description
             this.category = category
+            this.latitude = this@PlaceCreateReqDto.latitude
+            this.longitude = this@PlaceCreateReqDto.longitude
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.tripfriend.domain.place.place.dto
+
+import com.tripfriend.domain.place.place.entity.PlaceDeletionJob
+import com.tripfriend.domain.place.place.entity.PlaceDeletionStatus
+import java.time.LocalDateTime
+
+data class PlaceDeletionJobResDto(
+    val jobId: Long,
+    val placeId: Long,
+    val placeName: String,
+    val status: PlaceDeletionStatus,
+    val totalCount: Long,
+    val processedCount: Long,
+    val progressPercent: Int, // 진행률 (하위 데이터가 없으면 완료 시 100)
+    val deletedRecruits: Long,
+    val deletedApplies: Long,
+    val deletedReviews: Long,
+    val deletedComments: Long,
+    val deletedTripInformations: Long,
+    val errorMessage: String?,
+    val createdAt: LocalDateTime?,
+    val finishedAt: LocalDateTime?,
+) {
+    constructor(job: PlaceDeletionJob) : this(
+        jobId = job.id!!,
+        placeId = job.placeId,
+        placeName = job.placeName,
+        status = job.status,
+        totalCount = job.totalCount,
+        processedCount = job.processedCount,
+        progressPercent = when {
+            job.status == PlaceDeletionStatus.COMPLETED -> 100
+            job.totalCount == 0L -> 0
+            else -> (job.processedCount * 100 / job.totalCount).coerceAtMost(99).toInt()
+        },
+        deletedRecruits = job.deletedRecruits,
+        deletedApplies = job.deletedApplies,
+        deletedReviews = job.deletedReviews,
+        deletedComments = job.deletedComments,
+        deletedTripInformations = job.deletedTripInformations,
+        errorMessage = job.errorMessage,
+        createdAt = job.createdAt,
+        finishedAt = job.finishedAt
+    )
+}
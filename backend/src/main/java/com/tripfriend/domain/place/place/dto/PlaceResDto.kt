@@ -1,5 +1,6 @@
 package com.tripfriend.domain.place.place.dto
 
+import com.tripfriend.domain.image.dto.ImageVariantsDto
 import com.tripfriend.domain.place.place.entity.Category
 import com.tripfriend.domain.place.place.entity.Place
 
@@ -10,13 +11,19 @@ data class PlaceResDto(
     val description: String?,
     val category: Category,
     val imageUrl: String?,
+    val latitude: Double?,
+    val longitude: Double?,
+    val imageVariants: ImageVariantsDto? = null, // 크기별 이미지 (생성 전이면 null, imageUrl 사용)
 ) {
-    constructor(place: Place) : this(
+    constructor(place: Place, imageVariants: ImageVariantsDto? = null) : this(
         id = place.id!!,
         cityName = place.cityName,
         placeName = place.placeName,
         description = place.description,
         category = place.category,
-        imageUrl = place.imageUrl
+        imageUrl = place.imageUrl,
+        latitude = place.latitude,
+        longitude = place.longitude,
+        imageVariants = imageVariants
     )
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore
 import com.tripfriend.domain.recruit.recruit.entity.Recruit
 import com.tripfriend.domain.review.entity.Review
 import com.tripfriend.domain.trip.information.entity.TripInformation
+import com.tripfriend.global.util.GeoUtil
 import jakarta.persistence.*
 import org.springframework.data.annotation.CreatedDate
 import org.springframework.data.annotation.LastModifiedDate
@@ -12,15 +13,15 @@ import java.time.LocalDateTime
 
 @Entity
 @EntityListeners(AuditingEntityListener::class)
-@Table(name = "place")
+@Table(name = "place", indexes = [Index(name = "idx_place_geohash", columnList = "geohash")])
 class Place {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "place_id")
     var id: Long? = null // 여행지 Id
 
-    // 여행 스케줄 연결 테이블 리스트
-    @OneToMany(mappedBy = "place", cascade = [CascadeType.ALL], orphanRemoval = true)
+    // 여행 스케줄 연결 테이블 리스트 (여행지 삭제 시 하위 데이터는 PlaceDeletionService가 일괄 삭제)
+    @OneToMany(mappedBy = "place")
     @JsonIgnore
     val tripInformations: MutableList<TripInformation> = mutableListOf()
 
@@ -29,12 +30,12 @@ class Place {
     var imageUrl: String? = null
 
     // 동행 게시글 1:N 연결 (null 대신 빈 컬렉션으로 초기화)
-    @OneToMany(mappedBy = "place", cascade = [CascadeType.REMOVE])
+    @OneToMany(mappedBy = "place")
     @JsonIgnore
     var recruits: MutableList<Recruit> = mutableListOf()
 
     // 후기 게시글 1:N 연결 (null 대신 빈 컬렉션으로 초기화)
-    @OneToMany(mappedBy = "place", cascade = [CascadeType.REMOVE])
+    @OneToMany(mappedBy = "place")
     @JsonIgnore
     var reviews: MutableList<Review> = mutableListOf()
 
@@ -51,6 +52,15 @@ class Place {
     @Column(name = "category", nullable = false)
     lateinit var category: Category // 카테고리
 
+    @Column(name = "latitude")
+    var latitude: Double? = null // 위도
+
+    @Column(name = "longitude")
+    var longitude: Double? = null // 경도
+
+    @Column(name = "geohash", length = 12)
+    var geohash: String? = null // 위도/경도의 geohash (주변 여행지 검색 색인용)
+
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     var createdAt: LocalDateTime? = null // 생성일
@@ -59,6 +69,15 @@ class Place {
     @Column(name = "updated_at")
     var updatedAt: LocalDateTime? = null // 수정일
 
+    // 저장 전 위도/경도로 geohash 계산
+    @PrePersist
+    @PreUpdate
+    fun updateGeohash() {
+        val lat = latitude
+        val lng = longitude
+        geohash = if (lat != null && lng != null) GeoUtil.geohash(lat, lng) else null
+    }
+
     fun addTripInformation(tripInformation: TripInformation) {
         tripInformations.add(tripInformation)
         tripInformation.place = this // 연관관계 설정
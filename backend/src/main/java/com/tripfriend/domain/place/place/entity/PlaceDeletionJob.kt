@@ -0,0 +1,81 @@
+package com.tripfriend.domain.place.place.entity
+
+import jakarta.persistence.*
+import org.springframework.data.annotation.CreatedDate
+import org.springframework.data.jpa.domain.support.AuditingEntityListener
+import java.time.LocalDateTime
+
+@Entity
+@EntityListeners(AuditingEntityListener::class)
+@Table(name = "place_deletion_job", indexes = [Index(name = "idx_place_deletion_job_place", columnList = "place_id, status")])
+class PlaceDeletionJob(
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "place_deletion_job_id")
+    var id: Long? = null,
+
+    @Column(name = "place_id", nullable = false)
+    var placeId: Long, // 삭제 대상 여행지 Id (여행지 삭제 후에도 남도록 FK 없이 보관)
+
+    @Column(name = "place_name", nullable = false)
+    var placeName: String, // 삭제 대상 여행지명
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    var status: PlaceDeletionStatus = PlaceDeletionStatus.PENDING,
+
+    @Column(name = "total_count", nullable = false)
+    var totalCount: Long = 0, // 작업 시작 시점의 하위 데이터 수 (모집글 + 리뷰 + 여행 정보)
+
+    @Column(name = "deleted_recruits", nullable = false)
+    var deletedRecruits: Long = 0,
+
+    @Column(name = "deleted_applies", nullable = false)
+    var deletedApplies: Long = 0,
+
+    @Column(name = "deleted_reviews", nullable = false)
+    var deletedReviews: Long = 0,
+
+    @Column(name = "deleted_comments", nullable = false)
+    var deletedComments: Long = 0,
+
+    @Column(name = "deleted_trip_informations", nullable = false)
+    var deletedTripInformations: Long = 0,
+
+    @Column(name = "owner", length = 36)
+    var owner: String? = null, // 작업을 처리 중인 서버 식별자
+
+    @Column(name = "heartbeat_at")
+    var heartbeatAt: LocalDateTime? = null, // 처리 중인 서버가 마지막으로 진행을 기록한 시각 (오래되면 다른 서버가 이어서 처리)
+
+    @Column(name = "error_message", length = 500)
+    var errorMessage: String? = null,
+
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    var createdAt: LocalDateTime? = null,
+
+    @Column(name = "finished_at")
+    var finishedAt: LocalDateTime? = null
+) {
+    // 처리된 하위 데이터 수 (모집글 + 리뷰 + 여행 정보)
+    val processedCount: Long
+        get() = deletedRecruits + deletedReviews + deletedTripInformations
+
+    fun start(totalCount: Long) {
+        this.status = PlaceDeletionStatus.RUNNING
+        this.totalCount = totalCount
+    }
+
+    fun complete() {
+        this.status = PlaceDeletionStatus.COMPLETED
+        this.finishedAt = LocalDateTime.now()
+    }
+
+    fun fail(message: String?) {
+        this.status = PlaceDeletionStatus.FAILED
+        this.errorMessage = message?.take(500)
+        this.finishedAt = LocalDateTime.now()
+    }
+}
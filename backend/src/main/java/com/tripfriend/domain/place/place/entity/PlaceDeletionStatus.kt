@@ -0,0 +1,10 @@
+package com.tripfriend.domain.place.place.entity
+
+enum class PlaceDeletionStatus(
+    val koreanName: String,
+) {
+    PENDING("대기"),
+    RUNNING("진행 중"),
+    COMPLETED("완료"),
+    FAILED("실패"),
+}
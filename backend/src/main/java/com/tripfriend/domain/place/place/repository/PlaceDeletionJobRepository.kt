@@ -0,0 +1,48 @@
+package com.tripfriend.domain.place.place.repository
+
+import com.tripfriend.domain.place.place.entity.PlaceDeletionJob
+import com.tripfriend.domain.place.place.entity.PlaceDeletionStatus
+import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Modifying
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
+import java.time.LocalDateTime
+
+interface PlaceDeletionJobRepository : JpaRepository<PlaceDeletionJob, Long> {
+    // 여행지에 대해 진행 중인 삭제 작업이 있는지 확인
+    fun existsByPlaceIdAndStatusIn(placeId: Long, statuses: Collection<PlaceDeletionStatus>): Boolean
+
+    // 처리 중인 서버가 없거나 진행 기록이 오래된(서버 중단 등) 작업 조회
+    @Query(
+        """
+        SELECT j.id FROM PlaceDeletionJob j
+        WHERE j.status IN :statuses AND (j.owner IS NULL OR j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore)
+        """
+    )
+    fun findStaleJobIds(
+        @Param("statuses") statuses: Collection<PlaceDeletionStatus>,
+        @Param("staleBefore") staleBefore: LocalDateTime
+    ): List<Long>
+
+    // 작업 처리 권한 획득 (이미 자신이 처리 중이거나, 처리 중인 서버가 없거나 오래된 경우에만 성공)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        """
+        UPDATE PlaceDeletionJob j SET j.owner = :owner, j.heartbeatAt = :now
+        WHERE j.id = :jobId AND j.status IN :statuses
+          AND (j.owner = :owner OR j.owner IS NULL OR j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore)
+        """
+    )
+    fun claim(
+        @Param("jobId") jobId: Long,
+        @Param("owner") owner: String,
+        @Param("statuses") statuses: Collection<PlaceDeletionStatus>,
+        @Param("now") now: LocalDateTime,
+        @Param("staleBefore") staleBefore: LocalDateTime
+    ): Int
+
+    // 진행 기록 갱신 (처리 권한을 다른 서버가 가져갔으면 0)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE PlaceDeletionJob j SET j.heartbeatAt = :now WHERE j.id = :jobId AND j.owner = :owner")
+    fun heartbeat(@Param("jobId") jobId: Long, @Param("owner") owner: String, @Param("now") now: LocalDateTime): Int
+}
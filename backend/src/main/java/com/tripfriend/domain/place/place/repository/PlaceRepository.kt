@@ -4,7 +4,7 @@ import com.tripfriend.domain.place.place.entity.Place
 import org.springframework.data.jpa.repository.JpaRepository
 import org.springframework.data.jpa.repository.Query
 
-interface PlaceRepository : JpaRepository<Place, Long> {
+interface PlaceRepository : JpaRepository<Place, Long>, PlaceRepositoryCustom {
     // 도시별로 장소 목록 조회
     fun findByCityName(cityName: String): List<Place>
 
@@ -17,4 +17,20 @@ interface PlaceRepository : JpaRepository<Place, Long> {
     fun findByPlaceNameContainingIgnoreCase(name: String): List<Place>
 
     fun findByCityNameContainingIgnoreCase(city: String): List<Place>
+
+    // 여행지별 인기도 (리뷰 수 + 여행 일정 등록 수) - [placeId, score]
+    @Query("SELECT p.id, SIZE(p.reviews) + SIZE(p.tripInformations) FROM Place p")
+    fun findPopularityScores(): List<Array<Any>>
+
+    // geohash가 비어 있는 좌표 보유 여행지 (geohash 컬럼 추가 이전 데이터)
+    fun findByGeohashIsNullAndLatitudeIsNotNullAndLongitudeIsNotNull(): List<Place>
+
+    fun existsByImageUrl(imageUrl: String): Boolean
+
+    @Query("SELECT p.imageUrl FROM Place p WHERE p.id = :id")
+    fun findImageUrlById(id: Long): String?
+
+    // 이미지 정리 작업용 - 여행지가 참조하는 이미지 URL
+    @Query("SELECT DISTINCT p.imageUrl FROM Place p WHERE p.imageUrl IS NOT NULL")
+    fun findAllImageUrls(): List<String>
 }
@@ -0,0 +1,8 @@
+package com.tripfriend.domain.place.place.repository
+
+import com.tripfriend.domain.place.place.entity.Place
+
+interface PlaceRepositoryCustom {
+    // geohash 접두사 중 하나로 시작하는 여행지 조회 (geohash 인덱스 범위 검색)
+    fun findByGeohashPrefixes(prefixes: Collection<String>): List<Place>
+}
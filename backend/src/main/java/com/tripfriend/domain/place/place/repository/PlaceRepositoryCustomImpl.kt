@@ -0,0 +1,27 @@
+package com.tripfriend.domain.place.place.repository
+
+import com.querydsl.core.BooleanBuilder
+import com.querydsl.jpa.impl.JPAQueryFactory
+import com.tripfriend.domain.place.place.entity.Place
+import com.tripfriend.domain.place.place.entity.QPlace
+import org.springframework.stereotype.Repository
+
+@Repository
+class PlaceRepositoryCustomImpl(
+    private val jpaQueryFactory: JPAQueryFactory
+) : PlaceRepositoryCustom {
+
+    private val place = QPlace.place
+
+    override fun findByGeohashPrefixes(prefixes: Collection<String>): List<Place> {
+        if (prefixes.isEmpty()) return emptyList()
+
+        // LIKE 'prefix%' 조건은 geohash 인덱스 범위 검색으로 처리된다
+        val builder = BooleanBuilder()
+        prefixes.forEach { builder.or(place.geohash.startsWith(it)) }
+
+        return jpaQueryFactory.selectFrom(place)
+            .where(builder)
+            .fetch()
+    }
+}
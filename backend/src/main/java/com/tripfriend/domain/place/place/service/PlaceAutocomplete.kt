@@ -0,0 +1,195 @@
+package com.tripfriend.domain.place.place.service
+
+import com.tripfriend.domain.place.place.dto.PlaceResDto
+import com.tripfriend.domain.place.place.repository.PlaceRepository
+import com.tripfriend.global.util.HangulUtil
+import jakarta.annotation.PostConstruct
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import java.util.concurrent.locks.ReentrantReadWriteLock
+import kotlin.concurrent.read
+import kotlin.concurrent.write
+
+/**
+ * 여행지 이름 자동완성 색인
+ *
+ * 여행지 카탈로그 스냅샷으로 두 개의 접두사 트라이를 만든다.
+ * - 자모 트라이: 이름을 자모 단위로 분해하여 색인 (입력 중인 글자 "성ㅅ", "서우" 등도 일치)
+ * - 초성 트라이: 이름의 초성으로 색인 (예: "ㅅㅅㅇ" -> 성산일출봉)
+ * 이름 중간부터 입력해도 찾을 수 있도록 각 글자 위치에서 시작하는 접미사를 모두 색인하며,
+ * 각 노드는 인기도 순 상위 MAX_RESULTS 개의 여행지 id를 미리 보관하여 조회 시 트라이 탐색만 수행한다.
+ */
+@Component
+class PlaceAutocomplete(
+    private val placeCatalog: PlaceCatalog,
+    private val placeRepository: PlaceRepository
+) : PlaceCatalog.ChangeListener {
+
+    companion object {
+        const val MAX_RESULTS = 10
+    }
+
+    private class Node {
+        val children = HashMap<Char, Node>(4)
+        val top = ArrayList<Long>(2) // 인기도 순 상위 여행지 id
+        var ends: MutableSet<Long>? = null // 이 노드에서 끝나는 키의 여행지 id (삭제 시 상위 목록 재계산용)
+    }
+
+    private class Index(places: List<PlaceResDto>, val popularity: MutableMap<Long, Long>) {
+        val places = HashMap<Long, PlaceResDto>(places.size * 2)
+        val jamoRoot = Node()
+        val choseongRoot = Node()
+
+        // 인기도 내림차순, 같으면 id 오름차순
+        val ranking = Comparator<Long> { a, b ->
+            val diff = (popularity[b] ?: 0L).compareTo(popularity[a] ?: 0L)
+            if (diff != 0) diff else a.compareTo(b)
+        }
+
+        init {
+            places.forEach { add(it) }
+        }
+
+        fun add(place: PlaceResDto) {
+            if (places.containsKey(place.id)) remove(place.id)
+            places[place.id] = place
+            keys(place).forEach { (root, key) -> insert(root, key, place.id) }
+        }
+
+        fun remove(placeId: Long) {
+            val place = places.remove(placeId) ?: return
+            keys(place).forEach { (root, key) -> delete(root, key, placeId) }
+        }
+
+        fun search(query: String, limit: Int): List<PlaceResDto> {
+            val jamo = HangulUtil.decompose(query)
+            if (jamo.isEmpty()) return emptyList()
+
+            val candidates = LinkedHashSet<Long>()
+            find(jamoRoot, jamo)?.let { candidates.addAll(it.top) }
+            if (HangulUtil.isChoseongQuery(query)) {
+                find(choseongRoot, HangulUtil.choseong(query))?.let { candidates.addAll(it.top) }
+            }
+            return candidates.sortedWith(ranking).take(limit).mapNotNull { places[it] }
+        }
+
+        // 각 글자 위치에서 시작하는 자모 / 초성 접미사 키
+        private fun keys(place: PlaceResDto): List<Pair<Node, String>> {
+            val chars = place.placeName.filterNot { it.isWhitespace() }
+            val keys = ArrayList<Pair<Node, String>>(chars.length * 2)
+            for (start in chars.indices) {
+                val suffix = chars.substring(start)
+                keys.add(jamoRoot to HangulUtil.decompose(suffix))
+                keys.add(choseongRoot to HangulUtil.choseong(suffix))
+            }
+            return keys
+        }
+
+        private fun insert(root: Node, key: String, placeId: Long) {
+            var node = root
+            for (c in key) {
+                node = node.children.getOrPut(c) { Node() }
+                offer(node, placeId)
+            }
+            (node.ends ?: HashSet<Long>(2).also { node.ends = it }).add(placeId)
+        }
+
+        private fun delete(root: Node, key: String, placeId: Long) {
+            val path = ArrayList<Node>(key.length)
+            var node = root
+            for (c in key) {
+                node = node.children[c] ?: return
+                path.add(node)
+            }
+            node.ends?.remove(placeId)
+            // 아래쪽 노드부터 다시 채워야 상위 노드가 갱신된 하위 목록을 사용할 수 있다
+            for (i in path.indices.reversed()) {
+                if (path[i].top.remove(placeId)) {
+                    refill(path[i])
+                }
+            }
+        }
+
+        private fun offer(node: Node, placeId: Long) {
+            if (node.top.contains(placeId)) return
+            var index = node.top.binarySearch(placeId, ranking)
+            if (index < 0) index = -index - 1
+            if (index >= MAX_RESULTS) return
+            node.top.add(index, placeId)
+            if (node.top.size > MAX_RESULTS) node.top.removeAt(node.top.size - 1)
+        }
+
+        // 자식 노드의 상위 목록과 이 노드에서 끝나는 키로 상위 목록 재계산
+        private fun refill(node: Node) {
+            val candidates = HashSet<Long>()
+            node.ends?.let { candidates.addAll(it) }
+            node.children.values.forEach { candidates.addAll(it.top) }
+            node.top.clear()
+            node.top.addAll(candidates.sortedWith(ranking).take(MAX_RESULTS))
+        }
+
+        private fun find(root: Node, key: String): Node? {
+            var node = root
+            for (c in key) {
+                node = node.children[c] ?: return null
+            }
+            return node
+        }
+    }
+
+    private val lock = ReentrantReadWriteLock()
+    private var index: Index? = null
+
+    @PostConstruct
+    fun subscribe() {
+        placeCatalog.addChangeListener(this)
+    }
+
+    /**
+     * 검색어로 시작하는 여행지를 인기도 순으로 반환한다.
+     *
+     * @param query 검색어 (완성된 글자, 입력 중인 글자, 초성 모두 가능)
+     * @param limit 최대 결과 수 (1 ~ MAX_RESULTS)
+     */
+    fun search(query: String, limit: Int): List<PlaceResDto> {
+        val size = limit.coerceIn(1, MAX_RESULTS)
+        lock.read {
+            index?.let { return it.search(query, size) }
+        }
+        return lock.write { indexOrBuild().search(query, size) }
+    }
+
+    // 인기도는 리뷰 / 여행 일정 등록 수로 계산하며 주기적으로 전체 재구성한다
+    @Scheduled(fixedDelay = 10 * 60 * 1000L, initialDelay = 10 * 60 * 1000L)
+    fun rebuild() {
+        val rebuilt = build()
+        lock.write { index = rebuilt }
+    }
+
+    override fun onPlaceSaved(place: PlaceResDto) {
+        lock.write { index?.add(place) }
+    }
+
+    override fun onPlaceDeleted(placeId: Long) {
+        lock.write {
+            index?.let {
+                it.remove(placeId)
+                it.popularity.remove(placeId)
+            }
+        }
+    }
+
+    override fun onReset() {
+        lock.write { index = null }
+    }
+
+    private fun indexOrBuild(): Index = index ?: build().also { index = it }
+
+    private fun build(): Index {
+        val popularity = HashMap<Long, Long>()
+        placeRepository.findPopularityScores().forEach { row ->
+            popularity[(row[0] as Number).toLong()] = (row[1] as Number).toLong()
+        }
+        return Index(placeCatalog.getAll(), popularity)
+    }
+}
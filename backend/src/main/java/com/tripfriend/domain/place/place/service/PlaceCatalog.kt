@@ -0,0 +1,137 @@
+package com.tripfriend.domain.place.place.service
+
+import com.tripfriend.domain.image.dto.ImageVariantsReadyEvent
+import com.tripfriend.domain.image.service.ImageVariantService
+import com.tripfriend.domain.place.place.dto.PlaceResDto
+import com.tripfriend.domain.place.place.entity.Place
+import com.tripfriend.domain.place.place.repository.PlaceRepository
+import com.tripfriend.global.cache.LocalCacheInvalidation
+import com.tripfriend.global.util.TransactionCallbacks
+import jakarta.annotation.PostConstruct
+import org.springframework.context.event.EventListener
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.listener.RedisMessageListenerContainer
+import org.springframework.stereotype.Component
+import java.util.concurrent.CopyOnWriteArrayList
+
+/**
+ * 여행지 카탈로그 메모리 스냅샷
+ *
+ * 여행지는 관리자만 변경하므로 전체 목록을 한 번 읽어 id / 도시별로 색인한 불변 스냅샷으로 보관한다.
+ * 변경 시 invalidate()로 스냅샷을 버리고 Redis 채널로 다른 서버에도 알리며, 다음 조회 때 다시 만든다.
+ */
+@Component
+class PlaceCatalog(
+    private val placeRepository: PlaceRepository,
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val listenerContainer: RedisMessageListenerContainer,
+    private val imageVariantService: ImageVariantService
+) {
+
+    companion object {
+        const val INVALIDATE_CHANNEL = "place:catalog:invalidate"
+    }
+
+    // 카탈로그 변경 알림 (자동완성 색인 등 파생 색인의 증분 갱신용)
+    interface ChangeListener {
+        // 여행지 등록/수정 커밋 후 호출
+        fun onPlaceSaved(place: PlaceResDto) {}
+
+        // 여행지 삭제 커밋 후 호출
+        fun onPlaceDeleted(placeId: Long) {}
+
+        // 변경 내용을 알 수 없을 때 (다른 서버의 변경 등) 호출 - 전체 재구성 필요
+        fun onReset() {}
+    }
+
+    private class Snapshot(places: List<PlaceResDto>) {
+        val all: List<PlaceResDto> = places.sortedBy { it.id }
+        val byId: Map<Long, PlaceResDto> = all.associateBy { it.id }
+        val byCity: Map<String, List<PlaceResDto>> = all.groupBy { it.cityName }
+        val cities: List<String> = byCity.keys.toList()
+    }
+
+    @Volatile
+    private var snapshot: Snapshot? = null
+
+    private val listeners = CopyOnWriteArrayList<ChangeListener>()
+
+    // 다른 서버의 변경은 내용을 알 수 없으므로 파생 색인 전체 재구성
+    private val invalidation = LocalCacheInvalidation(
+        INVALIDATE_CHANNEL, redisTemplate,
+        evict = { snapshot = null },
+        onRemote = { listeners.forEach { it.onReset() } }
+    )
+
+    @PostConstruct
+    fun subscribe() {
+        invalidation.subscribe(listenerContainer)
+    }
+
+    fun addChangeListener(listener: ChangeListener) {
+        listeners.add(listener)
+    }
+
+    // 전체 여행지
+    fun getAll(): List<PlaceResDto> = snapshot().all
+
+    // 특정 도시의 여행지
+    fun getByCity(cityName: String): List<PlaceResDto> = snapshot().byCity[cityName] ?: emptyList()
+
+    // 등록된 도시 목록
+    fun getCities(): List<String> = snapshot().cities
+
+    // 여행지 단건 (없으면 null)
+    fun get(id: Long): PlaceResDto? = snapshot().byId[id]
+
+    /**
+     * 연관관계 지정용 Place 참조를 반환한다. (스냅샷에 없는 id면 null)
+     * 존재 여부는 스냅샷으로 확인하고 JPA 프록시를 반환하므로 SELECT가 실행되지 않는다.
+     * (필드를 읽으면 그때 로딩되므로 필드 값이 필요하면 get()을 사용)
+     */
+    fun findReference(id: Long): Place? = get(id)?.let { placeRepository.getReferenceById(id) }
+
+    // 여행지 등록/수정 시 호출 (스냅샷 무효화 + 커밋 후 변경 알림)
+    fun placeSaved(place: Place) {
+        invalidate()
+        val saved = PlaceResDto(place)
+        TransactionCallbacks.afterCommit { listeners.forEach { it.onPlaceSaved(saved) } }
+    }
+
+    // 여행지 삭제 시 호출 (스냅샷 무효화 + 커밋 후 변경 알림)
+    fun placeDeleted(placeId: Long) {
+        invalidate()
+        TransactionCallbacks.afterCommit { listeners.forEach { it.onPlaceDeleted(placeId) } }
+    }
+
+    /**
+     * 여행지가 변경되었을 때 호출한다.
+     * 즉시 로컬 스냅샷을 버리고, 트랜잭션이 끝나면(커밋/롤백) 한 번 더 버린 뒤 다른 서버에 무효화를 알린다.
+     */
+    fun invalidate() {
+        invalidation.invalidate()
+    }
+
+    // 여행지 이미지의 크기별 이미지가 생성되면 스냅샷을 다시 만들어 반영
+    @EventListener
+    fun onImageVariantsReady(event: ImageVariantsReadyEvent) {
+        if (placeRepository.existsByImageUrl(event.imageUrl)) {
+            invalidate()
+        }
+    }
+
+    private fun snapshot(): Snapshot {
+        snapshot?.let { return it }
+        synchronized(this) {
+            snapshot?.let { return it }
+            val startGeneration = invalidation.generation()
+            val places = placeRepository.findAll()
+            val variants = imageVariantService.findVariants(places.mapNotNull { it.imageUrl })
+            val built = Snapshot(places.map { place -> PlaceResDto(place, place.imageUrl?.let { variants[it] }) })
+            if (invalidation.generation() == startGeneration) {
+                snapshot = built
+            }
+            return built
+        }
+    }
+}
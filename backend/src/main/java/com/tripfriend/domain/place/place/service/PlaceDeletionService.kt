@@ -0,0 +1,252 @@
+package com.tripfriend.domain.place.place.service
+
+import com.tripfriend.domain.place.place.dto.PlaceDeletionJobResDto
+import com.tripfriend.domain.place.place.entity.PlaceDeletionJob
+import com.tripfriend.domain.place.place.entity.PlaceDeletionStatus
+import com.tripfriend.domain.place.place.repository.PlaceDeletionJobRepository
+import com.tripfriend.domain.place.place.repository.PlaceRepository
+import com.tripfriend.domain.recruit.apply.repository.ApplyRepository
+import com.tripfriend.domain.recruit.recruit.repository.RecruitRepository
+import com.tripfriend.domain.review.repository.CommentRepository
+import com.tripfriend.domain.review.repository.ReviewRepository
+import com.tripfriend.domain.trip.information.repository.TripInformationRepository
+import com.tripfriend.domain.trip.schedule.repository.TripScheduleRepository
+import com.tripfriend.global.exception.ServiceException
+import com.tripfriend.global.util.ImageUtil
+import com.tripfriend.global.util.TransactionCallbacks
+import jakarta.annotation.PreDestroy
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.boot.context.event.ApplicationReadyEvent
+import org.springframework.context.event.EventListener
+import org.springframework.data.domain.PageRequest
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Service
+import org.springframework.transaction.annotation.Transactional
+import org.springframework.transaction.support.TransactionTemplate
+import java.time.LocalDateTime
+import java.util.*
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+@Service
+class PlaceDeletionService(
+    private val placeRepository: PlaceRepository,
+    private val placeDeletionJobRepository: PlaceDeletionJobRepository,
+    private val recruitRepository: RecruitRepository,
+    private val applyRepository: ApplyRepository,
+    private val reviewRepository: ReviewRepository,
+    private val commentRepository: CommentRepository,
+    private val tripInformationRepository: TripInformationRepository,
+    private val tripScheduleRepository: TripScheduleRepository,
+    private val placeCatalog: PlaceCatalog,
+    private val imageUtil: ImageUtil,
+    private val transactionTemplate: TransactionTemplate
+) {
+
+    companion object {
+        private val ACTIVE_STATUSES = listOf(PlaceDeletionStatus.PENDING, PlaceDeletionStatus.RUNNING)
+    }
+
+    private val logger = LoggerFactory.getLogger(this::class.java)
+
+    @Value("\${custom.place-deletion.chunk-size:500}")
+    private var chunkSize: Int = 500
+
+    // 처리 중인 서버의 진행 기록이 이 시간 넘게 없으면 다른 서버가 작업을 이어받는다
+    @Value("\${custom.place-deletion.stale-seconds:300}")
+    private var staleSeconds: Long = 300
+
+    // 작업 처리 권한을 기록하는 서버 식별자
+    private val nodeId = UUID.randomUUID().toString()
+
+    // 이 서버의 대기열에 올라간 작업 (같은 작업을 중복으로 올리지 않도록)
+    private val queuedJobIds = ConcurrentHashMap.newKeySet<Long>()
+
+    // 삭제 작업은 한 번에 하나씩 순서대로 처리 (DB 부하 제한)
+    private val executor: ExecutorService = Executors.newSingleThreadExecutor { runnable ->
+        Thread(runnable, "place-deletion").apply { isDaemon = true }
+    }
+
+    /**
+     * 여행지 삭제 작업을 등록한다. 실제 삭제는 커밋 이후 백그라운드에서 진행된다.
+     *
+     * @param placeId 삭제할 여행지 ID
+     * @return 등록된 삭제 작업 (진행 상황은 getJob으로 조회)
+     */
+    @Transactional
+    fun requestDeletion(placeId: Long): PlaceDeletionJobResDto {
+        val place = placeRepository.findById(placeId)
+            .orElseThrow { ServiceException("404-1", "해당 여행지가 존재하지 않습니다.") }
+        if (placeDeletionJobRepository.existsByPlaceIdAndStatusIn(placeId, ACTIVE_STATUSES)) {
+            throw ServiceException("409-1", "이미 삭제가 진행 중인 여행지입니다.")
+        }
+
+        val job = placeDeletionJobRepository.save(
+            PlaceDeletionJob(placeId = placeId, placeName = place.placeName, owner = nodeId, heartbeatAt = LocalDateTime.now())
+        )
+        val jobId = job.id!!
+        TransactionCallbacks.afterCommit { submit(jobId) }
+        return PlaceDeletionJobResDto(job)
+    }
+
+    @Transactional(readOnly = true)
+    fun getJob(jobId: Long): PlaceDeletionJobResDto {
+        val job = placeDeletionJobRepository.findById(jobId)
+            .orElseThrow { ServiceException("404-3", "해당 삭제 작업이 존재하지 않습니다.") }
+        return PlaceDeletionJobResDto(job)
+    }
+
+    /**
+     * 서버 중단 등으로 멈춘 작업을 이어서 처리한다. (이미 지운 데이터는 다시 조회되지 않으므로 처음부터 다시 돌려도 안전)
+     * 처리 중인 서버의 진행 기록이 staleSeconds 넘게 없는 작업만 대상이며, 실제 처리는 runJob에서 권한을 얻은 서버 하나만 한다.
+     */
+    @EventListener(ApplicationReadyEvent::class)
+    @Scheduled(fixedDelayString = "\${custom.place-deletion.resume-interval-millis:60000}", initialDelay = 60000)
+    fun resumeStaleJobs() {
+        placeDeletionJobRepository.findStaleJobIds(ACTIVE_STATUSES, staleBefore())
+            .forEach { submit(it) }
+    }
+
+    /**
+     * 삭제 작업 실행: 하위 데이터부터 chunkSize 단위의 일괄 DELETE로 지우고, 청크마다 트랜잭션을 커밋하며 진행 상황을 기록한다.
+     * 모집글(신청) → 리뷰(댓글, 조회수) → 여행 정보(일정 경비 재계산) → 여행지 순으로 삭제한다.
+     */
+    fun runJob(jobId: Long) {
+        val placeId = inTransaction {
+            // 다른 서버가 처리 중이면 실행하지 않음
+            val claimed = placeDeletionJobRepository.claim(jobId, nodeId, ACTIVE_STATUSES, LocalDateTime.now(), staleBefore())
+            if (claimed == 0) return@inTransaction null
+            val job = findJob(jobId)
+            if (job.status !in ACTIVE_STATUSES) return@inTransaction null
+            job.start(
+                recruitRepository.countByPlaceId(job.placeId) +
+                    reviewRepository.countByPlace_Id(job.placeId) +
+                    tripInformationRepository.countByPlaceId(job.placeId)
+            )
+            job.placeId
+        } ?: return
+
+        try {
+            do {
+                repeatUntilEmpty { deleteRecruitChunk(jobId, placeId) }
+                repeatUntilEmpty { deleteReviewChunk(jobId, placeId) }
+                repeatUntilEmpty { deleteTripInformationChunk(jobId, placeId) }
+            } while (!deletePlaceIfNoDependents(jobId, placeId)) // 작업 중 새로 생긴 하위 데이터가 있으면 한 번 더
+        } catch (e: JobTakenOverException) {
+            logger.warn("여행지 삭제 작업을 다른 서버가 이어받아 중단 - jobId: {}, placeId: {}", jobId, placeId)
+        } catch (e: Exception) {
+            logger.error("여행지 삭제 작업 실패 - jobId: {}, placeId: {}", jobId, placeId, e)
+            inTransaction { if (ownsJob(jobId)) findJob(jobId).fail(e.message) }
+        }
+    }
+
+    @PreDestroy
+    fun shutdown() {
+        executor.shutdown()
+    }
+
+    // 모집글 청크 삭제 (신청 → 모집글)
+    private fun deleteRecruitChunk(jobId: Long, placeId: Long): Int = inTransaction {
+        ensureOwner(jobId)
+        val recruitIds = recruitRepository.findIdsByPlaceId(placeId, PageRequest.of(0, chunkSize))
+        if (recruitIds.isEmpty()) return@inTransaction 0
+
+        val applies = applyRepository.deleteByRecruitIds(recruitIds)
+        recruitRepository.deleteAllByIdInBatch(recruitIds)
+
+        findJob(jobId).apply {
+            deletedApplies += applies
+            deletedRecruits += recruitIds.size
+        }
+        recruitIds.size
+    }
+
+    // 리뷰 청크 삭제 (댓글, 조회수 → 리뷰)
+    private fun deleteReviewChunk(jobId: Long, placeId: Long): Int = inTransaction {
+        ensureOwner(jobId)
+        val reviewIds = reviewRepository.findIdsByPlaceId(placeId, PageRequest.of(0, chunkSize))
+        if (reviewIds.isEmpty()) return@inTransaction 0
+
+        val comments = commentRepository.deleteByReviewIds(reviewIds)
+        reviewRepository.deleteViewCountsByReviewIds(reviewIds)
+        reviewRepository.deleteAllByIdInBatch(reviewIds)
+
+        findJob(jobId).apply {
+            deletedComments += comments
+            deletedReviews += reviewIds.size
+        }
+        reviewIds.size
+    }
+
+    // 여행 정보 청크 삭제 후 해당 일정들의 경비 합계 재계산
+    private fun deleteTripInformationChunk(jobId: Long, placeId: Long): Int = inTransaction {
+        ensureOwner(jobId)
+        val rows = tripInformationRepository.findIdsByPlaceId(placeId, PageRequest.of(0, chunkSize))
+        if (rows.isEmpty()) return@inTransaction 0
+
+        val tripInformationIds = rows.map { it[0] as Long }
+        val scheduleIds = rows.mapTo(HashSet()) { it[1] as Long }
+        tripInformationRepository.deleteAllByIdInBatch(tripInformationIds)
+        tripScheduleRepository.recalculateTotalCosts(scheduleIds)
+
+        findJob(jobId).deletedTripInformations += tripInformationIds.size
+        tripInformationIds.size
+    }
+
+    // 남은 하위 데이터가 없으면 여행지를 삭제하고 작업을 완료 처리
+    private fun deletePlaceIfNoDependents(jobId: Long, placeId: Long): Boolean = inTransaction {
+        ensureOwner(jobId)
+        val remaining = recruitRepository.countByPlaceId(placeId) +
+            reviewRepository.countByPlace_Id(placeId) +
+            tripInformationRepository.countByPlaceId(placeId)
+        if (remaining > 0) return@inTransaction false
+
+        val imageUrl = placeRepository.findImageUrlById(placeId)
+        placeRepository.deleteAllByIdInBatch(listOf(placeId))
+        imageUtil.deleteImage(imageUrl) // 이미지 참조 해제 (실제 삭제는 이미지 정리 작업)
+        placeCatalog.placeDeleted(placeId) // 여행지 카탈로그 스냅샷 / 자동완성 색인 갱신
+        findJob(jobId).complete()
+        true
+    }
+
+    // 삭제된 건수가 0이 될 때까지 청크 삭제 반복
+    private fun repeatUntilEmpty(deleteChunk: () -> Int) {
+        var deleted: Int
+        do {
+            deleted = deleteChunk()
+        } while (deleted > 0)
+    }
+
+    // 작업을 대기열에 올림 (이미 올라가 있으면 생략)
+    private fun submit(jobId: Long) {
+        if (!queuedJobIds.add(jobId)) return
+        executor.submit {
+            try {
+                runJob(jobId)
+            } finally {
+                queuedJobIds.remove(jobId)
+            }
+        }
+    }
+
+    // 진행 기록을 갱신하며 처리 권한을 확인 (청크마다 트랜잭션 시작 시 호출)
+    private fun ownsJob(jobId: Long): Boolean =
+        placeDeletionJobRepository.heartbeat(jobId, nodeId, LocalDateTime.now()) > 0
+
+    private fun ensureOwner(jobId: Long) {
+        if (!ownsJob(jobId)) throw JobTakenOverException()
+    }
+
+    private fun staleBefore(): LocalDateTime = LocalDateTime.now().minusSeconds(staleSeconds)
+
+    // 진행 기록이 늦어 다른 서버가 작업을 이어받은 경우 (이 서버는 더 진행하지 않음)
+    private class JobTakenOverException : RuntimeException()
+
+    private fun findJob(jobId: Long): PlaceDeletionJob =
+        placeDeletionJobRepository.findById(jobId)
+            .orElseThrow { ServiceException("404-3", "해당 삭제 작업이 존재하지 않습니다.") }
+
+    private fun <T> inTransaction(block: () -> T): T = transactionTemplate.execute { block() } as T
+}
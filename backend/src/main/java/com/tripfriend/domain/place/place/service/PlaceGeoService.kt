@@ -0,0 +1,97 @@
+package com.tripfriend.domain.place.place.service
+
+import com.tripfriend.domain.place.place.dto.NearbyPlaceResDto
+import com.tripfriend.domain.place.place.dto.PlaceResDto
+import com.tripfriend.domain.place.place.repository.PlaceRepository
+import com.tripfriend.global.exception.ServiceException
+import com.tripfriend.global.util.GeoUtil
+import org.springframework.boot.context.event.ApplicationReadyEvent
+import org.springframework.context.event.EventListener
+import org.springframework.stereotype.Service
+import org.springframework.transaction.annotation.Transactional
+
+@Service
+class PlaceGeoService(
+    private val placeRepository: PlaceRepository
+) {
+
+    companion object {
+        const val DEFAULT_RADIUS_KM = 3.0
+        const val MAX_RADIUS_KM = 50.0
+        const val MAX_RESULTS = 100
+        private const val KNN_START_RADIUS_KM = 1.0
+    }
+
+    /**
+     * 기준 좌표 주변의 여행지를 가까운 순으로 조회한다.
+     * geohash 인접 셀로 후보를 좁힌 뒤 Haversine 거리로 정확히 거른다.
+     *
+     * @param latitude  기준 위도
+     * @param longitude 기준 경도
+     * @param radiusKm  검색 반경 (null이면 반경을 넓혀가며 가까운 limit 개를 찾는 k-최근접 검색)
+     * @param limit     최대 결과 수
+     */
+    @Transactional(readOnly = true)
+    fun findNearby(latitude: Double, longitude: Double, radiusKm: Double?, limit: Int): List<NearbyPlaceResDto> {
+        validateCoordinates(latitude, longitude)
+        val size = limit.coerceIn(1, MAX_RESULTS)
+
+        if (radiusKm != null) {
+            return searchWithin(latitude, longitude, validateRadius(radiusKm)).take(size)
+        }
+
+        // k-최근접: 결과가 limit 개 이상이 될 때까지 반경을 두 배씩 확장
+        var radius = KNN_START_RADIUS_KM
+        while (true) {
+            val found = searchWithin(latitude, longitude, radius)
+            if (found.size >= size || radius >= MAX_RADIUS_KM) {
+                return found.take(size)
+            }
+            radius = minOf(radius * 2, MAX_RADIUS_KM)
+        }
+    }
+
+    /**
+     * 반경 안에 있는 여행지 id 목록 (동행 모집 / 리뷰 검색의 위치 필터용)
+     */
+    @Transactional(readOnly = true)
+    fun findPlaceIdsWithin(latitude: Double, longitude: Double, radiusKm: Double?): Set<Long> {
+        validateCoordinates(latitude, longitude)
+        val radius = validateRadius(radiusKm ?: DEFAULT_RADIUS_KM)
+        return searchWithin(latitude, longitude, radius).mapTo(LinkedHashSet()) { it.place.id }
+    }
+
+    // geohash 컬럼 추가 이전에 저장된 여행지의 geohash 채우기
+    @EventListener(ApplicationReadyEvent::class)
+    @Transactional
+    fun backfillGeohashes() {
+        placeRepository.findByGeohashIsNullAndLatitudeIsNotNullAndLongitudeIsNotNull()
+            .forEach { it.updateGeohash() }
+    }
+
+    // geohash 후보 조회 + Haversine 필터 + 거리순 정렬
+    private fun searchWithin(latitude: Double, longitude: Double, radiusKm: Double): List<NearbyPlaceResDto> {
+        val prefixes = GeoUtil.coveringGeohashes(latitude, longitude, radiusKm)
+        return placeRepository.findByGeohashPrefixes(prefixes)
+            .mapNotNull { place ->
+                val lat = place.latitude ?: return@mapNotNull null
+                val lng = place.longitude ?: return@mapNotNull null
+                val distance = GeoUtil.haversineKm(latitude, longitude, lat, lng)
+                if (distance <= radiusKm) NearbyPlaceResDto(PlaceResDto(place), distance) else null
+            }
+            .sortedBy { it.distanceKm }
+    }
+
+    private fun validateCoordinates(latitude: Double, longitude: Double) {
+        if (latitude < -90.0 || latitude > 90.0 || longitude < -180.0 || longitude > 180.0) {
+            throw ServiceException("400-3", "위도는 -90 ~ 90, 경도는 -180 ~ 180 사이여야 합니다.")
+        }
+    }
+
+    private fun validateRadius(radiusKm: Double): Double {
+        if (radiusKm <= 0.0 || radiusKm > MAX_RADIUS_KM) {
+            throw ServiceException("400-5", "검색 반경은 0km 초과 ${MAX_RADIUS_KM.toInt()}km 이하여야 합니다.")
+        }
+        return radiusKm
+    }
+}
@@ -1,9 +1,9 @@
 package com.tripfriend.domain.place.place.service
 
 import com.tripfriend.domain.place.place.dto.PlaceCreateReqDto
+import com.tripfriend.domain.place.place.dto.PlaceResDto
 import com.tripfriend.domain.place.place.entity.Place
 import com.tripfriend.domain.place.place.repository.PlaceRepository
-import com.tripfriend.global.annotation.CheckPermission
 import com.tripfriend.global.exception.ServiceException
 import com.tripfriend.global.util.ImageUtil
 import org.springframework.stereotype.Service
@@ -14,12 +14,16 @@ import java.io.IOException
 @Service
 class PlaceService(
     private val placeRepository: PlaceRepository,
-    private val imageUtil: ImageUtil
+    private val imageUtil: ImageUtil,
+    private val placeCatalog: PlaceCatalog,
+    private val placeAutocomplete: PlaceAutocomplete
 ) {
 
     // 여행 장소 등록
     @Transactional
     fun createPlace(req: PlaceCreateReqDto): Place {
+        validateCoordinates(req.latitude, req.longitude)
+
         var imageUrl: String? = null
         val imageFile: MultipartFile? = req.imageUrl
 
@@ -37,33 +41,48 @@ class PlaceService(
             description = req.description
             category = req.category
             this.imageUrl = imageUrl
+            latitude = req.latitude
+            longitude = req.longitude
         }
 
         placeRepository.save(place)
+        placeCatalog.placeSaved(place) // 여행지 카탈로그 스냅샷 / 자동완성 색인 갱신
         return place
     }
 
-    // 여행 장소 전체 리스트 조회
-    fun getAllPlaces(): List<Place> = placeRepository.findAll()
+    // 위도/경도 유효성 검증 (둘 다 입력하거나 둘 다 생략)
+    private fun validateCoordinates(latitude: Double?, longitude: Double?) {
+        if ((latitude == null) != (longitude == null)) {
+            throw ServiceException("400-3", "위도와 경도는 함께 입력해야 합니다.")
+        }
+        if (latitude != null && (latitude < -90.0 || latitude > 90.0)) {
+            throw ServiceException("400-3", "위도는 -90 ~ 90 사이여야 합니다.")
+        }
+        if (longitude != null && (longitude < -180.0 || longitude > 180.0)) {
+            throw ServiceException("400-3", "경도는 -180 ~ 180 사이여야 합니다.")
+        }
+    }
+
+    // 여행 장소 전체 리스트 조회 (카탈로그 스냅샷)
+    fun getAllPlaces(): List<PlaceResDto> = placeCatalog.getAll()
 
-    // 특정 도시의 여행 장소 리스트 조회
-    fun getPlacesByCity(cityName: String): List<Place> = placeRepository.findByCityName(cityName)
+    // 특정 도시의 여행 장소 리스트 조회 (카탈로그 스냅샷)
+    fun getPlacesByCity(cityName: String): List<PlaceResDto> = placeCatalog.getByCity(cityName)
 
-    // 도시 목록 중복 제거
-    fun getDistinctCities(): List<String> = placeRepository.findDistinctCityNames()
+    // 도시 목록 중복 제거 (카탈로그 스냅샷)
+    fun getDistinctCities(): List<String> = placeCatalog.getCities()
+
+    // 여행 장소 이름 자동완성 (자모 / 초성 접두사, 인기도 순)
+    fun autocomplete(query: String, limit: Int): List<PlaceResDto> {
+        if (query.isBlank()) return emptyList()
+        return placeAutocomplete.search(query.trim(), limit)
+    }
 
     // 여행 장소 단건 조회
     fun getPlace(id: Long): Place =
         placeRepository.findById(id)
             .orElseThrow { ServiceException("404-1", "해당 장소가 존재하지 않습니다.") }
 
-    // 여행 장소 삭제
-    @CheckPermission("ADMIN")
-    @Transactional
-    fun deletePlace(place: Place) {
-        placeRepository.delete(place)
-    }
-
     // 여행 장소 수정 (사용 안함)
     /*
     @Transactional
@@ -74,6 +93,7 @@ class PlaceService(
             description = req.description
             category = req.category
         }
+        placeCatalog.placeSaved(place)
         return placeRepository.save(place)
     }
     */
@@ -83,6 +103,17 @@ class PlaceService(
     fun uploadPlaceImage(imageFile: MultipartFile): String? =
         imageUtil.saveImage(imageFile)
 
+    // 여행지 이미지 교체 (직접 업로드 완료 후 호출, 새 이미지의 참조 수는 호출한 쪽에서 증가)
+    @Transactional
+    @Throws(IOException::class)
+    fun changePlaceImage(placeId: Long, imageUrl: String): Place {
+        val place = getPlace(placeId)
+        place.imageUrl?.let { imageUtil.deleteImage(it) } // 기존 이미지 참조 해제
+        place.imageUrl = imageUrl
+        placeCatalog.placeSaved(place)
+        return placeRepository.save(place)
+    }
+
     // 여행 장소 검색
     fun searchPlace(name: String?, city: String?): List<Place> {
         return when {
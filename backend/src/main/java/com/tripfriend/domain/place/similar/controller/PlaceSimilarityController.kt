@@ -0,0 +1,35 @@
+package com.tripfriend.domain.place.similar.controller
+
+import com.tripfriend.domain.place.similar.dto.SimilarPlaceResDto
+import com.tripfriend.domain.place.similar.service.PlaceSimilarityService
+import com.tripfriend.global.annotation.CheckPermission
+import com.tripfriend.global.dto.RsData
+import io.swagger.v3.oas.annotations.Operation
+import io.swagger.v3.oas.annotations.tags.Tag
+import org.springframework.web.bind.annotation.*
+
+@RestController
+@RequestMapping("/place")
+@Tag(name = "SimilarPlace API", description = "함께 방문한 여행지 추천 기능을 제공합니다.")
+class PlaceSimilarityController(
+    private val placeSimilarityService: PlaceSimilarityService
+) {
+
+    @GetMapping("/{id}/similar")
+    @Operation(summary = "함께 방문한 여행지 조회", description = "이 여행지를 일정에 넣은 여행자들이 함께 방문한 여행지를 많이 함께 등장한 순으로 조회합니다.")
+    fun getSimilarPlaces(
+        @PathVariable id: Long,
+        @RequestParam(defaultValue = "10") limit: Int
+    ): RsData<List<SimilarPlaceResDto>> {
+        val places = placeSimilarityService.getSimilarPlaces(id, limit)
+        return RsData("200-1", "함께 방문한 여행지 조회 성공", places)
+    }
+
+    @PostMapping("/similar/rebuild")
+    @Operation(hidden = true)
+    @CheckPermission("ADMIN")
+    fun rebuild(): RsData<Int> {
+        val count = placeSimilarityService.rebuild()
+        return RsData("200-2", "함께 방문한 여행지 집계가 완료되었습니다.", count)
+    }
+}
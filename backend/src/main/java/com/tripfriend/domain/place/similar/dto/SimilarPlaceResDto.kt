@@ -0,0 +1,8 @@
+package com.tripfriend.domain.place.similar.dto
+
+import com.tripfriend.domain.place.place.dto.PlaceResDto
+
+data class SimilarPlaceResDto(
+    val place: PlaceResDto,
+    val coVisitCount: Int, // 두 여행지가 함께 포함된 여행 일정 수
+)
@@ -0,0 +1,34 @@
+package com.tripfriend.domain.place.similar.entity
+
+import jakarta.persistence.*
+import java.time.LocalDateTime
+
+// 여행지별 "함께 방문한 여행지" 상위 N개 (집계 작업 결과, 여행지 id 하나로 조회)
+@Entity
+@Table(name = "place_neighbors")
+class PlaceNeighbors(
+
+    @Id
+    @Column(name = "place_id")
+    var placeId: Long,
+
+    @Column(name = "neighbors", nullable = false, columnDefinition = "TEXT")
+    var neighbors: String, // "여행지id:함께 등장한 일정 수" 목록 (순위순, 쉼표 구분)
+
+    @Column(name = "updated_at", nullable = false)
+    var updatedAt: LocalDateTime = LocalDateTime.now()
+) {
+    // (여행지 id, 함께 등장한 일정 수) 목록으로 변환
+    fun toPairs(): List<Pair<Long, Int>> =
+        neighbors.split(',')
+            .filter { it.isNotBlank() }
+            .map { entry ->
+                val (id, count) = entry.split(':')
+                id.toLong() to count.toInt()
+            }
+
+    companion object {
+        fun of(placeId: Long, pairs: List<Pair<Long, Int>>) =
+            PlaceNeighbors(placeId, pairs.joinToString(",") { (id, count) -> "$id:$count" })
+    }
+}
@@ -0,0 +1,6 @@
+package com.tripfriend.domain.place.similar.repository
+
+import com.tripfriend.domain.place.similar.entity.PlaceNeighbors
+import org.springframework.data.jpa.repository.JpaRepository
+
+interface PlaceNeighborsRepository : JpaRepository<PlaceNeighbors, Long>
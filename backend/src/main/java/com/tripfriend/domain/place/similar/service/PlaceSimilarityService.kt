@@ -0,0 +1,228 @@
+package com.tripfriend.domain.place.similar.service
+
+import com.tripfriend.domain.place.place.service.PlaceCatalog
+import com.tripfriend.domain.place.similar.dto.SimilarPlaceResDto
+import com.tripfriend.domain.place.similar.entity.PlaceNeighbors
+import com.tripfriend.domain.place.similar.repository.PlaceNeighborsRepository
+import com.tripfriend.domain.trip.information.repository.TripInformationRepository
+import com.tripfriend.global.exception.ServiceException
+import com.tripfriend.global.redis.RedisCircuitBreaker
+import com.tripfriend.global.redis.RedisJobLock
+import com.tripfriend.global.util.LongIntHashMap
+import jakarta.annotation.PreDestroy
+import org.slf4j.LoggerFactory
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Service
+import org.springframework.transaction.annotation.Transactional
+import org.springframework.transaction.support.TransactionTemplate
+import java.time.Duration
+import java.util.concurrent.Callable
+import java.util.concurrent.ForkJoinPool
+import kotlin.math.sqrt
+
+/**
+ * "이 여행지를 일정에 넣은 여행자들이 함께 방문한 여행지" 추천.
+ *
+ * 여행 일정마다 포함된 여행지 쌍을 세어 여행지 x 여행지 동시 등장 행렬을 만들고,
+ * 여행지별 상위 N개 이웃만 place_neighbors 테이블에 저장해 두어 조회는 기본 키 한 번으로 끝난다.
+ * 집계는 서버마다 스케줄러가 돌기 때문에 Redis 잠금을 얻은 서버 하나만 실행한다.
+ */
+@Service
+class PlaceSimilarityService(
+    private val tripInformationRepository: TripInformationRepository,
+    private val placeNeighborsRepository: PlaceNeighborsRepository,
+    private val placeCatalog: PlaceCatalog,
+    private val redisJobLock: RedisJobLock,
+    private val transactionTemplate: TransactionTemplate
+) {
+
+    companion object {
+        const val TOP_N = 20 // 여행지별로 저장하는 이웃 수
+        const val MAX_PLACES_PER_SCHEDULE = 100 // 일정당 최대 여행지 수 (쌍의 수가 제곱으로 늘어나는 것 방지)
+        private const val MIN_SCHEDULES_PER_TASK = 1_000
+
+        // 쌍 키(작은 id << 32 | 큰 id)에 담을 수 있는 최대 여행지 ID
+        const val MAX_PAIR_PLACE_ID = 0xFFFFFFFFL
+
+        const val REBUILD_LOCK_KEY = "lock:place-similarity:rebuild"
+
+        // 정기 집계를 실행한 날짜 기록
+        const val SCHEDULED_REBUILD_KEY_PREFIX = "lock:place-similarity:scheduled-rebuild:"
+
+        // 집계가 비정상 종료되어 잠금을 풀지 못해도 이 시간이 지나면 만료
+        private val REBUILD_LOCK_TTL = Duration.ofMinutes(30)
+    }
+
+    private val logger = LoggerFactory.getLogger(this::class.java)
+
+    // 함께 방문한 이웃 여행지 (정렬: 함께 등장한 일정 수 → 코사인 유사도 → id)
+    data class Neighbor(val placeId: Long, val count: Int, val similarity: Double)
+
+    // 일정 묶음별 부분 집계를 병렬로 수행하는 fork-join 풀
+    private val forkJoinPool = ForkJoinPool(Runtime.getRuntime().availableProcessors())
+
+    /**
+     * 함께 방문한 여행지를 조회한다.
+     *
+     * @param placeId 기준 여행지 ID
+     * @param limit   최대 결과 수
+     * @return 함께 등장한 일정 수가 많은 순의 여행지 목록 (집계 전이면 빈 리스트)
+     */
+    @Transactional(readOnly = true)
+    fun getSimilarPlaces(placeId: Long, limit: Int): List<SimilarPlaceResDto> {
+        val neighbors = placeNeighborsRepository.findById(placeId).orElse(null) ?: return emptyList()
+        return neighbors.toPairs()
+            .mapNotNull { (id, count) -> placeCatalog.get(id)?.let { SimilarPlaceResDto(it, count) } } // 집계 이후 삭제된 여행지 제외
+            .take(limit.coerceIn(1, TOP_N))
+    }
+
+    // 매일 새벽 4시 집계 - 그날 가장 먼저 실행 권한을 얻은 서버만 집계
+    @Scheduled(cron = "0 0 4 * * ?")
+    fun scheduledRebuild() {
+        try {
+            if (!redisJobLock.claimToday(SCHEDULED_REBUILD_KEY_PREFIX) || rebuildWithLock() == null) {
+                logger.info("다른 서버에서 함께 방문한 여행지를 집계하고 있어 건너뜁니다")
+            }
+        } catch (e: RedisCircuitBreaker.RedisUnavailableException) {
+            logger.warn("Redis를 사용할 수 없어 함께 방문한 여행지 집계를 건너뜁니다")
+        }
+    }
+
+    /**
+     * 함께 방문한 여행지를 즉시 집계한다. (관리자 요청)
+     *
+     * @return 이웃이 저장된 여행지 수
+     * @throws ServiceException 다른 서버에서 집계 중이거나(409) 잠금을 확인할 수 없는 경우(503)
+     */
+    fun rebuild(): Int {
+        val count = try {
+            rebuildWithLock()
+        } catch (e: RedisCircuitBreaker.RedisUnavailableException) {
+            throw ServiceException("503-1", "일시적으로 함께 방문한 여행지를 집계할 수 없습니다. 잠시 후 다시 시도해주세요.")
+        }
+        return count ?: throw ServiceException("409-1", "이미 함께 방문한 여행지를 집계하고 있습니다.")
+    }
+
+    // 잠금을 얻으면 집계 후 이웃이 저장된 여행지 수를, 다른 서버가 잠금을 가지고 있으면 null을 반환
+    private fun rebuildWithLock(): Int? = redisJobLock.withLock(REBUILD_LOCK_KEY, REBUILD_LOCK_TTL) { build() }
+
+    // 전체 여행 일정으로 동시 등장 행렬을 다시 만들고 여행지별 상위 이웃을 저장
+    private fun build(): Int {
+        val schedules = transactionTemplate.execute { loadSchedules() }!!
+        val neighbors = computeNeighbors(schedules, TOP_N)
+
+        transactionTemplate.execute {
+            placeNeighborsRepository.deleteAllInBatch()
+            placeNeighborsRepository.saveAll(
+                neighbors.map { (placeId, list) -> PlaceNeighbors.of(placeId, list.map { it.placeId to it.count }) }
+            )
+        }
+        return neighbors.size
+    }
+
+    /**
+     * 일정별 여행지 목록으로 여행지별 상위 이웃을 계산한다.
+     * 일정 묶음마다 long 키 맵(쌍 -> 횟수)을 병렬로 만든 뒤 하나로 합친다.
+     *
+     * @param schedules 일정별 여행지 ID 배열 (중복 없음)
+     * @param topN      여행지별 최대 이웃 수
+     */
+    fun computeNeighbors(schedules: List<LongArray>, topN: Int): Map<Long, List<Neighbor>> {
+        // 32비트를 넘는 id는 쌍 키에서 잘려 다른 쌍과 섞이므로 집계하지 않음
+        val pairable = schedules.mapNotNull { places ->
+            if (places.all { it in 0..MAX_PAIR_PLACE_ID }) return@mapNotNull places
+            val kept = places.filter { it in 0..MAX_PAIR_PLACE_ID }.toLongArray()
+            logger.warn("쌍 키로 표현할 수 없는 여행지 ID를 집계에서 제외합니다: {}", places.filter { it !in 0..MAX_PAIR_PLACE_ID })
+            kept.takeIf { it.size > 1 }
+        }
+        if (pairable.isEmpty()) return emptyMap()
+
+        val taskSize = maxOf(MIN_SCHEDULES_PER_TASK, (pairable.size + forkJoinPool.parallelism - 1) / forkJoinPool.parallelism)
+        val tasks = pairable.chunked(taskSize).map { chunk -> Callable { countPairs(chunk) } }
+        val partials = forkJoinPool.invokeAll(tasks).map { it.get() }
+
+        val (pairCounts, placeCounts) = partials.first()
+        partials.drop(1).forEach { (pairs, places) ->
+            pairCounts.merge(pairs)
+            placeCounts.merge(places)
+        }
+
+        // 쌍마다 양쪽 여행지의 상위 N개 후보로 제안
+        val tops = HashMap<Long, TopNeighbors>()
+        pairCounts.forEach { key, count ->
+            val a = key ushr 32
+            val b = key and 0xFFFFFFFFL
+            val similarity = count / sqrt(placeCounts.get(a).toDouble() * placeCounts.get(b))
+            tops.getOrPut(a) { TopNeighbors(topN) }.offer(b, count, similarity)
+            tops.getOrPut(b) { TopNeighbors(topN) }.offer(a, count, similarity)
+        }
+        return tops.mapValues { it.value.sorted() }
+    }
+
+    @PreDestroy
+    fun shutdown() {
+        forkJoinPool.shutdown()
+    }
+
+    // 일정 순으로 정렬된 (일정, 여행지)를 스트리밍으로 읽어 일정별 여행지 배열로 묶는다
+    private fun loadSchedules(): List<LongArray> {
+        val schedules = mutableListOf<LongArray>()
+        var currentScheduleId: Long? = null
+        val currentPlaces = LinkedHashSet<Long>()
+
+        tripInformationRepository.streamSchedulePlaces().use { stream ->
+            stream.forEach { row ->
+                val scheduleId = row[0] as Long
+                if (scheduleId != currentScheduleId) {
+                    if (currentPlaces.size > 1) schedules.add(currentPlaces.toLongArray())
+                    currentPlaces.clear()
+                    currentScheduleId = scheduleId
+                }
+                if (currentPlaces.size < MAX_PLACES_PER_SCHEDULE) currentPlaces.add(row[1] as Long)
+            }
+        }
+        if (currentPlaces.size > 1) schedules.add(currentPlaces.toLongArray())
+        return schedules
+    }
+
+    // 일정 묶음의 (작은 id << 32 | 큰 id) 쌍별 횟수와 여행지별 등장 횟수
+    private fun countPairs(schedules: List<LongArray>): Pair<LongIntHashMap, LongIntHashMap> {
+        val pairCounts = LongIntHashMap(schedules.size * 4)
+        val placeCounts = LongIntHashMap()
+        for (places in schedules) {
+            for (i in places.indices) {
+                placeCounts.addTo(places[i], 1)
+                for (j in i + 1 until places.size) {
+                    val low = minOf(places[i], places[j])
+                    val high = maxOf(places[i], places[j])
+                    pairCounts.addTo((low shl 32) or high, 1)
+                }
+            }
+        }
+        return pairCounts to placeCounts
+    }
+
+    // 상위 N개만 유지하는 후보 목록 (N이 작으므로 최솟값 교체는 선형 탐색)
+    private class TopNeighbors(private val capacity: Int) {
+        private val items = ArrayList<Neighbor>(capacity)
+
+        fun offer(placeId: Long, count: Int, similarity: Double) {
+            val candidate = Neighbor(placeId, count, similarity)
+            if (items.size < capacity) {
+                items.add(candidate)
+                return
+            }
+            val weakestIndex = items.indices.maxWith(compareBy(ORDER) { items[it] })
+            if (ORDER.compare(candidate, items[weakestIndex]) < 0) items[weakestIndex] = candidate
+        }
+
+        fun sorted(): List<Neighbor> = items.sortedWith(ORDER)
+
+        companion object {
+            // 앞에 올수록 강한 이웃
+            val ORDER: Comparator<Neighbor> = compareByDescending<Neighbor> { it.count }
+                .thenByDescending { it.similarity }
+                .thenBy { it.placeId }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.tripfriend.domain.place.trending.controller
+
+import com.tripfriend.domain.place.trending.dto.TrendingPlaceResDto
+import com.tripfriend.domain.place.trending.service.TrendingPlaceService
+import com.tripfriend.global.annotation.CheckPermission
+import com.tripfriend.global.dto.RsData
+import io.swagger.v3.oas.annotations.Operation
+import io.swagger.v3.oas.annotations.tags.Tag
+import org.springframework.web.bind.annotation.*
+
+@RestController
+@RequestMapping("/place/trending")
+@Tag(name = "TrendingPlace API", description = "도시별 인기 여행지 랭킹 기능을 제공합니다.")
+class TrendingPlaceController(
+    private val trendingPlaceService: TrendingPlaceService
+) {
+
+    @GetMapping
+    @Operation(summary = "도시별 인기 여행지 조회", description = "최근 리뷰 평점, 모집 중인 동행, 여행 일정 포함 수를 시간 감쇠하여 합산한 인기 여행지를 조회합니다.")
+    fun getTrendingPlaces(
+        @RequestParam cityName: String,
+        @RequestParam(defaultValue = "10") limit: Int
+    ): RsData<List<TrendingPlaceResDto>> {
+        val places = trendingPlaceService.getTrending(cityName, limit)
+        return RsData("200-1", "인기 여행지 조회 성공", places)
+    }
+
+    @PostMapping("/rebuild")
+    @Operation(hidden = true)
+    @CheckPermission("ADMIN")
+    fun rebuild(): RsData<Int> {
+        val count = trendingPlaceService.rebuild()
+        return RsData("200-2", "인기 여행지 랭킹 재구성이 완료되었습니다.", count)
+    }
+}
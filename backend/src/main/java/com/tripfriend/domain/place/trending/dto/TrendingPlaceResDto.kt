@@ -0,0 +1,9 @@
+package com.tripfriend.domain.place.trending.dto
+
+import com.tripfriend.domain.place.place.dto.PlaceResDto
+
+data class TrendingPlaceResDto(
+    val rank: Int,
+    val place: PlaceResDto,
+    val score: Double, // 현재 시각 기준으로 감쇠된 인기 점수
+)
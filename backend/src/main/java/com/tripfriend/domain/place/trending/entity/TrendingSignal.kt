@@ -0,0 +1,11 @@
+package com.tripfriend.domain.place.trending.entity
+
+// 인기 여행지 점수에 반영되는 활동 종류와 가중치
+enum class TrendingSignal(
+    val koreanName: String,
+    val weight: Double,
+) {
+    REVIEW("리뷰", 3.0), // 평점 비율(rating / 5)만큼 반영
+    RECRUIT("모집 중인 동행", 2.0), // 모집 마감 / 삭제 시 차감
+    TRIP_INFORMATION("여행 일정 포함", 1.0),
+}
@@ -0,0 +1,217 @@
+package com.tripfriend.domain.place.trending.service
+
+import com.tripfriend.domain.place.place.service.PlaceCatalog
+import com.tripfriend.domain.place.trending.dto.TrendingPlaceResDto
+import com.tripfriend.domain.place.trending.entity.TrendingSignal
+import com.tripfriend.domain.recruit.recruit.repository.RecruitRepository
+import com.tripfriend.domain.review.repository.ReviewRepository
+import com.tripfriend.domain.trip.information.repository.TripInformationRepository
+import com.tripfriend.global.exception.ServiceException
+import com.tripfriend.global.util.TransactionCallbacks
+import jakarta.annotation.PostConstruct
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.ZSetOperations
+import org.springframework.data.redis.core.script.DefaultRedisScript
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Service
+import org.springframework.transaction.annotation.Transactional
+import java.time.LocalDateTime
+import java.time.ZoneId
+import kotlin.math.exp
+import kotlin.math.ln
+
+/**
+ * 도시별 인기 여행지 랭킹.
+ *
+ * 리뷰 / 모집 중인 동행 / 여행 일정 포함 이벤트마다 Redis sorted set(도시별)의 점수를 증분 갱신한다.
+ * 점수는 기준 시각(epoch) 대비 exp((발생 시각 - epoch) / tau)로 키운 값(forward decay)을 더해 두므로,
+ * 모든 여행지가 같은 비율로 감쇠하여 저장된 점수 순서가 곧 현재 시각 기준 랭킹이 된다.
+ * 조회는 ZREVRANGE 한 번으로 상위 k개만 읽는다.
+ */
+@Service
+class TrendingPlaceService(
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val placeCatalog: PlaceCatalog,
+    private val reviewRepository: ReviewRepository,
+    private val recruitRepository: RecruitRepository,
+    private val tripInformationRepository: TripInformationRepository
+) : PlaceCatalog.ChangeListener {
+
+    companion object {
+        const val MAX_RESULTS = 50
+        private const val CITY_KEY_PREFIX = "trending:city:"
+        private const val EPOCH_KEY = "trending:epoch" // 점수 기준 시각 (epoch second)
+        private const val CITIES_KEY = "trending:cities" // 점수가 있는 도시 키 목록
+        private const val PRUNE_THRESHOLD = 1e-6 // 이 값 이하로 감쇠된 점수는 제거
+
+        // 기준 시각 대비 감쇠 배율을 곱해 점수를 더하고, 0 이하가 되면 제거
+        private val INCREMENT_SCRIPT = DefaultRedisScript(
+            """
+            local epoch = tonumber(redis.call('GET', KEYS[2]))
+            if not epoch then
+              epoch = tonumber(ARGV[4])
+              redis.call('SET', KEYS[2], ARGV[4])
+            end
+            local delta = tonumber(ARGV[2]) * math.exp((tonumber(ARGV[3]) - epoch) / tonumber(ARGV[5]))
+            local score = tonumber(redis.call('ZINCRBY', KEYS[1], delta, ARGV[1]))
+            if score <= tonumber(ARGV[6]) then
+              redis.call('ZREM', KEYS[1], ARGV[1])
+            else
+              redis.call('SADD', KEYS[3], KEYS[1])
+            end
+            return 1
+            """.trimIndent(),
+            Long::class.java
+        )
+
+        // 기준 시각을 현재로 옮기며 모든 도시 점수를 같은 비율로 줄인다 (점수가 무한히 커지는 것을 방지)
+        private val RESCALE_SCRIPT = DefaultRedisScript(
+            """
+            local epoch = tonumber(redis.call('GET', KEYS[1]))
+            if not epoch then return 0 end
+            local factor = math.exp((epoch - tonumber(ARGV[1])) / tonumber(ARGV[2]))
+            for _, key in ipairs(redis.call('SMEMBERS', KEYS[2])) do
+              redis.call('ZUNIONSTORE', key, 1, key, 'WEIGHTS', factor)
+              redis.call('ZREMRANGEBYSCORE', key, '-inf', ARGV[3])
+              if redis.call('ZCARD', key) == 0 then
+                redis.call('SREM', KEYS[2], key)
+              end
+            end
+            redis.call('SET', KEYS[1], ARGV[1])
+            return 1
+            """.trimIndent(),
+            Long::class.java
+        )
+    }
+
+    @Value("\${custom.trending.half-life-days:7}")
+    private var halfLifeDays: Double = 7.0
+
+    // 감쇠 시간 상수 (초): 반감기마다 점수가 절반이 된다
+    private val tauSeconds: Double
+        get() = halfLifeDays * 86_400 / ln(2.0)
+
+    @PostConstruct
+    fun subscribe() {
+        placeCatalog.addChangeListener(this)
+    }
+
+    /**
+     * 여행지 활동을 점수에 반영한다. 트랜잭션 안이면 커밋 이후에 반영된다.
+     *
+     * @param signal     활동 종류
+     * @param placeId    여행지 ID
+     * @param occurredAt 활동 발생 시각 (취소 시에도 원래 발생 시각을 넘겨야 정확히 상쇄된다)
+     * @param amount     반영 비율 (취소는 음수)
+     */
+    fun record(signal: TrendingSignal, placeId: Long?, occurredAt: LocalDateTime?, amount: Double = 1.0) {
+        if (placeId == null || occurredAt == null || amount == 0.0) return
+        val cityName = placeCatalog.get(placeId)?.cityName ?: return
+
+        val weight = signal.weight * amount
+        val eventSecond = toEpochSecond(occurredAt)
+        TransactionCallbacks.afterCommit {
+            redisTemplate.execute(
+                INCREMENT_SCRIPT,
+                listOf(cityKey(cityName), EPOCH_KEY, CITIES_KEY),
+                placeId.toString(),
+                weight.toString(),
+                eventSecond.toString(),
+                toEpochSecond(LocalDateTime.now()).toString(),
+                tauSeconds.toString(),
+                PRUNE_THRESHOLD.toString()
+            )
+        }
+    }
+
+    // 활동 취소 (리뷰 삭제, 모집 마감 등) - 발생 시각의 기여분을 그대로 차감
+    fun cancel(signal: TrendingSignal, placeId: Long?, occurredAt: LocalDateTime?, amount: Double = 1.0) =
+        record(signal, placeId, occurredAt, -amount)
+
+    /**
+     * 도시의 인기 여행지를 점수 순으로 조회한다.
+     *
+     * @param cityName 도시명
+     * @param limit    최대 결과 수
+     */
+    fun getTrending(cityName: String, limit: Int): List<TrendingPlaceResDto> {
+        if (cityName.isBlank()) {
+            throw ServiceException("400-1", "도시명은 필수입니다.")
+        }
+        val size = limit.coerceIn(1, MAX_RESULTS)
+        val tuples = redisTemplate.opsForZSet().reverseRangeWithScores(cityKey(cityName), 0, size - 1L)
+        if (tuples.isNullOrEmpty()) return emptyList()
+
+        // 저장된 점수를 현재 시각 기준으로 환산
+        val epoch = redisTemplate.opsForValue().get(EPOCH_KEY)?.toLong() ?: return emptyList()
+        val scale = exp((epoch - toEpochSecond(LocalDateTime.now())) / tauSeconds)
+
+        return tuples.mapNotNull { tuple ->
+            val place = tuple.value?.toLongOrNull()?.let { placeCatalog.get(it) } ?: return@mapNotNull null
+            place to (tuple.score ?: 0.0) * scale
+        }.mapIndexed { index, (place, score) -> TrendingPlaceResDto(index + 1, place, score) }
+    }
+
+    // 매일 기준 시각을 현재로 옮긴다 (double 정밀도 유지 및 감쇠된 항목 정리)
+    @Scheduled(cron = "0 30 3 * * ?") // 매일 새벽 3시 30분에 실행
+    fun rescale() {
+        redisTemplate.execute(
+            RESCALE_SCRIPT,
+            listOf(EPOCH_KEY, CITIES_KEY),
+            toEpochSecond(LocalDateTime.now()).toString(),
+            tauSeconds.toString(),
+            PRUNE_THRESHOLD.toString()
+        )
+    }
+
+    /**
+     * 원본 데이터로 랭킹 전체를 다시 만든다. (운영 중 누락 보정용)
+     * 리뷰 / 모집 중인 동행 / 여행 정보를 각각 조인 없이 (placeId, 발생 시각)만 읽어 메모리에서 합산한다.
+     *
+     * @return 점수가 계산된 여행지 수
+     */
+    @Transactional(readOnly = true)
+    fun rebuild(): Int {
+        val now = toEpochSecond(LocalDateTime.now())
+        val scores = HashMap<Long, Double>()
+        fun add(signal: TrendingSignal, placeId: Any?, occurredAt: Any?, amount: Double = 1.0) {
+            if (placeId !is Long || occurredAt !is LocalDateTime) return
+            val decayed = signal.weight * amount * exp((toEpochSecond(occurredAt) - now) / tauSeconds)
+            scores.merge(placeId, decayed, Double::plus)
+        }
+
+        reviewRepository.findTrendingSignals().forEach { add(TrendingSignal.REVIEW, it[0], it[2], (it[1] as Double) / 5.0) }
+        recruitRepository.findOpenTrendingSignals().forEach { add(TrendingSignal.RECRUIT, it[0], it[1]) }
+        tripInformationRepository.findTrendingSignals().forEach { add(TrendingSignal.TRIP_INFORMATION, it[0], it[1]) }
+
+        val byCity = scores.entries
+            .filter { it.value > PRUNE_THRESHOLD }
+            .groupBy { placeCatalog.get(it.key)?.cityName }
+
+        // 기존 키를 지우고 새 기준 시각으로 다시 적재
+        redisTemplate.opsForSet().members(CITIES_KEY)?.let { redisTemplate.delete(it) }
+        redisTemplate.delete(CITIES_KEY)
+        redisTemplate.opsForValue().set(EPOCH_KEY, now.toString())
+        byCity.forEach { (cityName, entries) ->
+            if (cityName == null) return@forEach
+            val tuples = entries.mapTo(HashSet<ZSetOperations.TypedTuple<String>>()) {
+                ZSetOperations.TypedTuple.of(it.key.toString(), it.value)
+            }
+            redisTemplate.opsForZSet().add(cityKey(cityName), tuples)
+            redisTemplate.opsForSet().add(CITIES_KEY, cityKey(cityName))
+        }
+        return byCity.filterKeys { it != null }.values.sumOf { it.size }
+    }
+
+    // 삭제된 여행지는 모든 도시 랭킹에서 제거
+    override fun onPlaceDeleted(placeId: Long) {
+        redisTemplate.opsForSet().members(CITIES_KEY)?.forEach { key ->
+            redisTemplate.opsForZSet().remove(key, placeId.toString())
+        }
+    }
+
+    private fun cityKey(cityName: String) = CITY_KEY_PREFIX + cityName
+
+    private fun toEpochSecond(time: LocalDateTime): Long = time.atZone(ZoneId.systemDefault()).toEpochSecond()
+}
@@ -1,8 +1,9 @@
 package com.tripfriend.domain.qna.controller
 
-import com.tripfriend.domain.member.member.service.AuthService
+import com.tripfriend.domain.member.member.entity.Member
 import com.tripfriend.domain.qna.dto.AnswerDto
 import com.tripfriend.domain.qna.qna.service.AnswerService
+import com.tripfriend.global.annotation.LoginMember
 import io.swagger.v3.oas.annotations.Operation
 import io.swagger.v3.oas.annotations.tags.Tag
 import org.springframework.http.ResponseEntity
@@ -13,15 +14,13 @@ import org.springframework.web.bind.annotation.*
 @RestController
 @RequestMapping("/qna")
 class AnswerController(
-    private val answerService: AnswerService,
-    private val authService: AuthService
+    private val answerService: AnswerService
 ) {
 
     //로그인 유저 정보조회
     @Operation(summary = "현재 로그인한 사용자 정보 조회", description = "AccessToken을 통해 로그인된 사용자의 ID와 username을 조회합니다.")
     @GetMapping("/me")
-    fun getCurrentUser(@RequestHeader("Authorization") token: String): ResponseEntity<Map<String, Any?>> {
-        val member = authService.getLoggedInMember(token)
+    fun getCurrentUser(@LoginMember member: Member): ResponseEntity<Map<String, Any?>> {
         val response = mapOf(
             "id" to member.id,
             "username" to member.username
@@ -35,10 +34,9 @@ class AnswerController(
     fun createAnswer(
         @PathVariable questionId: Long,
         @RequestBody request: Map<String, String>,
-        @RequestHeader("Authorization") token: String
+        @LoginMember member: Member
     ): ResponseEntity<Void> {
         val content = request["content"] ?: throw IllegalArgumentException("답변 내용이 필요합니다.")
-        val member = authService.getLoggedInMember(token)
         answerService.createAnswer(questionId, member.id!!, content)
         return ResponseEntity.ok().build()
     }
@@ -56,9 +54,8 @@ class AnswerController(
     @DeleteMapping("/answer/{answerId}")
     fun deleteAnswer(
         @PathVariable answerId: Long,
-        @RequestHeader("Authorization") token: String
+        @LoginMember member: Member
     ): ResponseEntity<Void> {
-        val member = authService.getLoggedInMember(token)
         answerService.deleteAnswer(answerId, member)
         return ResponseEntity.noContent().build()
     }
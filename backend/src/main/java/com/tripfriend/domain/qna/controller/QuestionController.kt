@@ -1,9 +1,10 @@
 package com.tripfriend.domain.qna.controller
 
-import com.tripfriend.domain.member.member.service.AuthService
+import com.tripfriend.domain.member.member.entity.Member
 import com.tripfriend.domain.qna.dto.QuestionDto
 import com.tripfriend.domain.qna.entity.Question
 import com.tripfriend.domain.qna.qna.service.QuestionService
+import com.tripfriend.global.annotation.LoginMember
 import io.swagger.v3.oas.annotations.Operation
 import io.swagger.v3.oas.annotations.tags.Tag
 import org.springframework.http.ResponseEntity
@@ -13,8 +14,7 @@ import org.springframework.web.bind.annotation.*
 @RestController
 @RequestMapping("/qna")
 class QuestionController(
-    private val questionService: QuestionService,
-    private val authService: AuthService
+    private val questionService: QuestionService
 ) {
 
 
@@ -41,9 +41,8 @@ class QuestionController(
     @DeleteMapping("/{questionId}")
     fun deleteQuestion(
         @PathVariable questionId: Long,
-        @RequestHeader("Authorization") token: String
+        @LoginMember member: Member
     ): ResponseEntity<Void> {
-        val member = authService.getLoggedInMember(token)
         questionService.deleteQuestionById(questionId, member)
         return ResponseEntity.noContent().build()
     }
@@ -54,9 +53,8 @@ class QuestionController(
     @PostMapping("/question")
     fun createQuestion(
         @RequestBody requestDto: QuestionDto,
-        @RequestHeader("Authorization") token: String
+        @LoginMember member: Member
     ): ResponseEntity<Void> {
-        val member = authService.getLoggedInMember(token)
         questionService.createQuestion(requestDto.title, requestDto.content, member)
         return ResponseEntity.ok().build()
     }
@@ -1,8 +1,10 @@
 package com.tripfriend.domain.recruit.apply.controller
 
+import com.tripfriend.domain.member.member.entity.Member
 import com.tripfriend.domain.recruit.apply.dto.ApplyCreateRequestDto
 import com.tripfriend.domain.recruit.apply.dto.ApplyResponseDto
 import com.tripfriend.domain.recruit.apply.service.ApplyService
+import com.tripfriend.global.annotation.LoginMember
 import com.tripfriend.global.dto.RsData
 import io.swagger.v3.oas.annotations.Operation
 import io.swagger.v3.oas.annotations.tags.Tag
@@ -24,18 +26,18 @@ class ApplyController (private val applyService: ApplyService){
     fun createApply(
         @PathVariable("recruitId") recruitId: Long,
         @RequestBody requestDto: ApplyCreateRequestDto,
-        @RequestHeader(value = "Authorization", required = false) token: String
+        @LoginMember loggedInMember: Member
     ): RsData<ApplyResponseDto> {
-        return RsData("201-4", "동행 요청 댓글이 성공적으로 등록되었습니다.", applyService.create(recruitId, requestDto, token))
+        return RsData("201-4", "동행 요청 댓글이 성공적으로 등록되었습니다.", applyService.create(recruitId, requestDto, loggedInMember))
     }
 
     @Operation(summary = "동행모집 댓글 삭제", description = "동행모집 댓글을 삭제합니다.")
     @DeleteMapping("/{applyId}")
     fun deleteApply(
         @PathVariable("applyId") applyId: Long,
-        @RequestHeader(value = "Authorization", required = false) token: String
+        @LoginMember loggedInMember: Member
     ): RsData<Void> {
-        applyService.delete(applyId, token)
+        applyService.delete(applyId, loggedInMember)
         return RsData("200-4", "동행 요청 댓글이 성공적으로 삭제되었습니다.")
     }
 }
@@ -1,6 +1,7 @@
 package com.tripfriend.domain.recruit.apply.dto
 
 import com.tripfriend.domain.recruit.apply.entity.Apply
+import com.tripfriend.domain.trip.schedule.dto.TripScheduleConflictResDto
 import java.time.LocalDateTime
 
 data class ApplyResponseDto(
@@ -10,7 +11,8 @@ data class ApplyResponseDto(
     val memberNickname: String,
     val content: String,
     val createdAt: LocalDateTime?,
-    val updatedAt: LocalDateTime?
+    val updatedAt: LocalDateTime?,
+    val scheduleConflicts: List<TripScheduleConflictResDto> = emptyList() // 모집 기간과 겹치는 신청자의 여행 일정
 ) {
     constructor(apply: Apply) : this(
         applyId = apply.applyId!!,
@@ -2,8 +2,15 @@ package com.tripfriend.domain.recruit.apply.repository
 
 import com.tripfriend.domain.recruit.apply.entity.Apply
 import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Modifying
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
 import org.springframework.stereotype.Repository
 
 @Repository
 interface ApplyRepository : JpaRepository<Apply, Long> {
+    // 여러 모집글의 신청 일괄 삭제 (여행지 삭제 작업용)
+    @Modifying
+    @Query("DELETE FROM Apply a WHERE a.recruit.recruitId IN :recruitIds")
+    fun deleteByRecruitIds(@Param("recruitIds") recruitIds: Collection<Long>): Int
 }
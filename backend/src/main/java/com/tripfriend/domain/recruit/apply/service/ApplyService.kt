@@ -2,11 +2,11 @@ package com.tripfriend.domain.recruit.apply.service
 
 import com.tripfriend.domain.member.member.entity.Member
 import com.tripfriend.domain.member.member.repository.MemberRepository
-import com.tripfriend.domain.member.member.service.AuthService
 import com.tripfriend.domain.recruit.apply.dto.ApplyCreateRequestDto
 import com.tripfriend.domain.recruit.apply.dto.ApplyResponseDto
 import com.tripfriend.domain.recruit.apply.repository.ApplyRepository
 import com.tripfriend.domain.recruit.recruit.repository.RecruitRepository
+import com.tripfriend.domain.trip.schedule.service.TripScheduleService
 import com.tripfriend.global.exception.ServiceException
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
@@ -16,23 +16,7 @@ class ApplyService (
     private val applyRepository: ApplyRepository,
     private val recruitRepository: RecruitRepository,
     private val memberRepository: MemberRepository,
-    private val authService: AuthService){
-
-
-    /**
-     * 현재 로그인한 회원객체를 반환하는 메서드
-     *
-     * @param token JWT 토큰
-     * @return 로그인한 회원 객체
-     * @throws ServiceException 로그인하지 않은 경우 예외 발생
-     */
-    fun getLoggedInMember(token: String): Member {
-        // 로그인 여부 확인 및 회원 정보 가져오기
-        val member = authService.getLoggedInMember(token)
-            ?: throw ServiceException("401-1", "로그인이 필요합니다.")
-
-        return member
-    }
+    private val tripScheduleService: TripScheduleService){
 
     @Transactional
     fun findByRecruitId(recruitId: Long): List<ApplyResponseDto> {
@@ -46,25 +30,27 @@ class ApplyService (
     }
 
     @Transactional
-    fun create(recruitId: Long, requestDto: ApplyCreateRequestDto, token: String): ApplyResponseDto {
-        val member = getLoggedInMember(token)
+    fun create(recruitId: Long, requestDto: ApplyCreateRequestDto, member: Member): ApplyResponseDto {
         val recruit = recruitRepository.findById(recruitId).orElseThrow {
             ServiceException(
                 "404-3",
                 "해당 모집글이 존재하지 않습니다."
             )
         }
-        return ApplyResponseDto(applyRepository.save(requestDto.toEntity(member, recruit)))
+        val saved = applyRepository.save(requestDto.toEntity(member, recruit))
+
+        // 신청자의 기존 여행 일정과 모집 기간이 겹치면 경고용으로 함께 반환
+        val conflicts = tripScheduleService.getConflictingSchedules(member.id!!, recruit.startDate, recruit.endDate)
+        return ApplyResponseDto(saved).copy(scheduleConflicts = conflicts)
     }
 
-    fun delete(applyId: Long, token: String) {
+    fun delete(applyId: Long, member: Member) {
         val apply = applyRepository.findById(applyId).orElseThrow {
             ServiceException(
                 "404-3",
                 "해당 모집 댓글이 존재하지 않습니다."
             )
         }
-        val member = getLoggedInMember(token)
 
         // 본인 확인
         if (apply.member.id != member.id && member.authority != "ADMIN") {
@@ -1,9 +1,11 @@
 package com.tripfriend.domain.recruit.recruit.controller
 
+import com.tripfriend.domain.member.member.entity.Member
 import com.tripfriend.domain.recruit.recruit.dto.RecruitDetailResponseDto
 import com.tripfriend.domain.recruit.recruit.dto.RecruitListResponseDto
 import com.tripfriend.domain.recruit.recruit.dto.RecruitRequestDto
 import com.tripfriend.domain.recruit.recruit.service.RecruitService
+import com.tripfriend.global.annotation.LoginMember
 import com.tripfriend.global.dto.RsData
 import io.swagger.v3.oas.annotations.Operation
 import io.swagger.v3.oas.annotations.tags.Tag
@@ -64,13 +66,17 @@ class RecruitController (private val recruitService: RecruitService)
         @RequestParam(name = "minGroupSize") minGroupSize: Int?,
         @RequestParam(name = "maxGroupSize") maxGroupSize: Int?,
         @RequestParam(name = "sortBy") sortBy: String?,
-        @RequestHeader(value = "Authorization", required = false) token: String?
+        @RequestParam(name = "latitude", required = false) latitude: Double?,
+        @RequestParam(name = "longitude", required = false) longitude: Double?,
+        @RequestParam(name = "radiusKm", required = false) radiusKm: Double?,
+        @LoginMember(required = false) loggedInMember: Member?
     ): RsData<List<RecruitListResponseDto>> =
         RsData(
             "200-3", "동행 모집 글이 여러 조건으로 성공적으로 검색되었습니다.",
             recruitService.searchAndFilter(
                 keyword, cityName, isClosed, startDate, endDate,
-                travelStyle, sameGender, sameAge, minBudget, maxBudget, minGroupSize, maxGroupSize, sortBy, token
+                travelStyle, sameGender, sameAge, minBudget, maxBudget, minGroupSize, maxGroupSize, sortBy, loggedInMember,
+                latitude, longitude, radiusKm
             )
         )
 
@@ -79,24 +85,24 @@ class RecruitController (private val recruitService: RecruitService)
     @PostMapping
     fun createRecruit(
         @RequestBody requestDto: RecruitRequestDto,
-        @RequestHeader(value = "Authorization", required = false) token: String
-    ): RsData<RecruitDetailResponseDto> = RsData("201-3", "동행 모집 글이 성공적으로 등록되었습니다.", recruitService.create(requestDto, token))
+        @LoginMember loggedInMember: Member
+    ): RsData<RecruitDetailResponseDto> = RsData("201-3", "동행 모집 글이 성공적으로 등록되었습니다.", recruitService.create(requestDto, loggedInMember))
 
     @Operation(summary = "동행모집 글 수정", description = "동행모집 글을 수정합니다.")
     @PutMapping("/{recruitId}") // 일단 put으로 통일
     fun updateRecruit(
         @PathVariable("recruitId") recruitId: Long,
         @RequestBody requestDto: RecruitRequestDto,
-        @RequestHeader(value = "Authorization", required = false) token: String
-    ): RsData<RecruitDetailResponseDto> = RsData("200-3", "동행 모집 글이 성공적으로 수정되었습니다.", recruitService.update(recruitId, requestDto, token))
+        @LoginMember loggedInMember: Member
+    ): RsData<RecruitDetailResponseDto> = RsData("200-3", "동행 모집 글이 성공적으로 수정되었습니다.", recruitService.update(recruitId, requestDto, loggedInMember))
 
     @Operation(summary = "동행모집 글 삭제", description = "동행모집 글을 삭제합니다.")
     @DeleteMapping("/{recruitId}")
     fun deleteRecruit(
         @PathVariable("recruitId") recruitId: Long,
-        @RequestHeader(value = "Authorization", required = false) token: String
+        @LoginMember loggedInMember: Member
     ): RsData<Void> { // 이름 명시
-        recruitService.delete(recruitId, token)
+        recruitService.delete(recruitId, loggedInMember)
         return RsData("200-3", "동행 모집 글이 성공적으로 삭제되었습니다.")
     }
 }
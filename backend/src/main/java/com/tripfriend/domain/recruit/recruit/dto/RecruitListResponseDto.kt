@@ -1,6 +1,7 @@
 package com.tripfriend.domain.recruit.recruit.dto
 
 import com.fasterxml.jackson.annotation.JsonProperty
+import com.tripfriend.domain.image.dto.ImageVariantsDto
 import com.tripfriend.domain.member.member.entity.Gender
 import com.tripfriend.domain.recruit.recruit.entity.Recruit
 import java.time.LocalDate
@@ -25,9 +26,9 @@ data class RecruitListResponseDto(
     val createdAt: LocalDateTime?,
     val updatedAt: LocalDateTime?
 ) {
-    constructor(recruit: Recruit) : this(
+    constructor(recruit: Recruit, profileImageVariants: ImageVariantsDto? = null) : this(
         recruitId = recruit.recruitId!!,
-        memberProfileImage = recruit.member.profileImage,
+        memberProfileImage = profileImageVariants?.small ?: recruit.member.profileImage, // 목록에는 작은 크기 이미지
         memberNickname = recruit.member.nickname,
         genderRestriction = if (recruit.sameGender && recruit.member.gender != Gender.UNKNOWN) {
             if (recruit.member.gender == Gender.MALE) "남자만" else "여자만"
@@ -1,11 +1,24 @@
 package com.tripfriend.domain.recruit.recruit.repository
 
 import com.tripfriend.domain.recruit.recruit.entity.Recruit
+import org.springframework.data.domain.Pageable
 import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
 import org.springframework.stereotype.Repository
 
 @Repository
 interface RecruitRepository : JpaRepository<Recruit, Long>, RecruitRepositoryCustom {
     fun findAllByOrderByCreatedAtDesc(): List<Recruit>
     fun findTop3ByOrderByCreatedAtDesc(): List<Recruit>
+
+    // 여행지의 모집글 id를 pageable 크기만큼 조회 (여행지 삭제 작업용)
+    @Query("SELECT r.recruitId FROM Recruit r WHERE r.place.id = :placeId")
+    fun findIdsByPlaceId(@Param("placeId") placeId: Long, pageable: Pageable): List<Long>
+
+    fun countByPlaceId(placeId: Long): Long
+
+    // 인기 여행지 랭킹 재구성용 모집 중인 글의 [placeId, createdAt]
+    @Query("SELECT r.place.id, r.createdAt FROM Recruit r WHERE r.isClosed = false")
+    fun findOpenTrendingSignals(): List<Array<Any>>
 }
\ No newline at end of file
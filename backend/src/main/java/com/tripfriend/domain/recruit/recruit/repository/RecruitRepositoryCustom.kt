@@ -24,7 +24,8 @@ interface RecruitRepositoryCustom {
         maxGroupSize: Int?,
         sortBy: String?,
         userGender: Gender?,
-        userAgeRange: AgeRange?
+        userAgeRange: AgeRange?,
+        placeIds: Collection<Long>? = null // 위치 필터로 걸러진 여행지 id 목록
     ): List<Recruit>
 }
 
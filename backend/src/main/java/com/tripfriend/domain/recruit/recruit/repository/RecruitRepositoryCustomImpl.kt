@@ -54,7 +54,8 @@ class RecruitRepositoryCustomImpl(
         maxGroupSize: Int?,
         sortBy: String?,
         userGender: Gender?,
-        userAgeRange: AgeRange?
+        userAgeRange: AgeRange?,
+        placeIds: Collection<Long>?
     ): List<Recruit> {
         val builder = BooleanBuilder()
 
@@ -66,6 +67,7 @@ class RecruitRepositoryCustomImpl(
         }
 
         placeCityName?.let { builder.and(recruit.place.cityName.eq(it)) }
+        placeIds?.let { builder.and(recruit.place.id.`in`(it)) }
         isClosed?.let { builder.and(recruit.isClosed.eq(it)) }
         startDate?.let { builder.and(recruit.startDate.goe(it)) }
         endDate?.let { builder.and(recruit.endDate.loe(it)) }
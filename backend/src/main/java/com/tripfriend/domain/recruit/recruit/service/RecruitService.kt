@@ -1,14 +1,19 @@
 package com.tripfriend.domain.recruit.recruit.service
 
+import com.tripfriend.domain.image.service.ImageVariantService
 import com.tripfriend.domain.member.member.entity.AgeRange
 import com.tripfriend.domain.member.member.entity.Gender
 import com.tripfriend.domain.member.member.entity.Member
-import com.tripfriend.domain.member.member.service.AuthService
 import com.tripfriend.domain.place.place.repository.PlaceRepository
+import com.tripfriend.domain.place.place.service.PlaceCatalog
+import com.tripfriend.domain.place.place.service.PlaceGeoService
+import com.tripfriend.domain.place.trending.entity.TrendingSignal
+import com.tripfriend.domain.place.trending.service.TrendingPlaceService
 import com.tripfriend.domain.recruit.apply.dto.ApplyResponseDto
 import com.tripfriend.domain.recruit.recruit.dto.RecruitDetailResponseDto
 import com.tripfriend.domain.recruit.recruit.dto.RecruitListResponseDto
 import com.tripfriend.domain.recruit.recruit.dto.RecruitRequestDto
+import com.tripfriend.domain.recruit.recruit.entity.Recruit
 import com.tripfriend.domain.recruit.recruit.repository.RecruitRepository
 import com.tripfriend.global.exception.ServiceException
 import org.springframework.stereotype.Service
@@ -20,14 +25,12 @@ import java.util.*
 class RecruitService(
     private val recruitRepository: RecruitRepository,
     private val placeRepository: PlaceRepository,
-    private val authService: AuthService
+    private val placeCatalog: PlaceCatalog,
+    private val placeGeoService: PlaceGeoService,
+    private val trendingPlaceService: TrendingPlaceService,
+    private val imageVariantService: ImageVariantService
 ) {
 
-    fun getLoggedInMember(token: String?): Member {
-        val member = authService.getLoggedInMember(token!!)
-        return member ?: throw ServiceException("401-1", "로그인이 필요합니다.")
-    }
-
     @Transactional
     fun findById(id: Long): RecruitDetailResponseDto {
         val recruit = recruitRepository.findById(id).orElseThrow {
@@ -38,33 +41,36 @@ class RecruitService(
     }
 
     @Transactional
-    fun create(requestDto: RecruitRequestDto, token: String?): RecruitDetailResponseDto {
-        val member = getLoggedInMember(token)
-        val place = placeRepository.findById(requestDto.placeId!!)
-            .orElseThrow { ServiceException("404-2", "해당 장소가 존재하지 않습니다.") }
-
-        val recruit = requestDto.toEntity(member, place)
-        return RecruitDetailResponseDto.from(recruitRepository.save(recruit))
+    fun create(requestDto: RecruitRequestDto, member: Member): RecruitDetailResponseDto {
+        // 여행지 카탈로그 스냅샷에서 Place 참조 조회 (DB 조회 없음)
+        val place = placeCatalog.findReference(requestDto.placeId!!)
+            ?: throw ServiceException("404-2", "해당 장소가 존재하지 않습니다.")
+
+        val recruit = recruitRepository.save(requestDto.toEntity(member, place))
+        if (!recruit.isClosed) {
+            trendingPlaceService.record(TrendingSignal.RECRUIT, place.id, recruit.createdAt) // 모집 중인 동행 수 반영
+        }
+        return RecruitDetailResponseDto.from(recruit)
     }
 
     @Transactional
     fun findAll(): List<RecruitListResponseDto> {
-        return recruitRepository.findAllByOrderByCreatedAtDesc().map { RecruitListResponseDto(it) }
+        return toListDtos(recruitRepository.findAllByOrderByCreatedAtDesc())
     }
 
     @Transactional
     fun findRecent3(): List<RecruitListResponseDto> {
-        return recruitRepository.findTop3ByOrderByCreatedAtDesc().map { RecruitListResponseDto(it) }
+        return toListDtos(recruitRepository.findTop3ByOrderByCreatedAtDesc())
     }
 
     @Transactional
     fun searchRecruits(keyword: String): List<RecruitListResponseDto> {
-        return recruitRepository.searchByTitleOrContent(keyword).map { RecruitListResponseDto(it) }
+        return toListDtos(recruitRepository.searchByTitleOrContent(keyword))
     }
 
     @Transactional
     fun searchByIsClosed(isClosed: Boolean): List<RecruitListResponseDto> {
-        return recruitRepository.findByIsClosed(isClosed).map { RecruitListResponseDto(it) }
+        return toListDtos(recruitRepository.findByIsClosed(isClosed))
     }
 
     @Transactional
@@ -82,9 +88,16 @@ class RecruitService(
         minGroupSize: Int?,
         maxGroupSize: Int?,
         sortBy: String?,
-        token: String?
+        member: Member?,
+        latitude: Double? = null,
+        longitude: Double? = null,
+        radiusKm: Double? = null
     ): List<RecruitListResponseDto> {
-        val member = token?.takeIf { it.isNotBlank() }?.let { getLoggedInMember(it) }
+        // 위치 필터: 반경 안의 여행지 id로 먼저 좁힌다
+        val placeIds = resolveNearbyPlaceIds(latitude, longitude, radiusKm)
+        if (placeIds != null && placeIds.isEmpty()) {
+            return emptyList()
+        }
 
         val userGender = member?.gender
         val userAgeRange = member?.ageRange
@@ -92,42 +105,66 @@ class RecruitService(
         val adjustedSameGender = if (member != null) sameGender else null
         val adjustedSameAge = if (member != null) sameAge else null
 
-        return recruitRepository.searchFilterSort(
+        val recruits = recruitRepository.searchFilterSort(
             keyword, placeCityName, isClosed, startDate, endDate,
             travelStyle, adjustedSameGender, adjustedSameAge,
             minBudget, maxBudget, minGroupSize, maxGroupSize,
-            sortBy, userGender, userAgeRange
-        ).map { RecruitListResponseDto(it) }
+            sortBy, userGender, userAgeRange, placeIds
+        )
+        return toListDtos(recruits)
+    }
+
+    // 목록 DTO 변환 (작성자 프로필 이미지의 크기별 URL을 한 번에 조회)
+    private fun toListDtos(recruits: List<Recruit>): List<RecruitListResponseDto> {
+        val variants = imageVariantService.findVariants(recruits.mapNotNull { it.member.profileImage })
+        return recruits.map { recruit -> RecruitListResponseDto(recruit, recruit.member.profileImage?.let { variants[it] }) }
+    }
+
+    // 위도/경도가 모두 주어진 경우에만 위치 필터 적용 (하나만 주어지면 오류)
+    private fun resolveNearbyPlaceIds(latitude: Double?, longitude: Double?, radiusKm: Double?): Set<Long>? {
+        if (latitude == null && longitude == null) return null
+        if (latitude == null || longitude == null) {
+            throw ServiceException("400-3", "위치 검색은 위도와 경도를 함께 입력해야 합니다.")
+        }
+        return placeGeoService.findPlaceIdsWithin(latitude, longitude, radiusKm)
     }
 
     @Transactional
-    fun update(recruitId: Long, requestDto: RecruitRequestDto, token: String?): RecruitDetailResponseDto {
+    fun update(recruitId: Long, requestDto: RecruitRequestDto, member: Member): RecruitDetailResponseDto {
         val recruit = recruitRepository.findById(recruitId)
             .orElseThrow { ServiceException("404-3", "해당 모집글이 존재하지 않습니다.") }
 
         val place = placeRepository.findById(requestDto.placeId!!)
             .orElseThrow { ServiceException("404-2", "해당 장소가 존재하지 않습니다.") }
 
-        val member = getLoggedInMember(token)
-
         if (recruit.member.id != member.id && member.authority != "ADMIN") {
             throw ServiceException("403-2", "관리자가 아니라면 본인이 등록한 동행 모집글만 수정할 수 있습니다.")
         }
 
+        // 모집 중 여부나 여행지가 바뀌면 인기 여행지 점수를 옮긴다
+        val previousPlaceId = recruit.place.id
+        val wasOpen = !recruit.isClosed
         recruit.update(requestDto, place)
+        if (wasOpen && (recruit.isClosed || previousPlaceId != place.id)) {
+            trendingPlaceService.cancel(TrendingSignal.RECRUIT, previousPlaceId, recruit.createdAt)
+        }
+        if (!recruit.isClosed && (!wasOpen || previousPlaceId != place.id)) {
+            trendingPlaceService.record(TrendingSignal.RECRUIT, place.id, recruit.createdAt)
+        }
         return RecruitDetailResponseDto.from(recruit)
     }
 
-    fun delete(recruitId: Long, token: String?) {
+    fun delete(recruitId: Long, member: Member) {
         val recruit = recruitRepository.findById(recruitId)
             .orElseThrow { ServiceException("404-3", "해당 모집글이 존재하지 않습니다.") }
 
-        val member = getLoggedInMember(token)
-
         if (recruit.member.id != member.id && member.authority != "ADMIN") {
             throw ServiceException("403-2", "관리자가 아니라면 본인이 등록한 동행 모집글만 삭제할 수 있습니다.")
         }
 
         recruitRepository.deleteById(recruitId)
+        if (!recruit.isClosed) {
+            trendingPlaceService.cancel(TrendingSignal.RECRUIT, recruit.place.id, recruit.createdAt)
+        }
     }
 }
@@ -1,9 +1,10 @@
 package com.tripfriend.domain.review.controller
 
-import com.tripfriend.domain.member.member.service.AuthService
+import com.tripfriend.domain.member.member.entity.Member
 import com.tripfriend.domain.review.dto.CommentRequestDto
 import com.tripfriend.domain.review.dto.CommentResponseDto
 import com.tripfriend.domain.review.service.CommentService
+import com.tripfriend.global.annotation.LoginMember
 import com.tripfriend.global.dto.RsData
 import io.swagger.v3.oas.annotations.Operation
 import io.swagger.v3.oas.annotations.tags.Tag
@@ -14,8 +15,7 @@ import org.springframework.web.bind.annotation.*
 @RestController
 @RequestMapping("/api/comments")
 class CommentController(
-    private val commentService: CommentService,
-    private val authService: AuthService
+    private val commentService: CommentService
 ) {
 
     // 댓글 생성
@@ -23,11 +23,8 @@ class CommentController(
     @PostMapping
     fun createComment(
         @Valid @RequestBody requestDto: CommentRequestDto,
-        @RequestHeader(value = "Authorization", required = false) token: String?
+        @LoginMember loggedInMember: Member
     ): RsData<CommentResponseDto> {
-        // 토큰에서 인증된 사용자 정보 가져오기
-        val loggedInMember = authService.getLoggedInMember(token!!)
-
         val responseDto = commentService.createComment(requestDto, loggedInMember)
         return RsData("201-1", "댓글이 성공적으로 등록되었습니다.", responseDto)
     }
@@ -52,11 +49,8 @@ class CommentController(
     @Operation(summary = "내가 작성한 댓글 목록 조회")
     @GetMapping("/my")
     fun getMyComments(
-        @RequestHeader(value = "Authorization", required = false) token: String?
+        @LoginMember loggedInMember: Member
     ): RsData<List<CommentResponseDto>> {
-        // 토큰에서 인증된 사용자 정보 가져오기
-        val loggedInMember = authService.getLoggedInMember(token!!)
-
         val responseDtoList = commentService.getCommentsByMember(loggedInMember.id!!)
         return RsData("200-3", "내 댓글 목록을 성공적으로 조회했습니다.", responseDtoList)
     }
@@ -67,11 +61,8 @@ class CommentController(
     fun updateComment(
         @PathVariable("commentId") commentId: Long,
         @Valid @RequestBody requestDto: CommentRequestDto,
-        @RequestHeader(value = "Authorization", required = false) token: String?
+        @LoginMember loggedInMember: Member
     ): RsData<CommentResponseDto> {
-        // 토큰에서 인증된 사용자 정보 가져오기
-        val loggedInMember = authService.getLoggedInMember(token!!)
-
         val responseDto = commentService.updateComment(commentId, requestDto, loggedInMember)
         return RsData("200-4", "댓글이 성공적으로 수정되었습니다.", responseDto)
     }
@@ -81,11 +72,8 @@ class CommentController(
     @DeleteMapping("/{commentId}")
     fun deleteComment(
         @PathVariable("commentId") commentId: Long,
-        @RequestHeader(value = "Authorization", required = false) token: String?
+        @LoginMember loggedInMember: Member
     ): RsData<Void> {
-        // 토큰에서 인증된 사용자 정보 가져오기
-        val loggedInMember = authService.getLoggedInMember(token!!)
-
         commentService.deleteComment(commentId, loggedInMember)
         return RsData("200-5", "댓글이 성공적으로 삭제되었습니다.")
     }
@@ -1,9 +1,10 @@
 package com.tripfriend.domain.review.controller
 
-import com.tripfriend.domain.member.member.service.AuthService
+import com.tripfriend.domain.member.member.entity.Member
 import com.tripfriend.domain.review.dto.ReviewRequestDto
 import com.tripfriend.domain.review.dto.ReviewResponseDto
 import com.tripfriend.domain.review.service.ReviewService
+import com.tripfriend.global.annotation.LoginMember
 import com.tripfriend.global.dto.RsData
 import io.swagger.v3.oas.annotations.Operation
 import io.swagger.v3.oas.annotations.tags.Tag
@@ -15,8 +16,7 @@ import org.springframework.web.bind.annotation.*
 @RestController
 @RequestMapping("/api/reviews")
 class ReviewController(
-    private val reviewService: ReviewService,
-    private val authService: AuthService
+    private val reviewService: ReviewService
 ) {
 
     // 리뷰 생성
@@ -24,11 +24,8 @@ class ReviewController(
     @PostMapping
     fun createReview(
         @Valid @RequestBody requestDto: ReviewRequestDto,
-        @RequestHeader(value = "Authorization", required = false) token: String?
+        @LoginMember loggedInMember: Member
     ): RsData<ReviewResponseDto> {
-        // 토큰에서 인증된 사용자 정보 가져오기
-        val loggedInMember = authService.getLoggedInMember(token!!)
-
         val responseDto = reviewService.createReview(requestDto, loggedInMember)
         return RsData("201-1", "리뷰가 성공적으로 등록되었습니다.", responseDto)
     }
@@ -71,11 +68,8 @@ class ReviewController(
     fun updateReview(
         @PathVariable("reviewId") reviewId: Long,
         @Valid @RequestBody requestDto: ReviewRequestDto,
-        @RequestHeader(value = "Authorization", required = false) token: String?
+        @LoginMember loggedInMember: Member
     ): RsData<ReviewResponseDto> {
-        // 토큰에서 인증된 사용자 정보 가져오기
-        val loggedInMember = authService.getLoggedInMember(token!!)
-
         val responseDto = reviewService.updateReview(reviewId, requestDto, loggedInMember)
         return RsData("200-3", "리뷰가 성공적으로 수정되었습니다.", responseDto)
     }
@@ -85,11 +79,8 @@ class ReviewController(
     @DeleteMapping("/{reviewId}")
     fun deleteReview(
         @PathVariable("reviewId") reviewId: Long,
-        @RequestHeader(value = "Authorization", required = false) token: String?
+        @LoginMember loggedInMember: Member
     ): RsData<Void> {
-        // 토큰에서 인증된 사용자 정보 가져오기
-        val loggedInMember = authService.getLoggedInMember(token!!)
-
         reviewService.deleteReview(reviewId, loggedInMember)
         return RsData("200-4", "리뷰가 성공적으로 삭제되었습니다.")
     }
@@ -111,10 +102,13 @@ class ReviewController(
         @RequestParam(name = "sort", defaultValue = "newest") sort: String,
         @RequestParam(name = "keyword", required = false) keyword: String?,
         @RequestParam(name = "placeId", required = false) placeId: Long?,
+        @RequestParam(name = "latitude", required = false) latitude: Double?,
+        @RequestParam(name = "longitude", required = false) longitude: Double?,
+        @RequestParam(name = "radiusKm", required = false) radiusKm: Double?,
         @RequestHeader(value = "Authorization", required = false) token: String?
     ): RsData<List<ReviewResponseDto>> {
         // 항상 전체 리뷰를 조회 (memberId null)
-        val reviews = reviewService.getReviews(sort, keyword, placeId, null)
+        val reviews = reviewService.getReviews(sort, keyword, placeId, null, latitude, longitude, radiusKm)
         return RsData("200-5", "리뷰 목록을 성공적으로 조회했습니다.", reviews)
     }
 
@@ -122,11 +116,8 @@ class ReviewController(
     @Operation(summary = "내가 작성한 리뷰 목록 조회")
     @GetMapping("/my")
     fun getMyReviews(
-        @RequestHeader(value = "Authorization", required = false) token: String?
+        @LoginMember loggedInMember: Member
     ): RsData<List<ReviewResponseDto>> {
-        // 토큰에서 인증된 사용자 정보 가져오기
-        val loggedInMember = authService.getLoggedInMember(token!!)
-
         val reviews = reviewService.getReviewsByMember(loggedInMember.id)
         return RsData("200-7", "내 리뷰 목록을 성공적으로 조회했습니다.", reviews)
     }
@@ -2,6 +2,9 @@ package com.tripfriend.domain.review.repository
 
 import com.tripfriend.domain.review.entity.Comment
 import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Modifying
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
 import org.springframework.stereotype.Repository
 
 @Repository
@@ -14,4 +17,13 @@ interface CommentRepository : JpaRepository<Comment, Long> {
 
     // 특정 리뷰의 댓글 수 조회
     fun countByReviewReviewId(reviewId: Long): Long
+
+    // 여러 리뷰의 댓글 수 일괄 조회 ([리뷰 ID, 댓글 수], 댓글이 없는 리뷰는 제외)
+    @Query("SELECT c.review.reviewId, COUNT(c) FROM Comment c WHERE c.review.reviewId IN :reviewIds GROUP BY c.review.reviewId")
+    fun countByReviewIds(@Param("reviewIds") reviewIds: Collection<Long>): List<Array<Any>>
+
+    // 여러 리뷰의 댓글 일괄 삭제 (여행지 삭제 작업용)
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.review.reviewId IN :reviewIds")
+    fun deleteByReviewIds(@Param("reviewIds") reviewIds: Collection<Long>): Int
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package com.tripfriend.domain.review.repository
 
 import com.tripfriend.domain.review.entity.Review
+import org.springframework.data.domain.Pageable
 import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Modifying
 import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
 import org.springframework.stereotype.Repository
 
 @Repository
@@ -42,6 +45,9 @@ interface ReviewRepository : JpaRepository<Review, Long> {
     // 특정 여행지 - 최신순
     fun findByPlace_IdOrderByCreatedAtDesc(placeId: Long): List<Review>
 
+    // 여러 여행지(주변 여행지 검색 결과) - 최신순
+    fun findByPlace_IdInOrderByCreatedAtDesc(placeIds: Collection<Long>): List<Review>
+
     // 특정 여행지 - 오래된순
     fun findByPlace_IdOrderByCreatedAtAsc(placeId: Long): List<Review>
 
@@ -84,4 +90,19 @@ interface ReviewRepository : JpaRepository<Review, Long> {
         ORDER BY commentCount DESC, r.createdAt DESC
     """)
     fun findAllOrderByCommentCountDesc(): List<Array<Any>>
-}
\ No newline at end of file
+
+    // 여행지의 리뷰 id를 pageable 크기만큼 조회 (여행지 삭제 작업용)
+    @Query("SELECT r.reviewId FROM Review r WHERE r.place.id = :placeId")
+    fun findIdsByPlaceId(@Param("placeId") placeId: Long, pageable: Pageable): List<Long>
+
+    fun countByPlace_Id(placeId: Long): Long
+
+    // 인기 여행지 랭킹 재구성용 [placeId, rating, createdAt]
+    @Query("SELECT r.place.id, r.rating, r.createdAt FROM Review r WHERE r.place IS NOT NULL")
+    fun findTrendingSignals(): List<Array<Any>>
+
+    // 여러 리뷰의 조회수 일괄 삭제 (여행지 삭제 작업용)
+    @Modifying
+    @Query("DELETE FROM ReviewViewCount vc WHERE vc.reviewId IN :reviewIds")
+    fun deleteViewCountsByReviewIds(@Param("reviewIds") reviewIds: Collection<Long>): Int
+}
@@ -2,7 +2,13 @@ package com.tripfriend.domain.review.repository
 
 import com.tripfriend.domain.review.entity.ReviewViewCount
 import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
 import org.springframework.stereotype.Repository
 
 @Repository
-interface ReviewViewCountRepository : JpaRepository<ReviewViewCount, Long>
\ No newline at end of file
+interface ReviewViewCountRepository : JpaRepository<ReviewViewCount, Long> {
+    // 여러 리뷰의 조회수 일괄 조회 ([리뷰 ID, 조회수])
+    @Query("SELECT vc.reviewId, vc.count FROM ReviewViewCount vc WHERE vc.reviewId IN :reviewIds")
+    fun findCountsByReviewIds(@Param("reviewIds") reviewIds: Collection<Long>): List<Array<Any>>
+}
@@ -1,7 +1,10 @@
 package com.tripfriend.domain.review.service
 
 import com.tripfriend.domain.member.member.entity.Member
-import com.tripfriend.domain.place.place.repository.PlaceRepository
+import com.tripfriend.domain.place.place.service.PlaceCatalog
+import com.tripfriend.domain.place.place.service.PlaceGeoService
+import com.tripfriend.domain.place.trending.entity.TrendingSignal
+import com.tripfriend.domain.place.trending.service.TrendingPlaceService
 import com.tripfriend.domain.review.dto.ReviewRequestDto
 import com.tripfriend.domain.review.dto.ReviewResponseDto
 import com.tripfriend.domain.review.entity.Review
@@ -19,7 +22,9 @@ class ReviewService(
     private val reviewRepository: ReviewRepository,
     private val commentRepository: CommentRepository,
     private val viewCountRepository: ReviewViewCountRepository,
-    private val placeRepository: PlaceRepository
+    private val placeCatalog: PlaceCatalog,
+    private val placeGeoService: PlaceGeoService,
+    private val trendingPlaceService: TrendingPlaceService
 ) {
 
     // 리뷰 생성
@@ -33,9 +38,9 @@ class ReviewService(
             throw ServiceException("400-2", "평점은 1점에서 5점 사이여야 합니다.")
         }
 
-        // placeId로 실제 Place 엔티티를 조회
-        val place = placeRepository.findById(requestDto.placeId!!)
-            .orElseThrow { ServiceException("404-2", "해당 여행지가 존재하지 않습니다.") }
+        // placeId로 여행지 카탈로그 스냅샷에서 Place 참조를 조회 (DB 조회 없음)
+        val place = placeCatalog.findReference(requestDto.placeId!!)
+            ?: throw ServiceException("404-2", "해당 여행지가 존재하지 않습니다.")
 
         // Review 생성
         val review = Review(
@@ -53,6 +58,9 @@ class ReviewService(
         val viewCount = ReviewViewCount(savedReview)
         viewCountRepository.save(viewCount)
 
+        // 인기 여행지 점수 반영 (평점 비율만큼)
+        trendingPlaceService.record(TrendingSignal.REVIEW, place.id, savedReview.createdAt, savedReview.rating / 5.0)
+
         // 댓글 수는 0이므로 그대로 DTO 반환
         return ReviewResponseDto(savedReview, member.nickname, 0)
     }
@@ -134,8 +142,10 @@ class ReviewService(
             throw ServiceException("400-2", "평점은 1점에서 5점 사이여야 합니다.")
         }
 
-        // 내용 업데이트
+        // 내용 업데이트 (평점이 바뀌면 인기 여행지 점수에 변경분만 반영)
+        val previousRating = review.rating
         review.update(requestDto.title, requestDto.content, requestDto.rating)
+        trendingPlaceService.record(TrendingSignal.REVIEW, review.place?.id, review.createdAt, (review.rating - previousRating) / 5.0)
 
         // 댓글 수
         val commentCount = commentRepository.findByReviewReviewIdOrderByCreatedAtAsc(reviewId).size
@@ -165,6 +175,7 @@ class ReviewService(
 
         // 리뷰 삭제
         reviewRepository.delete(review)
+        trendingPlaceService.cancel(TrendingSignal.REVIEW, review.place?.id, review.createdAt, review.rating / 5.0)
     }
 
     // 인기 게시물 조회
@@ -197,7 +208,15 @@ class ReviewService(
     }
 
     // 리뷰 목록 조회 (정렬, 검색)
-    fun getReviews(sort: String, keyword: String?, placeId: Long?, memberId: Long?): List<ReviewResponseDto> {
+    fun getReviews(
+        sort: String,
+        keyword: String?,
+        placeId: Long?,
+        memberId: Long?,
+        latitude: Double? = null,
+        longitude: Double? = null,
+        radiusKm: Double? = null
+    ): List<ReviewResponseDto> {
         val reviews = mutableListOf<Review>()
 
         val validSortOptions = listOf(
@@ -259,6 +278,19 @@ class ReviewService(
                     else -> reviews.addAll(reviewRepository.findByPlace_IdOrderByCreatedAtDesc(placeId))
                 }
             }
+            // 주변 여행지 리뷰 (위도/경도 기준 반경 검색)
+            latitude != null || longitude != null -> {
+                if (latitude == null || longitude == null) {
+                    throw ServiceException("400-3", "위치 검색은 위도와 경도를 함께 입력해야 합니다.")
+                }
+                val placeIds = placeGeoService.findPlaceIdsWithin(latitude, longitude, radiusKm)
+                if (placeIds.isEmpty()) {
+                    return emptyList()
+                }
+                val nearbyReviews = reviewRepository.findByPlace_IdInOrderByCreatedAtDesc(placeIds)
+                    .filter { keyword.isNullOrBlank() || it.title.contains(keyword) }
+                return sortNearbyReviews(nearbyReviews, sort)
+            }
             // 제목 검색
             !keyword.isNullOrBlank() -> {
                 reviews.addAll(reviewRepository.findByTitleContainingOrderByCreatedAtDesc(keyword))
@@ -347,6 +379,37 @@ class ReviewService(
         }
     }
 
+    // 주변 여행지 리뷰 정렬 (후보가 반경 안으로 좁혀져 있으므로 조회수 / 댓글 수를 한 번에 읽어 메모리에서 정렬)
+    private fun sortNearbyReviews(reviews: List<Review>, sort: String): List<ReviewResponseDto> {
+        if (reviews.isEmpty()) return emptyList()
+        val reviewIds = reviews.map { it.reviewId!! }
+        val viewCounts = viewCountRepository.findCountsByReviewIds(reviewIds)
+            .associate { (it[0] as Long) to (it[1] as Int) }
+        val commentCounts = commentRepository.countByReviewIds(reviewIds)
+            .associate { (it[0] as Long) to (it[1] as Long).toInt() }
+        val viewCount = { review: Review -> viewCounts[review.reviewId] ?: 0 }
+        val commentCount = { review: Review -> commentCounts[review.reviewId] ?: 0 }
+
+        val sorted = when (sort) {
+            "oldest" -> reviews.sortedBy { it.createdAt }
+            "highest_rating" -> reviews.sortedWith(
+                compareByDescending<Review> { it.rating }.thenByDescending(viewCount).thenByDescending { it.createdAt }
+            )
+            "lowest_rating" -> reviews.sortedWith(
+                compareBy<Review> { it.rating }.thenByDescending(viewCount).thenByDescending { it.createdAt }
+            )
+            "comments" -> reviews.sortedWith(compareByDescending(commentCount).thenByDescending { it.createdAt })
+            "most_viewed" -> reviews.sortedWith(compareByDescending(viewCount).thenByDescending { it.createdAt })
+            else -> reviews.sortedByDescending { it.createdAt }
+        }
+
+        return sorted.map { review ->
+            val dto = ReviewResponseDto(review, review.member?.nickname ?: "", commentCount(review))
+            viewCounts[review.reviewId]?.let { dto.viewCount = it }
+            dto
+        }
+    }
+
     // 댓글 수 기준 정렬 (전체)
     private fun processCommentSortedResults(commentCountResult: List<Array<Any>>): List<ReviewResponseDto> {
         return commentCountResult.map { result ->
@@ -0,0 +1,45 @@
+package com.tripfriend.domain.trip.budget.controller
+
+import com.tripfriend.domain.member.member.entity.Member
+import com.tripfriend.domain.trip.budget.dto.CityCostStatResDto
+import com.tripfriend.domain.trip.budget.dto.TripBudgetResDto
+import com.tripfriend.domain.trip.budget.service.TripBudgetService
+import com.tripfriend.global.annotation.CheckPermission
+import com.tripfriend.global.annotation.LoginMember
+import com.tripfriend.global.dto.RsData
+import io.swagger.v3.oas.annotations.Operation
+import io.swagger.v3.oas.annotations.tags.Tag
+import org.springframework.web.bind.annotation.*
+
+@RestController
+@RequestMapping("/trip/budget")
+@Tag(name = "TripBudget API", description = "여행 경비 및 예산 관련 기능을 제공합니다.")
+class TripBudgetController(
+    private val tripBudgetService: TripBudgetService
+) {
+
+    @GetMapping("/cities/{cityName}")
+    @Operation(summary = "도시별 경비 통계 조회", description = "도시의 교통 수단별 1일 경비 중앙값과 p90을 조회합니다.")
+    fun getCityCostStats(@PathVariable cityName: String): RsData<List<CityCostStatResDto>> {
+        val stats = tripBudgetService.getCityCostStats(cityName)
+        return RsData("200-1", "도시별 경비 통계 조회가 완료되었습니다.", stats)
+    }
+
+    @GetMapping("/schedule/{scheduleId}")
+    @Operation(summary = "나의 여행 일정 예산 조회", description = "일정의 경비 합계와 같은 도시의 경비 통계를 함께 조회합니다.")
+    fun getScheduleBudget(
+        @PathVariable scheduleId: Long,
+        @LoginMember loggedInMember: Member
+    ): RsData<TripBudgetResDto> {
+        val budget = tripBudgetService.getScheduleBudget(scheduleId, loggedInMember)
+        return RsData("200-2", "여행 일정 예산 조회가 완료되었습니다.", budget)
+    }
+
+    @PostMapping("/rollup")
+    @Operation(hidden = true)
+    @CheckPermission("ADMIN")
+    fun rollup(): RsData<Int> {
+        val count = tripBudgetService.rollupCityCostStats()
+        return RsData("200-3", "도시별 경비 통계 집계가 완료되었습니다.", count)
+    }
+}
@@ -0,0 +1,14 @@
+package com.tripfriend.domain.trip.budget.dto
+
+import com.tripfriend.domain.trip.information.entity.Transportation
+import java.time.LocalDate
+
+// 도시별 경비 통계 집계에 사용되는 일정 단위 표본
+data class CityCostSampleDto(
+    val cityName: String,
+    val transportation: Transportation,
+    val scheduleId: Long,
+    val startDate: LocalDate,
+    val endDate: LocalDate,
+    val cost: Long // 해당 일정에서 이 교통 수단으로 이동한 세부 일정 경비 합계
+)
@@ -0,0 +1,23 @@
+package com.tripfriend.domain.trip.budget.dto
+
+import com.tripfriend.domain.trip.budget.entity.CityCostStat
+import com.tripfriend.domain.trip.information.entity.Transportation
+import java.time.LocalDateTime
+
+data class CityCostStatResDto(
+    val cityName: String,
+    val transportation: Transportation,
+    val sampleCount: Int,
+    val medianCostPerDay: Long,
+    val p90CostPerDay: Long,
+    val calculatedAt: LocalDateTime
+) {
+    constructor(stat: CityCostStat) : this(
+        cityName = stat.cityName,
+        transportation = stat.transportation,
+        sampleCount = stat.sampleCount,
+        medianCostPerDay = stat.medianCostPerDay,
+        p90CostPerDay = stat.p90CostPerDay,
+        calculatedAt = stat.calculatedAt
+    )
+}
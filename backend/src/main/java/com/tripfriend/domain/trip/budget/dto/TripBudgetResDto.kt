@@ -0,0 +1,13 @@
+package com.tripfriend.domain.trip.budget.dto
+
+import java.time.LocalDate
+
+// 여행 일정 예산 요약
+data class TripBudgetResDto(
+    val scheduleId: Long?,
+    val cityName: String?,
+    val startDate: LocalDate?,
+    val endDate: LocalDate?,
+    val totalCost: Long, // 현재 등록된 세부 일정 경비 합계
+    val cityStats: List<CityCostStatResDto> // 같은 도시의 교통 수단별 1일 경비 통계
+)
@@ -0,0 +1,37 @@
+package com.tripfriend.domain.trip.budget.entity
+
+import com.tripfriend.domain.trip.information.entity.Transportation
+import jakarta.persistence.*
+import java.time.LocalDateTime
+
+@Entity
+@Table(
+    name = "city_cost_stat",
+    uniqueConstraints = [UniqueConstraint(name = "uk_city_cost_stat_city_transportation", columnNames = ["city_name", "transportation"])]
+)
+class CityCostStat(
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "city_cost_stat_id")
+    var id: Long? = null,
+
+    @Column(name = "city_name", nullable = false)
+    var cityName: String, // 도시명
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transportation", nullable = false)
+    var transportation: Transportation, // 교통 수단
+
+    @Column(name = "sample_count", nullable = false)
+    var sampleCount: Int, // 집계에 사용된 일정 수
+
+    @Column(name = "median_cost_per_day", nullable = false)
+    var medianCostPerDay: Long, // 1일 경비 중앙값
+
+    @Column(name = "p90_cost_per_day", nullable = false)
+    var p90CostPerDay: Long, // 1일 경비 상위 10% 경계값
+
+    @Column(name = "calculated_at", nullable = false)
+    var calculatedAt: LocalDateTime // 집계 시각
+)
@@ -0,0 +1,6 @@
+package com.tripfriend.domain.trip.budget.repository
+
+import com.tripfriend.domain.trip.budget.entity.CityCostStat
+import org.springframework.data.jpa.repository.JpaRepository
+
+interface CityCostStatRepository : JpaRepository<CityCostStat, Long>
@@ -0,0 +1,219 @@
+package com.tripfriend.domain.trip.budget.service
+
+import com.tripfriend.domain.member.member.entity.Member
+import com.tripfriend.domain.trip.budget.dto.CityCostSampleDto
+import com.tripfriend.domain.trip.budget.dto.CityCostStatResDto
+import com.tripfriend.domain.trip.budget.dto.TripBudgetResDto
+import com.tripfriend.domain.trip.budget.entity.CityCostStat
+import com.tripfriend.domain.trip.budget.repository.CityCostStatRepository
+import com.tripfriend.domain.trip.information.entity.Transportation
+import com.tripfriend.domain.trip.information.repository.TripInformationRepository
+import com.tripfriend.domain.trip.schedule.repository.TripScheduleRepository
+import com.tripfriend.global.cache.LocalCacheInvalidation
+import com.tripfriend.global.exception.ServiceException
+import com.tripfriend.global.redis.RedisCircuitBreaker
+import com.tripfriend.global.redis.RedisJobLock
+import jakarta.annotation.PostConstruct
+import org.slf4j.LoggerFactory
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.listener.RedisMessageListenerContainer
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Service
+import org.springframework.transaction.annotation.Transactional
+import org.springframework.transaction.support.TransactionTemplate
+import java.time.Duration
+import java.time.LocalDateTime
+import java.time.temporal.ChronoUnit
+import kotlin.math.roundToLong
+
+/**
+ * 여행 경비 / 도시별 경비 통계
+ *
+ * 집계 테이블(city_cost_stat)은 도시 수 x 교통 수단 수 크기이므로 전체를 한 번 읽어 도시별로 묶은 스냅샷으로 보관한다.
+ * (통계가 없는 도시는 스냅샷에 없으므로 조회해도 캐시가 늘어나지 않음)
+ * 집계는 서버마다 스케줄러가 돌기 때문에 Redis 잠금을 얻은 서버 하나만 실행하고,
+ * 커밋 후 Redis 채널로 다른 서버에도 스냅샷 무효화를 알린다.
+ */
+@Service
+class TripBudgetService(
+    private val tripInformationRepository: TripInformationRepository,
+    private val tripScheduleRepository: TripScheduleRepository,
+    private val cityCostStatRepository: CityCostStatRepository,
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val listenerContainer: RedisMessageListenerContainer,
+    private val redisJobLock: RedisJobLock,
+    private val transactionTemplate: TransactionTemplate
+) {
+
+    companion object {
+        const val INVALIDATE_CHANNEL = "trip:budget:city-stat:invalidate"
+        const val ROLLUP_LOCK_KEY = "lock:trip-budget:rollup"
+
+        // 정기 집계를 실행한 날짜 기록 (서버마다 시계가 조금씩 달라도 하루 한 번만 실행)
+        const val SCHEDULED_ROLLUP_KEY_PREFIX = "lock:trip-budget:scheduled-rollup:"
+
+        // 집계가 비정상 종료되어 잠금을 풀지 못해도 이 시간이 지나면 만료
+        private val ROLLUP_LOCK_TTL = Duration.ofMinutes(30)
+    }
+
+    private val logger = LoggerFactory.getLogger(this::class.java)
+
+    // 도시명 -> 교통 수단별 통계
+    @Volatile
+    private var cityStats: Map<String, List<CityCostStatResDto>>? = null
+
+    private val invalidation = LocalCacheInvalidation(INVALIDATE_CHANNEL, redisTemplate, evict = { cityStats = null })
+
+    @PostConstruct
+    fun subscribe() {
+        invalidation.subscribe(listenerContainer)
+    }
+
+    /**
+     * 도시의 교통 수단별 1일 경비 통계를 조회한다.
+     *
+     * @param cityName 도시명
+     * @return 교통 수단별 중앙값 / p90 통계 (집계 전이면 빈 리스트)
+     */
+    @Transactional(readOnly = true)
+    fun getCityCostStats(cityName: String): List<CityCostStatResDto> = cityStats()[cityName] ?: emptyList()
+
+    /**
+     * 여행 일정의 경비 합계와 같은 도시의 경비 통계를 함께 반환한다.
+     *
+     * @param scheduleId 여행 일정 ID
+     * @param member     로그인한 회원
+     */
+    @Transactional(readOnly = true)
+    fun getScheduleBudget(scheduleId: Long, member: Member): TripBudgetResDto {
+        val schedule = tripScheduleRepository.findById(scheduleId)
+            .orElseThrow { ServiceException("404-1", "해당 일정이 존재하지 않습니다.") }
+        if (schedule.member?.id != member.id) {
+            throw ServiceException("403-1", "본인이 생성한 일정만 조회할 수 있습니다.")
+        }
+
+        val cityName = schedule.tripInformations.firstOrNull()?.place?.cityName
+        return TripBudgetResDto(
+            scheduleId = schedule.id,
+            cityName = cityName,
+            startDate = schedule.startDate,
+            endDate = schedule.endDate,
+            totalCost = schedule.totalCost,
+            cityStats = cityName?.let { getCityCostStats(it) } ?: emptyList()
+        )
+    }
+
+    // 매일 새벽 3시 집계 - 그날 가장 먼저 실행 권한을 얻은 서버만 집계
+    @Scheduled(cron = "0 0 3 * * ?")
+    fun scheduledRollup() {
+        try {
+            if (!redisJobLock.claimToday(SCHEDULED_ROLLUP_KEY_PREFIX) || rollupWithLock() == null) {
+                logger.info("다른 서버에서 도시별 경비 통계를 집계하고 있어 건너뜁니다")
+            }
+        } catch (e: RedisCircuitBreaker.RedisUnavailableException) {
+            logger.warn("Redis를 사용할 수 없어 도시별 경비 통계 집계를 건너뜁니다")
+        }
+    }
+
+    /**
+     * 도시별 경비 통계를 즉시 집계한다. (관리자 요청)
+     *
+     * @return 저장된 통계 수
+     * @throws ServiceException 다른 서버에서 집계 중이거나(409) 잠금을 확인할 수 없는 경우(503)
+     */
+    fun rollupCityCostStats(): Int {
+        val count = try {
+            rollupWithLock()
+        } catch (e: RedisCircuitBreaker.RedisUnavailableException) {
+            throw ServiceException("503-1", "일시적으로 통계를 집계할 수 없습니다. 잠시 후 다시 시도해주세요.")
+        }
+        return count ?: throw ServiceException("409-1", "이미 도시별 경비 통계를 집계하고 있습니다.")
+    }
+
+    // 잠금을 얻으면 집계 후 저장된 통계 수를, 다른 서버가 잠금을 가지고 있으면 null을 반환
+    private fun rollupWithLock(): Int? =
+        redisJobLock.withLock(ROLLUP_LOCK_KEY, ROLLUP_LOCK_TTL) { transactionTemplate.execute { rollup() } as Int }
+
+    /**
+     * 도시별 / 교통 수단별 1일 경비 통계를 집계하여 city_cost_stat 테이블을 갱신한다.
+     *
+     * 도시, 교통 수단 순으로 정렬된 일정 단위 표본을 스트리밍으로 한 번만 읽으며,
+     * 같은 (도시, 교통 수단) 그룹의 1일 경비만 메모리에 모아 중앙값과 p90을 계산한다.
+     * 일정 경비 합계(total_cost)도 함께 재계산하여 증분 갱신 누락을 보정한다.
+     */
+    private fun rollup(): Int {
+        tripScheduleRepository.recalculateTotalCosts()
+
+        val calculatedAt = LocalDateTime.now()
+        val stats = mutableListOf<CityCostStat>()
+
+        var currentCity: String? = null
+        var currentTransportation: Transportation? = null
+        val costsPerDay = ArrayList<Long>()
+
+        fun flush() {
+            val city = currentCity ?: return
+            val transportation = currentTransportation ?: return
+            if (costsPerDay.isEmpty()) return
+            costsPerDay.sort()
+            stats.add(
+                CityCostStat(
+                    cityName = city,
+                    transportation = transportation,
+                    sampleCount = costsPerDay.size,
+                    medianCostPerDay = percentile(costsPerDay, 0.5),
+                    p90CostPerDay = percentile(costsPerDay, 0.9),
+                    calculatedAt = calculatedAt
+                )
+            )
+            costsPerDay.clear()
+        }
+
+        tripInformationRepository.streamCityCostSamples().use { samples ->
+            samples.forEach { sample ->
+                if (sample.cityName != currentCity || sample.transportation != currentTransportation) {
+                    flush()
+                    currentCity = sample.cityName
+                    currentTransportation = sample.transportation
+                }
+                costsPerDay.add(costPerDay(sample))
+            }
+        }
+        flush()
+
+        cityCostStatRepository.deleteAllInBatch()
+        cityCostStatRepository.saveAll(stats)
+
+        invalidation.invalidate()
+        return stats.size
+    }
+
+    private fun cityStats(): Map<String, List<CityCostStatResDto>> {
+        cityStats?.let { return it }
+        synchronized(this) {
+            cityStats?.let { return it }
+            val startGeneration = invalidation.generation()
+            val built = cityCostStatRepository.findAll()
+                .sortedBy { it.transportation.name } // 교통 수단 이름순 (기존 조회 순서 유지)
+                .groupBy({ it.cityName }, { CityCostStatResDto(it) })
+            if (invalidation.generation() == startGeneration) {
+                cityStats = built
+            }
+            return built
+        }
+    }
+
+    // 일정 기간(일) 기준 1일 경비
+    private fun costPerDay(sample: CityCostSampleDto): Long {
+        val days = (ChronoUnit.DAYS.between(sample.startDate, sample.endDate) + 1).coerceAtLeast(1)
+        return (sample.cost.toDouble() / days).roundToLong()
+    }
+
+    // 정렬된 값에서 선형 보간으로 백분위수 계산
+    private fun percentile(sorted: List<Long>, ratio: Double): Long {
+        val rank = ratio * (sorted.size - 1)
+        val lower = sorted[rank.toInt()]
+        val upper = sorted[minOf(rank.toInt() + 1, sorted.size - 1)]
+        return (lower + (upper - lower) * (rank - rank.toInt())).roundToLong()
+    }
+}
@@ -1,10 +1,12 @@
 package com.tripfriend.domain.trip.information.controller
 
+import com.tripfriend.domain.member.member.entity.Member
 import com.tripfriend.domain.trip.information.dto.TripInformationReqDto
 import com.tripfriend.domain.trip.information.dto.TripInformationResDto
 import com.tripfriend.domain.trip.information.dto.TripInformationUpdateReqDto
 import com.tripfriend.domain.trip.information.dto.VisitedReqDto
 import com.tripfriend.domain.trip.information.service.TripInformationService
+import com.tripfriend.global.annotation.LoginMember
 import com.tripfriend.global.dto.RsData
 import io.swagger.v3.oas.annotations.Operation
 import io.swagger.v3.oas.annotations.Parameter
@@ -26,9 +28,9 @@ class TripInformationController(
     @Operation(summary = "나의 세부일정 조회", description = "회원 토큰과 세부일정 id를 통해 해당 회원의 세부일정을 조회할 수 있습니다.")
     fun getTripInformation(
         @Parameter(description = "세부 일정 id", example = "1") @PathVariable id: Long,
-        @RequestHeader("Authorization") token: String
+        @LoginMember loggedInMember: Member
     ): RsData<TripInformationResDto> {
-        val tripInformation = tripInformationService.getTripInformation(id, token)
+        val tripInformation = tripInformationService.getTripInformation(id, loggedInMember)
         val infoDto = TripInformationResDto(tripInformation)
         return RsData("200-1", "여행 정보 조회 성공", infoDto)
     }
@@ -53,9 +55,9 @@ class TripInformationController(
     @Operation(summary = "나의 세부일정 등록", description = "회원 토큰을 확인하고 세부일정을 등록할 수 있습니다.")
     fun createTripInformation(
         @RequestBody @Valid reqDto: TripInformationReqDto,
-        @RequestHeader("Authorization") token: String
+        @LoginMember loggedInMember: Member
     ): RsData<TripInformationResDto> {
-        val resDto = tripInformationService.addTripInformation(reqDto, token)
+        val resDto = tripInformationService.addTripInformation(reqDto, loggedInMember)
         return RsData("200-2", "세부 일정 등록 성공", resDto)
     }
 
@@ -64,9 +66,9 @@ class TripInformationController(
     @Operation(summary = "나의 세부일정 삭제", description = "회원 토큰과 세부일정 id를 통해 해당 회원의 세부일정을 삭제할 수 있습니다.")
     fun deleteTripInformation(
         @PathVariable tripInformationId: Long,
-        @RequestHeader("Authorization") token: String
+        @LoginMember loggedInMember: Member
     ): RsData<Void> {
-        tripInformationService.deleteTripInformation(tripInformationId, token)
+        tripInformationService.deleteTripInformation(tripInformationId, loggedInMember)
         return RsData("200-4", "세부 일정 삭제 성공")
     }
 
@@ -75,9 +77,9 @@ class TripInformationController(
     @Operation(summary = "세부일정 방문 여부 변경", description = "회원 토큰을 확인하고 세부일정의 방문 여부를 변경할 수 있습니다.")
     fun updateVisited(
         @RequestBody @Valid reqDto: VisitedReqDto,
-        @RequestHeader("Authorization") token: String
+        @LoginMember loggedInMember: Member
     ): RsData<Void> {
-        tripInformationService.updateVisited(reqDto, token)
+        tripInformationService.updateVisited(reqDto, loggedInMember)
         return RsData("200-5", "방문 여부 업데이트 성공")
     }
 }
\ No newline at end of file
@@ -2,11 +2,12 @@ package com.tripfriend.domain.trip.information.entity
 
 enum class Transportation(
     val koreanName: String,
+    val averageSpeedKmh: Double, // 이동 시간 추정용 평균 속도
 ) {
-    WALK("도보"),
-    BUS("버스"),
-    SUBWAY("기차"),
-    CAR("자가용"),
-    TAXI("택시"),
-    ETC("기타"),
+    WALK("도보", 4.5),
+    BUS("버스", 20.0),
+    SUBWAY("기차", 35.0),
+    CAR("자가용", 40.0),
+    TAXI("택시", 40.0),
+    ETC("기타", 25.0),
 }
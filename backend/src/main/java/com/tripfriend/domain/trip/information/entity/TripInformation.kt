@@ -4,6 +4,7 @@ import com.tripfriend.domain.place.place.entity.Place
 import com.tripfriend.domain.trip.information.dto.TripInformationUpdateReqDto
 import com.tripfriend.domain.trip.schedule.entity.TripSchedule
 import jakarta.persistence.*
+import org.springframework.data.annotation.CreatedDate
 import org.springframework.data.jpa.domain.support.AuditingEntityListener
 import java.time.LocalDateTime
 
@@ -42,11 +43,17 @@ class TripInformation(
     var notes: String? = null, // 메모
 
     @Column(name = "is_visited", nullable = false)
-    var isVisited: Boolean = false // 방문여부
+    var isVisited: Boolean = false, // 방문여부
+
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    var createdAt: LocalDateTime? = null // 일정에 추가된 시각 (인기 여행지 점수 계산용)
 ) {
 
     // 여행 정보 수정 메서드
     fun updateTripInformation(updateDto: TripInformationUpdateReqDto) {
+        // 일정 경비 합계에 변경분만 반영
+        tripSchedule.applyCostChange(updateDto.cost.toLong() - cost)
         visitTime = updateDto.visitTime
         duration = updateDto.duration
         transportation = updateDto.transportation
@@ -1,9 +1,71 @@
 package com.tripfriend.domain.trip.information.repository
 
+import com.tripfriend.domain.trip.budget.dto.CityCostSampleDto
 import com.tripfriend.domain.trip.information.entity.TripInformation
+import jakarta.persistence.QueryHint
+import org.springframework.data.domain.Pageable
 import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Modifying
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.jpa.repository.QueryHints
+import org.springframework.data.repository.query.Param
+import java.util.stream.Stream
 
 interface TripInformationRepository : JpaRepository<TripInformation, Long> {
     // 여행 일정 id에 따른 여행 정보 조회
     fun findByTripScheduleId(id: Long): List<TripInformation>
+
+    // 여행 일정에 속한 여행 정보 수
+    fun countByTripScheduleId(id: Long): Long
+
+    // 여행지를 포함한 여행 정보의 [tripInformationId, tripScheduleId]를 pageable 크기만큼 조회 (여행지 삭제 작업용)
+    @Query("SELECT ti.id, ti.tripSchedule.id FROM TripInformation ti WHERE ti.place.id = :placeId")
+    fun findIdsByPlaceId(@Param("placeId") placeId: Long, pageable: Pageable): List<Array<Any>>
+
+    fun countByPlaceId(placeId: Long): Long
+
+    // 인기 여행지 랭킹 재구성용 [placeId, createdAt]
+    @Query("SELECT ti.place.id, ti.createdAt FROM TripInformation ti WHERE ti.createdAt IS NOT NULL")
+    fun findTrendingSignals(): List<Array<Any>>
+
+    // 원본 일정의 여행 정보를 대상 일정으로 한 번에 복사 (방문 시간은 dayOffset 일만큼 이동, 방문 여부는 초기화)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        value = """
+        INSERT INTO trip_information (trip_schedule_id, place_id, visit_time, duration, transportation, cost, notes, is_visited, created_at)
+        SELECT :targetScheduleId, ti.place_id, TIMESTAMPADD(DAY, :dayOffset, ti.visit_time),
+               ti.duration, ti.transportation, ti.cost, ti.notes, FALSE, CURRENT_TIMESTAMP
+        FROM trip_information ti
+        WHERE ti.trip_schedule_id = :sourceScheduleId
+        ORDER BY ti.trip_information_id
+        """,
+        nativeQuery = true
+    )
+    fun copyToSchedule(
+        @Param("sourceScheduleId") sourceScheduleId: Long,
+        @Param("targetScheduleId") targetScheduleId: Long,
+        @Param("dayOffset") dayOffset: Long
+    ): Int
+
+    // 도시 / 교통 수단 / 일정별 경비 합계를 도시, 교통 수단 순으로 정렬하여 스트리밍 조회 (도시별 경비 통계 집계용)
+    @QueryHints(QueryHint(name = "org.hibernate.fetchSize", value = "1000"), QueryHint(name = "org.hibernate.readOnly", value = "true"))
+    @Query(
+        """
+        SELECT new com.tripfriend.domain.trip.budget.dto.CityCostSampleDto(
+            p.cityName, ti.transportation, s.id, s.startDate, s.endDate, SUM(ti.cost)
+        )
+        FROM TripInformation ti
+        JOIN ti.place p
+        JOIN ti.tripSchedule s
+        WHERE ti.transportation IS NOT NULL
+        GROUP BY p.cityName, ti.transportation, s.id, s.startDate, s.endDate
+        ORDER BY p.cityName ASC, ti.transportation ASC
+        """
+    )
+    fun streamCityCostSamples(): Stream<CityCostSampleDto>
+
+    // 일정 순으로 정렬된 [tripScheduleId, placeId] 스트리밍 조회 (함께 방문한 여행지 집계용)
+    @QueryHints(QueryHint(name = "org.hibernate.fetchSize", value = "1000"), QueryHint(name = "org.hibernate.readOnly", value = "true"))
+    @Query("SELECT ti.tripSchedule.id, ti.place.id FROM TripInformation ti ORDER BY ti.tripSchedule.id")
+    fun streamSchedulePlaces(): Stream<Array<Any>>
 }
@@ -1,9 +1,10 @@
 package com.tripfriend.domain.trip.information.service
 
 import com.tripfriend.domain.member.member.entity.Member
-import com.tripfriend.domain.member.member.service.AuthService
 import com.tripfriend.domain.place.place.entity.Place
 import com.tripfriend.domain.place.place.repository.PlaceRepository
+import com.tripfriend.domain.place.trending.entity.TrendingSignal
+import com.tripfriend.domain.place.trending.service.TrendingPlaceService
 import com.tripfriend.domain.trip.information.dto.TripInformationReqDto
 import com.tripfriend.domain.trip.information.dto.TripInformationResDto
 import com.tripfriend.domain.trip.information.dto.TripInformationUpdateReqDto
@@ -21,18 +22,9 @@ class TripInformationService(
     private val tripInformationRepository: TripInformationRepository,
     private val tripScheduleRepository: TripScheduleRepository,
     private val placeRepository: PlaceRepository,
-    private val authService: AuthService
+    private val trendingPlaceService: TrendingPlaceService
 ) {
 
-    /**
-     * 현재 로그인한 회원 객체를 반환한다.
-     * @throws ServiceException 로그인하지 않은 경우 예외 발생
-     */
-    fun getLoggedInMember(token: String): Member {
-        return authService.getLoggedInMember(token)
-            ?: throw ServiceException("401-2", "로그인이 필요합니다.")
-    }
-
     /**
      * 요청 DTO로부터 장소 ID를 확인 후 장소 객체를 반환한다.
      */
@@ -44,10 +36,9 @@ class TripInformationService(
     }
 
     /**
-     * 여행 정보 ID와 토큰을 기반으로 회원 및 여행정보의 소유권을 검증한다.
+     * 여행 정보 ID와 로그인한 회원을 기반으로 회원 및 여행정보의 소유권을 검증한다.
      */
-    fun validateTripInformation(tripInfoId: Long, token: String): TripInformation {
-        val member = getLoggedInMember(token)
+    fun validateTripInformation(tripInfoId: Long, member: Member): TripInformation {
         val tripInformation = tripInformationRepository.findById(tripInfoId).orElseThrow {
             ServiceException("404-2", "해당 여행 정보가 존재하지 않습니다.")
         }
@@ -60,8 +51,8 @@ class TripInformationService(
     /**
      * 여행 정보를 등록하고 DTO를 반환한다.
      */
-    fun addTripInformation(reqDto: TripInformationReqDto, token: String): TripInformationResDto {
-        val member = getLoggedInMember(token)
+    @Transactional
+    fun addTripInformation(reqDto: TripInformationReqDto, member: Member): TripInformationResDto {
         val schedule = tripScheduleRepository.findById(
             reqDto.tripScheduleId ?: throw ServiceException("400", "여행 일정 ID가 누락되었습니다.")
         ).orElseThrow {
@@ -80,7 +71,9 @@ class TripInformationService(
             notes = reqDto.notes,
             transportation = reqDto.transportation,
         )
+        schedule.addTripInformation(information) // 일정 경비 합계 증가 (저장 전에 추가해야 목록 로딩 시 중복되지 않음)
         tripInformationRepository.save(information)
+        trendingPlaceService.record(TrendingSignal.TRIP_INFORMATION, place.id, information.createdAt)
         return TripInformationResDto(information)
     }
 
@@ -103,8 +96,11 @@ class TripInformationService(
             )
         }
 
+        schedule.addTripInformations(tripInformations) // 일정 경비 합계 증가 (저장 전에 추가)
         tripInformationRepository.saveAll(tripInformations)
-        schedule.addTripInformations(tripInformations)
+        tripInformations.forEach {
+            trendingPlaceService.record(TrendingSignal.TRIP_INFORMATION, it.place.id, it.createdAt)
+        }
     }
 
     /**
@@ -123,17 +119,19 @@ class TripInformationService(
      * 여행 정보를 삭제한다.
      */
     @Transactional
-    fun deleteTripInformation(tripInformationId: Long, token: String) {
-        val tripInformation = validateTripInformation(tripInformationId, token)
+    fun deleteTripInformation(tripInformationId: Long, member: Member) {
+        val tripInformation = validateTripInformation(tripInformationId, member)
+        tripInformation.tripSchedule.removeTripInformation(tripInformation) // 일정 경비 합계 감소
         tripInformationRepository.delete(tripInformation)
+        trendingPlaceService.cancel(TrendingSignal.TRIP_INFORMATION, tripInformation.place.id, tripInformation.createdAt)
     }
 
     /**
      * 방문 여부를 업데이트한다.
      */
     @Transactional
-    fun updateVisited(req: VisitedReqDto, token: String) {
-        val tripInformation = validateTripInformation(req.tripInformationId, token)
+    fun updateVisited(req: VisitedReqDto, member: Member) {
+        val tripInformation = validateTripInformation(req.tripInformationId, member)
         tripInformation.isVisited = req.isVisited
         tripInformationRepository.save(tripInformation)
     }
@@ -142,7 +140,7 @@ class TripInformationService(
      * 세부 일정을 조회한다.
      */
     @Transactional
-    fun getTripInformation(id: Long, token: String): TripInformation {
-        return validateTripInformation(id, token)
+    fun getTripInformation(id: Long, member: Member): TripInformation {
+        return validateTripInformation(id, member)
     }
 }
\ No newline at end of file
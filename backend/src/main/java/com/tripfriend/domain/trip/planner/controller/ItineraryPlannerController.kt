@@ -0,0 +1,35 @@
+package com.tripfriend.domain.trip.planner.controller
+
+import com.tripfriend.domain.member.member.entity.Member
+import com.tripfriend.domain.trip.information.entity.Transportation
+import com.tripfriend.domain.trip.planner.dto.ItineraryPlanResDto
+import com.tripfriend.domain.trip.planner.service.ItineraryPlannerService
+import com.tripfriend.global.annotation.LoginMember
+import com.tripfriend.global.dto.RsData
+import io.swagger.v3.oas.annotations.Operation
+import io.swagger.v3.oas.annotations.Parameter
+import io.swagger.v3.oas.annotations.tags.Tag
+import org.springframework.web.bind.annotation.*
+
+@RestController
+@RequestMapping("/trip/planner")
+@Tag(name = "ItineraryPlanner API", description = "여행 일정 자동 동선 추천 기능을 제공합니다.")
+class ItineraryPlannerController(
+    private val itineraryPlannerService: ItineraryPlannerService
+) {
+
+    // 일자별 방문 순서 추천
+    @GetMapping("/{scheduleId}")
+    @Operation(
+        summary = "나의 여행 일정 동선 추천",
+        description = "선택한 장소들을 일자별로 나누고, 교통 수단 기준 예상 이동 시간이 최소가 되는 방문 순서를 추천합니다."
+    )
+    fun planSchedule(
+        @Parameter(description = "여행 일정 id", example = "1") @PathVariable scheduleId: Long,
+        @RequestParam(required = false) transportation: Transportation?,
+        @LoginMember loggedInMember: Member
+    ): RsData<ItineraryPlanResDto> {
+        val plan = itineraryPlannerService.planSchedule(scheduleId, transportation, loggedInMember)
+        return RsData("200-1", "여행 동선 추천이 완료되었습니다.", plan)
+    }
+}
@@ -0,0 +1,9 @@
+package com.tripfriend.domain.trip.planner.dto
+
+import java.time.LocalDate
+
+data class DayPlanResDto(
+    val date: LocalDate,
+    val travelMinutes: Long, // 해당 일자의 예상 이동 시간(분)
+    val stops: List<PlannedStopResDto>, // 추천 방문 순서
+)
@@ -0,0 +1,11 @@
+package com.tripfriend.domain.trip.planner.dto
+
+import com.tripfriend.domain.trip.information.entity.Transportation
+
+data class ItineraryPlanResDto(
+    val scheduleId: Long,
+    val transportation: Transportation, // 이동 시간 추정에 사용한 교통 수단
+    val totalTravelMinutes: Long, // 전체 예상 이동 시간(분)
+    val optimal: Boolean, // 모든 일자의 경로 개선이 시간 제한 내에 완료되었는지 여부
+    val days: List<DayPlanResDto>,
+)
@@ -0,0 +1,10 @@
+package com.tripfriend.domain.trip.planner.dto
+
+data class PlannedStopResDto(
+    val tripInformationId: Long?,
+    val placeId: Long?,
+    val placeName: String,
+    val latitude: Double?,
+    val longitude: Double?,
+    val travelMinutesFromPrevious: Long?, // 이전 장소에서의 예상 이동 시간 (첫 장소 또는 좌표가 없는 장소는 null)
+)
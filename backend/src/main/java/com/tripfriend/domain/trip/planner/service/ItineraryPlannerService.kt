@@ -0,0 +1,170 @@
+package com.tripfriend.domain.trip.planner.service
+
+import com.tripfriend.domain.member.member.entity.Member
+import com.tripfriend.domain.trip.information.entity.Transportation
+import com.tripfriend.domain.trip.information.entity.TripInformation
+import com.tripfriend.domain.trip.planner.dto.DayPlanResDto
+import com.tripfriend.domain.trip.planner.dto.ItineraryPlanResDto
+import com.tripfriend.domain.trip.planner.dto.PlannedStopResDto
+import com.tripfriend.domain.trip.schedule.entity.TripSchedule
+import com.tripfriend.domain.trip.schedule.repository.TripScheduleRepository
+import com.tripfriend.global.exception.ServiceException
+import com.tripfriend.global.util.GeoUtil
+import jakarta.annotation.PreDestroy
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Service
+import org.springframework.transaction.annotation.Transactional
+import java.time.LocalDate
+import java.time.LocalDateTime
+import java.time.temporal.ChronoUnit
+import java.util.concurrent.Callable
+import java.util.concurrent.ForkJoinPool
+import java.util.concurrent.TimeUnit
+import kotlin.math.roundToLong
+
+@Service
+class ItineraryPlannerService(
+    private val tripScheduleRepository: TripScheduleRepository
+) {
+
+    companion object {
+        const val MAX_STOPS = 100
+        private const val ROAD_DETOUR_FACTOR = 1.3 // 직선 거리 대비 실제 이동 거리 보정값
+    }
+
+    @Value("\${custom.planner.time-budget-millis:300}")
+    private var timeBudgetMillis: Long = 300
+
+    // 일자별 경로 계산을 병렬로 수행하는 fork-join 풀
+    private val forkJoinPool = ForkJoinPool(Runtime.getRuntime().availableProcessors())
+
+    // 영속성 컨텍스트 밖(작업 스레드)에서 사용할 장소 정보
+    private data class Stop(
+        val tripInformationId: Long?,
+        val placeId: Long?,
+        val placeName: String,
+        val latitude: Double?,
+        val longitude: Double?,
+        val visitTime: LocalDateTime?
+    )
+
+    /**
+     * 여행 일정의 장소들을 일자별로 나누고, 이동 시간이 최소가 되도록 방문 순서를 추천한다.
+     *
+     * @param scheduleId     여행 일정 ID
+     * @param transportation 이동 시간 추정에 사용할 교통 수단 (null이면 일정에서 가장 많이 쓰인 교통 수단)
+     * @param member         로그인한 회원
+     * @return 일자별 추천 방문 순서
+     */
+    @Transactional(readOnly = true)
+    fun planSchedule(scheduleId: Long, transportation: Transportation?, member: Member): ItineraryPlanResDto {
+        val deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis)
+
+        val schedule = tripScheduleRepository.findById(scheduleId)
+            .orElseThrow { ServiceException("404-1", "해당 일정이 존재하지 않습니다.") }
+        if (schedule.member?.id != member.id) {
+            throw ServiceException("403-1", "본인이 생성한 일정만 조회할 수 있습니다.")
+        }
+
+        val tripInformations = schedule.tripInformations
+        if (tripInformations.size > MAX_STOPS) {
+            throw ServiceException("400-4", "자동 일정 추천은 최대 ${MAX_STOPS}개 장소까지 가능합니다.")
+        }
+
+        val mode = transportation ?: mostUsedTransportation(tripInformations)
+        val dayGroups = groupByDay(schedule, tripInformations)
+
+        // 일자별 경로 계산은 서로 독립적이므로 병렬로 수행
+        val tasks = dayGroups.map { (date, stops) -> Callable { planDay(date, stops, mode, deadline) } }
+        val dayResults = forkJoinPool.invokeAll(tasks).map { it.get() }
+
+        val days = dayResults.map { it.first }
+        return ItineraryPlanResDto(
+            scheduleId = scheduleId,
+            transportation = mode,
+            totalTravelMinutes = days.sumOf { it.travelMinutes },
+            optimal = dayResults.all { it.second },
+            days = days
+        )
+    }
+
+    @PreDestroy
+    fun shutdown() {
+        forkJoinPool.shutdown()
+    }
+
+    // 일정에서 가장 많이 사용된 교통 수단 (없으면 자가용)
+    private fun mostUsedTransportation(tripInformations: List<TripInformation>): Transportation =
+        tripInformations.mapNotNull { it.transportation }
+            .groupingBy { it }
+            .eachCount()
+            .maxByOrNull { it.value }
+            ?.key ?: Transportation.CAR
+
+    // 방문 시간이 일정 기간 안에 있으면 해당 일자에, 그렇지 않으면 장소가 가장 적은 일자에 배정
+    private fun groupByDay(schedule: TripSchedule, tripInformations: List<TripInformation>): List<Pair<LocalDate, List<Stop>>> {
+        val startDate = schedule.startDate ?: throw ServiceException("400-5", "여행 일정의 시작일이 없습니다.")
+        val endDate = schedule.endDate ?: throw ServiceException("400-5", "여행 일정의 종료일이 없습니다.")
+        val dayCount = (ChronoUnit.DAYS.between(startDate, endDate) + 1).coerceAtLeast(1).toInt()
+
+        val buckets = List(dayCount) { mutableListOf<Stop>() }
+        val unscheduled = mutableListOf<Stop>()
+
+        tripInformations.forEach { info ->
+            val place = info.place
+            val stop = Stop(info.id, place.id, place.placeName, place.latitude, place.longitude, info.visitTime)
+            val dayIndex = info.visitTime?.let { ChronoUnit.DAYS.between(startDate, it.toLocalDate()) }
+            if (dayIndex != null && dayIndex in 0L until dayCount.toLong()) {
+                buckets[dayIndex.toInt()].add(stop)
+            } else {
+                unscheduled.add(stop)
+            }
+        }
+        unscheduled.forEach { stop -> buckets.minBy { it.size }.add(stop) }
+
+        return buckets.mapIndexed { index, stops -> startDate.plusDays(index.toLong()) to stops.toList() }
+    }
+
+    // 하루 경로 계산: 좌표가 있는 장소만 최적화하고, 좌표가 없는 장소는 마지막에 기존 순서대로 붙인다
+    private fun planDay(date: LocalDate, stops: List<Stop>, mode: Transportation, deadline: Long): Pair<DayPlanResDto, Boolean> {
+        val (routable, unroutable) = stops
+            .sortedWith(compareBy({ it.visitTime == null }, { it.visitTime }))
+            .partition { it.latitude != null && it.longitude != null }
+
+        val minutes = travelMinutesMatrix(routable, mode)
+        val result = RouteSolver.solve(minutes, deadline)
+
+        val planned = mutableListOf<PlannedStopResDto>()
+        result.order.forEachIndexed { position, index ->
+            val travel = if (position == 0) null else minutes[result.order[position - 1]][index].roundToLong()
+            planned.add(toPlannedStop(routable[index], travel))
+        }
+        unroutable.forEach { planned.add(toPlannedStop(it, null)) }
+
+        return DayPlanResDto(date, result.cost.roundToLong(), planned) to result.completed
+    }
+
+    // 장소 간 예상 이동 시간(분) 행렬
+    private fun travelMinutesMatrix(stops: List<Stop>, mode: Transportation): Array<DoubleArray> {
+        val n = stops.size
+        val matrix = Array(n) { DoubleArray(n) }
+        for (i in 0 until n) {
+            for (j in i + 1 until n) {
+                val km = GeoUtil.haversineKm(stops[i].latitude!!, stops[i].longitude!!, stops[j].latitude!!, stops[j].longitude!!)
+                val minutes = km * ROAD_DETOUR_FACTOR / mode.averageSpeedKmh * 60
+                matrix[i][j] = minutes
+                matrix[j][i] = minutes
+            }
+        }
+        return matrix
+    }
+
+    private fun toPlannedStop(stop: Stop, travelMinutes: Long?) = PlannedStopResDto(
+        tripInformationId = stop.tripInformationId,
+        placeId = stop.placeId,
+        placeName = stop.placeName,
+        latitude = stop.latitude,
+        longitude = stop.longitude,
+        travelMinutesFromPrevious = travelMinutes
+    )
+}
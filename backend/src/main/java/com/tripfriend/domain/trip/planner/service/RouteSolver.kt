@@ -0,0 +1,108 @@
+package com.tripfriend.domain.trip.planner.service
+
+/**
+ * 하루 방문 순서를 계산하는 경로 최적화기
+ *
+ * 첫 번째 정점(그날 가장 먼저 방문하는 장소)을 출발점으로 고정하고,
+ * 최근접 이웃(nearest-neighbour)으로 초기 경로를 만든 뒤 2-opt로 개선한다.
+ * 도착점은 고정하지 않는 열린 경로(open path)이며, 마감 시각이 지나면 그때까지의 최선 경로를 반환한다.
+ */
+object RouteSolver {
+
+    data class Result(
+        val order: IntArray, // 방문 순서 (정점 인덱스)
+        val cost: Double, // 총 이동 비용
+        val completed: Boolean // 마감 시각 전에 2-opt 개선이 수렴했는지 여부
+    )
+
+    /**
+     * @param cost          비용 행렬 (cost[i][j] = i -> j 이동 비용)
+     * @param deadlineNanos System.nanoTime() 기준 마감 시각
+     */
+    fun solve(cost: Array<DoubleArray>, deadlineNanos: Long): Result {
+        val n = cost.size
+        if (n <= 2) {
+            val order = IntArray(n) { it }
+            return Result(order, pathCost(cost, order), true)
+        }
+
+        val route = nearestNeighbour(cost)
+        val completed = twoOpt(cost, route, deadlineNanos)
+        return Result(route, pathCost(cost, route), completed)
+    }
+
+    // 0번 정점에서 출발하여 방문하지 않은 가장 가까운 정점으로 이동
+    fun nearestNeighbour(cost: Array<DoubleArray>): IntArray {
+        val n = cost.size
+        val visited = BooleanArray(n)
+        val route = IntArray(n)
+        visited[0] = true
+
+        for (step in 1 until n) {
+            val from = route[step - 1]
+            var next = -1
+            var best = Double.MAX_VALUE
+            for (candidate in 0 until n) {
+                if (!visited[candidate] && cost[from][candidate] < best) {
+                    best = cost[from][candidate]
+                    next = candidate
+                }
+            }
+            route[step] = next
+            visited[next] = true
+        }
+        return route
+    }
+
+    // 개선이 없을 때까지 구간을 뒤집는다. 마감 시각을 넘기면 false 반환
+    fun twoOpt(cost: Array<DoubleArray>, route: IntArray, deadlineNanos: Long): Boolean {
+        val n = route.size
+        var improved = true
+        while (improved) {
+            improved = false
+            for (i in 1 until n - 1) {
+                if (System.nanoTime() > deadlineNanos) {
+                    return false
+                }
+                val a = route[i - 1]
+                val b = route[i]
+                for (k in i + 1 until n) {
+                    val c = route[k]
+                    // 열린 경로이므로 마지막 정점 뒤에는 연결되는 간선이 없다
+                    val delta = if (k == n - 1) {
+                        cost[a][c] - cost[a][b]
+                    } else {
+                        val d = route[k + 1]
+                        cost[a][c] + cost[b][d] - cost[a][b] - cost[c][d]
+                    }
+                    if (delta < -1e-9) {
+                        reverse(route, i, k)
+                        improved = true
+                        break
+                    }
+                }
+            }
+        }
+        return true
+    }
+
+    fun pathCost(cost: Array<DoubleArray>, order: IntArray): Double {
+        var total = 0.0
+        for (i in 1 until order.size) {
+            total += cost[order[i - 1]][order[i]]
+        }
+        return total
+    }
+
+    private fun reverse(route: IntArray, from: Int, to: Int) {
+        var i = from
+        var j = to
+        while (i < j) {
+            val tmp = route[i]
+            route[i] = route[j]
+            route[j] = tmp
+            i++
+            j--
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package com.tripfriend.domain.trip.schedule.controller
 
+import com.tripfriend.domain.member.member.entity.Member
 import com.tripfriend.domain.trip.schedule.dto.*
 import com.tripfriend.domain.trip.schedule.service.TripScheduleService
 import com.tripfriend.global.annotation.CheckPermission
+import com.tripfriend.global.annotation.LoginMember
 import com.tripfriend.global.dto.RsData
 import io.swagger.v3.oas.annotations.Operation
 import io.swagger.v3.oas.annotations.tags.Tag
 import jakarta.validation.Valid
+import org.springframework.format.annotation.DateTimeFormat
 import org.springframework.web.bind.annotation.*
+import java.time.LocalDate
 
 @RestController
 @RequestMapping("/trip/schedule")
@@ -20,12 +24,40 @@ class TripScheduleController(
     @Operation(summary = "나의 여행 일정 등록", description = "로그인된 회원의 token 값을 기반으로 새로운 일정을 생성합니다.")
     fun createSchedule(
         @RequestBody reqBody: TripScheduleReqDto,
-        @RequestHeader(value = "Authorization", required = false) token: String
+        @LoginMember loggedInMember: Member
     ): RsData<TripScheduleInfoResDto> {
-        val schedule = scheduleService.createSchedule(reqBody, token)
+        val schedule = scheduleService.createSchedule(reqBody, loggedInMember)
+        if (schedule.conflicts.isNotEmpty()) {
+            return RsData("200-1", "일정이 생성되었습니다. 기존 일정과 기간이 겹치니 확인해주세요.", schedule)
+        }
         return RsData("200-1", "일정이 성공적으로 생성되었습니다.", schedule)
     }
 
+    @PostMapping("/{scheduleId}/clone")
+    @Operation(summary = "여행 일정 복사", description = "나의 여행 일정(관리자는 모든 일정)을 세부 일정까지 복사하여 새 시작일 기준의 나의 일정으로 생성합니다.")
+    fun cloneSchedule(
+        @PathVariable scheduleId: Long,
+        @RequestBody reqBody: TripScheduleCloneReqDto,
+        @LoginMember loggedInMember: Member
+    ): RsData<TripScheduleInfoResDto> {
+        val schedule = scheduleService.cloneSchedule(scheduleId, reqBody, loggedInMember)
+        if (schedule.conflicts.isNotEmpty()) {
+            return RsData("200-1", "일정이 복사되었습니다. 기존 일정과 기간이 겹치니 확인해주세요.", schedule)
+        }
+        return RsData("200-1", "일정이 성공적으로 복사되었습니다.", schedule)
+    }
+
+    @GetMapping("/my-busy-dates")
+    @Operation(summary = "나의 바쁜 기간 조회", description = "로그인된 회원의 여행 일정이 있는 기간을 병합하여 반환합니다.")
+    fun getMyBusyDates(
+        @LoginMember loggedInMember: Member,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) from: LocalDate?,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) to: LocalDate?
+    ): RsData<List<BusyPeriodResDto>> {
+        val busyPeriods = scheduleService.getMyBusyPeriods(loggedInMember, from, to)
+        return RsData("200-6", "바쁜 기간 조회가 완료되었습니다.", busyPeriods)
+    }
+
     @GetMapping
     @Operation(hidden = true)
     @CheckPermission("ADMIN")
@@ -37,9 +69,9 @@ class TripScheduleController(
     @GetMapping("/my-schedules")
     @Operation(summary = "나의 여행 일정 전체 조회")
     fun getMySchedules(
-        @RequestHeader(value = "Authorization", required = false) token: String
+        @LoginMember loggedInMember: Member
     ): RsData<List<TripScheduleResDto>> {
-        val schedules = scheduleService.getSchedulesByCreator(token)
+        val schedules = scheduleService.getSchedulesByCreator(loggedInMember)
         val memberName = schedules.firstOrNull()?.memberName ?: "회원"
         return RsData("200-3", "$memberName 님이 생성한 일정 조회가 완료되었습니다.", schedules)
     }
@@ -47,10 +79,10 @@ class TripScheduleController(
     @GetMapping("/my-schedules/{id}")
     @Operation(summary = "나의 여행 일정 세부 조회")
     fun getMyTripInfo(
-        @RequestHeader(value = "Authorization", required = false) token: String,
+        @LoginMember loggedInMember: Member,
         @PathVariable id: Long
     ): RsData<List<TripScheduleInfoResDto>> {
-        val schedules = scheduleService.getTripInfo(token, id)
+        val schedules = scheduleService.getTripInfo(loggedInMember, id)
         val memberName = schedules.firstOrNull()?.memberName ?: "회원"
         return RsData("200-4", "$memberName 님이 생성한 일정 조회가 완료되었습니다.", schedules)
     }
@@ -68,9 +100,9 @@ class TripScheduleController(
     @Operation(summary = "나의 여행 일정 삭제", description = "나의 일정을 삭제할 수 있다.")
     fun deleteSchedule(
         @PathVariable scheduleId: Long,
-        @RequestHeader(value = "Authorization", required = false) token: String
+        @LoginMember loggedInMember: Member
     ): RsData<Void> {
-        scheduleService.deleteSchedule(scheduleId, token)
+        scheduleService.deleteSchedule(scheduleId, loggedInMember)
         return RsData("200-5", "일정이 성공적으로 삭제되었습니다.")
     }
 
@@ -90,9 +122,9 @@ class TripScheduleController(
     @Operation(summary = "나의 여행 일정 및 여행 정보 통합 수정", hidden = true)
     fun updateTrip(
         @RequestBody @Valid reqDto: TripUpdateReqDto,
-        @RequestHeader(value = "Authorization", required = false) token: String
+        @LoginMember loggedInMember: Member
     ): RsData<TripUpdateResDto> {
-        val resTrip = scheduleService.updateTrip(reqDto, token)
+        val resTrip = scheduleService.updateTrip(reqDto, loggedInMember)
         return RsData("200-1", "여행 일정 및 여행 정보가 성공적으로 수정되었습니다.", resTrip)
     }
 }
\ No newline at end of file
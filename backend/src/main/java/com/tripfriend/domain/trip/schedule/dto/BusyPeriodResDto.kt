@@ -0,0 +1,9 @@
+package com.tripfriend.domain.trip.schedule.dto
+
+import java.time.LocalDate
+
+data class BusyPeriodResDto(
+    val startDate: LocalDate, // 바쁜 기간 시작일
+    val endDate: LocalDate, // 바쁜 기간 종료일
+    val schedules: List<TripScheduleConflictResDto>, // 해당 기간에 포함된 여행 일정
+)
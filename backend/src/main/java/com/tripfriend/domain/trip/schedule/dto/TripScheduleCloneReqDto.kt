@@ -0,0 +1,8 @@
+package com.tripfriend.domain.trip.schedule.dto
+
+import java.time.LocalDate
+
+data class TripScheduleCloneReqDto(
+    val startDate: LocalDate?, // 복사한 일정의 시작일 (세부 일정 방문 시간도 같은 일수만큼 이동)
+    val title: String? = null, // 비어 있으면 원본 제목 사용
+)
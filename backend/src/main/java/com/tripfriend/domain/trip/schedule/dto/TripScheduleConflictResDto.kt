@@ -0,0 +1,18 @@
+package com.tripfriend.domain.trip.schedule.dto
+
+import com.tripfriend.domain.trip.schedule.entity.TripSchedule
+import java.time.LocalDate
+
+data class TripScheduleConflictResDto(
+    val scheduleId: Long?, // 겹치는 여행 일정 id
+    val title: String?,
+    val startDate: LocalDate?,
+    val endDate: LocalDate?,
+) {
+    constructor(tripSchedule: TripSchedule) : this(
+        scheduleId = tripSchedule.id,
+        title = tripSchedule.title,
+        startDate = tripSchedule.startDate,
+        endDate = tripSchedule.endDate,
+    )
+}
@@ -14,9 +14,12 @@ class TripScheduleInfoResDto(tripSchedule: TripSchedule) {
     val description = tripSchedule.description
     val startDate = tripSchedule.startDate
     val endDate = tripSchedule.endDate
+    val totalCost = tripSchedule.totalCost // 일정 경비 합계
 
     val tripInformations: List<TripInformationResDto> = tripSchedule.tripInformations
         .stream()
         .map { tripInformation: TripInformation? -> tripInformation?.let { TripInformationResDto(it) } }
         .collect(Collectors.toList()) // 해당 여행지 일정에 대한 정보
+
+    var conflicts: List<TripScheduleConflictResDto> = emptyList() // 기간이 겹치는 기존 일정 (경고용)
 }
@@ -12,4 +12,5 @@ class TripScheduleResDto(tripSchedule: TripSchedule) {
     val description = tripSchedule.description
     val startDate = tripSchedule.startDate
     val endDate = tripSchedule.endDate
+    val totalCost = tripSchedule.totalCost // 일정 경비 합계
 }
@@ -13,7 +13,10 @@ import java.time.LocalDateTime
 
 @Entity
 @EntityListeners(AuditingEntityListener::class)
-@Table(name = "trip_schedule")
+@Table(
+    name = "trip_schedule",
+    indexes = [Index(name = "idx_trip_schedule_member_period", columnList = "member_id, start_date, end_date")]
+)
 class TripSchedule(
 
     @Id
@@ -37,6 +40,9 @@ class TripSchedule(
     @Column(name = "end_date", nullable = false)
     var endDate: LocalDate? = null, // 종료일
 
+    @Column(name = "total_cost", nullable = false)
+    var totalCost: Long = 0, // 세부 일정 경비 합계 (추가/수정/삭제 시 증분 갱신)
+
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     var createdAt: LocalDateTime? = null, // 일정 생성일
@@ -56,6 +62,19 @@ class TripSchedule(
     fun addTripInformation(tripInformation: TripInformation) {
         tripInformations.add(tripInformation)
         tripInformation.tripSchedule = this
+        totalCost += tripInformation.cost
+    }
+
+    // 여행 세부 일정 삭제
+    fun removeTripInformation(tripInformation: TripInformation) {
+        if (tripInformations.removeIf { it === tripInformation }) {
+            totalCost -= tripInformation.cost
+        }
+    }
+
+    // 세부 일정 경비 변경분 반영
+    fun applyCostChange(delta: Long) {
+        totalCost += delta
     }
 
     // 여행 세부 일정 추가(여러개)
@@ -2,8 +2,49 @@ package com.tripfriend.domain.trip.schedule.repository
 
 import com.tripfriend.domain.trip.schedule.entity.TripSchedule
 import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Modifying
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
+import java.time.LocalDate
 
 interface TripScheduleRepository : JpaRepository<TripSchedule, Long> {
     // 특정 회원이 등록한 모든 여행 일정 조회
     fun findByMemberId(memberId: Long): List<TripSchedule>
+
+    // 특정 회원의 일정 중 주어진 기간과 겹치는 일정 조회 (member_id, start_date, end_date 인덱스 사용)
+    @Query(
+        """
+        SELECT s FROM TripSchedule s
+        WHERE s.member.id = :memberId
+          AND s.startDate <= :endDate
+          AND s.endDate >= :startDate
+        ORDER BY s.startDate ASC
+        """
+    )
+    fun findOverlapping(
+        @Param("memberId") memberId: Long,
+        @Param("startDate") startDate: LocalDate,
+        @Param("endDate") endDate: LocalDate
+    ): List<TripSchedule>
+
+    // 세부 일정 경비 합계 재계산 (증분 갱신 누락 보정용)
+    @Modifying
+    @Query(
+        """
+        UPDATE TripSchedule s
+        SET s.totalCost = (SELECT COALESCE(SUM(ti.cost), 0) FROM TripInformation ti WHERE ti.tripSchedule = s)
+        """
+    )
+    fun recalculateTotalCosts(): Int
+
+    // 지정한 일정들의 경비 합계만 재계산 (여행 정보 일괄 삭제 후 보정용)
+    @Modifying
+    @Query(
+        """
+        UPDATE TripSchedule s
+        SET s.totalCost = (SELECT COALESCE(SUM(ti.cost), 0) FROM TripInformation ti WHERE ti.tripSchedule = s)
+        WHERE s.id IN :scheduleIds
+        """
+    )
+    fun recalculateTotalCosts(@Param("scheduleIds") scheduleIds: Collection<Long>): Int
 }
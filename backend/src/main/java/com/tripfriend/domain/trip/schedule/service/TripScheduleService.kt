@@ -2,8 +2,9 @@ package com.tripfriend.domain.trip.schedule.service
 
 import com.tripfriend.domain.member.member.entity.Member
 import com.tripfriend.domain.member.member.repository.MemberRepository
-import com.tripfriend.domain.member.member.service.AuthService
-import com.tripfriend.domain.place.place.repository.PlaceRepository
+import com.tripfriend.domain.place.place.service.PlaceCatalog
+import com.tripfriend.domain.place.trending.entity.TrendingSignal
+import com.tripfriend.domain.place.trending.service.TrendingPlaceService
 import com.tripfriend.domain.trip.information.dto.TripInformationReqDto
 import com.tripfriend.domain.trip.information.repository.TripInformationRepository
 import com.tripfriend.domain.trip.information.service.TripInformationService
@@ -14,6 +15,8 @@ import com.tripfriend.global.exception.ServiceException
 import jakarta.validation.Valid
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
+import java.time.LocalDate
+import java.time.temporal.ChronoUnit
 
 @Service
 class TripScheduleService(
@@ -21,28 +24,19 @@ class TripScheduleService(
     private val memberRepository: MemberRepository,
     private val tripInformationService: TripInformationService,
     private val tripInformationRepository: TripInformationRepository,
-    private val authService: AuthService,
-    private val placeRepository: PlaceRepository
+    private val placeCatalog: PlaceCatalog,
+    private val trendingPlaceService: TrendingPlaceService
 ) {
 
-    /**
-     * 현재 로그인한 회원객체를 반환하는 메서드
-     *
-     * @param token JWT 토큰
-     * @return 로그인한 회원 객체
-     * @throws ServiceException 로그인하지 않은 경우 예외 발생
-     */
-    fun getLoggedInMember(token: String): Member =
-        authService.getLoggedInMember(token)
-            ?: throw ServiceException("401-2", "로그인이 필요합니다.")
-
     // 여행 일정 생성
     @Transactional
-    fun createSchedule(req: TripScheduleReqDto, token: String): TripScheduleInfoResDto {
-        // 로그인한 회원 정보 및 도시 유효성 검증
-        val member = getLoggedInMember(token)
+    fun createSchedule(req: TripScheduleReqDto, member: Member): TripScheduleInfoResDto {
+        // 도시 유효성 검증
         val selectedCity = validateCity(req.cityName ?: throw ServiceException("400-2", "여행지(도시명) 선택은 필수입니다."))
 
+        // 저장 전에 기간이 겹치는 기존 일정 조회 (생성은 막지 않고 경고로만 반환)
+        val conflicts = getConflictingSchedules(member.id!!, req.startDate, req.endDate)
+
         // 여행 일정 생성 및 저장
         val newSchedule = createAndSaveSchedule(member, req)
 
@@ -51,7 +45,101 @@ class TripScheduleService(
             validateTripInformations(req.tripInformations, selectedCity)
             tripInformationService.addTripInformations(newSchedule, req.tripInformations)
         }
-        return TripScheduleInfoResDto(newSchedule)
+        return TripScheduleInfoResDto(newSchedule).apply { this.conflicts = conflicts }
+    }
+
+    /**
+     * 여행 일정을 세부 일정까지 통째로 복사하여 로그인한 회원의 일정으로 생성하는 메서드
+     *
+     * 세부 일정은 INSERT ... SELECT 한 번으로 복사하며, 방문 시간은 새 시작일에 맞춰 SQL에서 이동한다.
+     * 세부 일정에는 메모 / 경비가 들어 있으므로 본인 일정만 복사할 수 있다. (관리자는 모든 일정 가능)
+     *
+     * @param scheduleId 복사할 원본 일정 ID
+     * @param req        새 시작일 및 제목
+     * @param member     로그인한 회원
+     * @return 복사된 여행 일정 (기간이 겹치는 기존 일정 경고 포함)
+     */
+    @Transactional
+    fun cloneSchedule(scheduleId: Long, req: TripScheduleCloneReqDto, member: Member): TripScheduleInfoResDto {
+        val source = tripScheduleRepository.findById(scheduleId)
+            .orElseThrow { ServiceException("404-1", "해당 일정이 존재하지 않습니다.") }
+        if (source.member?.id != member.id && member.authority != "ADMIN") {
+            throw ServiceException("403-1", "본인이 생성한 일정만 복사할 수 있습니다.")
+        }
+        val newStartDate = req.startDate ?: throw ServiceException("400-2", "복사할 일정의 시작일은 필수입니다.")
+        if (tripInformationRepository.countByTripScheduleId(scheduleId) == 0L) {
+            throw ServiceException("400-6", "복사할 세부 일정이 없습니다.")
+        }
+
+        val dayOffset = ChronoUnit.DAYS.between(source.startDate, newStartDate)
+        val newEndDate = source.endDate!!.plusDays(dayOffset)
+        val conflicts = getConflictingSchedules(member.id!!, newStartDate, newEndDate)
+
+        val clone = TripSchedule().apply {
+            this.member = member
+            this.title = req.title?.takeIf { it.isNotBlank() } ?: source.title
+            this.description = source.description
+            this.startDate = newStartDate
+            this.endDate = newEndDate
+        }
+        tripScheduleRepository.save(clone)
+
+        // 세부 일정 일괄 복사 (실행 후 영속성 컨텍스트가 비워지므로 다시 조회)
+        tripInformationRepository.copyToSchedule(scheduleId, clone.id!!, dayOffset)
+        val saved = tripScheduleRepository.findById(clone.id!!)
+            .orElseThrow { ServiceException("404-1", "해당 일정이 존재하지 않습니다.") }
+        saved.totalCost = saved.tripInformations.sumOf { it.cost.toLong() } // 복사된 세부 일정 기준으로 합계 계산
+        saved.tripInformations.forEach {
+            trendingPlaceService.record(TrendingSignal.TRIP_INFORMATION, it.place.id, it.createdAt)
+        }
+        return TripScheduleInfoResDto(saved).apply { this.conflicts = conflicts }
+    }
+
+    /**
+     * 특정 회원의 일정 중 주어진 기간과 겹치는 일정을 조회하는 메서드
+     *
+     * @param memberId  회원 ID
+     * @param startDate 확인할 기간의 시작일
+     * @param endDate   확인할 기간의 종료일
+     * @return 겹치는 일정 목록 (기간이 지정되지 않은 경우 빈 목록)
+     */
+    @Transactional(readOnly = true)
+    fun getConflictingSchedules(memberId: Long, startDate: LocalDate?, endDate: LocalDate?): List<TripScheduleConflictResDto> {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) {
+            return emptyList()
+        }
+        return tripScheduleRepository.findOverlapping(memberId, startDate, endDate)
+            .map { TripScheduleConflictResDto(it) }
+    }
+
+    /**
+     * 로그인한 회원의 바쁜 기간(여행 일정이 있는 기간)을 조회하는 메서드
+     * 겹치거나 맞닿은 일정은 하나의 기간으로 병합한다.
+     *
+     * @param member 로그인한 회원
+     * @param from   조회 시작일 (기본값: 오늘)
+     * @param to     조회 종료일 (기본값: 시작일로부터 1년)
+     * @return 시작일 순으로 정렬된 바쁜 기간 목록
+     */
+    @Transactional(readOnly = true)
+    fun getMyBusyPeriods(member: Member, from: LocalDate?, to: LocalDate?): List<BusyPeriodResDto> {
+        val startDate = from ?: LocalDate.now()
+        val endDate = to ?: startDate.plusYears(1)
+        if (endDate.isBefore(startDate)) {
+            throw ServiceException("400-3", "조회 종료일은 시작일 이후여야 합니다.")
+        }
+
+        val busyPeriods = mutableListOf<BusyPeriodResDto>()
+        getConflictingSchedules(member.id!!, startDate, endDate).forEach { schedule ->
+            val last = busyPeriods.lastOrNull()
+            if (last != null && !schedule.startDate!!.isAfter(last.endDate.plusDays(1))) {
+                val mergedEnd = if (schedule.endDate!!.isAfter(last.endDate)) schedule.endDate else last.endDate
+                busyPeriods[busyPeriods.size - 1] = last.copy(endDate = mergedEnd, schedules = last.schedules + schedule)
+            } else {
+                busyPeriods.add(BusyPeriodResDto(schedule.startDate!!, schedule.endDate!!, listOf(schedule)))
+            }
+        }
+        return busyPeriods
     }
 
     // 도시명 유효성 검증
@@ -78,9 +166,10 @@ class TripScheduleService(
     // 각 세부일정의 장소가 선택한 도시와 일치하는지 검증
     private fun validateTripInformations(tripInfos: List<TripInformationReqDto>, selectedCity: String) {
         tripInfos.forEach { tripInfo ->
+            // 여행지 카탈로그 스냅샷에서 조회 (DB 조회 없음)
             val place =
-                placeRepository.findById(tripInfo.placeId ?: throw ServiceException("404-2", "해당 장소가 존재하지 않습니다."))
-                    .orElseThrow { ServiceException("404-2", "해당 장소가 존재하지 않습니다.") }
+                placeCatalog.get(tripInfo.placeId ?: throw ServiceException("404-2", "해당 장소가 존재하지 않습니다."))
+                    ?: throw ServiceException("404-2", "해당 장소가 존재하지 않습니다.")
             if (place.cityName != selectedCity) {
                 throw ServiceException("400-1", "선택한 도시와 일치하지 않는 장소가 포함되어 있습니다.")
             }
@@ -121,18 +210,20 @@ class TripScheduleService(
      * 로그인한 회원이 자신의 여행 일정을 삭제하는 메서드
      *
      * @param scheduleId 삭제할 일정 ID
-     * @param token      JWT 토큰 (로그인된 사용자 확인)
-     * @throws ServiceException 로그인되지 않았거나, 권한이 없는 경우 예외 발생
+     * @param member     로그인한 회원
+     * @throws ServiceException 권한이 없는 경우 예외 발생
      */
     @Transactional
-    fun deleteSchedule(scheduleId: Long, token: String) {
-        val member = getLoggedInMember(token)
+    fun deleteSchedule(scheduleId: Long, member: Member) {
         val schedule = tripScheduleRepository.findById(scheduleId)
             .orElseThrow { ServiceException("404-1", "일정이 존재하지 않습니다.") }
 
         if (schedule.member?.id != member.id) {
             throw ServiceException("403-1", "본인이 생성한 일정만 삭제할 수 있습니다.")
         }
+        schedule.tripInformations.forEach {
+            trendingPlaceService.cancel(TrendingSignal.TRIP_INFORMATION, it.place.id, it.createdAt)
+        }
         tripScheduleRepository.delete(schedule)
     }
 
@@ -153,8 +244,7 @@ class TripScheduleService(
 
     // 여행 일정 및 여행 정보 통합 수정 메서드
     @Transactional
-    fun updateTrip(reqDto: @Valid TripUpdateReqDto, token: String): TripUpdateResDto {
-        val member = getLoggedInMember(token)
+    fun updateTrip(reqDto: @Valid TripUpdateReqDto, member: Member): TripUpdateResDto {
         val tripSchedule = tripScheduleRepository.findById(reqDto.tripScheduleId)
             .orElseThrow { ServiceException("404-1", "해당 일정이 존재하지 않습니다.") }
 
@@ -179,8 +269,7 @@ class TripScheduleService(
 
     // 특정 회원이 생성한 여행 일정 조회
     @Transactional(readOnly = true)
-    fun getSchedulesByCreator(token: String): List<TripScheduleResDto> {
-        val member = getLoggedInMember(token)
+    fun getSchedulesByCreator(member: Member): List<TripScheduleResDto> {
         val schedules = tripScheduleRepository.findByMemberId(member.id!!)
         if (schedules.isEmpty()) {
             throw ServiceException("404-3", "해당 회원의 여행 일정이 존재하지 않습니다.")
@@ -190,8 +279,7 @@ class TripScheduleService(
 
     // 특정 회원이 생성한 여행 일정의 세부 정보 조회
     @Transactional
-    fun getTripInfo(token: String, id: Long): List<TripScheduleInfoResDto> {
-        val member = getLoggedInMember(token)
+    fun getTripInfo(member: Member, id: Long): List<TripScheduleInfoResDto> {
         val schedule = tripScheduleRepository.findById(id)
             .orElseThrow { ServiceException("404-1", "해당 일정이 존재하지 않습니다") }
         if (schedule.member?.id != member.id) {
@@ -0,0 +1,11 @@
+package com.tripfriend.global.annotation
+
+/**
+ * 컨트롤러 파라미터에 로그인한 회원(Member)을 주입한다.
+ * 인증 필터가 요청마다 한 번 확인한 회원을 그대로 사용하므로 토큰을 다시 파싱하지 않는다.
+ */
+@Retention(AnnotationRetention.RUNTIME)
+@Target(AnnotationTarget.VALUE_PARAMETER)
+annotation class LoginMember(
+    val required: Boolean = true // false면 로그인하지 않은 요청에 null 주입
+)
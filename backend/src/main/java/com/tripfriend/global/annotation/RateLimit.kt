@@ -0,0 +1,23 @@
+package com.tripfriend.global.annotation
+
+/**
+ * 컨트롤러 메서드의 요청 횟수 제한 (Redis 토큰 버킷, 모든 서버가 같은 버킷을 공유).
+ *
+ * 버킷은 capacity개의 토큰으로 시작해 분당 refillPerMinute개씩 다시 채워지며, 요청마다 토큰 하나를 사용한다.
+ * IP별 / 계정별 제한을 함께 걸려면 어노테이션을 여러 번 붙인다.
+ */
+@Repeatable
+@Retention(AnnotationRetention.RUNTIME)
+@Target(AnnotationTarget.FUNCTION)
+annotation class RateLimit(
+    val name: String, // 버킷 이름 (Redis 키 구분용)
+    val key: Key = Key.IP,
+    val capacity: Long, // 버킷 크기 (연속으로 허용하는 요청 수)
+    val refillPerMinute: Long, // 분당 채워지는 토큰 수
+    val account: String = "" // key = ACCOUNT일 때 계정을 꺼낼 SpEL (ex: "#loginRequestDto.username", 비우면 로그인한 회원)
+) {
+    enum class Key {
+        IP,
+        ACCOUNT
+    }
+}
@@ -0,0 +1,78 @@
+package com.tripfriend.global.aspect
+
+import com.tripfriend.global.annotation.RateLimit
+import com.tripfriend.global.exception.ServiceException
+import com.tripfriend.global.security.RateLimiter
+import jakarta.servlet.http.HttpServletRequest
+import jakarta.servlet.http.HttpServletResponse
+import org.aspectj.lang.ProceedingJoinPoint
+import org.aspectj.lang.annotation.Around
+import org.aspectj.lang.annotation.Aspect
+import org.aspectj.lang.reflect.MethodSignature
+import org.springframework.context.expression.MethodBasedEvaluationContext
+import org.springframework.core.DefaultParameterNameDiscoverer
+import org.springframework.core.annotation.Order
+import org.springframework.expression.Expression
+import org.springframework.expression.spel.standard.SpelExpressionParser
+import org.springframework.security.authentication.AnonymousAuthenticationToken
+import org.springframework.security.core.context.SecurityContextHolder
+import org.springframework.stereotype.Component
+import java.lang.reflect.Method
+import java.util.concurrent.ConcurrentHashMap
+
+// @RateLimit이 붙은 컨트롤러 메서드의 요청 횟수 제한 (응답 상태 코드를 정하는 ResponseAspect보다 먼저 실행)
+@Aspect
+@Order(0)
+@Component
+class RateLimitAspect(
+    private val rateLimiter: RateLimiter,
+    private val request: HttpServletRequest,
+    private val response: HttpServletResponse
+) {
+
+    private val parser = SpelExpressionParser()
+    private val parameterNameDiscoverer = DefaultParameterNameDiscoverer()
+
+    // 메서드별 어노테이션 / 파싱한 SpEL
+    private val limitsByMethod = ConcurrentHashMap<Method, List<RateLimit>>()
+    private val expressions = ConcurrentHashMap<String, Expression>()
+
+    @Around("within(@org.springframework.web.bind.annotation.RestController *)")
+    fun rateLimit(joinPoint: ProceedingJoinPoint): Any? {
+        val method = (joinPoint.signature as MethodSignature).method
+        val limits = limitsByMethod.computeIfAbsent(method) { it.getAnnotationsByType(RateLimit::class.java).toList() }
+
+        for (limit in limits) {
+            val subject = when (limit.key) {
+                // 프록시 뒤에서는 RemoteIpValve가 신뢰하는 프록시의 X-Forwarded-For로 정한 클라이언트 IP (헤더를 직접 읽지 않음)
+                RateLimit.Key.IP -> request.remoteAddr
+                RateLimit.Key.ACCOUNT -> resolveAccount(limit, method, joinPoint.args)
+            } ?: continue // 계정을 알 수 없으면 계정별 제한은 건너뜀
+
+            val retryAfterMillis = rateLimiter.tryAcquire(
+                "${limit.name}:${limit.key.name.lowercase()}:$subject",
+                limit.capacity,
+                limit.refillPerMinute
+            )
+            if (retryAfterMillis > 0) {
+                response.setHeader("Retry-After", ((retryAfterMillis + 999) / 1000).toString())
+                throw ServiceException("429-1", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.")
+            }
+        }
+
+        return joinPoint.proceed()
+    }
+
+    // SpEL로 인자에서 계정을 꺼내고, 지정하지 않았으면 로그인한 회원의 아이디를 사용
+    private fun resolveAccount(limit: RateLimit, method: Method, args: Array<Any?>): String? {
+        if (limit.account.isEmpty()) {
+            val authentication = SecurityContextHolder.getContext().authentication
+            if (authentication == null || authentication is AnonymousAuthenticationToken) return null
+            return authentication.name
+        }
+
+        val expression = expressions.computeIfAbsent(limit.account) { parser.parseExpression(it) }
+        val context = MethodBasedEvaluationContext(null, method, args, parameterNameDiscoverer)
+        return expression.getValue(context)?.toString()?.trim()?.lowercase()?.takeIf { it.isNotEmpty() }
+    }
+}
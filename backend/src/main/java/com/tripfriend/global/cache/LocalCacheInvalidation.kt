@@ -0,0 +1,70 @@
+package com.tripfriend.global.cache
+
+import com.tripfriend.global.util.TransactionCallbacks
+import org.springframework.data.redis.connection.Message
+import org.springframework.data.redis.connection.MessageListener
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.listener.ChannelTopic
+import org.springframework.data.redis.listener.RedisMessageListenerContainer
+import java.util.*
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * 서버 메모리 캐시 무효화 (Redis 채널로 다른 서버에 전파)
+ *
+ * invalidate()는 즉시 로컬 캐시를 비우고, 트랜잭션이 끝나면(커밋/롤백) 한 번 더 비운 뒤 커밋된 경우에만 다른 서버에 알린다.
+ * (커밋 전에 다른 요청이 이전 데이터로 다시 채운 캐시도 지우도록 두 번 비움)
+ * 캐시를 채우는 쪽은 조회 전후의 generation()이 같을 때만 저장해, 조회 중 무효화된 값이 남지 않도록 한다.
+ * 메시지 내용은 "서버 식별자[ 키]"이며 자신이 보낸 메시지는 무시한다.
+ *
+ * @param channel  무효화 채널
+ * @param evict    로컬 캐시 비우기 (키가 null이면 전체)
+ * @param onRemote 다른 서버의 무효화로 비운 뒤 추가로 실행할 작업
+ */
+class LocalCacheInvalidation(
+    private val channel: String,
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val evict: (key: String?) -> Unit,
+    private val onRemote: (key: String?) -> Unit = {}
+) : MessageListener {
+
+    private val nodeId = UUID.randomUUID().toString()
+
+    // 비울 때마다 증가
+    private val generation = AtomicLong()
+
+    fun generation(): Long = generation.get()
+
+    fun subscribe(listenerContainer: RedisMessageListenerContainer) {
+        listenerContainer.addMessageListener(this, ChannelTopic(channel))
+    }
+
+    /**
+     * 데이터가 변경되었을 때 호출한다.
+     *
+     * @param key 변경된 항목 (null이면 전체)
+     */
+    fun invalidate(key: String? = null) {
+        evictLocal(key)
+        TransactionCallbacks.afterCompletion { committed ->
+            evictLocal(key)
+            if (committed) {
+                redisTemplate.convertAndSend(channel, if (key == null) nodeId else "$nodeId $key")
+            }
+        }
+    }
+
+    // 이 서버의 캐시만 비움 (다른 채널의 메시지 등)
+    fun evictLocal(key: String? = null) {
+        generation.incrementAndGet()
+        evict(key)
+    }
+
+    override fun onMessage(message: Message, pattern: ByteArray?) {
+        val body = String(message.body)
+        if (body.substringBefore(' ') == nodeId) return
+        val key = body.substringAfter(' ', "").ifEmpty { null }
+        evictLocal(key)
+        onRemote(key)
+    }
+}
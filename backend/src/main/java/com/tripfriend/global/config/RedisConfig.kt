@@ -1,13 +1,19 @@
 package com.tripfriend.global.config
 
+import io.lettuce.core.ClientOptions
+import io.lettuce.core.SocketOptions
 import org.springframework.beans.factory.annotation.Value
 import org.springframework.context.annotation.Bean
 import org.springframework.context.annotation.Configuration
 import org.springframework.data.redis.connection.RedisConnectionFactory
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory
 import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.listener.RedisMessageListenerContainer
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories
 import org.springframework.data.redis.serializer.StringRedisSerializer
+import java.time.Duration
 
 @Configuration
 @EnableRedisRepositories
@@ -17,9 +23,37 @@ class RedisConfig {
 
     @Value("\${spring.redis.port}")
     private val redisPort = 0
+
+    @Value("\${custom.redis.command-timeout-millis:1000}")
+    private val commandTimeoutMillis = 0L
+
+    @Value("\${custom.redis.connect-timeout-millis:1000}")
+    private val connectTimeoutMillis = 0L
+
+    companion object {
+        /**
+         * Lettuce 클라이언트 설정.
+         * 명령 / 연결 제한 시간을 짧게 두고, 연결이 끊긴 동안에는 명령을 쌓아 두지 않고 바로 실패시킨다.
+         * (기본값은 재연결될 때까지 명령을 보관하므로 Redis 장애 시 요청마다 제한 시간(60초)만큼 멈춤)
+         */
+        fun clientConfiguration(commandTimeout: Duration, connectTimeout: Duration): LettuceClientConfiguration =
+            LettuceClientConfiguration.builder()
+                .commandTimeout(commandTimeout)
+                .clientOptions(
+                    ClientOptions.builder()
+                        .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                        .socketOptions(SocketOptions.builder().connectTimeout(connectTimeout).build())
+                        .build()
+                )
+                .build()
+    }
+
     @Bean
     fun redisConnectionFactory(): RedisConnectionFactory {
-        return LettuceConnectionFactory(redisHost!!, redisPort)
+        return LettuceConnectionFactory(
+            RedisStandaloneConfiguration(redisHost!!, redisPort),
+            clientConfiguration(Duration.ofMillis(commandTimeoutMillis), Duration.ofMillis(connectTimeoutMillis))
+        )
     }
 
     @Bean
@@ -33,4 +67,12 @@ class RedisConfig {
 
         return redisTemplate
     }
+
+    // Redis pub/sub 메시지 수신 컨테이너 (캐시 무효화 전파 등)
+    @Bean
+    fun redisMessageListenerContainer(): RedisMessageListenerContainer {
+        val container = RedisMessageListenerContainer()
+        container.setConnectionFactory(redisConnectionFactory())
+        return container
+    }
 }
@@ -0,0 +1,146 @@
+package com.tripfriend.global.config
+
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider
+import software.amazon.awssdk.core.checksums.RequestChecksumCalculation
+import software.amazon.awssdk.core.checksums.ResponseChecksumValidation
+import software.amazon.awssdk.http.apache.ApacheHttpClient
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient
+import software.amazon.awssdk.regions.Region
+import software.amazon.awssdk.services.s3.S3AsyncClient
+import software.amazon.awssdk.services.s3.S3Client
+import software.amazon.awssdk.services.s3.S3Configuration
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration
+import software.amazon.awssdk.services.s3.presigner.S3Presigner
+import java.net.URI
+import java.time.Duration
+
+/**
+ * S3 클라이언트 설정.
+ * 클라이언트마다 HTTP 커넥션 풀을 가지므로 애플리케이션 전체에서 하나씩만 만들어 공유하고, 종료 시 close된다.
+ * 이미지 저장소가 S3일 때만 등록된다. (custom.image.storage)
+ */
+@Configuration
+@ConditionalOnProperty(name = ["custom.image.storage"], havingValue = "s3", matchIfMissing = true)
+class S3Config {
+    @Value("\${cloud.aws.credentials.access-key}")
+    private lateinit var accessKey: String
+
+    @Value("\${cloud.aws.credentials.secret-key}")
+    private lateinit var secretKey: String
+
+    @Value("\${cloud.aws.region.static}")
+    private lateinit var region: String
+
+    // S3 호환 저장소 주소 (비어 있으면 AWS S3 사용)
+    @Value("\${cloud.aws.s3.endpoint:}")
+    private lateinit var endpoint: String
+
+    @Value("\${custom.s3.max-connections:50}")
+    private var maxConnections: Int = 50
+
+    @Value("\${custom.s3.multipart-threshold-mb:8}")
+    private var multipartThresholdMb: Long = 8
+
+    @Value("\${custom.s3.part-size-mb:5}")
+    private var partSizeMb: Long = 5
+
+    // 삭제 등 단건 요청용 동기 클라이언트
+    @Bean
+    fun s3Client(): S3Client = buildClient(region, accessKey, secretKey, endpoint, maxConnections)
+
+    // 업로드용 비동기 클라이언트 (임계값을 넘는 파일은 여러 파트로 나눠 병렬 업로드)
+    @Bean
+    fun s3AsyncClient(): S3AsyncClient = buildAsyncClient(
+        region, accessKey, secretKey, endpoint, maxConnections,
+        multipartThresholdMb * MB, partSizeMb * MB
+    )
+
+    // 클라이언트 직접 업로드용 서명 주소 생성기 (요청을 보내지 않으므로 커넥션 풀 없음)
+    @Bean
+    fun s3Presigner(): S3Presigner = buildPresigner(region, accessKey, secretKey, endpoint)
+
+    companion object {
+        const val MB = 1024L * 1024L
+
+        fun buildClient(
+            region: String,
+            accessKey: String,
+            secretKey: String,
+            endpoint: String?,
+            maxConnections: Int
+        ): S3Client {
+            val builder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentials(accessKey, secretKey))
+                .httpClientBuilder(
+                    ApacheHttpClient.builder()
+                        .maxConnections(maxConnections)
+                        .connectionTimeout(Duration.ofSeconds(3))
+                )
+            if (!endpoint.isNullOrBlank()) {
+                builder.endpointOverride(URI.create(endpoint))
+                    .forcePathStyle(true)
+                    .requestChecksumCalculation(RequestChecksumCalculation.WHEN_REQUIRED) // S3 호환 저장소는 추가 체크섬을 지원하지 않는 경우가 많음
+                    .responseChecksumValidation(ResponseChecksumValidation.WHEN_REQUIRED)
+            }
+            return builder.build()
+        }
+
+        fun buildAsyncClient(
+            region: String,
+            accessKey: String,
+            secretKey: String,
+            endpoint: String?,
+            maxConnections: Int,
+            multipartThresholdBytes: Long,
+            partSizeBytes: Long
+        ): S3AsyncClient {
+            val builder = S3AsyncClient.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentials(accessKey, secretKey))
+                .httpClientBuilder(
+                    NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(maxConnections)
+                        .connectionAcquisitionTimeout(Duration.ofSeconds(10))
+                )
+                .multipartEnabled(true)
+                .multipartConfiguration(
+                    MultipartConfiguration.builder()
+                        .thresholdInBytes(multipartThresholdBytes)
+                        .minimumPartSizeInBytes(partSizeBytes)
+                        .build()
+                )
+            if (!endpoint.isNullOrBlank()) {
+                builder.endpointOverride(URI.create(endpoint))
+                    .forcePathStyle(true)
+                    .requestChecksumCalculation(RequestChecksumCalculation.WHEN_REQUIRED)
+                    .responseChecksumValidation(ResponseChecksumValidation.WHEN_REQUIRED)
+            }
+            return builder.build()
+        }
+
+        fun buildPresigner(
+            region: String,
+            accessKey: String,
+            secretKey: String,
+            endpoint: String?
+        ): S3Presigner {
+            val builder = S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentials(accessKey, secretKey))
+            if (!endpoint.isNullOrBlank()) {
+                builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+            }
+            return builder.build()
+        }
+
+        private fun credentials(accessKey: String, secretKey: String) =
+            StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey))
+    }
+}
@@ -0,0 +1,16 @@
+package com.tripfriend.global.config
+
+import com.tripfriend.global.security.LoginMemberArgumentResolver
+import org.springframework.context.annotation.Configuration
+import org.springframework.web.method.support.HandlerMethodArgumentResolver
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer
+
+@Configuration
+class WebConfig(
+    private val loginMemberArgumentResolver: LoginMemberArgumentResolver
+) : WebMvcConfigurer {
+
+    override fun addArgumentResolvers(resolvers: MutableList<HandlerMethodArgumentResolver>) {
+        resolvers.add(loginMemberArgumentResolver)
+    }
+}
@@ -1,6 +1,6 @@
 package com.tripfriend.global.filter
 
-import com.tripfriend.global.util.JwtUtil
+import com.tripfriend.global.security.AuthContextResolver
 import jakarta.servlet.FilterChain
 import jakarta.servlet.ServletException
 import jakarta.servlet.http.HttpServletRequest
@@ -11,7 +11,7 @@ import java.io.IOException
 
 @Component
 class DeletedMemberFilter(
-    private val jwtUtil: JwtUtil
+    private val authContextResolver: AuthContextResolver
 ) : OncePerRequestFilter() {
 
     // 허용할 엔드포인트 목록
@@ -36,20 +36,15 @@ class DeletedMemberFilter(
         }
 
         // 토큰 확인
-        var token = request.getHeader("Authorization")
+        val token = request.getHeader("Authorization")
         if (token == null || token.isEmpty()) {
             filterChain.doFilter(request, response)
             return
         }
 
-        // Bearer 토큰 형식인 경우 "Bearer " 제거
-        if (token.startsWith("Bearer ")) {
-            token = token.substring(7)
-        }
-
         try {
-            // 소프트 딜리트된 사용자인지 확인
-            if (jwtUtil.isDeletedAccount(token)) {
+            // 소프트 딜리트된 사용자인지 확인 (인증 필터와 같은 파싱 결과 사용)
+            if (authContextResolver.resolve(request)?.deleted == true) {
                 response.status = HttpServletResponse.SC_FORBIDDEN
                 response.contentType = "application/json"
                 response.characterEncoding = "UTF-8"
@@ -1,16 +1,15 @@
 package com.tripfriend.global.filter
 
+import com.tripfriend.domain.blacklist.service.BlacklistSnapshot
+import com.tripfriend.global.security.AccessTokenValidator
+import com.tripfriend.global.security.AuthContextResolver
 import com.tripfriend.global.security.CustomUserDetailsService
-import com.tripfriend.global.util.JwtUtil
-import io.jsonwebtoken.Claims
 import io.jsonwebtoken.ExpiredJwtException
 import io.jsonwebtoken.JwtException
 import jakarta.servlet.FilterChain
 import jakarta.servlet.ServletException
-import jakarta.servlet.http.Cookie
 import jakarta.servlet.http.HttpServletRequest
 import jakarta.servlet.http.HttpServletResponse
-import org.springframework.data.redis.core.RedisTemplate
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken
 import org.springframework.security.core.GrantedAuthority
 import org.springframework.security.core.authority.SimpleGrantedAuthority
@@ -20,46 +19,52 @@ import org.springframework.web.filter.OncePerRequestFilter
 import java.io.IOException
 
 class JwtAuthenticationFilter(
-    private val jwtUtil: JwtUtil,
+    private val authContextResolver: AuthContextResolver,
     private val userDetailsService: CustomUserDetailsService,
-    private val redisTemplate: RedisTemplate<String, String>
+    private val accessTokenValidator: AccessTokenValidator,
+    private val blacklistSnapshot: BlacklistSnapshot
 ) : OncePerRequestFilter() {
 
-    companion object {
-        private const val REDIS_BLACKLIST_PREFIX = "blacklist:"
-    }
-
     @Throws(ServletException::class, IOException::class)
     override fun doFilterInternal(
         request: HttpServletRequest,
         response: HttpServletResponse,
         filterChain: FilterChain
     ) {
-        val headerToken = extractTokenFromHeader(request)
-        val cookieToken = extractTokenFromCookie(request)
-
-        val token = headerToken ?: cookieToken
-
-        if (token != null) {
-            try {
-                if (isTokenBlacklisted(token)) {
-                    response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "로그아웃된 토큰입니다.")
-                    return
+        try {
+            // 토큰은 요청마다 한 번만 파싱 (다른 필터 / 컨트롤러는 요청 속성의 결과를 사용)
+            val context = authContextResolver.resolve(request)
+            if (context != null) {
+                // 블랙리스트와 저장된 토큰을 Redis 한 번의 왕복으로 확인 (Redis 장애 중에는 로컬 기록으로 확인)
+                when (accessTokenValidator.validate(context)) {
+                    AccessTokenValidator.Status.VALID -> {}
+                    AccessTokenValidator.Status.BLACKLISTED -> {
+                        response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "로그아웃된 토큰입니다.")
+                        return
+                    }
+                    AccessTokenValidator.Status.REVOKED -> {
+                        response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "만료된 로그인 정보입니다. 다시 로그인해주세요.")
+                        return
+                    }
+                    AccessTokenValidator.Status.REPLACED -> {
+                        response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않은 토큰입니다.")
+                        return
+                    }
+                    AccessTokenValidator.Status.UNAVAILABLE -> {
+                        response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "일시적으로 로그인 정보를 확인할 수 없습니다. 잠시 후 다시 시도해주세요.")
+                        return
+                    }
                 }
 
-                val claims: Claims = jwtUtil.getClaims(token)
-                val username = claims.subject
-                val authority = claims["authority"] as? String
-                val isVerified = claims["verified"] as? Boolean
-
-                if (!validateAccessTokenInRedis(username, token)) {
-                    response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않은 토큰입니다.")
+                // 차단된 회원 확인 (메모리 스냅샷, DB 조회 없음)
+                if (blacklistSnapshot.isBlacklisted(context.username)) {
+                    response.sendError(HttpServletResponse.SC_FORBIDDEN, "이용이 제한된 회원입니다.")
                     return
                 }
 
-                if (username != null && isVerified == true) {
-                    val userDetails: UserDetails = userDetailsService.loadUserByUsername(username)
-                    val authorities: List<GrantedAuthority> = listOf(SimpleGrantedAuthority("ROLE_$authority"))
+                if (context.verified) {
+                    val userDetails: UserDetails = userDetailsService.loadUserByUsername(context.username)
+                    val authorities: List<GrantedAuthority> = listOf(SimpleGrantedAuthority("ROLE_${context.authority}"))
 
                     val authentication = UsernamePasswordAuthenticationToken(userDetails, null, authorities)
                     SecurityContextHolder.getContext().authentication = authentication
@@ -67,41 +72,15 @@ class JwtAuthenticationFilter(
                     response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "이메일 인증이 완료되지 않았습니다.")
                     return
                 }
-            } catch (e: ExpiredJwtException) {
-                response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "토큰이 만료되었습니다.")
-                return
-            } catch (e: JwtException) {
-                response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않은 토큰입니다.")
-                return
             }
+        } catch (e: ExpiredJwtException) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "토큰이 만료되었습니다.")
+            return
+        } catch (e: JwtException) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않은 토큰입니다.")
+            return
         }
 
         filterChain.doFilter(request, response)
     }
-
-    private fun extractTokenFromHeader(request: HttpServletRequest): String? {
-        val bearerToken = request.getHeader("Authorization")
-        return if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            bearerToken.substring(7)
-        } else null
-    }
-
-    private fun extractTokenFromCookie(request: HttpServletRequest): String? {
-        val cookies: Array<Cookie>? = request.cookies
-        cookies?.forEach { cookie ->
-            if (cookie.name == "accessToken") {
-                return cookie.value
-            }
-        }
-        return null
-    }
-
-    private fun isTokenBlacklisted(token: String): Boolean {
-        return redisTemplate.hasKey(REDIS_BLACKLIST_PREFIX + token) == true
-    }
-
-    private fun validateAccessTokenInRedis(username: String, token: String): Boolean {
-        val storedToken = redisTemplate.opsForValue().get("access:$username")
-        return token == storedToken
-    }
 }
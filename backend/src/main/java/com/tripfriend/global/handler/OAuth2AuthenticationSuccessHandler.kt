@@ -1,5 +1,6 @@
 package com.tripfriend.global.handler
 
+import com.tripfriend.domain.blacklist.service.BlacklistSnapshot
 import com.tripfriend.global.security.PrincipalDetails
 import com.tripfriend.global.util.JwtUtil
 import jakarta.servlet.http.Cookie
@@ -12,7 +13,8 @@ import java.io.IOException
 
 @Component
 class OAuth2AuthenticationSuccessHandler(
-    private val jwtUtil: JwtUtil
+    private val jwtUtil: JwtUtil,
+    private val blacklistSnapshot: BlacklistSnapshot
 ) : SimpleUrlAuthenticationSuccessHandler() {
 
     @Throws(IOException::class)
@@ -23,19 +25,30 @@ class OAuth2AuthenticationSuccessHandler(
     ) {
         val principalDetails = authentication.principal as PrincipalDetails
         val member = principalDetails.getMember()
+
+        // 차단된 회원은 토큰을 발급하지 않음 (일반 로그인과 같은 기준)
+        if (member.id?.let { blacklistSnapshot.isBlacklisted(it) } == true) {
+            response.sendError(HttpServletResponse.SC_FORBIDDEN, "이용이 제한된 회원입니다.")
+            return
+        }
         
+        // 로그인 세션(기기) ID - 리디렉션 로그인은 기기 ID 헤더가 없으므로 새 세션 생성
+        val sessionId = jwtUtil.resolveSessionId(null)
+
         // JWT 토큰 생성 (JwtUtil 사용)
         val accessToken = jwtUtil.generateAccessToken(
             member.username,
             member.authority,
-            member.verified // 사용자 인증 여부 추가
+            member.verified, // 사용자 인증 여부 추가
+            sessionId
         )
         
         // JWT 리프레시 토큰 생성
         val refreshToken = jwtUtil.generateRefreshToken(
             member.username,
             member.authority,
-            member.verified
+            member.verified,
+            sessionId
         )
         
         // 쿠키에 토큰 추가
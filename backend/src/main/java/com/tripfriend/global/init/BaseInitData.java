@@ -384,6 +384,8 @@ public class BaseInitData implements CommandLineRunner {
             place1.setDescription("조선 시대의 대표적인 궁궐로, 한국 전통 건축의 아름다움을 느낄 수 있는 곳입니다.");
             place1.setCategory(Category.PLACE); // 관광지
             place1.setImageUrl("/images/경복궁.jpg");
+            place1.setLatitude(37.5796);
+            place1.setLongitude(126.977);
             places.add(place1);
 
             Place place2 = new Place();
@@ -392,6 +394,8 @@ public class BaseInitData implements CommandLineRunner {
             place2.setDescription("럭셔리한 서비스와 아름다운 전망을 자랑하는 서울의 대표적인 호텔입니다.");
             place2.setCategory(Category.STAY); // 숙박 시설
             place2.setImageUrl("/images/신라호텔.png");
+            place2.setLatitude(37.5558);
+            place2.setLongitude(127.0053);
             places.add(place2);
 
             Place place3 = new Place();
@@ -400,6 +404,8 @@ public class BaseInitData implements CommandLineRunner {
             place3.setDescription("탁 트인 전망과 함께 프리미엄 커피를 즐길 수 있는 카페입니다.");
             place3.setCategory(Category.CAFE); // 카페
             place3.setImageUrl("/images/스타벅스 더종로점.png");
+            place3.setLatitude(37.5703);
+            place3.setLongitude(126.983);
             places.add(place3);
 
             Place place4 = new Place();
@@ -408,6 +414,8 @@ public class BaseInitData implements CommandLineRunner {
             place4.setDescription("서울에서 가장 유명한 칼국수 맛집 중 하나입니다.");
             place4.setCategory(Category.RESTAURANT); // 식당
             place4.setImageUrl("/images/명동교자.png");
+            place4.setLatitude(37.5625);
+            place4.setLongitude(126.9856);
             places.add(place4);
 
             // 부산
@@ -417,6 +425,8 @@ public class BaseInitData implements CommandLineRunner {
             place5.setDescription("부산을 대표하는 해변으로, 여름철에는 많은 관광객이 찾는 명소입니다.");
             place5.setCategory(Category.PLACE); // 관광지
             place5.setImageUrl("/images/해운대.jpg");
+            place5.setLatitude(35.1587);
+            place5.setLongitude(129.1604);
             places.add(place5);
 
             Place place6 = new Place();
@@ -425,6 +435,8 @@ public class BaseInitData implements CommandLineRunner {
             place6.setDescription("부산의 야경 명소 중 하나로, 광안리 해변에서 아름다운 전망을 볼 수 있습니다.");
             place6.setCategory(Category.PLACE); // 관광지
             place6.setImageUrl("/images/광안대교.jpg");
+            place6.setLatitude(35.1476);
+            place6.setLongitude(129.1302);
             places.add(place6);
 
             Place place7 = new Place();
@@ -433,6 +445,8 @@ public class BaseInitData implements CommandLineRunner {
             place7.setDescription("바닷가 바로 앞에서 커피를 마실 수 있는 멋진 카페들이 모여 있는 곳입니다.");
             place7.setCategory(Category.CAFE); // 카페
             place7.setImageUrl("/images/기장 연화리 카페거리.jpg");
+            place7.setLatitude(35.22);
+            place7.setLongitude(129.228);
             places.add(place7);
 
             Place place8 = new Place();
@@ -441,6 +455,8 @@ public class BaseInitData implements CommandLineRunner {
             place8.setDescription("부산에서 유명한 밀면 맛집으로, 여름철에 특히 인기가 많습니다.");
             place8.setCategory(Category.RESTAURANT); // 식당
             place8.setImageUrl("/images/초량밀면.jpg");
+            place8.setLatitude(35.1169);
+            place8.setLongitude(129.0394);
             places.add(place8);
 
             // 제주도
@@ -450,6 +466,8 @@ public class BaseInitData implements CommandLineRunner {
             place9.setDescription("유네스코 세계자연유산으로 지정된 제주도의 대표적인 명소입니다.");
             place9.setCategory(Category.PLACE); // 자연 관광지
             place9.setImageUrl("/images/성산일출봉.jpg");
+            place9.setLatitude(33.4581);
+            place9.setLongitude(126.9425);
             places.add(place9);
 
             Place place10 = new Place();
@@ -458,6 +476,8 @@ public class BaseInitData implements CommandLineRunner {
             place10.setDescription("에메랄드빛 바다와 멋진 해안도로가 있는 작은 섬으로, 제주도의 인기 관광지입니다.");
             place10.setCategory(Category.PLACE); // 관광지
             place10.setImageUrl("/images/우도.jpg");
+            place10.setLatitude(33.506);
+            place10.setLongitude(126.954);
             places.add(place10);
 
             Place place11 = new Place();
@@ -466,6 +486,8 @@ public class BaseInitData implements CommandLineRunner {
             place11.setDescription("제주도에서만 맛볼 수 있는 특색 있는 흑돼지 요리를 즐길 수 있는 곳입니다.");
             place11.setCategory(Category.RESTAURANT); // 식당
             place11.setImageUrl("/images/제주 흑돼지 거리.jpg");
+            place11.setLatitude(33.5066);
+            place11.setLongitude(126.5219);
             places.add(place11);
 
             // 강원도 속초
@@ -475,6 +497,8 @@ public class BaseInitData implements CommandLineRunner {
             place12.setDescription("속초에서 가장 유명한 재래시장으로, 다양한 먹거리를 즐길 수 있습니다.");
             place12.setCategory(Category.ETC); // 기타 명소
             place12.setImageUrl("/images/속초중앙시장.jpg");
+            place12.setLatitude(38.2044);
+            place12.setLongitude(128.5898);
             places.add(place12);
 
             Place place13 = new Place();
@@ -483,6 +507,8 @@ public class BaseInitData implements CommandLineRunner {
             place13.setDescription("대한민국에서 가장 아름다운 산 중 하나로, 사계절 내내 등산객이 찾는 명소입니다.");
             place13.setCategory(Category.PLACE); // 자연 관광지
             place13.setImageUrl("/images/설악산.jpg");
+            place13.setLatitude(38.1196);
+            place13.setLongitude(128.4655);
             places.add(place13);
 
             Place place14 = new Place();
@@ -491,6 +517,8 @@ public class BaseInitData implements CommandLineRunner {
             place14.setDescription("싱싱한 해산물 요리를 맛볼 수 있는 속초의 대표적인 맛집입니다.");
             place14.setCategory(Category.RESTAURANT); // 식당
             place14.setImageUrl("/images/봉포머구리집.png");
+            place14.setLatitude(38.25);
+            place14.setLongitude(128.564);
             places.add(place14);
 
             placeRepository.saveAll(places);
@@ -0,0 +1,130 @@
+package com.tripfriend.global.redis
+
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.dao.DataAccessException
+import org.springframework.stereotype.Component
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * Redis 호출 서킷 브레이커.
+ *
+ * 연속 실패가 기준 횟수에 이르면 열림(OPEN) 상태가 되어, 대기 시간 동안은 Redis를 호출하지 않고 바로 실패한다.
+ * (장애 중 요청마다 Lettuce 제한 시간만큼 기다리지 않도록)
+ * 대기 시간이 지나면 요청 하나만 Redis로 보내 보고(HALF_OPEN), 성공하면 닫히고 실패하면 다시 열린다.
+ * 호출하는 쪽은 RedisUnavailableException을 받아 대체 동작(로컬 검증 / 503 응답 등)을 실행한다.
+ *
+ * 지표: redis.circuit.state(0: 닫힘, 1: 열림, 2: 시험 중), redis.circuit.failures / redis.circuit.rejected(작업별),
+ * redis.circuit.degraded(장애 지속 시간)
+ */
+@Component
+class RedisCircuitBreaker(
+    private val meterRegistry: MeterRegistry,
+    @Value("\${custom.redis.circuit-breaker.failure-threshold:5}") private val failureThreshold: Int,
+    @Value("\${custom.redis.circuit-breaker.open-millis:5000}") openMillis: Long,
+    @Value("\${custom.redis.circuit-breaker.max-degraded-seconds:300}") maxDegradedSeconds: Long
+) {
+
+    enum class State {
+        CLOSED, // 정상
+        OPEN, // 장애 - Redis를 호출하지 않음
+        HALF_OPEN // 복구 확인 중 - 요청 하나만 Redis로 보냄
+    }
+
+    class RedisUnavailableException(operation: String, cause: Throwable? = null) :
+        RuntimeException("Redis를 사용할 수 없습니다 - $operation", cause)
+
+    private val logger = LoggerFactory.getLogger(this::class.java)
+
+    private val openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis)
+    private val maxDegradedNanos = TimeUnit.SECONDS.toNanos(maxDegradedSeconds)
+
+    private val state = AtomicReference(State.CLOSED)
+    private val consecutiveFailures = AtomicInteger()
+
+    // 마지막으로 열린 시각 (nanoTime, 다음 시험 요청 시점 계산)
+    @Volatile
+    private var openedAt = 0L
+
+    // 장애가 시작된 시각 (nanoTime, 닫힐 때까지 유지)
+    @Volatile
+    private var degradedSince = 0L
+
+    init {
+        Gauge.builder("redis.circuit.state") { state.get().ordinal.toDouble() }
+            .description("Redis 서킷 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+            .register(meterRegistry)
+    }
+
+    val currentState: State
+        get() = state.get()
+
+    // 장애 모드 여부 (서킷이 닫혀 있지 않음)
+    fun isDegraded(): Boolean = state.get() != State.CLOSED
+
+    // 장애가 허용 시간 안인지 확인 (이 시간이 지나면 로컬 대체 동작도 중단)
+    fun isWithinDegradedWindow(): Boolean = !isDegraded() || System.nanoTime() - degradedSince < maxDegradedNanos
+
+    /**
+     * Redis 작업을 실행한다.
+     *
+     * @param operation 작업 이름 (지표 태그 / 로그에 사용)
+     * @throws RedisUnavailableException 서킷이 열려 있거나 Redis 호출이 실패한 경우
+     */
+    fun <T> execute(operation: String, action: () -> T): T {
+        if (!tryPass()) {
+            meterRegistry.counter("redis.circuit.rejected", "operation", operation).increment()
+            throw RedisUnavailableException(operation)
+        }
+
+        val result = try {
+            action()
+        } catch (e: DataAccessException) {
+            onFailure(operation, e)
+            throw RedisUnavailableException(operation, e)
+        } catch (e: RuntimeException) {
+            onSuccess() // Redis는 응답했음 (결과 처리 중 오류)
+            throw e
+        }
+        onSuccess()
+        return result
+    }
+
+    private fun tryPass(): Boolean = when (state.get()) {
+        State.CLOSED -> true
+        State.HALF_OPEN -> false // 시험 요청이 진행 중
+        State.OPEN -> System.nanoTime() - openedAt >= openNanos && state.compareAndSet(State.OPEN, State.HALF_OPEN)
+    }
+
+    private fun onSuccess() {
+        consecutiveFailures.set(0)
+        if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+            val degraded = Duration.ofNanos(System.nanoTime() - degradedSince)
+            meterRegistry.timer("redis.circuit.degraded").record(degraded)
+            logger.info("Redis 복구, 서킷을 닫습니다 (장애 {}ms)", degraded.toMillis())
+        }
+    }
+
+    private fun onFailure(operation: String, e: DataAccessException) {
+        meterRegistry.counter("redis.circuit.failures", "operation", operation).increment()
+        if (state.get() == State.HALF_OPEN || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            open(e)
+        }
+    }
+
+    private fun open(e: DataAccessException) {
+        val now = System.nanoTime()
+        openedAt = now
+        if (state.get() == State.CLOSED) degradedSince = now // 상태를 바꾸기 전에 기록 (허용 시간 계산이 이전 값을 보지 않도록)
+        when (state.getAndSet(State.OPEN)) {
+            State.CLOSED -> logger.warn("Redis 호출이 연속으로 실패해 서킷을 엽니다 - {}", e.message)
+            State.HALF_OPEN -> logger.warn("Redis가 아직 복구되지 않았습니다 - {}", e.message)
+            State.OPEN -> {}
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.tripfriend.global.redis
+
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.script.DefaultRedisScript
+import org.springframework.stereotype.Component
+import java.time.Duration
+import java.time.LocalDate
+import java.util.*
+
+/**
+ * 여러 서버에서 도는 작업(정기 집계 등)을 한 서버만 실행하도록 하는 Redis 잠금.
+ *
+ * Redis에 접근할 수 없으면 RedisCircuitBreaker.RedisUnavailableException을 던지므로,
+ * 호출하는 쪽에서 작업을 건너뛰거나 503으로 응답한다.
+ */
+@Component
+class RedisJobLock(
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val circuitBreaker: RedisCircuitBreaker
+) {
+
+    companion object {
+        // 자신이 건 잠금일 때만 해제 (만료 후 다른 서버가 건 잠금을 지우지 않도록)
+        private val UNLOCK_SCRIPT = DefaultRedisScript(
+            """
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """.trimIndent(),
+            Long::class.java
+        )
+    }
+
+    // 실행 권한을 기록하는 서버 식별자
+    private val nodeId = UUID.randomUUID().toString()
+
+    /**
+     * 오늘 실행 권한을 얻는다. (서버마다 시계가 조금씩 달라도 하루 한 번만 실행)
+     *
+     * @param keyPrefix 작업별 키 접두사 (뒤에 날짜가 붙음)
+     * @return 이 서버가 오늘 처음 권한을 얻었으면 true
+     */
+    fun claimToday(keyPrefix: String): Boolean =
+        circuitBreaker.execute("job-lock.claim") {
+            redisTemplate.opsForValue().setIfAbsent(keyPrefix + LocalDate.now(), nodeId, Duration.ofHours(23))
+        } == true
+
+    /**
+     * 잠금을 얻은 경우에만 작업을 실행한다.
+     *
+     * @param key 잠금 키
+     * @param ttl 작업이 비정상 종료되어 잠금을 풀지 못해도 이 시간이 지나면 만료
+     * @return 작업 결과 (다른 서버가 잠금을 가지고 있으면 null)
+     */
+    fun <T : Any> withLock(key: String, ttl: Duration, block: () -> T): T? {
+        val token = UUID.randomUUID().toString()
+        val acquired = circuitBreaker.execute("job-lock.lock") {
+            redisTemplate.opsForValue().setIfAbsent(key, token, ttl)
+        }
+        if (acquired != true) return null
+
+        try {
+            return block()
+        } finally {
+            try {
+                circuitBreaker.execute("job-lock.unlock") {
+                    redisTemplate.execute(UNLOCK_SCRIPT, listOf(key), token)
+                }
+            } catch (e: RedisCircuitBreaker.RedisUnavailableException) {
+                // 해제하지 못한 잠금은 만료 시간 뒤 풀림
+            }
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.tripfriend.global.security
+
+import com.tripfriend.global.redis.RedisCircuitBreaker
+import io.micrometer.core.instrument.MeterRegistry
+import jakarta.annotation.PostConstruct
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.data.redis.connection.Message
+import org.springframework.data.redis.connection.MessageListener
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.script.DefaultRedisScript
+import org.springframework.data.redis.listener.ChannelTopic
+import org.springframework.data.redis.listener.RedisMessageListenerContainer
+import org.springframework.stereotype.Component
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+
+/**
+ * 액세스 토큰의 Redis 상태(로그아웃 여부 / 회원 전체 토큰 무효화 / 세션의 현재 토큰인지)를 확인한다.
+ *
+ * 블랙리스트(jti) 조회, 회원별 무효화 기준 시각 비교, 세션(SessionRegistry)에 저장된 jti 비교를 Lua 스크립트 하나로 처리해
+ * 요청당 Redis 왕복을 한 번으로 줄인다.
+ * 유효한 토큰은 짧은 시간 동안 서버 메모리에 기억해 두어 캐시 적중 시 Redis를 거치지 않는다.
+ * 로그인(토큰 재발급) / 로그아웃으로 토큰이 무효화되면 revoke()가 Redis 채널로 모든 서버의 캐시를 비운다.
+ * 서명과 만료 시간 검증은 호출 전에 끝나 있어야 한다. (AuthContextResolver)
+ *
+ * Redis 장애(서킷 열림) 중에는 Redis를 기다리지 않고 이 서버의 무효화 기록(LocalRevocationCache)만으로 확인하며,
+ * 장애가 허용 시간보다 길어지면 UNAVAILABLE을 반환한다. (지표: auth.token.validation.degraded)
+ */
+@Component
+class AccessTokenValidator(
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val listenerContainer: RedisMessageListenerContainer,
+    private val circuitBreaker: RedisCircuitBreaker,
+    private val localRevocationCache: LocalRevocationCache,
+    private val meterRegistry: MeterRegistry,
+    @Value("\${custom.jwt.near-cache.ttl-seconds:5}") ttlSeconds: Long,
+    @Value("\${custom.jwt.near-cache.max-size:10000}") private val maxSize: Int
+) : MessageListener {
+
+    enum class Status {
+        VALID,
+        BLACKLISTED, // 로그아웃된 토큰
+        REVOKED, // 회원의 전체 토큰 무효화(탈퇴 / 비밀번호 변경) 이전에 발급된 토큰
+        REPLACED, // 세션에 저장된 토큰과 다름 (재발급되었거나 세션이 삭제됨)
+        UNAVAILABLE // Redis 장애가 허용 시간보다 길어져 확인할 수 없음
+    }
+
+    companion object {
+        const val REVOKE_CHANNEL = "auth:token:revoke"
+        private const val REDIS_BLACKLIST_PREFIX = "blacklist:"
+        private const val REDIS_NOT_BEFORE_PREFIX = "token-not-before:"
+
+        // 0: 유효, 1: 블랙리스트, 2: 세션에 저장된 토큰과 다름, 3: 무효화 기준 시각 이전에 발급
+        // 세션 값은 "액세스 토큰 jti 리프레시 토큰 jti 만료 시각" 형식
+        private val VALIDATE_SCRIPT = DefaultRedisScript(
+            """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              return 1
+            end
+            local notBefore = tonumber(redis.call('GET', KEYS[3]))
+            if notBefore and tonumber(ARGV[2]) < notBefore then
+              return 3
+            end
+            if ARGV[3] ~= '' then
+              local session = redis.call('HGET', KEYS[2], ARGV[3])
+              if session and string.find(session, ARGV[1] .. ' ', 1, true) == 1 then
+                return 0
+              end
+            end
+            return 2
+            """.trimIndent(),
+            Long::class.java
+        )
+    }
+
+    // 검증된 토큰 (jti -> 사용자 아이디 / 캐시 만료 시각)
+    private class Entry(val username: String, val expiresAt: Long)
+
+    private val ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds)
+
+    private val cache = ConcurrentHashMap<String, Entry>()
+
+    // 무효화될 때마다 증가 (Redis 확인 중 무효화된 결과가 캐시에 저장되지 않도록 확인)
+    private val generation = AtomicLong()
+
+    @PostConstruct
+    fun subscribe() {
+        listenerContainer.addMessageListener(this, ChannelTopic(REVOKE_CHANNEL))
+    }
+
+    /**
+     * 토큰의 상태를 확인한다. 캐시에 없으면 Redis 한 번의 왕복으로 확인한다.
+     *
+     * @param context 서명 검증이 끝난 토큰의 인증 정보
+     */
+    fun validate(context: AuthContext): Status {
+        val username = context.username
+        val cached = cache[context.tokenId]
+        if (cached != null && cached.username == username && cached.expiresAt - System.nanoTime() > 0) {
+            return Status.VALID
+        }
+
+        val startGeneration = generation.get()
+        val result = try {
+            circuitBreaker.execute("token.validate") {
+                redisTemplate.execute(
+                    VALIDATE_SCRIPT,
+                    listOf(
+                        REDIS_BLACKLIST_PREFIX + context.tokenId,
+                        SessionRegistry.REDIS_SESSION_PREFIX + username,
+                        REDIS_NOT_BEFORE_PREFIX + username
+                    ),
+                    context.tokenId,
+                    ((context.issuedAt?.time ?: 0L) / 1000).toString(),
+                    context.sessionId ?: ""
+                )
+            }
+        } catch (e: RedisCircuitBreaker.RedisUnavailableException) {
+            return validateLocally(context)
+        }
+        val status = when (result) {
+            0L -> Status.VALID
+            1L -> Status.BLACKLISTED
+            3L -> Status.REVOKED
+            else -> Status.REPLACED
+        }
+
+        if (status == Status.VALID && generation.get() == startGeneration && hasRoom()) {
+            cache[context.tokenId] = Entry(username, System.nanoTime() + ttlNanos)
+        } else if (status != Status.VALID) {
+            cache.remove(context.tokenId)
+        }
+        return status
+    }
+
+    /**
+     * 회원의 토큰이 바뀌었거나 로그아웃되었음을 모든 서버에 알린다.
+     * 호출한 서버의 캐시는 즉시 비우고, 다른 서버는 Redis 채널 메시지를 받아 비운다.
+     *
+     * @param username 사용자 아이디
+     */
+    fun revoke(username: String) {
+        evict(username)
+        try {
+            circuitBreaker.execute("token.revoke-publish") { redisTemplate.convertAndSend(REVOKE_CHANNEL, username) }
+        } catch (e: RedisCircuitBreaker.RedisUnavailableException) {
+            // Redis 장애 중에는 다른 서버도 캐시 대신 로컬 검증을 사용하므로 알리지 않아도 됨
+        }
+    }
+
+    // 다른 서버(또는 자신)가 보낸 무효화 메시지 수신
+    override fun onMessage(message: Message, pattern: ByteArray?) {
+        evict(String(message.body))
+    }
+
+    // Redis 장애 중: 서명 / 만료 시간은 이미 검증되었으므로 이 서버의 무효화 기록만 확인 (허용 시간 동안만)
+    private fun validateLocally(context: AuthContext): Status {
+        val status = if (circuitBreaker.isWithinDegradedWindow()) localRevocationCache.statusOf(context) else Status.UNAVAILABLE
+        meterRegistry.counter("auth.token.validation.degraded", "result", status.name.lowercase()).increment()
+        return status
+    }
+
+    private fun evict(username: String) {
+        generation.incrementAndGet()
+        cache.values.removeIf { it.username == username }
+    }
+
+    // 가득 차면 만료된 항목을 먼저 정리하고, 그래도 가득 차 있으면 캐시하지 않는다
+    private fun hasRoom(): Boolean {
+        if (cache.size < maxSize) return true
+        val now = System.nanoTime()
+        cache.values.removeIf { it.expiresAt - now <= 0 }
+        return cache.size < maxSize
+    }
+}
@@ -0,0 +1,49 @@
+package com.tripfriend.global.security
+
+import io.jsonwebtoken.Claims
+import jakarta.servlet.http.HttpServletRequest
+import java.security.MessageDigest
+import java.util.*
+
+/**
+ * 요청 단위 인증 정보.
+ * 액세스 토큰은 요청마다 한 번만 파싱하여 요청 속성에 보관하고, 이후 필터와 컨트롤러는 이 값을 사용한다.
+ */
+data class AuthContext(
+    val token: String,
+    val username: String,
+    val authority: String?,
+    val verified: Boolean,
+    val deleted: Boolean,
+    val expiresAt: Date,
+    val tokenId: String, // 토큰 식별자 (jti, 블랙리스트 / 캐시 키)
+    val issuedAt: Date?,
+    val sessionId: String? = null // 로그인 세션(기기) ID (sid, 세션 도입 이전 토큰은 null)
+) {
+    companion object {
+        val ATTRIBUTE: String = AuthContext::class.java.name
+
+        const val SESSION_ID_CLAIM = "sid"
+
+        // 서명 검증이 끝난 토큰의 클레임으로 인증 정보 생성
+        fun of(token: String, claims: Claims): AuthContext = AuthContext(
+            token = token,
+            username = claims.subject,
+            authority = claims["authority"] as? String,
+            verified = claims["verified"] == true,
+            deleted = claims["deleted"] == true,
+            expiresAt = claims.expiration,
+            tokenId = tokenIdOf(token, claims),
+            issuedAt = claims.issuedAt,
+            sessionId = claims[SESSION_ID_CLAIM] as? String
+        )
+
+        // jti가 없는 기존 토큰은 토큰 SHA-256 지문을 식별자로 사용
+        fun tokenIdOf(token: String, claims: Claims): String =
+            claims.id ?: Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(MessageDigest.getInstance("SHA-256").digest(token.toByteArray()))
+
+        // 요청 속성에 보관된 인증 정보 (토큰이 없거나 아직 파싱하지 않았으면 null)
+        fun from(request: HttpServletRequest): AuthContext? = request.getAttribute(ATTRIBUTE) as? AuthContext
+    }
+}
@@ -0,0 +1,36 @@
+package com.tripfriend.global.security
+
+import com.tripfriend.global.util.JwtUtil
+import jakarta.servlet.http.HttpServletRequest
+import org.springframework.stereotype.Component
+
+@Component
+class AuthContextResolver(
+    private val jwtUtil: JwtUtil
+) {
+
+    /**
+     * 요청의 액세스 토큰을 파싱해 인증 정보를 만든다.
+     * 같은 요청에서 이미 파싱했으면 보관된 결과를 그대로 반환한다.
+     *
+     * @return 인증 정보 (토큰이 없으면 null)
+     * @throws io.jsonwebtoken.JwtException 서명이나 형식이 잘못되었거나 만료된 토큰
+     */
+    fun resolve(request: HttpServletRequest): AuthContext? {
+        AuthContext.from(request)?.let { return it }
+        val token = extractToken(request) ?: return null
+
+        val context = AuthContext.of(token, jwtUtil.getClaims(token))
+        request.setAttribute(AuthContext.ATTRIBUTE, context)
+        return context
+    }
+
+    // Authorization 헤더의 Bearer 토큰 우선, 없으면 accessToken 쿠키
+    fun extractToken(request: HttpServletRequest): String? {
+        val bearerToken = request.getHeader("Authorization")
+        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7)
+        }
+        return request.cookies?.firstOrNull { it.name == "accessToken" }?.value
+    }
+}
@@ -0,0 +1,72 @@
+package com.tripfriend.global.security
+
+import com.tripfriend.global.exception.ServiceException
+import org.springframework.security.crypto.password.PasswordEncoder
+import java.util.concurrent.ArrayBlockingQueue
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+import java.util.concurrent.atomic.AtomicBoolean
+
+/**
+ * 비밀번호 해시 계산을 전용 작업자 풀에서만 실행하는 PasswordEncoder.
+ *
+ * BCrypt는 요청 하나에 수십 ms의 CPU를 쓰므로, 로그인 요청이 몰려도 동시에 계산하는 수를 작업자 수로 제한해
+ * 나머지 API가 CPU를 빼앗기지 않도록 한다. 대기열이 가득 차 있으면 바로 실패한다.
+ * BCrypt 계산은 중간에 중단(interrupt)할 수 없으므로, 제한 시간은 대기열에서 기다리는 시간에만 적용한다.
+ * (시작 전인 작업은 대기열에서 빼고 실패, 이미 계산 중인 작업은 끝날 때까지 기다림)
+ */
+class BoundedPasswordEncoder(
+    private val delegate: PasswordEncoder,
+    workers: Int,
+    queueSize: Int,
+    private val timeoutMillis: Long
+) : PasswordEncoder {
+
+    private val executor = ThreadPoolExecutor(
+        workers, workers, 0L, TimeUnit.MILLISECONDS, ArrayBlockingQueue(queueSize)
+    ) { runnable -> Thread(runnable, "password-encoder").apply { isDaemon = true } }
+
+    override fun encode(rawPassword: CharSequence): String = execute { delegate.encode(rawPassword) }
+
+    override fun matches(rawPassword: CharSequence, encodedPassword: String?): Boolean =
+        execute { delegate.matches(rawPassword, encodedPassword) }
+
+    override fun upgradeEncoding(encodedPassword: String?): Boolean = delegate.upgradeEncoding(encodedPassword)
+
+    private fun <T> execute(task: Callable<T>): T {
+        // 작업자가 시작하거나 호출한 쪽이 포기하는 것 중 먼저 일어난 쪽만 반영
+        val claimed = AtomicBoolean()
+        val future = try {
+            executor.submit(Callable { if (claimed.compareAndSet(false, true)) task.call() else null })
+        } catch (e: RejectedExecutionException) {
+            throw ServiceException("503-1", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.")
+        }
+
+        return try {
+            try {
+                future.get(timeoutMillis, TimeUnit.MILLISECONDS)
+            } catch (e: TimeoutException) {
+                // 아직 대기 중이면 대기열에서 빼고 실패, 계산 중이면 곧 끝나므로 결과를 기다림
+                if (claimed.compareAndSet(false, true)) {
+                    executor.remove(future as Runnable)
+                    throw ServiceException("503-1", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.")
+                }
+                future.get()
+            } as T
+        } catch (e: InterruptedException) {
+            if (claimed.compareAndSet(false, true)) executor.remove(future as Runnable)
+            Thread.currentThread().interrupt()
+            throw ServiceException("503-1", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.")
+        } catch (e: ExecutionException) {
+            throw e.cause ?: e
+        }
+    }
+
+    fun shutdown() {
+        executor.shutdown()
+    }
+}
@@ -1,19 +1,69 @@
 package com.tripfriend.global.security
 
+import com.tripfriend.domain.member.member.entity.Member
 import com.tripfriend.domain.member.member.repository.MemberRepository
+import com.tripfriend.global.cache.LocalCacheInvalidation
+import jakarta.annotation.PostConstruct
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.data.redis.connection.Message
+import org.springframework.data.redis.connection.MessageListener
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.listener.ChannelTopic
+import org.springframework.data.redis.listener.RedisMessageListenerContainer
 import org.springframework.security.core.userdetails.UserDetails
 import org.springframework.security.core.userdetails.UserDetailsService
 import org.springframework.security.core.userdetails.UsernameNotFoundException
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException
 import org.springframework.security.oauth2.core.user.OAuth2User
 import org.springframework.stereotype.Service
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.TimeUnit
 
+/**
+ * 인증된 회원 조회.
+ *
+ * 인증 필터가 요청마다 호출하므로 조회한 회원을 사용자 아이디별로 일정 시간 메모리에 보관한다.
+ * 회원 정보가 바뀌면 evict()로 비우고 Redis 채널로 다른 서버에도 알린다.
+ * 토큰 무효화(로그인 / 로그아웃 / 전체 토큰 무효화) 채널도 구독해 함께 비운다.
+ */
 @Service
 class CustomUserDetailsService(
-    private val memberRepository: MemberRepository
-) : UserDetailsService {
+    private val memberRepository: MemberRepository,
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val listenerContainer: RedisMessageListenerContainer,
+    @Value("\${custom.jwt.principal-cache.ttl-seconds:600}") ttlSeconds: Long,
+    @Value("\${custom.jwt.principal-cache.max-size:10000}") private val maxSize: Int
+) : UserDetailsService, MessageListener {
+
+    companion object {
+        const val EVICT_CHANNEL = "auth:principal:evict"
+    }
+
+    // 조회한 회원 / 캐시 만료 시각
+    private class Entry(val member: Member, val expiresAt: Long)
+
+    private val ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds)
+
+    private val cache = ConcurrentHashMap<String, Entry>()
+
+    // 무효화 키는 사용자 아이디 (null이면 전체)
+    private val invalidation = LocalCacheInvalidation(EVICT_CHANNEL, redisTemplate, evict = { username ->
+        if (username != null) cache.remove(username) else cache.clear()
+    })
+
+    @PostConstruct
+    fun subscribe() {
+        invalidation.subscribe(listenerContainer)
+        listenerContainer.addMessageListener(this, ChannelTopic(AccessTokenValidator.REVOKE_CHANNEL))
+    }
 
     override fun loadUserByUsername(username: String): UserDetails {
+        val cached = cache[username]
+        if (cached != null && cached.expiresAt - System.nanoTime() > 0) {
+            return PrincipalDetails(cached.member.copy(), null) // 요청 간에 같은 인스턴스를 공유하지 않도록 복사
+        }
+
+        val startGeneration = invalidation.generation()
         val member = memberRepository.findByUsername(username)
             .orElseThrow { UsernameNotFoundException("사용자를 찾을 수 없습니다.") }
 
@@ -22,6 +72,9 @@ class CustomUserDetailsService(
             throw UsernameNotFoundException("검증되지 않은 사용자입니다.")
         }
 
+        if (invalidation.generation() == startGeneration && hasRoom()) {
+            cache[username] = Entry(member.copy(), System.nanoTime() + ttlNanos)
+        }
         return PrincipalDetails(member, null)  // OAuth2 인증에 필요한 attributes는 null로 설정
     }
 
@@ -37,4 +90,27 @@ class CustomUserDetailsService(
         // OAuth2User의 attributes를 PrincipalDetails로 전달
         return PrincipalDetails(member, oAuth2User.attributes)
     }
+
+    /**
+     * 회원 정보가 바뀌었을 때 호출한다.
+     * 즉시 로컬 캐시를 비우고, 트랜잭션이 끝나면(커밋/롤백) 한 번 더 비운 뒤 다른 서버에 알린다.
+     *
+     * @param username 사용자 아이디
+     */
+    fun evict(username: String) {
+        invalidation.invalidate(username)
+    }
+
+    // 토큰 무효화 메시지 수신 (메시지 내용은 사용자 아이디)
+    override fun onMessage(message: Message, pattern: ByteArray?) {
+        invalidation.evictLocal(String(message.body))
+    }
+
+    // 가득 차면 만료된 항목을 먼저 정리하고, 그래도 가득 차 있으면 캐시하지 않는다
+    private fun hasRoom(): Boolean {
+        if (cache.size < maxSize) return true
+        val now = System.nanoTime()
+        cache.values.removeIf { it.expiresAt - now <= 0 }
+        return cache.size < maxSize
+    }
 }
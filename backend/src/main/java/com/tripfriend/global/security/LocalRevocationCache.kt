@@ -0,0 +1,83 @@
+package com.tripfriend.global.security
+
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * 이 서버에서 처리한 토큰 무효화 기록.
+ *
+ * 로그아웃(jti) / 세션 삭제 / 회원 전체 토큰 무효화를 Redis와 함께 서버 메모리에도 남겨 두고,
+ * Redis 장애로 서명과 만료 시간만으로 토큰을 검증하는 동안(AccessTokenValidator) 이미 무효화된 토큰을 거른다.
+ * 항목은 대상 토큰이 만료되는 시각까지만 보관하며, 가득 차면 만료가 가장 가까운 항목부터 버린다.
+ */
+@Component
+class LocalRevocationCache(
+    @Value("\${custom.redis.circuit-breaker.local-revocation-max-size:100000}") private val maxSize: Int
+) {
+
+    // value: 기준 시각(epoch second, 토큰은 0) / expiresAt: 항목 만료 시각(ms)
+    private class Entry(val value: Long, val expiresAt: Long)
+
+    private val entries = ConcurrentHashMap<String, Entry>()
+
+    // 로그아웃된 토큰
+    fun revokeToken(tokenId: String, expiresAtMillis: Long) {
+        put("token:$tokenId", 0, expiresAtMillis)
+    }
+
+    // 삭제된 세션 (삭제 시각까지 발급된 토큰 무효)
+    fun revokeSession(username: String, sessionId: String, expiresAtMillis: Long) {
+        put("session:$username:$sessionId", System.currentTimeMillis() / 1000, expiresAtMillis)
+    }
+
+    // 회원 전체 토큰 무효화 (기준 시각 이전에 발급된 토큰 무효)
+    fun revokeAll(username: String, notBeforeSeconds: Long, expiresAtMillis: Long) {
+        put("member:$username", notBeforeSeconds, expiresAtMillis)
+    }
+
+    /**
+     * 이 서버의 기록만으로 토큰 상태를 확인한다. (Redis 스크립트와 같은 기준)
+     *
+     * @param context 서명 검증이 끝난 토큰의 인증 정보
+     */
+    fun statusOf(context: AuthContext): AccessTokenValidator.Status {
+        val issuedAtSeconds = (context.issuedAt?.time ?: 0L) / 1000
+        return when {
+            find("token:${context.tokenId}") != null -> AccessTokenValidator.Status.BLACKLISTED
+            find("member:${context.username}")?.let { issuedAtSeconds < it.value } == true -> AccessTokenValidator.Status.REVOKED
+            context.sessionId != null &&
+                find("session:${context.username}:${context.sessionId}")?.let { issuedAtSeconds <= it.value } == true ->
+                AccessTokenValidator.Status.REPLACED
+            else -> AccessTokenValidator.Status.VALID
+        }
+    }
+
+    private fun find(key: String): Entry? {
+        val entry = entries[key] ?: return null
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(key, entry)
+            return null
+        }
+        return entry
+    }
+
+    private fun put(key: String, value: Long, expiresAtMillis: Long) {
+        if (expiresAtMillis <= System.currentTimeMillis()) return
+        if (entries.size >= maxSize && !entries.containsKey(key)) {
+            makeRoom()
+        }
+        entries.merge(key, Entry(value, expiresAtMillis)) { old, new ->
+            Entry(maxOf(old.value, new.value), maxOf(old.expiresAt, new.expiresAt))
+        }
+    }
+
+    // 만료된 항목을 정리하고, 그래도 가득 차 있으면 만료가 가장 가까운 항목을 버린다
+    private fun makeRoom() {
+        val now = System.currentTimeMillis()
+        entries.entries.removeIf { it.value.expiresAt <= now }
+        if (entries.size >= maxSize) {
+            entries.entries.minByOrNull { it.value.expiresAt }?.let { entries.remove(it.key, it.value) }
+        }
+    }
+}
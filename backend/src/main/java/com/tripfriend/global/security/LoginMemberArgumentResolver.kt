@@ -0,0 +1,34 @@
+package com.tripfriend.global.security
+
+import com.tripfriend.domain.member.member.entity.Member
+import com.tripfriend.global.annotation.LoginMember
+import com.tripfriend.global.exception.ServiceException
+import org.springframework.core.MethodParameter
+import org.springframework.security.core.context.SecurityContextHolder
+import org.springframework.stereotype.Component
+import org.springframework.web.bind.support.WebDataBinderFactory
+import org.springframework.web.context.request.NativeWebRequest
+import org.springframework.web.method.support.HandlerMethodArgumentResolver
+import org.springframework.web.method.support.ModelAndViewContainer
+
+// @LoginMember 파라미터에 인증 필터가 SecurityContext에 넣어 둔 회원을 주입
+@Component
+class LoginMemberArgumentResolver : HandlerMethodArgumentResolver {
+
+    override fun supportsParameter(parameter: MethodParameter): Boolean =
+        parameter.hasParameterAnnotation(LoginMember::class.java) &&
+            Member::class.java.isAssignableFrom(parameter.parameterType)
+
+    override fun resolveArgument(
+        parameter: MethodParameter,
+        mavContainer: ModelAndViewContainer?,
+        webRequest: NativeWebRequest,
+        binderFactory: WebDataBinderFactory?
+    ): Member? {
+        val principal = SecurityContextHolder.getContext().authentication?.principal as? PrincipalDetails
+        if (principal == null && parameter.getParameterAnnotation(LoginMember::class.java)!!.required) {
+            throw ServiceException("401-1", "로그인이 필요합니다.")
+        }
+        return principal?.getMember()
+    }
+}
@@ -0,0 +1,98 @@
+package com.tripfriend.global.security
+
+import com.tripfriend.global.redis.RedisCircuitBreaker
+import org.slf4j.LoggerFactory
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.script.DefaultRedisScript
+import org.springframework.stereotype.Component
+
+/**
+ * Redis 토큰 버킷.
+ *
+ * 버킷 하나는 해시 키 하나(남은 토큰 / 마지막 갱신 시각)이며, 충전과 차감을 Lua 스크립트 하나로 처리해
+ * 여러 서버가 동시에 요청해도 한 번의 왕복으로 정확히 계산한다.
+ * 가득 찰 때까지 걸리는 시간이 지나면 키가 만료되므로 오래 쓰지 않은 버킷은 남지 않는다.
+ * Redis 오류 시에는 요청을 허용한다. (제한 기능 때문에 로그인이 막히지 않도록, 서킷이 열려 있으면 Redis를 기다리지 않음)
+ */
+@Component
+class RateLimiter(
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val circuitBreaker: RedisCircuitBreaker
+) {
+
+    companion object {
+        private const val REDIS_RATE_LIMIT_PREFIX = "rate-limit:"
+
+        // ARGV: 버킷 크기, 밀리초당 충전량, 현재 시각(ms), 사용할 토큰 수(0이면 확인만)
+        // 반환: -1이면 허용, 아니면 다음 토큰까지 남은 시간(ms)
+        private val TAKE_SCRIPT = DefaultRedisScript(
+            """
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local now = tonumber(ARGV[3])
+            local cost = tonumber(ARGV[4])
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or capacity
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+            local allowed = tokens >= 1
+            if cost == 0 then
+              if allowed then
+                return -1
+              end
+              return math.ceil((1 - tokens) / rate)
+            end
+            if allowed then
+              tokens = tokens - cost
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], math.ceil((capacity - tokens) / rate) + 1000)
+            if allowed then
+              return -1
+            end
+            return math.ceil((1 - tokens) / rate)
+            """.trimIndent(),
+            Long::class.java
+        )
+    }
+
+    private val logger = LoggerFactory.getLogger(this::class.java)
+
+    /**
+     * 버킷에서 토큰 하나를 사용한다.
+     *
+     * @param key 버킷 키 (ex: "login:ip:127.0.0.1")
+     * @param capacity 버킷 크기
+     * @param refillPerMinute 분당 충전량
+     * @return 허용되면 0, 거부되면 다음 요청까지 기다려야 하는 시간(ms)
+     */
+    fun tryAcquire(key: String, capacity: Long, refillPerMinute: Long): Long = take(key, capacity, refillPerMinute, 1)
+
+    /**
+     * 토큰을 사용하지 않고 버킷에 남은 토큰이 있는지만 확인한다. (실패한 요청에만 tryAcquire로 차감하는 경우의 사전 확인)
+     *
+     * @return 남아 있으면 0, 비어 있으면 다음 토큰까지 기다려야 하는 시간(ms)
+     */
+    fun check(key: String, capacity: Long, refillPerMinute: Long): Long = take(key, capacity, refillPerMinute, 0)
+
+    private fun take(key: String, capacity: Long, refillPerMinute: Long, cost: Int): Long {
+        val result = try {
+            circuitBreaker.execute("rate-limit") {
+                redisTemplate.execute(
+                    TAKE_SCRIPT,
+                    listOf(REDIS_RATE_LIMIT_PREFIX + key),
+                    capacity.toString(),
+                    (refillPerMinute / 60_000.0).toString(),
+                    System.currentTimeMillis().toString(),
+                    cost.toString()
+                )
+            }
+        } catch (e: RedisCircuitBreaker.RedisUnavailableException) {
+            return 0
+        } catch (e: Exception) {
+            logger.warn("요청 횟수 제한 확인 실패, 요청을 허용합니다 - {}", key, e)
+            return 0
+        }
+        return if (result == null || result < 0) 0 else maxOf(result, 1)
+    }
+}
@@ -1,12 +1,12 @@
 package com.tripfriend.global.security
 
+import com.tripfriend.domain.blacklist.service.BlacklistSnapshot
 import com.tripfriend.global.filter.DeletedMemberFilter
 import com.tripfriend.global.filter.JwtAuthenticationFilter
 import com.tripfriend.global.handler.OAuth2AuthenticationSuccessHandler
-import com.tripfriend.global.util.JwtUtil
+import org.springframework.beans.factory.annotation.Value
 import org.springframework.context.annotation.Bean
 import org.springframework.context.annotation.Configuration
-import org.springframework.data.redis.core.RedisTemplate
 import org.springframework.http.HttpMethod
 import org.springframework.http.HttpStatus
 import org.springframework.security.config.annotation.web.builders.HttpSecurity
@@ -22,12 +22,13 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource
 
 @Configuration
 class SecurityConfig(
-    private val jwtUtil: JwtUtil,
+    private val authContextResolver: AuthContextResolver,
     private val customUserDetailsService: CustomUserDetailsService,
     private val customOauth2UserService: CustomOauth2UserService,
     private val oAuth2AuthenticationSuccessHandler: OAuth2AuthenticationSuccessHandler,
     private val deletedMemberFilter: DeletedMemberFilter,
-    private val redisTemplate: RedisTemplate<String, String>
+    private val accessTokenValidator: AccessTokenValidator,
+    private val blacklistSnapshot: BlacklistSnapshot
 ) {
 
     @Bean
@@ -46,6 +47,8 @@ class SecurityConfig(
                     .requestMatchers(HttpMethod.POST, *getPublicPostEndpoints().toTypedArray()).permitAll()
                     // GET 요청에 대해서만 인증 없이 접근 허용하는 경로들
                     .requestMatchers(HttpMethod.GET, *getPublicGetEndpoints().toTypedArray()).permitAll()
+                    // 지표 등 운영 정보는 관리자만 조회 가능 (상태 확인은 공개)
+                    .requestMatchers("/actuator/**").hasRole("ADMIN")
                     // 나머지 모든 요청은 인증 필요
                     .anyRequest().authenticated()
             }
@@ -87,12 +90,17 @@ class SecurityConfig(
 
     @Bean
     fun jwtAuthenticationFilter(): JwtAuthenticationFilter {
-        return JwtAuthenticationFilter(jwtUtil, customUserDetailsService, redisTemplate)
+        return JwtAuthenticationFilter(authContextResolver, customUserDetailsService, accessTokenValidator, blacklistSnapshot)
     }
 
-    @Bean
-    fun passwordEncoder(): PasswordEncoder {
-        return BCryptPasswordEncoder()
+    // BCrypt 계산은 전용 작업자 풀에서만 실행 (로그인 요청이 몰려도 동시 계산 수 제한)
+    @Bean(destroyMethod = "shutdown")
+    fun passwordEncoder(
+        @Value("\${custom.security.password-encoder.workers:4}") workers: Int,
+        @Value("\${custom.security.password-encoder.queue-size:64}") queueSize: Int,
+        @Value("\${custom.security.password-encoder.timeout-millis:3000}") timeoutMillis: Long
+    ): PasswordEncoder {
+        return BoundedPasswordEncoder(BCryptPasswordEncoder(), workers, queueSize, timeoutMillis)
     }
 
     private fun getPublicEndpoints(): List<String> {
@@ -107,6 +115,9 @@ class SecurityConfig(
             // h2-console 확인
             "/h2-console/**",
 
+            // 서버 상태 확인
+            "/actuator/health",
+
             // 항상 모든 HTTP 메소드에 대해 인증 없이 접근 가능한 경로
             "/notice",
             "/recruits/recent3",
@@ -135,7 +146,12 @@ class SecurityConfig(
             "/place",
             "/place/{id}",
             "/place/search",
+            "/place/autocomplete",
+            "/place/nearby",
+            "/place/trending",
+            "/place/{id}/similar",
             "/place/cities",
+            "/trip/budget/cities/{cityName}",
             "/api/reviews/{reviewId}",
             "/api/reviews",
             "/api/reviews/popular",
@@ -0,0 +1,156 @@
+package com.tripfriend.global.security
+
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.script.DefaultRedisScript
+import org.springframework.stereotype.Component
+
+/**
+ * 회원별 로그인 세션(기기) 목록.
+ *
+ * 회원마다 Redis 해시 하나(sessions:{username})에 "세션 ID -> 액세스 토큰 jti / 리프레시 토큰 jti / 만료 시각"을 저장한다.
+ * 토큰 원문 대신 jti(22자)만 보관하므로 세션당 60바이트 남짓이며, 작은 해시는 Redis가 listpack으로 압축해 저장한다.
+ * 저장할 때마다 만료된 세션을 정리하고, 최대 개수를 넘으면 만료가 가장 가까운 세션부터 제거한다.
+ * 해시 키는 가장 늦게 만료되는 세션에 맞춰 만료된다.
+ */
+@Component
+class SessionRegistry(
+    private val redisTemplate: RedisTemplate<String, String>,
+    @Value("\${custom.jwt.session.max-per-member:5}") private val maxSessions: Int
+) {
+
+    /**
+     * @param sessionId 세션(기기) ID
+     * @param accessTokenId 현재 액세스 토큰의 jti
+     * @param refreshTokenId 현재 리프레시 토큰의 jti
+     * @param expiresAt 세션 만료 시각 (epoch second, 리프레시 토큰 만료 시각)
+     */
+    data class Session(
+        val sessionId: String,
+        val accessTokenId: String,
+        val refreshTokenId: String,
+        val expiresAt: Long
+    )
+
+    companion object {
+        const val REDIS_SESSION_PREFIX = "sessions:"
+
+        // 아직 발급되지 않은 토큰 자리
+        private const val NONE = "-"
+
+        // 세션 ID 형식 (클라이언트가 보낸 기기 ID도 이 형식만 허용)
+        private val SESSION_ID_PATTERN = Regex("^[A-Za-z0-9_-]{1,36}$")
+
+        fun isValidSessionId(sessionId: String?): Boolean = sessionId != null && SESSION_ID_PATTERN.matches(sessionId)
+
+        // ARGV: 세션 ID, 액세스 토큰 jti('' = 유지), 리프레시 토큰 jti('' = 유지), 만료 시각, 현재 시각, 최대 세션 수
+        private val SAVE_SCRIPT = DefaultRedisScript(
+            """
+            local now = tonumber(ARGV[5])
+            local entries = redis.call('HGETALL', KEYS[1])
+            local current = nil
+            local others = {}
+            for i = 1, #entries, 2 do
+              local access, refresh, exp = string.match(entries[i + 1], '^(%S+) (%S+) (%d+)$')
+              exp = tonumber(exp)
+              if not exp or exp <= now then
+                redis.call('HDEL', KEYS[1], entries[i])
+              elseif entries[i] == ARGV[1] then
+                current = { access, refresh, exp }
+              else
+                table.insert(others, { entries[i], exp })
+              end
+            end
+
+            local access = ARGV[2]
+            local refresh = ARGV[3]
+            local exp = tonumber(ARGV[4])
+            if current then
+              if access == '' then access = current[1] end
+              if refresh == '' then refresh = current[2] end
+              exp = math.max(exp, current[3])
+            end
+            if access == '' then access = '$NONE' end
+            if refresh == '' then refresh = '$NONE' end
+            redis.call('HSET', KEYS[1], ARGV[1], access .. ' ' .. refresh .. ' ' .. exp)
+
+            table.sort(others, function(a, b) return a[2] < b[2] end)
+            local latest = exp
+            local excess = #others + 1 - tonumber(ARGV[6])
+            for i = 1, #others do
+              if i <= excess then
+                redis.call('HDEL', KEYS[1], others[i][1])
+              elseif others[i][2] > latest then
+                latest = others[i][2]
+              end
+            end
+            redis.call('EXPIREAT', KEYS[1], latest)
+            return math.max(excess, 0)
+            """.trimIndent(),
+            Long::class.java
+        )
+
+        private fun parse(sessionId: String, value: String): Session? {
+            val parts = value.split(' ')
+            if (parts.size != 3) return null
+            val expiresAt = parts[2].toLongOrNull() ?: return null
+            return Session(sessionId, parts[0], parts[1], expiresAt)
+        }
+    }
+
+    /**
+     * 세션의 액세스 토큰을 기록한다. 세션이 없으면 새로 만든다.
+     *
+     * @param expiresAt 액세스 토큰 만료 시각 (epoch millis, 기존 세션 만료 시각보다 늦을 때만 반영)
+     */
+    fun saveAccessToken(username: String, sessionId: String, tokenId: String, expiresAt: Long) {
+        save(username, sessionId, tokenId, "", expiresAt)
+    }
+
+    /**
+     * 세션의 리프레시 토큰을 기록한다. 세션이 없으면 새로 만든다.
+     *
+     * @param expiresAt 리프레시 토큰 만료 시각 (epoch millis)
+     */
+    fun saveRefreshToken(username: String, sessionId: String, tokenId: String, expiresAt: Long) {
+        save(username, sessionId, "", tokenId, expiresAt)
+    }
+
+    private fun save(username: String, sessionId: String, accessTokenId: String, refreshTokenId: String, expiresAt: Long) {
+        redisTemplate.execute(
+            SAVE_SCRIPT,
+            listOf(REDIS_SESSION_PREFIX + username),
+            sessionId,
+            accessTokenId,
+            refreshTokenId,
+            (expiresAt / 1000).toString(),
+            (System.currentTimeMillis() / 1000).toString(),
+            maxSessions.toString()
+        )
+    }
+
+    // 만료되지 않은 세션 조회 (없으면 null)
+    fun find(username: String, sessionId: String): Session? {
+        val value = redisTemplate.opsForHash<String, String>().get(REDIS_SESSION_PREFIX + username, sessionId) ?: return null
+        return parse(sessionId, value)?.takeIf { it.expiresAt > System.currentTimeMillis() / 1000 }
+    }
+
+    // 만료되지 않은 세션 목록 (만료가 늦은 순)
+    fun findAll(username: String): List<Session> {
+        val now = System.currentTimeMillis() / 1000
+        return redisTemplate.opsForHash<String, String>().entries(REDIS_SESSION_PREFIX + username)
+            .mapNotNull { (sessionId, value) -> parse(sessionId, value) }
+            .filter { it.expiresAt > now }
+            .sortedByDescending { it.expiresAt }
+    }
+
+    // 세션 하나 삭제 (삭제되었으면 true)
+    fun remove(username: String, sessionId: String): Boolean {
+        return redisTemplate.opsForHash<String, String>().delete(REDIS_SESSION_PREFIX + username, sessionId) > 0
+    }
+
+    // 회원의 모든 세션 삭제
+    fun removeAll(username: String) {
+        redisTemplate.delete(REDIS_SESSION_PREFIX + username)
+    }
+}
@@ -0,0 +1,90 @@
+package com.tripfriend.global.storage
+
+import java.io.IOException
+import java.io.InputStream
+import java.time.Duration
+import java.time.Instant
+
+/**
+ * 이미지 저장소 (S3 / 로컬 디스크).
+ * custom.image.storage 설정값(s3 | local)에 따라 구현체 하나만 빈으로 등록된다.
+ * 키는 저장소와 무관하게 "images/파일명" 형식을 사용한다.
+ */
+interface ImageStorage {
+
+    companion object {
+        const val KEY_PREFIX = "images/"
+    }
+
+    // 저장된 객체 (목록 조회 결과)
+    data class StoredObject(val key: String, val lastModified: Instant)
+
+    // 목록 조회 한 페이지 (nextToken이 null이면 마지막 페이지)
+    data class ObjectPage(val objects: List<StoredObject>, val nextToken: String?)
+
+    // 객체 메타데이터 (sha256은 저장소가 체크섬을 보관한 경우에만, 16진수)
+    data class ObjectInfo(val size: Long, val contentType: String?, val sha256: String?)
+
+    // 미리 서명된 업로드 주소 (클라이언트는 headers를 그대로 붙여 PUT 요청)
+    data class PresignedUpload(val url: String, val headers: Map<String, String>, val expiresAt: Instant)
+
+    // 공개 URL 앞부분 (로컬 저장소는 비어 있으면 "/images/..." 상대 경로)
+    val baseUrl: String
+
+    @Throws(IOException::class)
+    fun store(key: String, content: InputStream, size: Long, contentType: String?)
+
+    @Throws(IOException::class)
+    fun load(key: String): InputStream
+
+    @Throws(IOException::class)
+    fun delete(key: String)
+
+    // 여러 객체를 한 번에 삭제 (없는 키는 무시)
+    @Throws(IOException::class)
+    fun deleteAll(keys: Collection<String>)
+
+    /**
+     * 키 순서로 객체 목록을 페이지 단위로 조회한다.
+     *
+     * @param token    이전 페이지의 nextToken (첫 페이지는 null)
+     * @param pageSize 페이지당 최대 객체 수
+     */
+    @Throws(IOException::class)
+    fun list(token: String?, pageSize: Int): ObjectPage
+
+    /**
+     * 객체 메타데이터를 조회한다.
+     *
+     * @return 메타데이터 (객체가 없으면 null)
+     */
+    @Throws(IOException::class)
+    fun stat(key: String): ObjectInfo?
+
+    /**
+     * 클라이언트가 저장소에 직접 올릴 수 있는 서명된 PUT 주소를 만든다.
+     * 크기 / 형식 / SHA-256이 서명에 포함되어 다른 내용은 저장소가 거부한다.
+     *
+     * @param sha256 내용의 SHA-256 (16진수)
+     * @return 서명된 주소 (직접 업로드를 지원하지 않는 저장소는 null)
+     */
+    fun presignUpload(key: String, contentType: String, size: Long, sha256: String, ttl: Duration): PresignedUpload? = null
+
+    fun urlOf(key: String): String = if (baseUrl.isEmpty()) "/$key" else "$baseUrl/$key"
+
+    /**
+     * 공개 URL에서 키를 추출한다.
+     * 예: https://bucket-name.s3.region.amazonaws.com/images/uuid_filename.jpg
+     * 또는: https://custom-domain.com/images/uuid_filename.jpg, /images/uuid_filename.jpg
+     *
+     * @return 키 (형식을 알 수 없으면 null)
+     */
+    fun keyOf(url: String): String? {
+        if (baseUrl.isNotEmpty() && url.startsWith(baseUrl)) {
+            return url.substring(baseUrl.length).removePrefix("/")
+        }
+        // URL 형식이 다른 경우 images/ 디렉토리를 기준으로 처리
+        val startIndex = url.indexOf(KEY_PREFIX)
+        return if (startIndex != -1) url.substring(startIndex) else null
+    }
+}
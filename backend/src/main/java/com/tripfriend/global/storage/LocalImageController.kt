@@ -0,0 +1,143 @@
+package com.tripfriend.global.storage
+
+import com.tripfriend.global.util.ImageUtil
+import io.swagger.v3.oas.annotations.Operation
+import jakarta.servlet.http.HttpServletRequest
+import jakarta.servlet.http.HttpServletResponse
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.http.HttpHeaders
+import org.springframework.web.bind.annotation.GetMapping
+import org.springframework.web.bind.annotation.PathVariable
+import org.springframework.web.bind.annotation.RestController
+import java.nio.channels.Channels
+import java.nio.channels.FileChannel
+import java.nio.file.Files
+import java.nio.file.StandardOpenOption
+
+/**
+ * 로컬 저장소 이미지 서빙.
+ * 허용하는 이미지 확장자(JPEG / PNG / GIF / WebP)만 해당 Content-Type으로 응답하고, 브라우저가 형식을 추측하지 않도록 nosniff를 붙인다.
+ * 내용 해시(SHA-256)로 이름 붙인 이미지와 그 크기별 이미지는 같은 이름의 내용이 바뀌지 않으므로 1년 캐시(immutable)를 허용하고,
+ * 그 밖의 파일(이전 방식의 파일명 등)은 ETag로 매번 재검증하게 한다. Range 요청(단일 구간)을 지원한다.
+ * 본문은 Tomcat sendfile을 지원하면 커넥터가 커널에서 바로 전송하고,
+ * 지원하지 않으면 FileChannel.transferTo로 응답 스트림에 복사한다. (서블릿 출력 스트림을 거치므로 사용자 공간 버퍼 복사가 생김)
+ */
+@RestController
+@ConditionalOnProperty(name = ["custom.image.storage"], havingValue = "local")
+class LocalImageController(
+    private val localImageStorage: LocalImageStorage
+) {
+
+    companion object {
+        private const val IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable"
+        private const val REVALIDATE_CACHE_CONTROL = "public, no-cache"
+
+        // 저장 확장자 -> Content-Type (크기별 이미지는 .jpg)
+        private val EXTENSION_CONTENT_TYPES = ImageUtil.CONTENT_TYPE_EXTENSIONS.entries.associate { (type, extension) -> extension to type }
+
+        // 내용 해시 파일명 (ex: <sha256>.png, 크기별 이미지 <sha256>.png.w640.jpg)
+        private val CONTENT_HASH_NAME = Regex("[0-9a-f]{64}\\.[a-z0-9]{1,5}(\\.w\\d+\\.jpg)?")
+
+        // Tomcat sendfile 요청 속성
+        private const val SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support"
+        private const val SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename"
+        private const val SENDFILE_START = "org.apache.tomcat.sendfile.start"
+        private const val SENDFILE_END = "org.apache.tomcat.sendfile.end"
+
+        // 내용 해시 파일명만 변경되지 않는 것으로 보고 immutable 캐시를 허용
+        fun cacheControlOf(fileName: String): String =
+            if (CONTENT_HASH_NAME.matches(fileName)) IMMUTABLE_CACHE_CONTROL else REVALIDATE_CACHE_CONTROL
+
+        /**
+         * 단일 구간 Range 헤더를 [start, end] (end 포함)로 변환한다.
+         *
+         * @return 구간 (여러 구간이거나 형식이 다르면 전체 응답을 위해 null, 범위를 벗어나면 빈 구간)
+         */
+        fun parseRange(header: String?, length: Long): LongRange? {
+            if (header == null || !header.startsWith("bytes=") || header.contains(',')) return null
+            val spec = header.removePrefix("bytes=").trim()
+            val startText = spec.substringBefore('-').trim()
+            val endText = spec.substringAfter('-', "").trim()
+
+            val range = if (startText.isEmpty()) {
+                // 마지막 n 바이트
+                val suffix = endText.toLongOrNull() ?: return null
+                if (suffix <= 0) return LongRange.EMPTY
+                maxOf(0L, length - suffix) until length
+            } else {
+                val start = startText.toLongOrNull() ?: return null
+                val end = if (endText.isEmpty()) length - 1 else endText.toLongOrNull() ?: return null
+                if (end < start) return null
+                start..minOf(end, length - 1)
+            }
+            return if (range.first >= length || range.isEmpty()) LongRange.EMPTY else range
+        }
+    }
+
+    @GetMapping("/images/{fileName}")
+    @Operation(hidden = true)
+    fun serve(@PathVariable fileName: String, request: HttpServletRequest, response: HttpServletResponse) {
+        // 경로 변수는 URL 디코딩된 값 (ex: /images/%EA%B2%BD%EB%B3%B5%EA%B6%81.jpg -> 경복궁.jpg)
+        val contentType = EXTENSION_CONTENT_TYPES[fileName.substringAfterLast('.', "").lowercase()]
+        val path = contentType?.let { localImageStorage.resolveFile(ImageStorage.KEY_PREFIX + fileName) }
+        if (path == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND)
+            return
+        }
+
+        val length = Files.size(path)
+        val lastModified = Files.getLastModifiedTime(path).toMillis()
+        val etag = "\"${length.toString(16)}-${lastModified.toString(16)}\""
+
+        response.setHeader(HttpHeaders.ETAG, etag)
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified)
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControlOf(fileName))
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes")
+        response.setHeader("X-Content-Type-Options", "nosniff")
+
+        // 조건부 요청: 변경이 없으면 본문 없이 304
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) == etag) {
+            response.status = HttpServletResponse.SC_NOT_MODIFIED
+            return
+        }
+
+        // If-Range가 현재 버전과 다르면 Range를 무시하고 전체 전송
+        val ifRange = request.getHeader(HttpHeaders.IF_RANGE)
+        val range = if (ifRange == null || ifRange == etag) parseRange(request.getHeader(HttpHeaders.RANGE), length) else null
+        if (range != null && range.isEmpty()) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */$length")
+            response.status = HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE
+            return
+        }
+
+        val start = range?.first ?: 0L
+        val end = range?.last ?: (length - 1)
+        if (range != null) {
+            response.status = HttpServletResponse.SC_PARTIAL_CONTENT
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes $start-$end/$length")
+        }
+        response.contentType = contentType
+        response.setContentLengthLong(end - start + 1)
+
+        if (request.method == "HEAD" || length == 0L) return
+
+        // Tomcat이 sendfile을 지원하면 응답 본문 전송을 커넥터에 맡긴다
+        if (request.getAttribute(SENDFILE_SUPPORT) == true) {
+            request.setAttribute(SENDFILE_FILENAME, path.toString())
+            request.setAttribute(SENDFILE_START, start)
+            request.setAttribute(SENDFILE_END, end + 1)
+            return
+        }
+
+        // sendfile을 쓸 수 없으면 파일 채널에서 응답 스트림으로 구간만큼 복사
+        FileChannel.open(path, StandardOpenOption.READ).use { channel ->
+            val out = Channels.newChannel(response.outputStream)
+            var position = start
+            while (position <= end) {
+                val transferred = channel.transferTo(position, end + 1 - position, out)
+                if (transferred <= 0) break
+                position += transferred
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.tripfriend.global.storage
+
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.stereotype.Component
+import java.io.IOException
+import java.io.InputStream
+import java.nio.file.Files
+import java.nio.file.InvalidPathException
+import java.nio.file.Path
+import java.nio.file.Paths
+import java.nio.file.StandardCopyOption
+
+/**
+ * 로컬 디스크 이미지 저장소 (단일 서버 / 사내 배포용).
+ * 키 "images/파일명"을 업로드 디렉토리의 파일명으로 저장하고, LocalImageController가 /images/파일명으로 직접 서빙한다.
+ */
+@Component
+@ConditionalOnProperty(name = ["custom.image.storage"], havingValue = "local")
+class LocalImageStorage(
+    @Value("\${file.upload-dir}") uploadDir: String,
+    @Value("\${custom.image.local.base-url:}") override val baseUrl: String
+) : ImageStorage {
+
+    companion object {
+        // 업로드로 생성되는 파일명 형식 (정리 작업의 목록 조회 대상, 함께 배포된 정적 이미지는 제외)
+        private val GENERATED_FILE_NAME = Regex("[A-Za-z0-9][A-Za-z0-9._-]*")
+
+        // 경로 구분자 / 제어 문자 (파일명 한 단계만 허용)
+        private val FORBIDDEN_CHARS = Regex("[/\\\\\\u0000-\\u001F]")
+    }
+
+    val rootDir: Path = Paths.get(uploadDir).toAbsolutePath().normalize().also { Files.createDirectories(it) }
+
+    // 임시 파일에 먼저 쓴 뒤 이동하여, 서빙 중인 파일이 일부만 쓰인 상태로 보이지 않게 한다
+    override fun store(key: String, content: InputStream, size: Long, contentType: String?) {
+        val target = resolve(key) ?: throw IOException("유효하지 않은 이미지 키: $key")
+        val temp = Files.createTempFile(rootDir, ".upload-", ".tmp")
+        try {
+            Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING)
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING)
+        } catch (e: IOException) {
+            Files.deleteIfExists(temp)
+            throw IOException("이미지 저장 실패: ${e.message}", e)
+        }
+    }
+
+    override fun load(key: String): InputStream {
+        val path = resolve(key) ?: throw IOException("유효하지 않은 이미지 키: $key")
+        return Files.newInputStream(path)
+    }
+
+    override fun delete(key: String) {
+        val path = resolve(key) ?: throw IOException("유효하지 않은 이미지 키: $key")
+        Files.deleteIfExists(path)
+    }
+
+    override fun deleteAll(keys: Collection<String>) {
+        keys.forEach { delete(it) }
+    }
+
+    override fun stat(key: String): ImageStorage.ObjectInfo? {
+        val path = resolve(key) ?: throw IOException("유효하지 않은 이미지 키: $key")
+        if (!Files.isRegularFile(path)) return null
+        return ImageStorage.ObjectInfo(Files.size(path), Files.probeContentType(path), null)
+    }
+
+    // 파일명 순으로 정렬해 token(이전 페이지 마지막 키) 다음부터 반환 (업로드로 생성된 형식이 아닌 파일은 제외)
+    override fun list(token: String?, pageSize: Int): ImageStorage.ObjectPage {
+        val keys = Files.list(rootDir).use { paths ->
+            paths.map { it.fileName.toString() }
+                .filter { GENERATED_FILE_NAME.matches(it) }
+                .map { ImageStorage.KEY_PREFIX + it }
+                .filter { token == null || it > token }
+                .sorted()
+                .limit(pageSize + 1L)
+                .toList()
+        }
+        val page = keys.take(pageSize)
+        val objects = page.mapNotNull { key ->
+            // 목록 조회 후 삭제된 파일은 제외
+            runCatching { ImageStorage.StoredObject(key, Files.getLastModifiedTime(resolve(key)!!).toInstant()) }.getOrNull()
+        }
+        return ImageStorage.ObjectPage(objects, if (keys.size > pageSize) page.last() else null)
+    }
+
+    /**
+     * 키에 해당하는 파일 경로.
+     * 파일명은 한글 / 공백을 포함해도 되지만 경로 한 단계여야 하며, 숨김 / 임시 파일(.으로 시작)은 가리킬 수 없다.
+     *
+     * @return 파일 경로 (업로드 디렉토리 밖을 가리키거나 형식이 맞지 않으면 null)
+     */
+    fun resolve(key: String): Path? {
+        val fileName = key.removePrefix(ImageStorage.KEY_PREFIX)
+        if (fileName.isBlank() || fileName.startsWith('.') || FORBIDDEN_CHARS.containsMatchIn(fileName)) return null
+
+        val path = try {
+            rootDir.resolve(fileName).normalize()
+        } catch (e: InvalidPathException) {
+            return null
+        }
+        return if (path.parent == rootDir) path else null
+    }
+
+    /**
+     * 서빙할 파일 경로.
+     * 심볼릭 링크를 따라간 실제 경로도 업로드 디렉토리 안에 있는 일반 파일인 경우에만 반환한다.
+     *
+     * @return 파일 경로 (없거나 디렉토리 밖이면 null)
+     */
+    fun resolveFile(key: String): Path? {
+        val path = resolve(key) ?: return null
+        if (!Files.isRegularFile(path)) return null
+        val realPath = try {
+            path.toRealPath()
+        } catch (e: IOException) {
+            return null
+        }
+        return if (realPath.startsWith(rootDir.toRealPath())) path else null
+    }
+}
@@ -0,0 +1,202 @@
+package com.tripfriend.global.storage
+
+import jakarta.annotation.PreDestroy
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty
+import org.springframework.stereotype.Component
+import software.amazon.awssdk.core.async.AsyncRequestBody
+import software.amazon.awssdk.services.s3.S3AsyncClient
+import software.amazon.awssdk.services.s3.S3Client
+import software.amazon.awssdk.services.s3.model.ChecksumMode
+import software.amazon.awssdk.services.s3.model.Delete
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest
+import software.amazon.awssdk.services.s3.model.GetObjectRequest
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier
+import software.amazon.awssdk.services.s3.model.PutObjectRequest
+import software.amazon.awssdk.services.s3.model.S3Exception
+import software.amazon.awssdk.services.s3.presigner.S3Presigner
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest
+import java.io.IOException
+import java.io.InputStream
+import java.time.Duration
+import java.util.*
+import java.util.concurrent.CompletionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Semaphore
+import java.util.concurrent.TimeUnit
+
+@Component
+@ConditionalOnProperty(name = ["custom.image.storage"], havingValue = "s3", matchIfMissing = true)
+class S3ImageStorage(
+    private val s3Client: S3Client, // 공유 클라이언트 (S3Config)
+    private val s3AsyncClient: S3AsyncClient,
+    private val s3Presigner: S3Presigner,
+    @Value("\${cloud.aws.s3.bucket}") private val bucketName: String,
+    @Value("\${cloud.aws.s3.base-url}") override val baseUrl: String,
+    @Value("\${custom.s3.max-concurrent-uploads:8}") maxConcurrentUploads: Int
+) : ImageStorage {
+
+    companion object {
+        private const val UPLOAD_WAIT_SECONDS = 30L
+        private const val MAX_KEYS_PER_REQUEST = 1000 // S3 목록 조회 / 일괄 삭제 요청당 최대 키 수
+    }
+
+    // 동시 업로드 수 제한 (대용량 이미지가 몰려도 메모리 / 커넥션 사용량이 일정하게 유지됨)
+    private val uploadPermits = Semaphore(maxConcurrentUploads)
+
+    // 업로드 파일 스트림을 읽어 비동기 클라이언트로 넘기는 스레드
+    private val uploadExecutor: ExecutorService = Executors.newFixedThreadPool(maxConcurrentUploads) { runnable ->
+        Thread(runnable, "s3-upload").apply { isDaemon = true }
+    }
+
+    // 임계값을 넘는 파일은 멀티파트로 병렬 업로드
+    override fun store(key: String, content: InputStream, size: Long, contentType: String?) {
+        val request = PutObjectRequest.builder()
+            .bucket(bucketName)
+            .key(key)
+            .contentType(contentType)
+            .build()
+
+        if (!uploadPermits.tryAcquire(UPLOAD_WAIT_SECONDS, TimeUnit.SECONDS)) {
+            throw IOException("동시 업로드가 많아 대기 시간을 초과했습니다.")
+        }
+        try {
+            s3AsyncClient.putObject(request, AsyncRequestBody.fromInputStream(content, size, uploadExecutor)).join()
+        } catch (e: Exception) {
+            val cause = (e as? CompletionException)?.cause ?: e
+            throw IOException("S3 업로드 실패: ${cause.message}", cause)
+        } finally {
+            uploadPermits.release()
+        }
+    }
+
+    override fun load(key: String): InputStream {
+        try {
+            val request = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build()
+
+            return s3Client.getObject(request)
+        } catch (e: Exception) {
+            throw IOException("S3 객체 조회 실패: ${e.message}", e)
+        }
+    }
+
+    override fun delete(key: String) {
+        try {
+            val request = DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build()
+
+            s3Client.deleteObject(request)
+        } catch (e: Exception) {
+            throw IOException("S3 객체 삭제 실패: ${e.message}", e)
+        }
+    }
+
+    override fun stat(key: String): ImageStorage.ObjectInfo? {
+        try {
+            val request = HeadObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .checksumMode(ChecksumMode.ENABLED)
+                .build()
+
+            val response = s3Client.headObject(request)
+            // 단일 PUT의 체크섬만 내용 해시와 같다 (멀티파트는 "해시-파트수" 형식)
+            val sha256 = response.checksumSHA256()
+                ?.takeIf { !it.contains('-') }
+                ?.let { HexFormat.of().formatHex(Base64.getDecoder().decode(it)) }
+            return ImageStorage.ObjectInfo(response.contentLength(), response.contentType(), sha256)
+        } catch (e: S3Exception) {
+            if (e.statusCode() == 404) return null
+            throw IOException("S3 객체 정보 조회 실패: ${e.message}", e)
+        } catch (e: Exception) {
+            throw IOException("S3 객체 정보 조회 실패: ${e.message}", e)
+        }
+    }
+
+    // 크기 / 형식 / 체크섬을 서명 헤더에 포함하여, S3가 다른 내용의 업로드를 거부하게 한다
+    override fun presignUpload(
+        key: String,
+        contentType: String,
+        size: Long,
+        sha256: String,
+        ttl: Duration
+    ): ImageStorage.PresignedUpload {
+        val request = PutObjectPresignRequest.builder()
+            .signatureDuration(ttl)
+            .putObjectRequest(
+                PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .contentType(contentType)
+                    .contentLength(size)
+                    .checksumSHA256(Base64.getEncoder().encodeToString(HexFormat.of().parseHex(sha256)))
+                    .build()
+            )
+            .build()
+
+        val presigned = s3Presigner.presignPutObject(request)
+        return ImageStorage.PresignedUpload(
+            presigned.url().toString(),
+            presigned.signedHeaders()
+                .filterKeys { !it.equals("host", ignoreCase = true) } // 브라우저가 직접 붙이는 헤더
+                .mapValues { it.value.joinToString(",") },
+            presigned.expiration()
+        )
+    }
+
+    override fun deleteAll(keys: Collection<String>) {
+        try {
+            keys.chunked(MAX_KEYS_PER_REQUEST).forEach { chunk ->
+                val request = DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(
+                        Delete.builder()
+                            .objects(chunk.map { ObjectIdentifier.builder().key(it).build() })
+                            .quiet(true)
+                            .build()
+                    )
+                    .build()
+
+                val errors = s3Client.deleteObjects(request).errors()
+                if (errors.isNotEmpty()) {
+                    throw IOException("${errors.size}건 삭제 실패 (${errors.first().key()}: ${errors.first().message()})")
+                }
+            }
+        } catch (e: Exception) {
+            throw IOException("S3 객체 일괄 삭제 실패: ${e.message}", e)
+        }
+    }
+
+    override fun list(token: String?, pageSize: Int): ImageStorage.ObjectPage {
+        try {
+            val request = ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .prefix(ImageStorage.KEY_PREFIX)
+                .maxKeys(minOf(pageSize, MAX_KEYS_PER_REQUEST))
+                .continuationToken(token)
+                .build()
+
+            val response = s3Client.listObjectsV2(request)
+            return ImageStorage.ObjectPage(
+                response.contents().map { ImageStorage.StoredObject(it.key(), it.lastModified()) },
+                if (response.isTruncated) response.nextContinuationToken() else null
+            )
+        } catch (e: Exception) {
+            throw IOException("S3 목록 조회 실패: ${e.message}", e)
+        }
+    }
+
+    @PreDestroy
+    fun shutdown() {
+        uploadExecutor.shutdown()
+    }
+}
@@ -0,0 +1,98 @@
+package com.tripfriend.global.util
+
+import kotlin.math.*
+
+object GeoUtil {
+    private const val EARTH_RADIUS_KM = 6371.0088
+    private const val KM_PER_DEGREE = 111.32
+    private const val BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz"
+
+    const val GEOHASH_PRECISION = 9 // 저장용 geohash 길이 (약 4.8m x 4.8m)
+
+    // 두 좌표 사이의 대원 거리(km) 계산 - Haversine 공식
+    fun haversineKm(lat1: Double, lon1: Double, lat2: Double, lon2: Double): Double {
+        val dLat = Math.toRadians(lat2 - lat1)
+        val dLon = Math.toRadians(lon2 - lon1)
+        val a = sin(dLat / 2).pow(2) +
+                cos(Math.toRadians(lat1)) * cos(Math.toRadians(lat2)) * sin(dLon / 2).pow(2)
+        return 2 * EARTH_RADIUS_KM * asin(min(1.0, sqrt(a)))
+    }
+
+    // 좌표를 geohash 문자열로 인코딩
+    fun geohash(lat: Double, lon: Double, precision: Int = GEOHASH_PRECISION): String {
+        var minLat = -90.0
+        var maxLat = 90.0
+        var minLon = -180.0
+        var maxLon = 180.0
+        val sb = StringBuilder(precision)
+        var evenBit = true // 경도부터 시작
+        var bit = 0
+        var ch = 0
+
+        while (sb.length < precision) {
+            if (evenBit) {
+                val mid = (minLon + maxLon) / 2
+                if (lon >= mid) {
+                    ch = ch or (1 shl (4 - bit))
+                    minLon = mid
+                } else {
+                    maxLon = mid
+                }
+            } else {
+                val mid = (minLat + maxLat) / 2
+                if (lat >= mid) {
+                    ch = ch or (1 shl (4 - bit))
+                    minLat = mid
+                } else {
+                    maxLat = mid
+                }
+            }
+            evenBit = !evenBit
+            if (bit < 4) {
+                bit++
+            } else {
+                sb.append(BASE32[ch])
+                bit = 0
+                ch = 0
+            }
+        }
+        return sb.toString()
+    }
+
+    // geohash 셀의 위도 / 경도 크기(도)
+    private fun cellSizeDegrees(precision: Int): Pair<Double, Double> {
+        val bits = precision * 5
+        val lonBits = (bits + 1) / 2
+        val latBits = bits / 2
+        return 180.0 / (1L shl latBits) to 360.0 / (1L shl lonBits)
+    }
+
+    /**
+     * 중심 좌표에서 반경 radiusKm 안의 모든 지점을 포함하는 geohash 접두사 목록 (중심 셀 + 인접 8개 셀)
+     * 셀의 가로/세로가 반경 이상이 되는 가장 긴 접두사를 사용한다.
+     */
+    fun coveringGeohashes(lat: Double, lon: Double, radiusKm: Double): List<String> {
+        val cosLat = max(cos(Math.toRadians(lat)), 0.01)
+        var precision = 1
+        for (p in GEOHASH_PRECISION downTo 1) {
+            val (latDeg, lonDeg) = cellSizeDegrees(p)
+            if (latDeg * KM_PER_DEGREE >= radiusKm && lonDeg * KM_PER_DEGREE * cosLat >= radiusKm) {
+                precision = p
+                break
+            }
+        }
+
+        val (latDeg, lonDeg) = cellSizeDegrees(precision)
+        val cells = LinkedHashSet<String>(9)
+        for (dLat in -1..1) {
+            for (dLon in -1..1) {
+                val cellLat = (lat + dLat * latDeg).coerceIn(-90.0, 90.0 - 1e-9)
+                var cellLon = lon + dLon * lonDeg
+                if (cellLon < -180.0) cellLon += 360.0
+                if (cellLon >= 180.0) cellLon -= 360.0
+                cells.add(geohash(cellLat, cellLon, precision))
+            }
+        }
+        return cells.toList()
+    }
+}
@@ -0,0 +1,64 @@
+package com.tripfriend.global.util
+
+object HangulUtil {
+    private const val SYLLABLE_BASE = 0xAC00
+    private const val SYLLABLE_LAST = 0xD7A3
+    private const val JUNG_COUNT = 21
+    private const val JONG_COUNT = 28
+
+    private const val CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ"
+    private const val JUNG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ"
+    private const val JONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ"
+
+    // 입력 중인 글자와 맞추기 위해 겹모음 / 겹받침을 키보드 입력 순서대로 분해
+    private val COMPOUND = mapOf(
+        'ㅘ' to "ㅗㅏ", 'ㅙ' to "ㅗㅐ", 'ㅚ' to "ㅗㅣ", 'ㅝ' to "ㅜㅓ", 'ㅞ' to "ㅜㅔ", 'ㅟ' to "ㅜㅣ", 'ㅢ' to "ㅡㅣ",
+        'ㄳ' to "ㄱㅅ", 'ㄵ' to "ㄴㅈ", 'ㄶ' to "ㄴㅎ", 'ㄺ' to "ㄹㄱ", 'ㄻ' to "ㄹㅁ", 'ㄼ' to "ㄹㅂ",
+        'ㄽ' to "ㄹㅅ", 'ㄾ' to "ㄹㅌ", 'ㄿ' to "ㄹㅍ", 'ㅀ' to "ㄹㅎ", 'ㅄ' to "ㅂㅅ"
+    )
+
+    fun isSyllable(c: Char): Boolean = c.code in SYLLABLE_BASE..SYLLABLE_LAST
+
+    // 호환용 자음 (ㄱ ~ ㅎ)
+    fun isConsonant(c: Char): Boolean = c in 'ㄱ'..'ㅎ'
+
+    // 한 글자를 자모 단위로 분해 (예: '닭' -> "ㄷㅏㄹㄱ"), 한글이 아니면 소문자로 반환
+    fun decompose(c: Char): String {
+        if (!isSyllable(c)) {
+            return COMPOUND[c] ?: c.lowercaseChar().toString()
+        }
+        val offset = c.code - SYLLABLE_BASE
+        val jung = JUNG[(offset / JONG_COUNT) % JUNG_COUNT]
+        val jong = JONG[offset % JONG_COUNT]
+        val sb = StringBuilder(4).append(CHO[offset / (JUNG_COUNT * JONG_COUNT)])
+        sb.append(COMPOUND[jung] ?: jung)
+        if (jong != ' ') {
+            sb.append(COMPOUND[jong] ?: jong)
+        }
+        return sb.toString()
+    }
+
+    // 문자열 전체를 자모 단위로 분해 (공백 제외)
+    fun decompose(text: String): String {
+        val sb = StringBuilder(text.length * 3)
+        text.forEach { if (!it.isWhitespace()) sb.append(decompose(it)) }
+        return sb.toString()
+    }
+
+    // 한 글자의 초성 (한글이 아니면 소문자로 반환)
+    fun choseong(c: Char): Char =
+        if (isSyllable(c)) CHO[(c.code - SYLLABLE_BASE) / (JUNG_COUNT * JONG_COUNT)] else c.lowercaseChar()
+
+    // 문자열의 초성 (예: "성산일출봉" -> "ㅅㅅㅇㅊㅂ", 공백 제외)
+    fun choseong(text: String): String {
+        val sb = StringBuilder(text.length)
+        text.forEach { if (!it.isWhitespace()) sb.append(choseong(it)) }
+        return sb.toString()
+    }
+
+    // 자음으로만 이루어진 초성 검색어인지 여부
+    fun isChoseongQuery(text: String): Boolean {
+        val trimmed = text.filterNot { it.isWhitespace() }
+        return trimmed.isNotEmpty() && trimmed.all { isConsonant(it) }
+    }
+}
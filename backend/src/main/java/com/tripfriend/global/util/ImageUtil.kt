@@ -1,114 +1,111 @@
 package com.tripfriend.global.util
 
-import org.springframework.beans.factory.annotation.Value
+import com.tripfriend.domain.image.service.ImageVariantService
+import com.tripfriend.domain.image.service.StoredImageService
+import com.tripfriend.global.exception.ServiceException
+import com.tripfriend.global.storage.ImageStorage
 import org.springframework.stereotype.Component
 import org.springframework.web.multipart.MultipartFile
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider
-import software.amazon.awssdk.core.sync.RequestBody
-import software.amazon.awssdk.regions.Region
-import software.amazon.awssdk.services.s3.S3Client
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest
-import software.amazon.awssdk.services.s3.model.PutObjectRequest
 import java.io.IOException
+import java.nio.file.Files
+import java.nio.file.StandardCopyOption
+import java.security.DigestInputStream
+import java.security.MessageDigest
 import java.util.*
 
 @Component
-class ImageUtil {
-    @Value("\${cloud.aws.credentials.access-key}")
-    private lateinit var accessKey: String
-
-    @Value("\${cloud.aws.credentials.secret-key}")
-    private lateinit var secretKey: String
-
-    @Value("\${cloud.aws.region.static}")
-    private lateinit var region: String
-
-    @Value("\${cloud.aws.s3.bucket}")
-    private lateinit var bucketName: String
-
-    @Value("\${cloud.aws.s3.base-url}")
-    private lateinit var baseUrl: String
-
-    // S3 클라이언트 초기화
-    private fun getS3Client(): S3Client {
-        val credentials = AwsBasicCredentials.create(accessKey, secretKey)
-        return S3Client.builder()
-            .region(Region.of(region))
-            .credentialsProvider(StaticCredentialsProvider.create(credentials))
-            .build()
+class ImageUtil(
+    private val imageStorage: ImageStorage, // S3 또는 로컬 디스크 (custom.image.storage)
+    private val imageVariantService: ImageVariantService,
+    private val storedImageService: StoredImageService
+) {
+
+    companion object {
+        // 허용하는 이미지 형식 -> 저장 확장자
+        val CONTENT_TYPE_EXTENSIONS = mapOf(
+            "image/jpeg" to "jpg",
+            "image/png" to "png",
+            "image/gif" to "gif",
+            "image/webp" to "webp"
+        )
+
+        // 형식 판별에 필요한 파일 앞부분 크기
+        private const val HEADER_SIZE = 12
+
+        /**
+         * 파일 앞부분(매직 바이트)으로 이미지 형식을 판별한다.
+         * 클라이언트가 보낸 파일명 / Content-Type은 바꿀 수 있으므로 저장 확장자와 형식은 이 결과로만 정한다.
+         *
+         * @return 허용하는 이미지 형식 (CONTENT_TYPE_EXTENSIONS의 키), 아니면 null
+         */
+        fun detectContentType(header: ByteArray): String? {
+            fun startsWith(offset: Int, vararg bytes: Int) =
+                header.size >= offset + bytes.size && bytes.indices.all { header[offset + it] == bytes[it].toByte() }
+
+            return when {
+                startsWith(0, 0xFF, 0xD8, 0xFF) -> "image/jpeg"
+                startsWith(0, 0x89, 'P'.code, 'N'.code, 'G'.code, 0x0D, 0x0A, 0x1A, 0x0A) -> "image/png"
+                startsWith(0, 'G'.code, 'I'.code, 'F'.code, '8'.code) -> "image/gif"
+                startsWith(0, 'R'.code, 'I'.code, 'F'.code, 'F'.code) &&
+                    startsWith(8, 'W'.code, 'E'.code, 'B'.code, 'P'.code) -> "image/webp"
+                else -> null
+            }
+        }
     }
 
+    /**
+     * 이미지를 내용 해시(SHA-256) 키로 저장하고 참조 수를 1 늘린다.
+     * 같은 내용이 이미 저장되어 있으면 업로드하지 않고 기존 URL을 반환한다.
+     *
+     * @throws ServiceException 파일 내용이 허용하는 이미지 형식(JPEG / PNG / GIF / WebP)이 아닌 경우(400)
+     */
     @Throws(IOException::class)
     fun saveImage(imageFile: MultipartFile?): String? {
         if (imageFile == null || imageFile.isEmpty) {
             return null // 이미지가 없으면 null 반환
         }
 
+        // 업로드 내용을 임시 파일로 한 번 복사하면서 해시 계산 (키가 정해져야 저장소에 올릴 수 있음)
+        val tempFile = Files.createTempFile("image-upload-", ".tmp")
         try {
-            // 고유한 파일명 생성 및 정규화 (알파벳, 숫자, 밑줄, 하이픈, 점만 허용)
-            val originalName = imageFile.originalFilename ?: "unknown"
-            val sanitizedOriginalName = originalName.replace(Regex("[^a-zA-Z0-9._-]"), "")
-            val fileName = "images/${UUID.randomUUID()}_$sanitizedOriginalName"
-
-            // S3 클라이언트 생성
-            val s3Client = getS3Client()
-
-            // S3에 업로드
-            val request = PutObjectRequest.builder()
-                .bucket(bucketName)
-                .key(fileName)
-                .contentType(imageFile.contentType)
-                .build()
-
-            s3Client.putObject(request, RequestBody.fromInputStream(
-                imageFile.inputStream,
-                imageFile.size
-            ))
-
-            // S3 객체 URL 반환
-            return "$baseUrl/$fileName"
+            val digest = MessageDigest.getInstance("SHA-256")
+            DigestInputStream(imageFile.inputStream, digest).use { input ->
+                Files.copy(input, tempFile, StandardCopyOption.REPLACE_EXISTING)
+            }
+            val contentType = Files.newInputStream(tempFile).use { detectContentType(it.readNBytes(HEADER_SIZE)) }
+                ?: throw ServiceException("400-1", "지원하지 않는 이미지 형식입니다.")
+            val sha256 = HexFormat.of().formatHex(digest.digest())
+            val key = "${ImageStorage.KEY_PREFIX}$sha256.${CONTENT_TYPE_EXTENSIONS.getValue(contentType)}"
+            val imageUrl = imageStorage.urlOf(key)
+
+            if (storedImageService.acquire(key)) {
+                return imageUrl
+            }
 
-        } catch (e: Exception) {
-            throw IOException("S3 업로드 실패: ${e.message}", e)
+            val size = Files.size(tempFile)
+            Files.newInputStream(tempFile).use { input ->
+                imageStorage.store(key, input, size, contentType)
+            }
+            storedImageService.register(key, sha256, size, contentType)
+            storedImageService.acquire(key)
+
+            // 크기별 이미지는 백그라운드에서 생성
+            imageVariantService.requestVariants(imageUrl)
+            return imageUrl
+        } finally {
+            Files.deleteIfExists(tempFile)
         }
     }
 
+    // 이미지 참조 해제 (같은 이미지를 다른 곳에서 쓰고 있을 수 있으므로 실제 삭제는 정리 작업에서 처리)
     @Throws(IOException::class)
     fun deleteImage(imagePath: String?) {
         if (imagePath.isNullOrBlank()) {
             return
         }
 
-        try {
-            // S3 URL에서 키 추출
-            // 예: https://bucket-name.s3.region.amazonaws.com/images/uuid_filename.jpg
-            // 또는: https://custom-domain.com/images/uuid_filename.jpg
-            val key = if (imagePath.contains(baseUrl)) {
-                imagePath.substringAfter(baseUrl).removePrefix("/")
-            } else {
-                // URL 형식이 다른 경우 images/ 디렉토리를 기준으로 처리
-                val startIndex = imagePath.indexOf("images/")
-                if (startIndex != -1) {
-                    imagePath.substring(startIndex)
-                } else {
-                    throw IOException("유효하지 않은 이미지 경로: $imagePath")
-                }
-            }
-
-            // S3 클라이언트 생성
-            val s3Client = getS3Client()
-
-            // S3에서 객체 삭제
-            val request = DeleteObjectRequest.builder()
-                .bucket(bucketName)
-                .key(key)
-                .build()
-
-            s3Client.deleteObject(request)
-
-        } catch (e: Exception) {
-            throw IOException("S3 객체 삭제 실패: ${e.message}", e)
-        }
+        val key = imageStorage.keyOf(imagePath)
+            ?: throw IOException("유효하지 않은 이미지 경로: $imagePath")
+        storedImageService.release(key)
     }
 }
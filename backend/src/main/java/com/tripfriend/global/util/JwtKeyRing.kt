@@ -0,0 +1,78 @@
+package com.tripfriend.global.util
+
+import io.jsonwebtoken.Claims
+import io.jsonwebtoken.JwsHeader
+import io.jsonwebtoken.JwtBuilder
+import io.jsonwebtoken.JwtException
+import io.jsonwebtoken.JwtParser
+import io.jsonwebtoken.Jwts
+import io.jsonwebtoken.LocatorAdapter
+import io.jsonwebtoken.SignatureAlgorithm
+import java.security.Key
+import javax.crypto.SecretKey
+import javax.crypto.spec.SecretKeySpec
+
+/**
+ * JWT 서명 키 목록.
+ *
+ * 새 토큰은 현재 키로 서명하고 헤더의 kid에 키 ID를 남긴다.
+ * 검증은 kid로 키를 고르므로, 이전 키를 목록에 남겨 두면 키를 교체해도 이미 발급된 토큰이 만료될 때까지 유효하다.
+ * 키와 파서는 생성 시 한 번만 만들며 둘 다 스레드 안전하다.
+ *
+ * @param currentKeyId  서명에 사용할 키 ID
+ * @param currentSecret 서명에 사용할 비밀 키
+ * @param previousKeys  검증에만 사용하는 이전 키 (키 ID -> 비밀 키)
+ */
+class JwtKeyRing(
+    val currentKeyId: String,
+    currentSecret: String,
+    previousKeys: Map<String, String> = emptyMap()
+) {
+
+    companion object {
+        // kid 없이 발급된 토큰(키 교체 기능 도입 전)의 키 ID
+        const val DEFAULT_KEY_ID = "default"
+
+        /**
+         * "키 ID:비밀 키" 형식의 설정 값을 키 목록으로 변환한다.
+         *
+         * @throws IllegalArgumentException 형식이 잘못된 경우
+         */
+        fun parseKeys(entries: Collection<String>): Map<String, String> =
+            entries.filter { it.isNotBlank() }.associate { entry ->
+                val separator = entry.indexOf(':')
+                require(separator > 0 && separator < entry.length - 1) { "JWT 키 설정은 '키 ID:비밀 키' 형식이어야 합니다." }
+                entry.substring(0, separator).trim() to entry.substring(separator + 1).trim()
+            }
+
+        fun toSecretKey(secret: String): SecretKey = SecretKeySpec(secret.toByteArray(), SignatureAlgorithm.HS512.jcaName)
+    }
+
+    private val keys: Map<String, SecretKey> = previousKeys.mapValues { toSecretKey(it.value) } +
+        (currentKeyId to toSecretKey(currentSecret))
+
+    private val currentKey: SecretKey = keys.getValue(currentKeyId)
+
+    // 헤더의 kid로 검증 키를 고른다
+    private val parser: JwtParser = Jwts.parser()
+        .keyLocator(object : LocatorAdapter<Key>() {
+            override fun locate(header: JwsHeader): Key {
+                val keyId = header.keyId ?: DEFAULT_KEY_ID
+                return keys[keyId] ?: throw JwtException("알 수 없는 서명 키입니다: $keyId")
+            }
+        })
+        .build()
+
+    // 현재 키로 서명 (kid 헤더 포함)
+    fun sign(builder: JwtBuilder): String =
+        builder.header().keyId(currentKeyId).and()
+            .signWith(currentKey, SignatureAlgorithm.HS512)
+            .compact()
+
+    /**
+     * 서명과 만료 시간을 검증하고 클레임을 반환한다.
+     *
+     * @throws JwtException 서명이 잘못되었거나 만료되었거나 알 수 없는 키로 서명된 토큰
+     */
+    fun verify(token: String): Claims = parser.parseSignedClaims(token).payload
+}
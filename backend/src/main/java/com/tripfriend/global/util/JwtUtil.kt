@@ -1,24 +1,44 @@
 package com.tripfriend.global.util
 
+import com.tripfriend.global.exception.ServiceException
+import com.tripfriend.global.redis.RedisCircuitBreaker
+import com.tripfriend.global.security.AccessTokenValidator
+import com.tripfriend.global.security.AuthContext
+import com.tripfriend.global.security.LocalRevocationCache
+import com.tripfriend.global.security.SessionRegistry
 import io.jsonwebtoken.Claims
 import io.jsonwebtoken.Jwts
-import io.jsonwebtoken.SignatureAlgorithm
+import jakarta.annotation.PostConstruct
+import org.slf4j.LoggerFactory
 import org.springframework.beans.factory.annotation.Value
 import org.springframework.data.redis.core.RedisTemplate
 import org.springframework.stereotype.Component
+import java.security.SecureRandom
 import java.util.*
 import java.util.concurrent.TimeUnit
-import javax.crypto.SecretKey
-import javax.crypto.spec.SecretKeySpec
 
 @Component
 class JwtUtil(
-    private val redisTemplate: RedisTemplate<String, String>
+    private val redisTemplate: RedisTemplate<String, String>,
+    private val accessTokenValidator: AccessTokenValidator,
+    private val sessionRegistry: SessionRegistry,
+    private val circuitBreaker: RedisCircuitBreaker,
+    private val localRevocationCache: LocalRevocationCache
 ) {
 
+    private val logger = LoggerFactory.getLogger(this::class.java)
+
     @Value("\${custom.jwt.secret-key}")
     private lateinit var secretKey: String
 
+    // 현재 서명 키의 ID (토큰 헤더의 kid)
+    @Value("\${custom.jwt.key-id:default}")
+    private lateinit var keyId: String
+
+    // 검증에만 사용하는 이전 서명 키 ("키 ID:비밀 키" 목록, 키 교체 후 기존 토큰이 만료될 때까지 유지)
+    @Value("\${custom.jwt.previous-keys:}")
+    private var previousKeys: List<String> = emptyList()
+
     @Value("\${custom.jwt.access-token-expiration}")
     private var accessTokenExpiration: Long = 0
 
@@ -26,91 +46,117 @@ class JwtUtil(
     private var refreshTokenExpiration: Long = 0
 
     companion object {
-        private const val REDIS_ACCESS_TOKEN_PREFIX = "access:"
-        private const val REDIS_REFRESH_TOKEN_PREFIX = "refresh:"
         private const val REDIS_BLACKLIST_PREFIX = "blacklist:"
+        private const val REDIS_NOT_BEFORE_PREFIX = "token-not-before:" // 이 시각(epoch second) 이전에 발급된 토큰은 무효
+        private const val DELETED_ACCOUNT_SESSION_EXPIRATION = 10 * 60 * 1000L // 삭제된 계정의 세션은 10분만 유지
+
+        private val random = SecureRandom()
+
+        // 128비트 난수 토큰 ID (jti, URL-safe Base64 22자)
+        private fun newTokenId(): String = randomId(16)
+
+        private fun randomId(size: Int): String {
+            val bytes = ByteArray(size)
+            random.nextBytes(bytes)
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes)
+        }
     }
 
-    // 액세스 토큰 생성 - Redis에 저장하고 클라이언트에 반환
-    fun generateAccessToken(username: String, authority: String, verified: Boolean): String {
-        val token = generateToken(username, authority, verified, accessTokenExpiration)
+    // 서명 키와 파서는 시작 시 한 번만 생성
+    private lateinit var keyRing: JwtKeyRing
 
-        // Redis에 액세스 토큰 저장
-        redisTemplate.opsForValue().set(
-            REDIS_ACCESS_TOKEN_PREFIX + username,
-            token,
-            accessTokenExpiration,
-            TimeUnit.MILLISECONDS
-        )
+    @PostConstruct
+    fun init() {
+        keyRing = JwtKeyRing(keyId, secretKey, JwtKeyRing.parseKeys(previousKeys))
+    }
+
+    /**
+     * 로그인할 때 사용할 세션(기기) ID.
+     * 클라이언트가 보낸 기기 ID가 형식에 맞으면 그대로 사용해 같은 기기의 재로그인은 기존 세션을 대체하고,
+     * 없으면 새로 만든다. (64비트 난수, URL-safe Base64 11자)
+     *
+     * @param deviceId 클라이언트가 보낸 기기 ID (선택)
+     */
+    fun resolveSessionId(deviceId: String?): String {
+        return if (SessionRegistry.isValidSessionId(deviceId)) deviceId!! else randomId(8)
+    }
+
+    // 액세스 토큰 생성 - 세션에 jti를 기록하고 클라이언트에 반환
+    fun generateAccessToken(username: String, authority: String, verified: Boolean, sessionId: String): String {
+        val tokenId = newTokenId()
+        val token = generateToken(username, authority, verified, tokenId, sessionId, accessTokenExpiration)
+
+        // 세션에 액세스 토큰 jti 저장
+        tokenStore("session.save") {
+            sessionRegistry.saveAccessToken(username, sessionId, tokenId, System.currentTimeMillis() + accessTokenExpiration)
+        }
+        accessTokenValidator.revoke(username) // 이전 토큰을 기억하는 다른 서버의 캐시 무효화
 
         return token
     }
 
     // 삭제된 계정용 액세스 토큰 생성
-    fun generateAccessToken(username: String, authority: String, verified: Boolean, deleted: Boolean): String {
-        val token = generateToken(username, authority, verified, deleted, accessTokenExpiration)
-
-        // Redis에 액세스 토큰 저장 (짧은 유효기간)
-        redisTemplate.opsForValue().set(
-            REDIS_ACCESS_TOKEN_PREFIX + username,
-            token,
-            10 * 60 * 1000, // 10분
-            TimeUnit.MILLISECONDS
-        )
+    fun generateAccessToken(username: String, authority: String, verified: Boolean, deleted: Boolean, sessionId: String): String {
+        val tokenId = newTokenId()
+        val token = generateToken(username, authority, verified, deleted, tokenId, sessionId, accessTokenExpiration)
+
+        // 세션에 액세스 토큰 jti 저장 (짧은 유효기간)
+        tokenStore("session.save") {
+            sessionRegistry.saveAccessToken(username, sessionId, tokenId, System.currentTimeMillis() + DELETED_ACCOUNT_SESSION_EXPIRATION)
+        }
+        accessTokenValidator.revoke(username)
 
         return token
     }
 
-    // 리프레시 토큰 생성 - Redis에만 저장
-    fun generateRefreshToken(username: String, authority: String, verified: Boolean): String {
-        val refreshToken = generateToken(username, authority, verified, refreshTokenExpiration)
+    // 리프레시 토큰 생성 - 세션에 jti만 저장
+    fun generateRefreshToken(username: String, authority: String, verified: Boolean, sessionId: String): String {
+        val tokenId = newTokenId()
+        val refreshToken = generateToken(username, authority, verified, tokenId, sessionId, refreshTokenExpiration)
 
-        // Redis에 리프레시 토큰 저장
-        redisTemplate.opsForValue().set(
-            REDIS_REFRESH_TOKEN_PREFIX + username,
-            refreshToken,
-            refreshTokenExpiration,
-            TimeUnit.MILLISECONDS
-        )
+        // 세션에 리프레시 토큰 jti 저장 (세션 만료 시각 = 리프레시 토큰 만료 시각)
+        tokenStore("session.save") {
+            sessionRegistry.saveRefreshToken(username, sessionId, tokenId, System.currentTimeMillis() + refreshTokenExpiration)
+        }
 
         return refreshToken
     }
 
     // 삭제된 계정용 리프레시 토큰 생성
-    fun generateRefreshToken(username: String, authority: String, verified: Boolean, deleted: Boolean): String {
-        val refreshToken = generateToken(username, authority, verified, deleted, refreshTokenExpiration)
-
-        // 복구 가능한 삭제된 계정용 리프레시 토큰은 짧은 시간만 유효하게 설정 (10분)
-        redisTemplate.opsForValue().set(
-            REDIS_REFRESH_TOKEN_PREFIX + username,
-            refreshToken,
-            10 * 60 * 1000, // 10분
-            TimeUnit.MILLISECONDS
-        )
+    fun generateRefreshToken(username: String, authority: String, verified: Boolean, deleted: Boolean, sessionId: String): String {
+        val tokenId = newTokenId()
+        val refreshToken = generateToken(username, authority, verified, deleted, tokenId, sessionId, refreshTokenExpiration)
+
+        // 복구 가능한 삭제된 계정용 세션은 짧은 시간만 유효하게 설정 (10분)
+        tokenStore("session.save") {
+            sessionRegistry.saveRefreshToken(username, sessionId, tokenId, System.currentTimeMillis() + DELETED_ACCOUNT_SESSION_EXPIRATION)
+        }
 
         return refreshToken
     }
 
     // 공통 토큰 생성 메서드
-    private fun generateToken(username: String, authority: String, verified: Boolean, expirationTime: Long): String {
+    private fun generateToken(username: String, authority: String, verified: Boolean, tokenId: String, sessionId: String, expirationTime: Long): String {
         val now = Date()
         val expiryDate = Date(now.time + expirationTime)
 
         val claims = HashMap<String, Any>()
         claims["authority"] = authority
         claims["verified"] = verified
-
-        return Jwts.builder()
-            .setSubject(username)
-            .setIssuedAt(now)
-            .setExpiration(expiryDate)
-            .addClaims(claims)
-            .signWith(getSigningKey(), SignatureAlgorithm.HS512)
-            .compact()
+        claims[AuthContext.SESSION_ID_CLAIM] = sessionId
+
+        return keyRing.sign(
+            Jwts.builder()
+                .setSubject(username)
+                .setId(tokenId)
+                .setIssuedAt(now)
+                .setExpiration(expiryDate)
+                .addClaims(claims)
+        )
     }
 
     // 소프트딜리트 정보가 포함된 토큰 생성 메서드
-    private fun generateToken(username: String, authority: String, verified: Boolean, deleted: Boolean, expirationTime: Long): String {
+    private fun generateToken(username: String, authority: String, verified: Boolean, deleted: Boolean, tokenId: String, sessionId: String, expirationTime: Long): String {
         val now = Date()
         val expiryDate = Date(now.time + expirationTime)
 
@@ -118,53 +164,96 @@ class JwtUtil(
         claims["authority"] = authority
         claims["verified"] = verified
         claims["deleted"] = deleted // 삭제 여부 추가
-
-        return Jwts.builder()
-            .setSubject(username)
-            .setIssuedAt(now)
-            .setExpiration(expiryDate)
-            .addClaims(claims)
-            .signWith(getSigningKey(), SignatureAlgorithm.HS512)
-            .compact()
+        claims[AuthContext.SESSION_ID_CLAIM] = sessionId
+
+        return keyRing.sign(
+            Jwts.builder()
+                .setSubject(username)
+                .setId(tokenId)
+                .setIssuedAt(now)
+                .setExpiration(expiryDate)
+                .addClaims(claims)
+        )
     }
 
-    // 토큰 블랙리스트에 추가 (로그아웃 시 사용)
+    /**
+     * 토큰 블랙리스트에 추가 (로그아웃 시 사용)
+     * 이 서버의 무효화 기록에도 남겨 Redis 장애 중에도 거부되도록 하며,
+     * Redis 장애로 기록하지 못해도 로그아웃 자체는 진행한다. (쿠키 삭제)
+     */
     fun addToBlacklist(token: String) {
         // 토큰의 남은 유효 시간 계산
-        val expiration = getClaims(token).expiration.time
+        val claims = getClaims(token)
+        val expiration = claims.expiration.time
         val now = System.currentTimeMillis()
         val ttl = expiration - now
 
         if (ttl > 0) {
-            // 블랙리스트에 토큰 추가 (만료 시간까지만 저장)
+            val tokenId = AuthContext.tokenIdOf(token, claims)
+            val username = claims.subject
+            val sessionId = claims[AuthContext.SESSION_ID_CLAIM] as? String
+            localRevocationCache.revokeToken(tokenId, expiration)
+
+            try {
+                circuitBreaker.execute("token.blacklist") {
+                    // 블랙리스트에 토큰 ID 추가 (토큰 원문 대신 jti, 만료 시간까지만 저장)
+                    redisTemplate.opsForValue().set(REDIS_BLACKLIST_PREFIX + tokenId, "logout", ttl, TimeUnit.MILLISECONDS)
+
+                    // 토큰의 세션(기기)도 삭제 (다른 기기의 세션은 유지)
+                    sessionId?.let { sessionRegistry.remove(username, it) }
+                }
+            } catch (e: RedisCircuitBreaker.RedisUnavailableException) {
+                logger.warn("Redis 장애로 로그아웃을 이 서버에만 기록합니다 - {}", username)
+            }
+            accessTokenValidator.revoke(username)
+        }
+    }
+
+    /**
+     * 회원의 모든 토큰을 무효화한다. (탈퇴 / 비밀번호 변경 등)
+     * 회원별 기준 시각 하나만 기록하며, 이 시각 이전에 발급된 토큰은 모두 거부된다.
+     * 기준 시각은 리프레시 토큰 유효기간 동안만 보관한다. (그 이후에는 이전 토큰이 모두 만료됨)
+     *
+     * @param username 사용자 아이디
+     */
+    fun revokeAllTokens(username: String) {
+        val now = System.currentTimeMillis()
+        val nowSeconds = now / 1000
+        tokenStore("token.revoke-all") {
             redisTemplate.opsForValue().set(
-                REDIS_BLACKLIST_PREFIX + token,
-                "logout",
-                ttl,
+                REDIS_NOT_BEFORE_PREFIX + username,
+                nowSeconds.toString(),
+                refreshTokenExpiration,
                 TimeUnit.MILLISECONDS
             )
-
-            // 사용자의 액세스 토큰도 Redis에서 삭제
-            val username = extractUsername(token)
-            redisTemplate.delete(REDIS_ACCESS_TOKEN_PREFIX + username)
+            sessionRegistry.removeAll(username)
         }
+        localRevocationCache.revokeAll(username, nowSeconds, now + refreshTokenExpiration)
+        accessTokenValidator.revoke(username)
     }
 
-    // Redis에서 리프레시 토큰 검증
-    fun validateRefreshTokenInRedis(username: String, refreshToken: String): Boolean {
-        val storedToken = redisTemplate.opsForValue().get(REDIS_REFRESH_TOKEN_PREFIX + username)
-        return refreshToken == storedToken
-    }
-
-    // Redis에서 액세스 토큰 검증
-    fun validateAccessTokenInRedis(username: String, accessToken: String): Boolean {
-        val storedToken = redisTemplate.opsForValue().get(REDIS_ACCESS_TOKEN_PREFIX + username)
-        return accessToken == storedToken
+    /**
+     * 회원의 세션(기기) 하나를 삭제한다. 해당 기기의 액세스 / 리프레시 토큰은 더 이상 사용할 수 없다.
+     *
+     * @param username 사용자 아이디
+     * @param sessionId 세션(기기) ID
+     * @return 삭제된 세션이 있으면 true
+     */
+    fun revokeSession(username: String, sessionId: String): Boolean {
+        val removed = tokenStore("session.remove") { sessionRegistry.remove(username, sessionId) }
+        if (removed) {
+            localRevocationCache.revokeSession(username, sessionId, System.currentTimeMillis() + accessTokenExpiration)
+            accessTokenValidator.revoke(username)
+        }
+        return removed
     }
 
-    // 토큰이 블랙리스트에 있는지 확인
-    fun isTokenBlacklisted(token: String): Boolean {
-        return redisTemplate.hasKey(REDIS_BLACKLIST_PREFIX + token) == true
+    // 세션에 저장된 리프레시 토큰인지 검증
+    fun validateRefreshTokenInRedis(username: String, refreshToken: String): Boolean {
+        val claims = getClaims(refreshToken)
+        val sessionId = claims[AuthContext.SESSION_ID_CLAIM] as? String ?: return false
+        return tokenStore("session.find") { sessionRegistry.find(username, sessionId) }?.refreshTokenId ==
+                AuthContext.tokenIdOf(refreshToken, claims)
     }
 
     // 기존 토큰 관련 메서드들은 그대로 유지
@@ -176,33 +265,17 @@ class JwtUtil(
         return getClaims(token).get("authority", String::class.java)
     }
 
+    fun extractSessionId(token: String): String? {
+        return getClaims(token)[AuthContext.SESSION_ID_CLAIM] as? String
+    }
+
     fun extractVerified(token: String): Boolean {
         val verifiedClaim = getClaims(token)["verified"]
         return verifiedClaim is Boolean && verifiedClaim == true
     }
 
-    fun isTokenExpired(token: String): Boolean {
-        return getClaims(token).expiration.before(Date())
-    }
-
-    // 토큰 유효성 검증 (블랙리스트 확인 및 Redis 검증 추가)
-    fun validateToken(token: String, username: String): Boolean {
-        return (username == extractUsername(token) &&
-                !isTokenExpired(token) &&
-                !isTokenBlacklisted(token) &&
-                validateAccessTokenInRedis(username, token))
-    }
-
     fun getClaims(token: String): Claims {
-        return Jwts.parser()
-            .setSigningKey(getSigningKey())
-            .build()
-            .parseSignedClaims(token)
-            .payload
-    }
-
-    private fun getSigningKey(): SecretKey {
-        return SecretKeySpec(secretKey.toByteArray(), SignatureAlgorithm.HS512.jcaName)
+        return keyRing.verify(token)
     }
 
     fun isDeletedAccount(token: String): Boolean {
@@ -214,13 +287,22 @@ class JwtUtil(
         return refreshTokenExpiration
     }
 
-    // 액세스 토큰 키 값 조회를 위한 메서드
-    fun getStoredAccessToken(username: String): String? {
-        return redisTemplate.opsForValue().get(REDIS_ACCESS_TOKEN_PREFIX + username)
+    // 세션(기기) 조회 (없거나 만료되었으면 null)
+    fun getSession(username: String, sessionId: String): SessionRegistry.Session? {
+        return tokenStore("session.find") { sessionRegistry.find(username, sessionId) }
     }
 
-    // 리프레시 토큰 키 값 조회를 위한 메서드
-    fun getStoredRefreshToken(username: String): String? {
-        return redisTemplate.opsForValue().get(REDIS_REFRESH_TOKEN_PREFIX + username)
+    // 회원의 세션(기기) 목록 조회
+    fun getSessions(username: String): List<SessionRegistry.Session> {
+        return tokenStore("session.find") { sessionRegistry.findAll(username) }
+    }
+
+    // 토큰 저장소(Redis) 작업 - 장애 중에는 Redis를 기다리지 않고 바로 503 응답
+    private fun <T> tokenStore(operation: String, action: () -> T): T {
+        return try {
+            circuitBreaker.execute(operation, action)
+        } catch (e: RedisCircuitBreaker.RedisUnavailableException) {
+            throw ServiceException("503-1", "일시적으로 로그인 정보를 처리할 수 없습니다. 잠시 후 다시 시도해주세요.")
+        }
     }
 }
@@ -0,0 +1,105 @@
+package com.tripfriend.global.util
+
+/**
+ * long 키 -> int 값 전용 해시 맵 (오픈 어드레싱, 선형 탐사).
+ * 박싱 없이 키/값을 원시 배열에 저장하므로 수백만 개의 카운터를 다룰 때 HashMap<Long, Int>보다 메모리와 GC 부담이 작다.
+ * 스레드 안전하지 않으므로 스레드마다 따로 만들어 쓰고 merge로 합친다.
+ */
+class LongIntHashMap(expectedSize: Int = 16) {
+
+    companion object {
+        private const val EMPTY = 0L // 빈 슬롯 표시 (키 0은 별도 필드에 보관)
+        private const val LOAD_FACTOR = 0.6
+
+        // 64비트 해시 혼합 (murmur3 fmix64)
+        private fun mix(key: Long): Long {
+            var h = key
+            h = h xor (h ushr 33)
+            h *= -0xae502812aa7333L
+            h = h xor (h ushr 33)
+            h *= -0x3b314601e57a13adL
+            return h xor (h ushr 33)
+        }
+
+        private fun capacityFor(expectedSize: Int): Int {
+            var capacity = 16
+            while (capacity * LOAD_FACTOR < expectedSize) capacity = capacity shl 1
+            return capacity
+        }
+    }
+
+    private var keys = LongArray(capacityFor(expectedSize))
+    private var values = IntArray(keys.size)
+    private var mask = keys.size - 1
+    private var assigned = 0 // 키 0을 제외한 저장 개수
+
+    private var hasZeroKey = false
+    private var zeroValue = 0
+
+    val size: Int
+        get() = assigned + if (hasZeroKey) 1 else 0
+
+    fun get(key: Long): Int {
+        if (key == EMPTY) return if (hasZeroKey) zeroValue else 0
+        var slot = (mix(key).toInt()) and mask
+        while (true) {
+            val existing = keys[slot]
+            if (existing == EMPTY) return 0
+            if (existing == key) return values[slot]
+            slot = (slot + 1) and mask
+        }
+    }
+
+    // key의 값에 delta를 더하고 더한 결과를 반환 (없던 키는 0에서 시작)
+    fun addTo(key: Long, delta: Int): Int {
+        if (key == EMPTY) {
+            hasZeroKey = true
+            zeroValue += delta
+            return zeroValue
+        }
+        var slot = (mix(key).toInt()) and mask
+        while (true) {
+            val existing = keys[slot]
+            if (existing == key) {
+                values[slot] += delta
+                return values[slot]
+            }
+            if (existing == EMPTY) {
+                keys[slot] = key
+                values[slot] = delta
+                assigned++
+                if (assigned > keys.size * LOAD_FACTOR) rehash(keys.size shl 1)
+                return delta
+            }
+            slot = (slot + 1) and mask
+        }
+    }
+
+    // 다른 맵의 값을 모두 더한다
+    fun merge(other: LongIntHashMap) {
+        other.forEach { key, value -> addTo(key, value) }
+    }
+
+    fun forEach(action: (key: Long, value: Int) -> Unit) {
+        if (hasZeroKey) action(EMPTY, zeroValue)
+        for (i in keys.indices) {
+            if (keys[i] != EMPTY) action(keys[i], values[i])
+        }
+    }
+
+    private fun rehash(newCapacity: Int) {
+        val oldKeys = keys
+        val oldValues = values
+        keys = LongArray(newCapacity)
+        values = IntArray(newCapacity)
+        mask = newCapacity - 1
+        for (i in oldKeys.indices) {
+            val key = oldKeys[i]
+            if (key == EMPTY) continue
+            var slot = (mix(key).toInt()) and mask
+            while (keys[slot] != EMPTY) slot = (slot + 1) and mask
+            keys[slot] = key
+            values[slot] = oldValues[i]
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.tripfriend.global.util
+
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
+
+/**
+ * 트랜잭션이 끝난 뒤 실행할 작업 등록.
+ *
+ * 진행 중인 트랜잭션이 없으면 커밋된 것으로 보고 즉시 실행한다.
+ * (Java 서비스에서도 쓸 수 있도록 작업은 Runnable로 받음)
+ */
+object TransactionCallbacks {
+
+    // 커밋 후 실행
+    @JvmStatic
+    fun afterCommit(action: Runnable) {
+        afterCompletion { committed -> if (committed) action.run() }
+    }
+
+    // 롤백 후 실행 (트랜잭션 밖이면 실행하지 않음)
+    @JvmStatic
+    fun afterRollback(action: Runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return
+        afterCompletion { committed -> if (!committed) action.run() }
+    }
+
+    // 커밋 / 롤백 후 실행 (커밋 여부 전달)
+    fun afterCompletion(action: (committed: Boolean) -> Unit) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+                override fun afterCompletion(status: Int) = action(status == TransactionSynchronization.STATUS_COMMITTED)
+            })
+        } else {
+            action(true)
+        }
+    }
+}
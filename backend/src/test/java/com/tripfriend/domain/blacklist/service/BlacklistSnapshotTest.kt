@@ -0,0 +1,79 @@
+package com.tripfriend.domain.blacklist.service
+
+import com.tripfriend.domain.blacklist.repository.BlacklistRepository
+import io.mockk.*
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.data.redis.connection.DefaultMessage
+import org.springframework.data.redis.connection.MessageListener
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.listener.RedisMessageListenerContainer
+import org.springframework.data.redis.listener.Topic
+
+class BlacklistSnapshotTest {
+    private val blacklistRepository = mockk<BlacklistRepository>()
+    private val redisTemplate = mockk<RedisTemplate<String, String>>()
+    private val listenerContainer = mockk<RedisMessageListenerContainer>(relaxed = true)
+    private val messageListener = slot<MessageListener>()
+    private lateinit var blacklistSnapshot: BlacklistSnapshot
+
+    @BeforeEach
+    fun setUp() {
+        every { listenerContainer.addMessageListener(capture(messageListener), any<Topic>()) } just Runs
+        blacklistSnapshot = BlacklistSnapshot(blacklistRepository, redisTemplate, listenerContainer, 60)
+        blacklistSnapshot.subscribe()
+        every { blacklistRepository.findBlacklistedMembers() } returns
+                listOf(arrayOf<Any>(3L, "user3"), arrayOf<Any>(1_000_000L, "user1000000"))
+        every { redisTemplate.convertAndSend(BlacklistSnapshot.INVALIDATE_CHANNEL, any()) } returns 1L
+    }
+
+    @Test
+    @DisplayName("스냅샷은 한 번만 만들어지고 회원 id / 사용자 아이디로 조회된다")
+    fun snapshotBuiltOnce() {
+        assertTrue(blacklistSnapshot.isBlacklisted(3L))
+        assertTrue(blacklistSnapshot.isBlacklisted(1_000_000L))
+        assertFalse(blacklistSnapshot.isBlacklisted(4L))
+        assertFalse(blacklistSnapshot.isBlacklisted(-1L))
+        assertTrue(blacklistSnapshot.isBlacklisted("user3"))
+        assertFalse(blacklistSnapshot.isBlacklisted("user4"))
+
+        verify(exactly = 1) { blacklistRepository.findBlacklistedMembers() }
+    }
+
+    @Test
+    @DisplayName("무효화하면 다른 서버에 알리고 다음 조회 때 다시 만든다")
+    fun invalidateRebuildsAndPublishes() {
+        blacklistSnapshot.isBlacklisted("user3")
+        every { blacklistRepository.findBlacklistedMembers() } returns emptyList()
+
+        blacklistSnapshot.invalidate()
+
+        assertFalse(blacklistSnapshot.isBlacklisted("user3"))
+        verify(exactly = 1) { redisTemplate.convertAndSend(BlacklistSnapshot.INVALIDATE_CHANNEL, any()) }
+        verify(exactly = 2) { blacklistRepository.findBlacklistedMembers() }
+    }
+
+    @Test
+    @DisplayName("다른 서버의 무효화 메시지를 받으면 스냅샷을 버린다")
+    fun evictOnRemoteMessage() {
+        blacklistSnapshot.isBlacklisted(3L)
+
+        messageListener.captured.onMessage(DefaultMessage(BlacklistSnapshot.INVALIDATE_CHANNEL.toByteArray(), "other-node".toByteArray()), null)
+        blacklistSnapshot.isBlacklisted(3L)
+
+        verify(exactly = 2) { blacklistRepository.findBlacklistedMembers() }
+    }
+
+    @Test
+    @DisplayName("최대 보관 시간이 지난 스냅샷은 무효화 메시지가 없어도 다시 만든다")
+    fun rebuildAfterMaxAge() {
+        val expiringSnapshot = BlacklistSnapshot(blacklistRepository, redisTemplate, listenerContainer, 0)
+        assertTrue(expiringSnapshot.isBlacklisted("user3"))
+        every { blacklistRepository.findBlacklistedMembers() } returns emptyList()
+
+        assertFalse(expiringSnapshot.isBlacklisted("user3"))
+        verify(exactly = 2) { blacklistRepository.findBlacklistedMembers() }
+    }
+}
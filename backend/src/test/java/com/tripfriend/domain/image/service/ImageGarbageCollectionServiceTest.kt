@@ -0,0 +1,93 @@
+package com.tripfriend.domain.image.service
+
+import com.tripfriend.domain.image.entity.StoredImage
+import com.tripfriend.domain.image.repository.ImageVariantSetRepository
+import com.tripfriend.domain.image.repository.StoredImageRepository
+import com.tripfriend.domain.member.member.repository.MemberRepository
+import com.tripfriend.domain.place.place.repository.PlaceRepository
+import com.tripfriend.global.storage.LocalImageStorage
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import org.springframework.test.util.ReflectionTestUtils
+import org.springframework.transaction.support.TransactionCallback
+import org.springframework.transaction.support.TransactionTemplate
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.attribute.FileTime
+import java.time.Duration
+import java.time.Instant
+
+class ImageGarbageCollectionServiceTest {
+
+    @TempDir
+    lateinit var uploadDir: Path
+
+    private val storedImageRepository = mockk<StoredImageRepository>(relaxUnitFun = true)
+    private val imageVariantSetRepository = mockk<ImageVariantSetRepository>(relaxUnitFun = true)
+    private val placeRepository = mockk<PlaceRepository>()
+    private val memberRepository = mockk<MemberRepository>()
+    private val transactionTemplate = mockk<TransactionTemplate>()
+
+    private lateinit var service: ImageGarbageCollectionService
+
+    @BeforeEach
+    fun setUp() {
+        val storage = LocalImageStorage(uploadDir.toString(), "")
+        service = ImageGarbageCollectionService(
+            storage, storedImageRepository, imageVariantSetRepository, placeRepository, memberRepository, transactionTemplate
+        )
+        ReflectionTestUtils.setField(service, "pageSize", 2) // 여러 페이지에 걸쳐 처리되는지 확인
+
+        // 트랜잭션 없이 콜백을 바로 실행
+        every { transactionTemplate.execute(any<TransactionCallback<Any?>>()) } answers {
+            firstArg<TransactionCallback<Any?>>().doInTransaction(mockk(relaxed = true))
+        }
+    }
+
+    private fun createFile(name: String, age: Duration) {
+        val path = uploadDir.resolve(name)
+        Files.write(path, byteArrayOf(1, 2, 3))
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(age)))
+    }
+
+    @Test
+    @DisplayName("이미지 정리 - 참조되지 않고 유예 시간이 지난 이미지만 크기별 이미지와 함께 삭제")
+    fun collectDeletesOnlyUnreferencedImages() {
+        // Given
+        val old = Duration.ofDays(3)
+        createFile("counted.jpg", old) // 참조 수 1
+        createFile("released.jpg", old) // 참조 수 0
+        createFile("released.jpg.w320.jpg", old) // 참조 수 0 이미지의 크기별 이미지
+        createFile("legacy_place.jpg", old) // 등록되지 않았지만 여행지가 참조
+        createFile("legacy_orphan.jpg", old) // 등록되지 않았고 참조도 없음
+        createFile("fresh.jpg", Duration.ofMinutes(5)) // 방금 업로드 (유예 시간 이내)
+
+        every { placeRepository.findAllImageUrls() } returns listOf("https://old-cdn.example.com/images/legacy_place.jpg")
+        every { memberRepository.findAllProfileImages() } returns emptyList()
+        every { storedImageRepository.findAllForUpdate(any()) } answers {
+            firstArg<Collection<String>>().mapNotNull { key ->
+                when (key) {
+                    "images/counted.jpg" -> StoredImage(key, "h1", 3, "image/jpeg", refCount = 1)
+                    "images/released.jpg" -> StoredImage(key, "h2", 3, "image/jpeg", refCount = 0)
+                    else -> null
+                }
+            }
+        }
+
+        // When
+        val deleted = service.collect()
+
+        // Then
+        assertEquals(3, deleted)
+        val remaining = Files.list(uploadDir).use { paths -> paths.map { it.fileName.toString() }.sorted().toList() }
+        assertEquals(listOf("counted.jpg", "fresh.jpg", "legacy_place.jpg"), remaining)
+        verify { storedImageRepository.deleteAllByIdInBatch(listOf("images/released.jpg")) }
+        verify { imageVariantSetRepository.deleteAllByIdInBatch(match<List<String>> { "/images/released.jpg" in it }) }
+    }
+}
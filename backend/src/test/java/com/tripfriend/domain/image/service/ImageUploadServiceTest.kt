@@ -0,0 +1,188 @@
+package com.tripfriend.domain.image.service
+
+import com.tripfriend.domain.image.dto.ImageUploadReqDto
+import com.tripfriend.domain.member.member.service.MemberService
+import com.tripfriend.domain.place.place.service.PlaceService
+import com.tripfriend.global.exception.ServiceException
+import com.tripfriend.global.storage.ImageStorage
+import io.mockk.*
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.data.redis.core.HashOperations
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.script.RedisScript
+import java.time.Instant
+
+class ImageUploadServiceTest {
+    private val imageStorage = mockk<ImageStorage>(relaxUnitFun = true)
+    private val storedImageService = mockk<StoredImageService>(relaxUnitFun = true)
+    private val imageVariantService = mockk<ImageVariantService>(relaxUnitFun = true)
+    private val memberService = mockk<MemberService>(relaxUnitFun = true)
+    private val placeService = mockk<PlaceService>(relaxed = true)
+    private val redisTemplate = mockk<RedisTemplate<String, String>>(relaxed = true)
+    private val hashOperations = mockk<HashOperations<String, String, String>>(relaxUnitFun = true)
+
+    private val imageUploadService = ImageUploadService(
+        imageStorage, storedImageService, imageVariantService, memberService, placeService, redisTemplate, 20, 10
+    )
+
+    private val sha256 = "ab".repeat(32)
+    private val key = "images/$sha256.jpg"
+    private val url = "https://cdn.tripfriend.test/$key"
+
+    // Redis에 저장된 업로드 요청 (uploadId -> 필드)
+    private val tickets = HashMap<String, Map<String, String>>()
+
+    @BeforeEach
+    fun setUp() {
+        clearAllMocks()
+        tickets.clear()
+        every { redisTemplate.opsForHash<String, String>() } returns hashOperations
+        every { hashOperations.putAll(any(), any()) } answers { tickets[firstArg()] = secondArg() }
+        // 요청 정보 꺼내기 스크립트: 본인 요청이면 삭제하고 반환
+        every { redisTemplate.execute(any<RedisScript<List<String>>>(), any<List<String>>(), *anyVararg()) } answers {
+            val ticketKey = secondArg<List<String>>()[0]
+            val fields = tickets[ticketKey] ?: emptyMap()
+            val memberId = args.drop(2).flatMap { if (it is Array<*>) it.toList() else listOf(it) }.first()
+            if (fields["memberId"] == memberId) tickets.remove(ticketKey)
+            fields.flatMap { listOf(it.key, it.value) }
+        }
+        every { imageStorage.urlOf(key) } returns url
+    }
+
+    private fun request(size: Long = 2048, contentType: String = "image/jpeg") =
+        ImageUploadReqDto(contentType, size, sha256.uppercase())
+
+    @Test
+    @DisplayName("업로드 주소 발급 - 내용 해시 키로 서명된 PUT 주소 발급")
+    fun requestUpload() {
+        // Given
+        every { storedImageService.exists(key) } returns false
+        every { imageStorage.presignUpload(key, "image/jpeg", 2048, sha256, any()) } returns
+            ImageStorage.PresignedUpload("https://s3/presigned", mapOf("Content-Type" to "image/jpeg"), Instant.now())
+
+        // When
+        val result = imageUploadService.requestUpload(1L, request())
+
+        // Then
+        assertFalse(result.alreadyUploaded)
+        assertEquals("https://s3/presigned", result.uploadUrl)
+        assertEquals("image/jpeg", result.headers["Content-Type"])
+        assertEquals("1", tickets.getValue("image-upload:${result.uploadId}")["memberId"])
+        assertEquals(key, tickets.getValue("image-upload:${result.uploadId}")["key"])
+    }
+
+    @Test
+    @DisplayName("업로드 주소 발급 - 같은 내용이 이미 있으면 주소 없이 발급")
+    fun requestUploadAlreadyStored() {
+        // Given
+        every { storedImageService.exists(key) } returns true
+
+        // When
+        val result = imageUploadService.requestUpload(1L, request())
+
+        // Then
+        assertTrue(result.alreadyUploaded)
+        assertNull(result.uploadUrl)
+        verify(exactly = 0) { imageStorage.presignUpload(any(), any(), any(), any(), any()) }
+    }
+
+    @Test
+    @DisplayName("업로드 주소 발급 - 허용하지 않는 형식이나 최대 크기 초과는 예외 발생")
+    fun requestUploadInvalid() {
+        val typeException = assertThrows(ServiceException::class.java) {
+            imageUploadService.requestUpload(1L, request(contentType = "image/svg+xml"))
+        }
+        assertEquals("400-1", typeException.code)
+
+        val sizeException = assertThrows(ServiceException::class.java) {
+            imageUploadService.requestUpload(1L, request(size = 21L * 1024 * 1024))
+        }
+        assertEquals("400-2", sizeException.code)
+    }
+
+    @Test
+    @DisplayName("업로드 완료 - 객체를 확인하고 등록한 뒤 프로필 이미지로 연결")
+    fun completeProfileImage() {
+        // Given
+        every { storedImageService.exists(key) } returns false
+        every { imageStorage.presignUpload(any(), any(), any(), any(), any()) } returns
+            ImageStorage.PresignedUpload("https://s3/presigned", emptyMap(), Instant.now())
+        val uploadId = imageUploadService.requestUpload(1L, request()).uploadId
+
+        every { storedImageService.acquire(key) } returnsMany listOf(false, true)
+        every { imageStorage.stat(key) } returns ImageStorage.ObjectInfo(2048, "image/jpeg", sha256)
+
+        // When
+        val imageUrl = imageUploadService.completeProfileImage(1L, uploadId)
+
+        // Then
+        assertEquals(url, imageUrl)
+        verifyOrder {
+            storedImageService.register(key, sha256, 2048, "image/jpeg")
+            storedImageService.acquire(key)
+            memberService.changeProfileImage(1L, url)
+        }
+        verify { imageVariantService.requestVariants(url) }
+        assertFalse(tickets.containsKey("image-upload:$uploadId"))
+    }
+
+    @Test
+    @DisplayName("업로드 완료 - 같은 업로드를 두 번 완료하면 두 번째는 요청을 찾지 못해 참조 수가 한 번만 늘어남")
+    fun completeTwice() {
+        // Given
+        every { storedImageService.exists(key) } returns true
+        val uploadId = imageUploadService.requestUpload(1L, request()).uploadId
+        every { storedImageService.acquire(key) } returns true
+
+        // When
+        imageUploadService.completeProfileImage(1L, uploadId)
+        val exception = assertThrows(ServiceException::class.java) {
+            imageUploadService.completeProfileImage(1L, uploadId)
+        }
+
+        // Then
+        assertEquals("404-1", exception.code)
+        verify(exactly = 1) { storedImageService.acquire(key) }
+    }
+
+    @Test
+    @DisplayName("업로드 완료 - 크기가 요청과 다르면 객체를 삭제하고 예외 발생")
+    fun completeWithSizeMismatch() {
+        // Given
+        every { storedImageService.exists(key) } returns false
+        every { imageStorage.presignUpload(any(), any(), any(), any(), any()) } returns
+            ImageStorage.PresignedUpload("https://s3/presigned", emptyMap(), Instant.now())
+        val uploadId = imageUploadService.requestUpload(1L, request()).uploadId
+
+        every { storedImageService.acquire(key) } returns false
+        every { imageStorage.stat(key) } returns ImageStorage.ObjectInfo(4096, "image/jpeg", null)
+
+        // When & Then
+        val exception = assertThrows(ServiceException::class.java) {
+            imageUploadService.completePlaceImage(1L, uploadId, 5L)
+        }
+        assertEquals("400-4", exception.code)
+        verify { imageStorage.delete(key) }
+        verify(exactly = 0) { storedImageService.register(any(), any(), any(), any()) }
+        verify(exactly = 0) { placeService.changePlaceImage(any(), any()) }
+    }
+
+    @Test
+    @DisplayName("업로드 완료 - 다른 회원이 요청한 업로드는 완료할 수 없음")
+    fun completeByOtherMember() {
+        // Given
+        every { storedImageService.exists(key) } returns true
+        val uploadId = imageUploadService.requestUpload(1L, request()).uploadId
+
+        // When & Then
+        val exception = assertThrows(ServiceException::class.java) {
+            imageUploadService.completeProfileImage(2L, uploadId)
+        }
+        assertEquals("403-1", exception.code)
+        verify(exactly = 0) { storedImageService.acquire(any()) }
+        assertTrue(tickets.containsKey("image-upload:$uploadId")) // 본인 요청은 그대로 남음
+    }
+}
@@ -0,0 +1,144 @@
+package com.tripfriend.domain.image.service
+
+import com.tripfriend.domain.image.dto.ImageVariantsReadyEvent
+import com.tripfriend.domain.image.entity.ImageVariantSet
+import com.tripfriend.domain.image.repository.ImageVariantSetRepository
+import com.tripfriend.global.storage.LocalImageStorage
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.slot
+import io.mockk.verify
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import org.springframework.context.ApplicationEventPublisher
+import java.awt.Color
+import java.awt.image.BufferedImage
+import java.nio.file.Files
+import java.nio.file.Path
+import javax.imageio.ImageIO
+
+class ImageVariantServiceTest {
+
+    @TempDir
+    lateinit var uploadDir: Path
+
+    private val imageVariantSetRepository = mockk<ImageVariantSetRepository>()
+    private val eventPublisher = mockk<ApplicationEventPublisher>(relaxed = true)
+
+    private lateinit var storage: LocalImageStorage
+    private lateinit var imageVariantService: ImageVariantService
+
+    @BeforeEach
+    fun setUp() {
+        storage = LocalImageStorage(uploadDir.toString(), "")
+        imageVariantService = ImageVariantService(storage, imageVariantSetRepository, eventPublisher, 1, 10, 50_000_000)
+    }
+
+    @AfterEach
+    fun tearDown() {
+        imageVariantService.shutdown()
+    }
+
+    // 너비 x 높이 PNG 원본을 저장하고 URL 반환
+    private fun storePng(width: Int, height: Int): String {
+        val image = BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB)
+        val graphics = image.createGraphics()
+        graphics.color = Color.ORANGE
+        graphics.fillRect(0, 0, width / 2, height)
+        graphics.dispose()
+        val file = uploadDir.resolve("source_photo.png")
+        ImageIO.write(image, "png", file.toFile())
+        return storage.urlOf("images/source_photo.png")
+    }
+
+    private fun widthOf(url: String): Int =
+        ImageIO.read(uploadDir.resolve(url.removePrefix("/images/")).toFile()).width
+
+    @Test
+    @DisplayName("크기별 이미지 생성 - 너비 제한 JPEG 3종과 미리보기를 저장")
+    fun generateVariants() {
+        // Given
+        val imageUrl = storePng(3000, 2000)
+        val saved = slot<ImageVariantSet>()
+        every { imageVariantSetRepository.save(capture(saved)) } answers { saved.captured }
+
+        // When
+        val generated = imageVariantService.generate(imageUrl)
+
+        // Then
+        assertTrue(generated)
+        assertEquals(320, widthOf("$imageUrl.w320.jpg"))
+        assertEquals(768, widthOf("$imageUrl.w768.jpg"))
+        assertEquals(1280, widthOf("$imageUrl.w1280.jpg"))
+        assertEquals(imageUrl, saved.captured.imageUrl)
+        assertTrue(saved.captured.placeholder!!.startsWith("data:image/jpeg;base64,"))
+        verify { eventPublisher.publishEvent(ImageVariantsReadyEvent(imageUrl)) }
+    }
+
+    @Test
+    @DisplayName("크기별 이미지 생성 - 픽셀 수 제한을 넘는 원본은 디코딩하지 않고 건너뜀")
+    fun skipOversizedImage() {
+        // Given
+        val limited = ImageVariantService(storage, imageVariantSetRepository, eventPublisher, 1, 10, 1_000_000)
+        val imageUrl = storePng(3000, 2000)
+
+        // When
+        val generated = limited.generate(imageUrl)
+        limited.shutdown()
+
+        // Then
+        assertFalse(generated)
+        assertFalse(Files.exists(uploadDir.resolve("source_photo.png.w320.jpg")))
+        verify(exactly = 0) { imageVariantSetRepository.save(any()) }
+    }
+
+    @Test
+    @DisplayName("크기별 이미지 생성 - 원본보다 크게 늘리지 않음")
+    fun generateVariantsDoesNotUpscale() {
+        // Given
+        val imageUrl = storePng(500, 300)
+        every { imageVariantSetRepository.save(any()) } answers { firstArg() }
+
+        // When
+        imageVariantService.generate(imageUrl)
+
+        // Then
+        assertEquals(320, widthOf("$imageUrl.w320.jpg"))
+        assertEquals(500, widthOf("$imageUrl.w768.jpg"))
+        assertEquals(500, widthOf("$imageUrl.w1280.jpg"))
+    }
+
+    @Test
+    @DisplayName("크기별 이미지 생성 - 이미지가 아닌 파일은 건너뜀")
+    fun generateSkipsNonImage() {
+        // Given
+        Files.write(uploadDir.resolve("notes.txt"), "hello".toByteArray())
+
+        // When
+        val generated = imageVariantService.generate("/images/notes.txt")
+
+        // Then
+        assertFalse(generated)
+        verify(exactly = 0) { imageVariantSetRepository.save(any()) }
+    }
+
+    @Test
+    @DisplayName("크기별 URL 조회 - 생성이 끝난 이미지만 반환")
+    fun findVariants() {
+        // Given
+        every { imageVariantSetRepository.findAllById(setOf("/images/a.jpg", "/images/b.jpg")) } returns
+            listOf(ImageVariantSet("/images/a.jpg", "data:image/jpeg;base64,AAAA"))
+
+        // When
+        val variants = imageVariantService.findVariants(listOf("/images/a.jpg", "/images/b.jpg"))
+
+        // Then
+        assertEquals(setOf("/images/a.jpg"), variants.keys)
+        assertEquals("/images/a.jpg.w320.jpg", variants["/images/a.jpg"]!!.small)
+        assertEquals("/images/a.jpg.w1280.jpg", variants["/images/a.jpg"]!!.large)
+    }
+}
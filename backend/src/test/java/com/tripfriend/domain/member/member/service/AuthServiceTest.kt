@@ -1,10 +1,13 @@
 package com.tripfriend.domain.member.member.service
 
+import com.tripfriend.domain.blacklist.service.BlacklistSnapshot
 import com.tripfriend.domain.member.member.dto.LoginRequestDto
 import com.tripfriend.domain.member.member.entity.Member
 import com.tripfriend.domain.member.member.repository.MemberRepository
+import com.tripfriend.global.exception.ServiceException
+import com.tripfriend.global.security.RateLimiter
+import com.tripfriend.global.security.SessionRegistry
 import com.tripfriend.global.util.JwtUtil
-import io.jsonwebtoken.Claims
 import jakarta.servlet.http.Cookie
 import jakarta.servlet.http.HttpServletRequest
 import jakarta.servlet.http.HttpServletResponse
@@ -17,8 +20,6 @@ import org.mockito.Mockito.*
 import org.mockito.junit.jupiter.MockitoExtension
 import org.mockito.junit.jupiter.MockitoSettings
 import org.mockito.quality.Strictness
-import org.springframework.data.redis.core.RedisTemplate
-import org.springframework.data.redis.core.ValueOperations
 import org.springframework.security.core.userdetails.UsernameNotFoundException
 import org.springframework.security.crypto.password.PasswordEncoder
 import java.util.*
@@ -41,10 +42,10 @@ class AuthServiceTest {
     private lateinit var passwordEncoder: PasswordEncoder
 
     @Mock
-    private lateinit var redisTemplate: RedisTemplate<String, String>
+    private lateinit var blacklistSnapshot: BlacklistSnapshot
 
     @Mock
-    private lateinit var valueOperations: ValueOperations<String, String>
+    private lateinit var rateLimiter: RateLimiter
 
     @Mock
     private lateinit var httpServletResponse: HttpServletResponse
@@ -60,6 +61,7 @@ class AuthServiceTest {
     private val encodedPassword = "encodedPassword123"
     private val accessToken = "access.token.value"
     private val refreshToken = "refresh.token.value"
+    private val sessionId = "session1"
 
     @Test
     fun `로그인 성공 테스트`() {
@@ -71,13 +73,12 @@ class AuthServiceTest {
         `when`(testMember.verified).thenReturn(true)
         `when`(testMember.deleted).thenReturn(false)
 
-        `when`(redisTemplate.opsForValue()).thenReturn(valueOperations)
-
         val loginRequestDto = LoginRequestDto(username, password)
         `when`(memberRepository.findByUsername(username)).thenReturn(Optional.of(testMember))
         `when`(passwordEncoder.matches(password, encodedPassword)).thenReturn(true)
-        `when`(jwtUtil.generateAccessToken(username, "ROLE_USER", true)).thenReturn(accessToken)
-        `when`(jwtUtil.generateRefreshToken(username, "ROLE_USER", true)).thenReturn(refreshToken)
+        `when`(jwtUtil.resolveSessionId(null)).thenReturn(sessionId)
+        `when`(jwtUtil.generateAccessToken(username, "ROLE_USER", true, sessionId)).thenReturn(accessToken)
+        `when`(jwtUtil.generateRefreshToken(username, "ROLE_USER", true, sessionId)).thenReturn(refreshToken)
 
         // When
         val result = authService.login(loginRequestDto, httpServletResponse)
@@ -88,6 +89,7 @@ class AuthServiceTest {
         assertEquals(refreshToken, result.refreshToken)
         assertFalse(result.isDeletedAccount)
         verify(httpServletResponse, times(2)).addCookie(any(Cookie::class.java))
+        verify(rateLimiter, never()).tryAcquire(anyString(), anyLong(), anyLong()) // 성공한 로그인은 계정별 제한에서 차감하지 않음
     }
 
     @Test
@@ -103,6 +105,7 @@ class AuthServiceTest {
         }
 
         verify(httpServletResponse, never()).addCookie(any(Cookie::class.java))
+        verify(rateLimiter).tryAcquire("login:account:$username", 5, 1)
     }
 
     @Test
@@ -120,6 +123,46 @@ class AuthServiceTest {
             // When
             authService.login(loginRequestDto, httpServletResponse)
         }
+        verify(rateLimiter).tryAcquire("login:account:$username", 5, 1) // 실패한 로그인만 계정별 제한에서 차감
+    }
+
+    @Test
+    fun `로그인 실패가 계정별 제한을 넘으면 비밀번호 확인 없이 429 응답 테스트`() {
+        // Given
+        val loginRequestDto = LoginRequestDto(username, password)
+        `when`(rateLimiter.check("login:account:$username", 5, 1)).thenReturn(30_000L)
+
+        // Then
+        val exception = assertThrows<ServiceException> {
+            // When
+            authService.login(loginRequestDto, httpServletResponse)
+        }
+        assertEquals("429-1", exception.code)
+        verify(httpServletResponse).setHeader("Retry-After", "30")
+        verify(memberRepository, never()).findByUsername(anyString())
+        verify(passwordEncoder, never()).matches(any(), any())
+    }
+
+    @Test
+    fun `차단된 회원 로그인 시 토큰 발급 없이 예외 발생 테스트`() {
+        // Given
+        val testMember = mock(Member::class.java)
+        `when`(testMember.id).thenReturn(1L)
+        `when`(testMember.password).thenReturn(encodedPassword)
+
+        val loginRequestDto = LoginRequestDto(username, password)
+        `when`(memberRepository.findByUsername(username)).thenReturn(Optional.of(testMember))
+        `when`(passwordEncoder.matches(password, encodedPassword)).thenReturn(true)
+        `when`(blacklistSnapshot.isBlacklisted(1L)).thenReturn(true)
+
+        // Then
+        val exception = assertThrows<ServiceException> {
+            // When
+            authService.login(loginRequestDto, httpServletResponse)
+        }
+        assertEquals("403-1", exception.code)
+        verify(jwtUtil, never()).resolveSessionId(any())
+        verify(httpServletResponse, never()).addCookie(any(Cookie::class.java))
     }
 
     @Test
@@ -133,13 +176,12 @@ class AuthServiceTest {
         `when`(testMember.deleted).thenReturn(true)
         `when`(testMember.canBeRestored()).thenReturn(true)
 
-        `when`(redisTemplate.opsForValue()).thenReturn(valueOperations)
-
         val loginRequestDto = LoginRequestDto(username, password)
         `when`(memberRepository.findByUsername(username)).thenReturn(Optional.of(testMember))
         `when`(passwordEncoder.matches(password, encodedPassword)).thenReturn(true)
-        `when`(jwtUtil.generateAccessToken(username, "ROLE_USER", true, true)).thenReturn(accessToken)
-        `when`(jwtUtil.generateRefreshToken(username, "ROLE_USER", true, true)).thenReturn(refreshToken)
+        `when`(jwtUtil.resolveSessionId(null)).thenReturn(sessionId)
+        `when`(jwtUtil.generateAccessToken(username, "ROLE_USER", true, true, sessionId)).thenReturn(accessToken)
+        `when`(jwtUtil.generateRefreshToken(username, "ROLE_USER", true, true, sessionId)).thenReturn(refreshToken)
 
         // When
         val result = authService.login(loginRequestDto, httpServletResponse)
@@ -177,15 +219,13 @@ class AuthServiceTest {
         // Given
         val cookies = arrayOf(Cookie("accessToken", accessToken))
         `when`(httpServletRequest.cookies).thenReturn(cookies)
-        `when`(jwtUtil.extractUsername(accessToken)).thenReturn(username)
-        `when`(redisTemplate.opsForValue()).thenReturn(valueOperations)
 
         // When
         authService.logout(httpServletRequest, httpServletResponse)
 
         // Then
-        verify(jwtUtil).addToBlacklist(accessToken)
-        verify(redisTemplate).delete("refresh:$username")
+        verify(jwtUtil).addToBlacklist(accessToken) // 이 기기의 세션도 함께 삭제
+        verify(jwtUtil, never()).revokeAllTokens(username) // 다른 기기의 로그인은 유지
         verify(httpServletResponse).addCookie(any(Cookie::class.java))
     }
 
@@ -194,21 +234,21 @@ class AuthServiceTest {
         // Given
         val newAccessToken = "new.access.token"
         `when`(jwtUtil.extractUsername(accessToken)).thenReturn(username)
-        `when`(jwtUtil.getStoredRefreshToken(username)).thenReturn(refreshToken)
-        `when`(jwtUtil.isTokenExpired(refreshToken)).thenReturn(false)
+        `when`(jwtUtil.extractSessionId(accessToken)).thenReturn(sessionId)
+        `when`(jwtUtil.validateRefreshTokenInRedis(username, refreshToken)).thenReturn(true)
         `when`(jwtUtil.extractAuthority(accessToken)).thenReturn("ROLE_USER")
         `when`(jwtUtil.extractVerified(accessToken)).thenReturn(true)
         `when`(jwtUtil.isDeletedAccount(accessToken)).thenReturn(false)
 
-        // Mock claims, expiration 확인
-        val mockClaims = mock(Claims::class.java)
-        val expirationDate = Date(System.currentTimeMillis() + 1000 * 60 * 60 * 24 * 6)
-        `when`(mockClaims.expiration).thenReturn(expirationDate)
-        `when`(jwtUtil.getClaims(refreshToken)).thenReturn(mockClaims)
-        `when`(jwtUtil.generateAccessToken(username, "ROLE_USER", true)).thenReturn(newAccessToken)
+        // 세션 만료까지 6일 남음 (리프레시 토큰 갱신 불필요)
+        val expiresAt = (System.currentTimeMillis() + 1000L * 60 * 60 * 24 * 6) / 1000
+        `when`(jwtUtil.getSession(username, sessionId))
+            .thenReturn(SessionRegistry.Session(sessionId, "access-id", "refresh-id", expiresAt))
+        `when`(jwtUtil.getRefreshTokenExpiration()).thenReturn(1000L * 60 * 60 * 24 * 7)
+        `when`(jwtUtil.generateAccessToken(username, "ROLE_USER", true, sessionId)).thenReturn(newAccessToken)
 
         // When
-        val result = authService.refreshToken(accessToken, httpServletResponse)
+        val result = authService.refreshToken(accessToken, httpServletResponse, refreshToken)
 
         // Then
         assertNotNull(result)
@@ -222,7 +262,8 @@ class AuthServiceTest {
     fun `리프레시 토큰 없을 경우 예외 발생 테스트`() {
         // Given
         `when`(jwtUtil.extractUsername(accessToken)).thenReturn(username)
-        `when`(jwtUtil.getStoredRefreshToken(username)).thenReturn(null)
+        `when`(jwtUtil.extractSessionId(accessToken)).thenReturn(sessionId)
+        `when`(jwtUtil.getSession(username, sessionId)).thenReturn(null) // 로그아웃되었거나 만료된 세션
 
         // Then
         assertThrows<RuntimeException> {
@@ -235,93 +276,46 @@ class AuthServiceTest {
     fun `만료된 리프레시 토큰으로 갱신 시 예외 발생 테스트`() {
         // Given
         `when`(jwtUtil.extractUsername(accessToken)).thenReturn(username)
-        `when`(jwtUtil.getStoredRefreshToken(username)).thenReturn(refreshToken)
-        `when`(jwtUtil.isTokenExpired(refreshToken)).thenReturn(true)
+        `when`(jwtUtil.extractSessionId(accessToken)).thenReturn(sessionId)
+        `when`(jwtUtil.getSession(username, sessionId))
+            .thenReturn(SessionRegistry.Session(sessionId, "access-id", "refresh-id", System.currentTimeMillis() / 1000 + 60))
+        `when`(jwtUtil.validateRefreshTokenInRedis(username, refreshToken)).thenReturn(false) // 다른 리프레시 토큰으로 교체됨
 
         // Then
         assertThrows<RuntimeException> {
             // When
-            authService.refreshToken(accessToken, httpServletResponse)
+            authService.refreshToken(accessToken, httpServletResponse, refreshToken)
         }
     }
 
     @Test
-    fun `토큰에서 로그인된 사용자 정보 추출 성공 테스트`() {
+    fun `로그인된 기기 목록 조회 테스트`() {
         // Given
-        val testMember = mock(Member::class.java)
-        val token = "Bearer $accessToken"
-        `when`(jwtUtil.isTokenBlacklisted(accessToken)).thenReturn(false)
-        `when`(jwtUtil.extractUsername(accessToken)).thenReturn(username)
-        `when`(jwtUtil.validateAccessTokenInRedis(username, accessToken)).thenReturn(true)
-        `when`(jwtUtil.isTokenExpired(accessToken)).thenReturn(false)
-        `when`(jwtUtil.extractAuthority(accessToken)).thenReturn("ROLE_USER")
-        `when`(jwtUtil.extractVerified(accessToken)).thenReturn(true)
-        `when`(memberRepository.findByUsername(username)).thenReturn(Optional.of(testMember))
-        `when`(testMember.username).thenReturn(username)
+        val expiresAt = System.currentTimeMillis() / 1000 + 60
+        `when`(jwtUtil.getSessions(username)).thenReturn(listOf(
+            SessionRegistry.Session(sessionId, "access-id", "refresh-id", expiresAt),
+            SessionRegistry.Session("session2", "access-id2", "refresh-id2", expiresAt)
+        ))
 
         // When
-        val result = authService.getLoggedInMember(token)
-
-        // Then
-        assertNotNull(result)
-        assertEquals(username, result.username)
-    }
-
-    @Test
-    fun `블랙리스트 토큰으로 사용자 정보 추출 시 예외 발생 테스트`() {
-        // Given
-        val token = "Bearer $accessToken"
-        `when`(jwtUtil.isTokenBlacklisted(accessToken)).thenReturn(true)
-
-        // Then
-        assertThrows<RuntimeException> {
-            // When
-            authService.getLoggedInMember(token)
-        }
-    }
-
-    @Test
-    fun `유효하지 않은 토큰으로 사용자 정보 추출 시 예외 발생 테스트`() {
-        // Given
-        val token = "Bearer $accessToken"
-        `when`(jwtUtil.isTokenBlacklisted(accessToken)).thenReturn(false)
-        `when`(jwtUtil.extractUsername(accessToken)).thenReturn(username)
-        `when`(jwtUtil.validateAccessTokenInRedis(username, accessToken)).thenReturn(false)
+        val result = authService.getSessions(username, sessionId)
 
         // Then
-        org.junit.jupiter.api.assertThrows<RuntimeException> {
-            // When
-            authService.getLoggedInMember(token)
-        }
+        assertEquals(listOf(sessionId, "session2"), result.map { it.deviceId })
+        assertTrue(result[0].current)
+        assertFalse(result[1].current)
     }
 
     @Test
-    fun `만료된 토큰으로 정보 추출 시 예외 발생 테스트`() {
+    fun `존재하지 않는 기기 로그아웃 시 예외 발생 테스트`() {
         // Given
-        `when`(jwtUtil.isTokenExpired(accessToken)).thenReturn(true)
+        `when`(jwtUtil.revokeSession(username, "unknown")).thenReturn(false)
 
         // Then
-        assertThrows<RuntimeException> {
+        val exception = assertThrows<ServiceException> {
             // When
-            authService.extractTokenInfo(accessToken)
+            authService.revokeSession(username, "unknown")
         }
+        assertEquals("404-1", exception.code)
     }
-
-    @Test
-    fun `토큰에서 정보 추출 성공 테스트`() {
-        // Given
-        `when`(jwtUtil.isTokenExpired(accessToken)).thenReturn(false)
-        `when`(jwtUtil.extractUsername(accessToken)).thenReturn(username)
-        `when`(jwtUtil.extractAuthority(accessToken)).thenReturn("ROLE_USER")
-        `when`(jwtUtil.extractVerified(accessToken)).thenReturn(true)
-
-        // When
-        val result = authService.extractTokenInfo(accessToken)
-
-        // Then
-        assertNotNull(result)
-        assertEquals(username, result.username)
-        assertEquals("ROLE_USER", result.authority)
-        assertTrue(result.verified)
-    }
-}
\ No newline at end of file
+}
@@ -7,6 +7,7 @@ import com.tripfriend.domain.member.member.entity.Gender
 import com.tripfriend.domain.member.member.entity.Member
 import com.tripfriend.domain.member.member.entity.TravelStyle
 import com.tripfriend.domain.member.member.repository.MemberRepository
+import com.tripfriend.global.security.CustomUserDetailsService
 import com.tripfriend.global.util.ImageUtil
 import io.mockk.*
 import io.mockk.impl.annotations.MockK
@@ -45,6 +46,9 @@ class MemberServiceTest {
 
     @MockK
     private lateinit var passwordEncoder: PasswordEncoder
+
+    @MockK(relaxUnitFun = true)
+    private lateinit var customUserDetailsService: CustomUserDetailsService
     private lateinit var memberService: MemberService
 
     /**
@@ -61,7 +65,8 @@ class MemberServiceTest {
             authService,
             mailService,
             imageUtil,
-            passwordEncoder
+            passwordEncoder,
+            customUserDetailsService
         )
     }
 
@@ -203,12 +208,15 @@ class MemberServiceTest {
         every { memberRepository.existsByEmail(updateRequestDto.email!!) } returns false
         every { memberRepository.existsByNickname(updateRequestDto.nickname!!) } returns false
         every { memberRepository.save(any()) } returns updatedMember
+        every { authService.revokeAllTokens("testuser") } just runs
 
         // Then
         val result = memberService.updateMember(memberId, updateRequestDto)
 
         // Verify
         verify { memberRepository.findById(memberId) }
+        verify { authService.revokeAllTokens("testuser") } // 비밀번호 변경 시 기존 토큰 무효화
+        verify { customUserDetailsService.evict("testuser") } // 캐시된 인증 회원 정보 갱신
         verify { memberRepository.existsByEmail(updateRequestDto.email!!) }
         verify { memberRepository.existsByNickname(updateRequestDto.nickname!!) }
         verify { memberRepository.save(any()) }
@@ -283,6 +291,7 @@ class MemberServiceTest {
         // deletedAt과 deleted 상태를 확인
         every { memberRepository.findById(memberId) } returns Optional.of(member)
         every { authService.logout(request, response) } just runs
+        every { authService.revokeAllTokens(member.username) } just runs
         every { memberRepository.save(any()) } answers {
             // 저장할 때 deleted와 deletedAt이 설정되었음을 검증
             val savedMember = firstArg<Member>()
@@ -297,6 +306,8 @@ class MemberServiceTest {
         // Verify
         verify { memberRepository.findById(memberId) }
         verify { authService.logout(request, response) }
+        verify { authService.revokeAllTokens(member.username) }
+        verify { customUserDetailsService.evict(member.username) }
         verify { memberRepository.save(any()) }
     }
 
@@ -0,0 +1,88 @@
+package com.tripfriend.domain.place.place.service
+
+import com.tripfriend.domain.place.place.dto.PlaceResDto
+import com.tripfriend.domain.place.place.entity.Category
+import com.tripfriend.domain.place.place.repository.PlaceRepository
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+class PlaceAutocompleteTest {
+    private val placeCatalog = mockk<PlaceCatalog>()
+    private val placeRepository = mockk<PlaceRepository>()
+    private lateinit var placeAutocomplete: PlaceAutocomplete
+
+    @BeforeEach
+    fun setUp() {
+        placeAutocomplete = PlaceAutocomplete(placeCatalog, placeRepository)
+        every { placeCatalog.getAll() } returns listOf(
+            place(1L, "성산일출봉"),
+            place(2L, "서울숲"),
+            place(3L, "스타벅스 더종로점"),
+            place(4L, "설악산 국립공원"),
+        )
+        // 인기도: 설악산 > 서울숲 > 성산일출봉 > 스타벅스
+        every { placeRepository.findPopularityScores() } returns listOf(
+            arrayOf(1L, 5L), arrayOf(2L, 7L), arrayOf(3L, 1L), arrayOf(4L, 9L)
+        )
+    }
+
+    @Test
+    @DisplayName("완성된 글자 접두사 검색")
+    fun completeSyllablePrefix() {
+        assertEquals(listOf(1L), ids("성산"))
+        assertEquals(listOf(2L), ids("서울"))
+    }
+
+    @Test
+    @DisplayName("입력 중인 글자(자모 단위) 검색 - 인기도 순 정렬")
+    fun composingSyllablePrefix() {
+        // "성" 은 "서울" 입력 도중(서 + ㅇ)에도 나타나므로 서울숲과 성산일출봉이 모두 일치
+        assertEquals(listOf(2L, 1L), ids("성"))
+        // "설"(ㅅㅓㄹ)은 설악산과 일치
+        assertEquals(listOf(4L), ids("설"))
+        assertEquals(listOf(4L, 2L, 1L, 3L), ids("ㅅ"))
+    }
+
+    @Test
+    @DisplayName("초성 검색 및 이름 중간부터 검색")
+    fun choseongAndInfix() {
+        assertEquals(listOf(1L), ids("ㅅㅅㅇㅊ"))
+        assertEquals(listOf(1L), ids("일출"))
+        assertEquals(listOf(3L), ids("더종로"))
+        assertEquals(listOf(3L), ids("ㄷㅈㄹ"))
+        assertEquals(listOf(4L), ids("국립공원"))
+    }
+
+    @Test
+    @DisplayName("여행지 등록/삭제 시 증분 갱신")
+    fun incrementalUpdate() {
+        assertTrue(ids("서귀포").isEmpty())
+
+        placeAutocomplete.onPlaceSaved(place(5L, "서귀포 매일올레시장"))
+        assertEquals(listOf(5L), ids("서귀"))
+        assertEquals(listOf(2L, 1L, 5L), ids("성").plus(ids("서귀")).distinct())
+
+        placeAutocomplete.onPlaceDeleted(2L)
+        assertEquals(listOf(1L), ids("성"))
+        assertEquals(listOf(4L, 1L, 3L, 5L), ids("ㅅ"))
+
+        verify(exactly = 1) { placeCatalog.getAll() }
+    }
+
+    @Test
+    @DisplayName("결과 수 제한")
+    fun limitResults() {
+        assertEquals(listOf(4L, 2L), placeAutocomplete.search("ㅅ", 2).map { it.id })
+    }
+
+    private fun ids(query: String) = placeAutocomplete.search(query, PlaceAutocomplete.MAX_RESULTS).map { it.id }
+
+    private fun place(id: Long, name: String) =
+        PlaceResDto(id, "서울", name, null, Category.PLACE, null, null, null)
+}
@@ -0,0 +1,90 @@
+package com.tripfriend.domain.place.place.service
+
+import com.tripfriend.domain.image.service.ImageVariantService
+import com.tripfriend.domain.place.place.entity.Category
+import com.tripfriend.domain.place.place.entity.Place
+import com.tripfriend.domain.place.place.repository.PlaceRepository
+import io.mockk.*
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.data.redis.connection.DefaultMessage
+import org.springframework.data.redis.connection.MessageListener
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.listener.RedisMessageListenerContainer
+import org.springframework.data.redis.listener.Topic
+
+class PlaceCatalogTest {
+    private val placeRepository = mockk<PlaceRepository>()
+    private val redisTemplate = mockk<RedisTemplate<String, String>>()
+    private val listenerContainer = mockk<RedisMessageListenerContainer>(relaxed = true)
+    private val imageVariantService = mockk<ImageVariantService>()
+    private val messageListener = slot<MessageListener>()
+    private lateinit var placeCatalog: PlaceCatalog
+
+    @BeforeEach
+    fun setUp() {
+        every { listenerContainer.addMessageListener(capture(messageListener), any<Topic>()) } just Runs
+        placeCatalog = PlaceCatalog(placeRepository, redisTemplate, listenerContainer, imageVariantService)
+        placeCatalog.subscribe()
+        every { imageVariantService.findVariants(any()) } returns emptyMap()
+        every { placeRepository.findAll() } returns listOf(place(1L, "서울"), place(2L, "부산"), place(3L, "서울"))
+        every { redisTemplate.convertAndSend(PlaceCatalog.INVALIDATE_CHANNEL, any()) } returns 1L
+    }
+
+    @Test
+    @DisplayName("스냅샷은 한 번만 만들어지고 id / 도시별로 조회된다")
+    fun snapshotBuiltOnceAndIndexed() {
+        assertEquals(3, placeCatalog.getAll().size)
+        assertEquals(listOf(1L, 3L), placeCatalog.getByCity("서울").map { it.id })
+        assertEquals(listOf("서울", "부산"), placeCatalog.getCities())
+        assertEquals("부산", placeCatalog.get(2L)?.cityName)
+        assertNull(placeCatalog.get(99L))
+        assertTrue(placeCatalog.getByCity("제주").isEmpty())
+
+        verify(exactly = 1) { placeRepository.findAll() }
+    }
+
+    @Test
+    @DisplayName("findReference는 스냅샷으로 존재를 확인하고 JPA 참조를 반환한다")
+    fun findReferenceFromSnapshot() {
+        val proxy = place(1L, "서울")
+        every { placeRepository.getReferenceById(1L) } returns proxy
+
+        assertSame(proxy, placeCatalog.findReference(1L))
+        assertNull(placeCatalog.findReference(99L))
+        verify(exactly = 0) { placeRepository.getReferenceById(99L) }
+        verify(exactly = 0) { placeRepository.findById(any()) }
+    }
+
+    @Test
+    @DisplayName("무효화하면 다른 서버에 알리고 다음 조회 때 다시 만든다")
+    fun invalidateRebuildsAndPublishes() {
+        placeCatalog.getAll()
+
+        placeCatalog.invalidate()
+        placeCatalog.getAll()
+
+        verify(exactly = 1) { redisTemplate.convertAndSend(PlaceCatalog.INVALIDATE_CHANNEL, any()) }
+        verify(exactly = 2) { placeRepository.findAll() }
+    }
+
+    @Test
+    @DisplayName("다른 서버의 무효화 메시지를 받으면 스냅샷을 버린다")
+    fun evictOnRemoteMessage() {
+        placeCatalog.getAll()
+
+        messageListener.captured.onMessage(DefaultMessage(PlaceCatalog.INVALIDATE_CHANNEL.toByteArray(), "other-node".toByteArray()), null)
+        placeCatalog.getAll()
+
+        verify(exactly = 2) { placeRepository.findAll() }
+    }
+
+    private fun place(id: Long, city: String) = Place().apply {
+        this.id = id
+        cityName = city
+        placeName = "장소$id"
+        category = Category.PLACE
+    }
+}
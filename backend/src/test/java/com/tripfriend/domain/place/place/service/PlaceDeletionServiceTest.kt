@@ -0,0 +1,188 @@
+package com.tripfriend.domain.place.place.service
+
+import com.tripfriend.domain.place.place.entity.Category
+import com.tripfriend.domain.place.place.entity.Place
+import com.tripfriend.domain.place.place.entity.PlaceDeletionJob
+import com.tripfriend.domain.place.place.entity.PlaceDeletionStatus
+import com.tripfriend.domain.place.place.repository.PlaceDeletionJobRepository
+import com.tripfriend.domain.place.place.repository.PlaceRepository
+import com.tripfriend.domain.recruit.apply.repository.ApplyRepository
+import com.tripfriend.domain.recruit.recruit.repository.RecruitRepository
+import com.tripfriend.domain.review.repository.CommentRepository
+import com.tripfriend.domain.review.repository.ReviewRepository
+import com.tripfriend.domain.trip.information.repository.TripInformationRepository
+import com.tripfriend.domain.trip.schedule.repository.TripScheduleRepository
+import com.tripfriend.global.exception.ServiceException
+import com.tripfriend.global.util.ImageUtil
+import io.mockk.*
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.transaction.support.TransactionCallback
+import org.springframework.transaction.support.TransactionTemplate
+import java.util.*
+
+class PlaceDeletionServiceTest {
+    private val placeRepository = mockk<PlaceRepository>(relaxed = true)
+    private val placeDeletionJobRepository = mockk<PlaceDeletionJobRepository>()
+    private val recruitRepository = mockk<RecruitRepository>(relaxed = true)
+    private val applyRepository = mockk<ApplyRepository>()
+    private val reviewRepository = mockk<ReviewRepository>(relaxed = true)
+    private val commentRepository = mockk<CommentRepository>()
+    private val tripInformationRepository = mockk<TripInformationRepository>(relaxed = true)
+    private val tripScheduleRepository = mockk<TripScheduleRepository>()
+    private val placeCatalog = mockk<PlaceCatalog>(relaxUnitFun = true)
+    private val imageUtil = mockk<ImageUtil>(relaxUnitFun = true)
+    private val transactionTemplate = mockk<TransactionTemplate>()
+
+    private val placeDeletionService = PlaceDeletionService(
+        placeRepository, placeDeletionJobRepository, recruitRepository, applyRepository,
+        reviewRepository, commentRepository, tripInformationRepository, tripScheduleRepository,
+        placeCatalog, imageUtil, transactionTemplate
+    )
+
+    private val placeId = 1L
+    private lateinit var job: PlaceDeletionJob
+
+    @BeforeEach
+    fun setUp() {
+        clearAllMocks()
+        job = PlaceDeletionJob(id = 10L, placeId = placeId, placeName = "경복궁")
+
+        // 트랜잭션 없이 콜백을 바로 실행
+        every { transactionTemplate.execute(any<TransactionCallback<Any?>>()) } answers {
+            firstArg<TransactionCallback<Any?>>().doInTransaction(mockk(relaxed = true))
+        }
+        every { placeDeletionJobRepository.findById(10L) } returns Optional.of(job)
+        every { placeDeletionJobRepository.claim(10L, any(), any(), any(), any()) } returns 1
+        every { placeDeletionJobRepository.heartbeat(10L, any(), any()) } returns 1
+    }
+
+    @Test
+    @DisplayName("삭제 작업 실행 - 하위 데이터를 청크 단위로 삭제한 뒤 여행지 삭제")
+    fun runJobDeletesDependentsBottomUp() {
+        // Given: 모집글 2개, 리뷰 1개, 여행 정보 2개 (일정 2개)
+        every { recruitRepository.countByPlaceId(placeId) } returnsMany listOf(2L, 0L)
+        every { reviewRepository.countByPlace_Id(placeId) } returnsMany listOf(1L, 0L)
+        every { tripInformationRepository.countByPlaceId(placeId) } returnsMany listOf(2L, 0L)
+
+        every { recruitRepository.findIdsByPlaceId(placeId, any()) } returnsMany listOf(listOf(100L, 101L), emptyList())
+        every { applyRepository.deleteByRecruitIds(listOf(100L, 101L)) } returns 3
+        every { reviewRepository.findIdsByPlaceId(placeId, any()) } returnsMany listOf(listOf(200L), emptyList())
+        every { commentRepository.deleteByReviewIds(listOf(200L)) } returns 4
+        every { tripInformationRepository.findIdsByPlaceId(placeId, any()) } returnsMany listOf(
+            listOf(arrayOf<Any>(300L, 1L), arrayOf<Any>(301L, 2L)),
+            emptyList()
+        )
+        every { tripScheduleRepository.recalculateTotalCosts(setOf(1L, 2L)) } returns 2
+        every { placeRepository.findImageUrlById(placeId) } returns "/images/abc.jpg"
+
+        // When
+        placeDeletionService.runJob(10L)
+
+        // Then
+        verifyOrder {
+            applyRepository.deleteByRecruitIds(listOf(100L, 101L))
+            recruitRepository.deleteAllByIdInBatch(listOf(100L, 101L))
+            commentRepository.deleteByReviewIds(listOf(200L))
+            reviewRepository.deleteViewCountsByReviewIds(listOf(200L))
+            reviewRepository.deleteAllByIdInBatch(listOf(200L))
+            tripInformationRepository.deleteAllByIdInBatch(listOf(300L, 301L))
+            tripScheduleRepository.recalculateTotalCosts(setOf(1L, 2L))
+            placeRepository.deleteAllByIdInBatch(listOf(placeId))
+        }
+        verify(exactly = 1) { placeCatalog.placeDeleted(placeId) }
+        verify(exactly = 1) { imageUtil.deleteImage("/images/abc.jpg") }
+
+        assertEquals(PlaceDeletionStatus.COMPLETED, job.status)
+        assertEquals(5L, job.totalCount)
+        assertEquals(5L, job.processedCount)
+        assertEquals(3L, job.deletedApplies)
+        assertEquals(4L, job.deletedComments)
+        assertNotNull(job.finishedAt)
+    }
+
+    @Test
+    @DisplayName("삭제 작업 실행 - 실패 시 작업 상태를 FAILED로 기록하고 여행지는 남김")
+    fun runJobMarksFailure() {
+        // Given
+        every { recruitRepository.findIdsByPlaceId(placeId, any()) } returns listOf(100L)
+        every { applyRepository.deleteByRecruitIds(any()) } throws IllegalStateException("DB 오류")
+
+        // When
+        placeDeletionService.runJob(10L)
+
+        // Then
+        assertEquals(PlaceDeletionStatus.FAILED, job.status)
+        assertEquals("DB 오류", job.errorMessage)
+        verify(exactly = 0) { placeRepository.deleteAllByIdInBatch(any()) }
+        verify(exactly = 0) { placeCatalog.placeDeleted(any()) }
+    }
+
+    @Test
+    @DisplayName("삭제 작업 실행 - 이미 끝난 작업은 다시 실행하지 않음")
+    fun runJobSkipsFinishedJob() {
+        // Given
+        job.complete()
+
+        // When
+        placeDeletionService.runJob(10L)
+
+        // Then
+        verify(exactly = 0) { recruitRepository.findIdsByPlaceId(any(), any()) }
+        verify(exactly = 0) { placeRepository.deleteAllByIdInBatch(any()) }
+    }
+
+    @Test
+    @DisplayName("삭제 작업 실행 - 다른 서버가 처리 중인 작업은 실행하지 않음")
+    fun runJobSkipsJobClaimedByOtherNode() {
+        // Given
+        every { placeDeletionJobRepository.claim(10L, any(), any(), any(), any()) } returns 0
+
+        // When
+        placeDeletionService.runJob(10L)
+
+        // Then
+        assertEquals(PlaceDeletionStatus.PENDING, job.status)
+        verify(exactly = 0) { recruitRepository.findIdsByPlaceId(any(), any()) }
+    }
+
+    @Test
+    @DisplayName("삭제 작업 실행 - 처리 권한을 다른 서버가 이어받으면 실패 기록 없이 중단")
+    fun runJobStopsWhenTakenOver() {
+        // Given
+        every { recruitRepository.countByPlaceId(placeId) } returns 1L
+        every { placeDeletionJobRepository.heartbeat(10L, any(), any()) } returns 0
+
+        // When
+        placeDeletionService.runJob(10L)
+
+        // Then
+        assertEquals(PlaceDeletionStatus.RUNNING, job.status)
+        assertNull(job.errorMessage)
+        verify(exactly = 0) { recruitRepository.findIdsByPlaceId(any(), any()) }
+        verify(exactly = 0) { placeRepository.deleteAllByIdInBatch(any()) }
+    }
+
+    @Test
+    @DisplayName("삭제 요청 - 이미 진행 중인 작업이 있으면 예외 발생")
+    fun requestDeletionAlreadyRunning() {
+        // Given
+        val place = Place().apply {
+            id = placeId
+            cityName = "서울"
+            placeName = "경복궁"
+            category = Category.PLACE
+        }
+        every { placeRepository.findById(placeId) } returns Optional.of(place)
+        every { placeDeletionJobRepository.existsByPlaceIdAndStatusIn(placeId, any()) } returns true
+
+        // When & Then
+        val exception = assertThrows(ServiceException::class.java) {
+            placeDeletionService.requestDeletion(placeId)
+        }
+        assertEquals("409-1", exception.code)
+        verify(exactly = 0) { placeDeletionJobRepository.save(any()) }
+    }
+}
@@ -0,0 +1,94 @@
+package com.tripfriend.domain.place.place.service
+
+import com.tripfriend.domain.place.place.entity.Category
+import com.tripfriend.domain.place.place.entity.Place
+import com.tripfriend.domain.place.place.repository.PlaceRepository
+import com.tripfriend.global.exception.ServiceException
+import com.tripfriend.global.util.GeoUtil
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.slot
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+class PlaceGeoServiceTest {
+    private val placeRepository = mockk<PlaceRepository>()
+    private val placeGeoService = PlaceGeoService(placeRepository)
+
+    // 서울 시청 기준 좌표
+    private val baseLat = 37.5663
+    private val baseLng = 126.9779
+
+    private val places = listOf(
+        place(1L, "덕수궁", 37.5658, 126.9751),       // 약 0.25km
+        place(2L, "경복궁", 37.5796, 126.9770),       // 약 1.5km
+        place(3L, "남산타워", 37.5512, 126.9882),     // 약 1.9km
+        place(4L, "롯데월드타워", 37.5126, 127.1025), // 약 12km
+        place(5L, "해운대", 35.1587, 129.1604),       // 부산
+    )
+
+    @BeforeEach
+    fun setUp() {
+        // geohash 접두사 조회를 실제 접두사 비교로 흉내낸다
+        val prefixes = slot<Collection<String>>()
+        every { placeRepository.findByGeohashPrefixes(capture(prefixes)) } answers {
+            places.filter { p -> prefixes.captured.any { p.geohash!!.startsWith(it) } }
+        }
+    }
+
+    @Test
+    @DisplayName("반경 검색 - 반경 안의 여행지만 거리순으로 반환")
+    fun findNearbyWithinRadius() {
+        val result = placeGeoService.findNearby(baseLat, baseLng, 2.0, 10)
+
+        assertEquals(listOf(1L, 2L, 3L), result.map { it.place.id })
+        assertTrue(result.zipWithNext().all { (a, b) -> a.distanceKm <= b.distanceKm })
+        assertTrue(result.all { it.distanceKm <= 2.0 })
+    }
+
+    @Test
+    @DisplayName("k-최근접 검색 - 반경 없이 가까운 순으로 limit 개 반환")
+    fun findNearestWithoutRadius() {
+        val result = placeGeoService.findNearby(baseLat, baseLng, null, 4)
+
+        assertEquals(listOf(1L, 2L, 3L, 4L), result.map { it.place.id })
+    }
+
+    @Test
+    @DisplayName("반경 안의 여행지 id 조회")
+    fun findPlaceIdsWithin() {
+        val ids = placeGeoService.findPlaceIdsWithin(baseLat, baseLng, 1.0)
+
+        assertEquals(setOf(1L), ids)
+    }
+
+    @Test
+    @DisplayName("반경이 허용 범위를 벗어나면 예외 발생")
+    fun invalidRadius() {
+        val exception = assertThrows(ServiceException::class.java) {
+            placeGeoService.findNearby(baseLat, baseLng, 100.0, 10)
+        }
+        assertEquals("400-5", exception.code)
+    }
+
+    @Test
+    @DisplayName("좌표가 범위를 벗어나면 예외 발생")
+    fun invalidCoordinates() {
+        val exception = assertThrows(ServiceException::class.java) {
+            placeGeoService.findNearby(91.0, baseLng, 1.0, 10)
+        }
+        assertEquals("400-3", exception.code)
+    }
+
+    private fun place(id: Long, name: String, lat: Double, lng: Double) = Place().apply {
+        this.id = id
+        cityName = "서울"
+        placeName = name
+        category = Category.PLACE
+        latitude = lat
+        longitude = lng
+        geohash = GeoUtil.geohash(lat, lng)
+    }
+}
@@ -1,6 +1,7 @@
 package com.tripfriend.domain.place.place.service
 
 import com.tripfriend.domain.place.place.dto.PlaceCreateReqDto
+import com.tripfriend.domain.place.place.dto.PlaceResDto
 import com.tripfriend.domain.place.place.entity.Category
 import com.tripfriend.domain.place.place.entity.Place
 import com.tripfriend.domain.place.place.repository.PlaceRepository
@@ -26,12 +27,18 @@ class PlaceServiceTest {
     @MockK
     private lateinit var imageUtil: ImageUtil
 
+    @MockK(relaxUnitFun = true)
+    private lateinit var placeCatalog: PlaceCatalog
+
+    @MockK
+    private lateinit var placeAutocomplete: PlaceAutocomplete
+
     private lateinit var placeService: PlaceService
 
     @BeforeEach
     fun setUp() {
         MockKAnnotations.init(this)
-        placeService = PlaceService(placeRepository, imageUtil)
+        placeService = PlaceService(placeRepository, imageUtil, placeCatalog, placeAutocomplete)
     }
 
     @Test
@@ -67,6 +74,7 @@ class PlaceServiceTest {
         assertEquals("남산타워", result.placeName)
         assertNull(result.imageUrl)
         verify(exactly = 1) { placeRepository.save(any()) }
+        verify(exactly = 1) { placeCatalog.placeSaved(any()) }
     }
 
     @Test
@@ -138,42 +146,44 @@ class PlaceServiceTest {
     }
 
     @Test
-    @DisplayName("전체 여행 장소 조회 테스트")
+    @DisplayName("전체 여행 장소 조회 테스트 - 카탈로그 스냅샷 사용")
     fun getAllPlacesTest() {
         // Given
         val places =
             listOf(
-                Place().apply { id = 1L },
-                Place().apply { id = 2L },
+                placeResDto(1L, "서울"),
+                placeResDto(2L, "부산"),
             )
-        every { placeRepository.findAll() } returns places
+        every { placeCatalog.getAll() } returns places
 
         // When
         val result = placeService.getAllPlaces()
 
         // Then
         assertEquals(2, result.size)
-        verify(exactly = 1) { placeRepository.findAll() }
+        verify(exactly = 1) { placeCatalog.getAll() }
+        verify { placeRepository wasNot Called }
     }
 
     @Test
-    @DisplayName("특정 도시의 여행 장소 조회 테스트")
+    @DisplayName("특정 도시의 여행 장소 조회 테스트 - 카탈로그 스냅샷 사용")
     fun getPlacesByCityTest() {
         // Given
         val city = "Seoul"
         val places =
             listOf(
-                Place().apply { cityName = city },
-                Place().apply { cityName = city },
+                placeResDto(1L, city),
+                placeResDto(2L, city),
             )
-        every { placeRepository.findByCityName(city) } returns places
+        every { placeCatalog.getByCity(city) } returns places
 
         // When
         val result = placeService.getPlacesByCity(city)
 
         // Then
         assertTrue(result.all { it.cityName == city })
-        verify(exactly = 1) { placeRepository.findByCityName(city) }
+        verify(exactly = 1) { placeCatalog.getByCity(city) }
+        verify { placeRepository wasNot Called }
     }
 
     @Test
@@ -208,20 +218,6 @@ class PlaceServiceTest {
         verify(exactly = 1) { placeRepository.findById(placeId) }
     }
 
-    @Test
-    @DisplayName("여행 장소 삭제 테스트")
-    fun deletePlaceTest() {
-        // Given
-        val place = Place().apply { id = 1L }
-        every { placeRepository.delete(place) } just Runs // void 메서드에 대한 stub 설정
-
-        // When
-        placeService.deletePlace(place)
-
-        // Then
-        verify(exactly = 1) { placeRepository.delete(place) }
-    }
-
     @Test
     @DisplayName("여행 장소 검색 테스트 - 이름과 도시 모두 제공된 경우")
     fun searchPlaceWithNameAndCityTest() {
@@ -316,4 +312,7 @@ class PlaceServiceTest {
         assertEquals(expectedUrl, result)
         verify(exactly = 1) { imageUtil.saveImage(mockFile) }
     }
+
+    private fun placeResDto(id: Long, city: String) =
+        PlaceResDto(id, city, "장소$id", null, Category.PLACE, null, null, null)
 }
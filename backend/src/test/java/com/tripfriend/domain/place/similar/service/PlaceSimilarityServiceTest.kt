@@ -0,0 +1,135 @@
+package com.tripfriend.domain.place.similar.service
+
+import com.tripfriend.domain.place.place.dto.PlaceResDto
+import com.tripfriend.domain.place.place.entity.Category
+import com.tripfriend.domain.place.place.entity.Place
+import com.tripfriend.domain.place.place.service.PlaceCatalog
+import com.tripfriend.domain.place.similar.entity.PlaceNeighbors
+import com.tripfriend.domain.place.similar.repository.PlaceNeighborsRepository
+import com.tripfriend.domain.trip.information.repository.TripInformationRepository
+import com.tripfriend.global.exception.ServiceException
+import com.tripfriend.global.redis.RedisJobLock
+import io.mockk.every
+import io.mockk.mockk
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.springframework.transaction.support.TransactionTemplate
+import java.util.*
+
+class PlaceSimilarityServiceTest {
+    private val tripInformationRepository = mockk<TripInformationRepository>()
+    private val placeNeighborsRepository = mockk<PlaceNeighborsRepository>()
+    private val placeCatalog = mockk<PlaceCatalog>()
+    private val redisJobLock = mockk<RedisJobLock>()
+    private val transactionTemplate = mockk<TransactionTemplate>()
+
+    private val placeSimilarityService = PlaceSimilarityService(
+        tripInformationRepository, placeNeighborsRepository, placeCatalog, redisJobLock, transactionTemplate
+    )
+
+    @AfterEach
+    fun tearDown() {
+        placeSimilarityService.shutdown()
+    }
+
+    @Test
+    @DisplayName("이웃 계산 - 함께 등장한 일정 수가 많은 순으로 정렬")
+    fun computeNeighborsOrdersByCount() {
+        // Given: 1번 여행지는 2번과 3개 일정, 3번과 1개 일정에 함께 등장
+        val schedules = listOf(
+            longArrayOf(1, 2, 3),
+            longArrayOf(1, 2),
+            longArrayOf(2, 1),
+            longArrayOf(4, 5)
+        )
+
+        // When
+        val neighbors = placeSimilarityService.computeNeighbors(schedules, 10)
+
+        // Then
+        assertEquals(listOf(2L, 3L), neighbors[1L]!!.map { it.placeId })
+        assertEquals(listOf(3, 1), neighbors[1L]!!.map { it.count })
+        assertEquals(listOf(1L, 3L), neighbors[2L]!!.map { it.placeId })
+        assertEquals(listOf(5L), neighbors[4L]!!.map { it.placeId })
+    }
+
+    @Test
+    @DisplayName("이웃 계산 - 횟수가 같으면 코사인 유사도가 높은 여행지 우선, 상위 N개만 유지")
+    fun computeNeighborsKeepsTopNBySimilarity() {
+        // Given: 1번은 2번, 3번과 각각 한 번씩 함께 등장하지만 3번은 다른 일정에도 자주 등장
+        val schedules = listOf(
+            longArrayOf(1, 2),
+            longArrayOf(1, 3),
+            longArrayOf(3, 4),
+            longArrayOf(3, 5)
+        )
+
+        // When
+        val neighbors = placeSimilarityService.computeNeighbors(schedules, 1)
+
+        // Then
+        assertEquals(listOf(2L), neighbors[1L]!!.map { it.placeId })
+        assertEquals(1, neighbors[3L]!!.size)
+    }
+
+    @Test
+    @DisplayName("이웃 계산 - 여러 작업으로 나눠 집계해도 결과가 같음")
+    fun computeNeighborsMergesPartialCounts() {
+        // Given: 작업 하나당 일정 수(1,000)를 넘도록 같은 일정을 반복
+        val schedules = List(5_000) { longArrayOf(10, 20, (30 + it % 2).toLong()) }
+
+        // When
+        val neighbors = placeSimilarityService.computeNeighbors(schedules, 10)
+
+        // Then
+        assertEquals(5_000, neighbors[10L]!!.first { it.placeId == 20L }.count)
+        assertEquals(2_500, neighbors[10L]!!.first { it.placeId == 30L }.count)
+        assertTrue(neighbors[30L]!!.none { it.placeId == 31L })
+    }
+
+    @Test
+    @DisplayName("이웃 계산 - 쌍 키로 표현할 수 없는 여행지 ID는 제외하고 나머지는 집계")
+    fun computeNeighborsSkipsOversizedIds() {
+        val oversized = PlaceSimilarityService.MAX_PAIR_PLACE_ID + 1
+        val schedules = listOf(longArrayOf(1, 2, oversized), longArrayOf(3, oversized))
+
+        val neighbors = placeSimilarityService.computeNeighbors(schedules, 10)
+
+        assertEquals(setOf(1L, 2L), neighbors.keys)
+        assertEquals(listOf(2L), neighbors[1L]!!.map { it.placeId })
+    }
+
+    @Test
+    @DisplayName("즉시 집계 - 다른 서버에서 집계 중이면 409")
+    fun rebuildAlreadyRunning() {
+        every { redisJobLock.withLock<Int>(PlaceSimilarityService.REBUILD_LOCK_KEY, any(), any()) } returns null
+
+        val exception = assertThrows<ServiceException> { placeSimilarityService.rebuild() }
+
+        assertEquals("409-1", exception.code)
+    }
+
+    @Test
+    @DisplayName("함께 방문한 여행지 조회 - 삭제된 여행지는 제외하고 limit만큼 반환")
+    fun getSimilarPlaces() {
+        // Given
+        val place2 = PlaceResDto(Place().apply { id = 2L; cityName = "서울"; placeName = "창덕궁"; category = Category.PLACE })
+        val place4 = PlaceResDto(Place().apply { id = 4L; cityName = "서울"; placeName = "북촌"; category = Category.PLACE })
+        every { placeNeighborsRepository.findById(1L) } returns
+            Optional.of(PlaceNeighbors.of(1L, listOf(2L to 5, 3L to 4, 4L to 2)))
+        every { placeCatalog.get(2L) } returns place2
+        every { placeCatalog.get(3L) } returns null
+        every { placeCatalog.get(4L) } returns place4
+
+        // When
+        val result = placeSimilarityService.getSimilarPlaces(1L, 10)
+
+        // Then
+        assertEquals(listOf("창덕궁", "북촌"), result.map { it.place.placeName })
+        assertEquals(listOf(5, 2), result.map { it.coVisitCount })
+    }
+}
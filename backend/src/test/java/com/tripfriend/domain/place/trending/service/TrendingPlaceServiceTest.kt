@@ -0,0 +1,129 @@
+package com.tripfriend.domain.place.trending.service
+
+import com.tripfriend.domain.place.place.dto.PlaceResDto
+import com.tripfriend.domain.place.place.entity.Category
+import com.tripfriend.domain.place.place.service.PlaceCatalog
+import com.tripfriend.domain.place.trending.entity.TrendingSignal
+import com.tripfriend.domain.recruit.recruit.repository.RecruitRepository
+import com.tripfriend.domain.review.repository.ReviewRepository
+import com.tripfriend.domain.trip.information.repository.TripInformationRepository
+import io.mockk.*
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.SetOperations
+import org.springframework.data.redis.core.ValueOperations
+import org.springframework.data.redis.core.ZSetOperations
+import org.springframework.data.redis.core.script.RedisScript
+import java.time.LocalDateTime
+import java.time.ZoneId
+
+class TrendingPlaceServiceTest {
+    private val redisTemplate = mockk<RedisTemplate<String, String>>(relaxed = true)
+    private val zSetOperations = mockk<ZSetOperations<String, String>>(relaxed = true)
+    private val valueOperations = mockk<ValueOperations<String, String>>(relaxed = true)
+    private val setOperations = mockk<SetOperations<String, String>>(relaxed = true)
+    private val placeCatalog = mockk<PlaceCatalog>()
+    private val reviewRepository = mockk<ReviewRepository>()
+    private val recruitRepository = mockk<RecruitRepository>()
+    private val tripInformationRepository = mockk<TripInformationRepository>()
+
+    private val trendingPlaceService = TrendingPlaceService(
+        redisTemplate, placeCatalog, reviewRepository, recruitRepository, tripInformationRepository
+    )
+
+    @BeforeEach
+    fun setUp() {
+        every { redisTemplate.opsForZSet() } returns zSetOperations
+        every { redisTemplate.opsForValue() } returns valueOperations
+        every { redisTemplate.opsForSet() } returns setOperations
+        every { placeCatalog.get(1L) } returns place(1L, "서울")
+        every { placeCatalog.get(2L) } returns place(2L, "서울")
+        every { placeCatalog.get(3L) } returns place(3L, "부산")
+    }
+
+    @Test
+    @DisplayName("활동 기록 - 도시 키에 가중치와 발생 시각을 넘겨 증분 스크립트 실행")
+    fun recordRunsIncrementScript() {
+        // Given
+        val occurredAt = LocalDateTime.now().minusDays(1)
+        val eventSecond = occurredAt.atZone(ZoneId.systemDefault()).toEpochSecond()
+        every { redisTemplate.execute(any<RedisScript<Long>>(), any<List<String>>(), *anyVararg()) } returns 1L
+
+        // When
+        trendingPlaceService.record(TrendingSignal.REVIEW, 1L, occurredAt, 0.8)
+
+        // Then
+        verify(exactly = 1) {
+            redisTemplate.execute(
+                any<RedisScript<Long>>(),
+                listOf("trending:city:서울", "trending:epoch", "trending:cities"),
+                "1", (TrendingSignal.REVIEW.weight * 0.8).toString(), eventSecond.toString(), any(), any(), any()
+            )
+        }
+    }
+
+    @Test
+    @DisplayName("활동 기록 - 카탈로그에 없는 여행지나 발생 시각이 없으면 무시")
+    fun recordIgnoresUnknownPlace() {
+        every { placeCatalog.get(99L) } returns null
+
+        trendingPlaceService.record(TrendingSignal.RECRUIT, 99L, LocalDateTime.now())
+        trendingPlaceService.record(TrendingSignal.RECRUIT, 1L, null)
+
+        verify(exactly = 0) { redisTemplate.execute(any<RedisScript<Long>>(), any<List<String>>(), *anyVararg()) }
+    }
+
+    @Test
+    @DisplayName("인기 여행지 조회 - 상위 k개를 점수 순으로 반환하고 현재 시각 기준으로 환산")
+    fun getTrendingScalesScores() {
+        // Given: 기준 시각이 반감기(7일) 전이면 저장된 점수의 절반
+        val epoch = LocalDateTime.now().minusDays(7).atZone(ZoneId.systemDefault()).toEpochSecond()
+        every { zSetOperations.reverseRangeWithScores("trending:city:서울", 0, 1) } returns linkedSetOf(
+            ZSetOperations.TypedTuple.of("2", 8.0),
+            ZSetOperations.TypedTuple.of("1", 4.0)
+        )
+        every { valueOperations.get("trending:epoch") } returns epoch.toString()
+
+        // When
+        val result = trendingPlaceService.getTrending("서울", 2)
+
+        // Then
+        assertEquals(listOf(2L, 1L), result.map { it.place.id })
+        assertEquals(listOf(1, 2), result.map { it.rank })
+        assertEquals(4.0, result[0].score, 0.01)
+        assertEquals(2.0, result[1].score, 0.01)
+    }
+
+    @Test
+    @DisplayName("랭킹 재구성 - 세 가지 활동을 감쇠 합산하여 도시별로 다시 적재")
+    fun rebuildAggregatesSignals() {
+        // Given
+        val now = LocalDateTime.now()
+        every { reviewRepository.findTrendingSignals() } returns listOf(arrayOf(1L, 5.0, now))
+        every { recruitRepository.findOpenTrendingSignals() } returns listOf(arrayOf(1L, now), arrayOf(3L, now.minusDays(7)))
+        every { tripInformationRepository.findTrendingSignals() } returns listOf(arrayOf(2L, now))
+        every { setOperations.members("trending:cities") } returns setOf("trending:city:서울")
+
+        val seoul = slot<Set<ZSetOperations.TypedTuple<String>>>()
+        val busan = slot<Set<ZSetOperations.TypedTuple<String>>>()
+        every { zSetOperations.add("trending:city:서울", capture(seoul)) } returns 2L
+        every { zSetOperations.add("trending:city:부산", capture(busan)) } returns 1L
+
+        // When
+        val count = trendingPlaceService.rebuild()
+
+        // Then
+        assertEquals(3, count)
+        verify { redisTemplate.delete(setOf("trending:city:서울")) }
+        val seoulScores = seoul.captured.associate { it.value to it.score!! }
+        assertEquals(TrendingSignal.REVIEW.weight + TrendingSignal.RECRUIT.weight, seoulScores["1"]!!, 0.01)
+        assertEquals(TrendingSignal.TRIP_INFORMATION.weight, seoulScores["2"]!!, 0.01)
+        assertEquals(TrendingSignal.RECRUIT.weight / 2, busan.captured.single().score!!, 0.01) // 7일 전 = 반감
+    }
+
+    private fun place(id: Long, city: String) =
+        PlaceResDto(id, city, "장소$id", null, Category.PLACE, null, null, null)
+}
@@ -3,13 +3,13 @@ package com.tripfriend.domain.recruit.apply.service
 import com.tripfriend.domain.member.member.entity.AgeRange
 import com.tripfriend.domain.member.member.entity.Gender
 import com.tripfriend.domain.member.member.entity.Member
-import com.tripfriend.domain.member.member.service.AuthService
 import com.tripfriend.domain.place.place.entity.Place
 import com.tripfriend.domain.recruit.apply.dto.ApplyCreateRequestDto
 import com.tripfriend.domain.recruit.apply.entity.Apply
 import com.tripfriend.domain.recruit.apply.repository.ApplyRepository
 import com.tripfriend.domain.recruit.recruit.entity.Recruit
 import com.tripfriend.domain.recruit.recruit.repository.RecruitRepository
+import com.tripfriend.domain.trip.schedule.service.TripScheduleService
 import io.mockk.clearAllMocks
 import io.mockk.every
 import io.mockk.mockk
@@ -24,8 +24,8 @@ class ApplyServiceTest {
 
     private val applyRepository = mockk<ApplyRepository>()
     private val recruitRepository = mockk<RecruitRepository>()
-    private val authService = mockk<AuthService>()
-    private val applyService = ApplyService(applyRepository, recruitRepository, mockk(), authService)
+    private val tripScheduleService = mockk<TripScheduleService>()
+    private val applyService = ApplyService(applyRepository, recruitRepository, mockk(), tripScheduleService)
 
     @BeforeEach
     fun setUp() {
@@ -52,7 +52,6 @@ class ApplyServiceTest {
     @DisplayName("댓글 등록 - 성공")
     fun createApplySuccess() {
         // Given
-        val token = "valid_token"
         val place = createTestPlace()
         val recruit = createTestRecruit(1L, mockk(), place)
 
@@ -72,17 +71,18 @@ class ApplyServiceTest {
             updatedAt = LocalDateTime.now()
         }
 
-        every { authService.getLoggedInMember(token) } returns mockMember
         every { recruitRepository.findById(1L) } returns Optional.of(recruit)
         every { applyRepository.save(any()) } returns apply
+        every { tripScheduleService.getConflictingSchedules(1L, recruit.startDate, recruit.endDate) } returns emptyList()
 
         // When
-        val result = applyService.create(1L, requestDto, token)
+        val result = applyService.create(1L, requestDto, mockMember)
 
         // Then
         assertEquals("댓글 내용", result.content)
         assertEquals(1L, result.memberId)
         assertEquals("닉네임", result.memberNickname)
+        assertEquals(0, result.scheduleConflicts.size)
     }
 
 
@@ -90,15 +90,13 @@ class ApplyServiceTest {
     @Test
     @DisplayName("댓글 삭제 - 성공 (본인)")
     fun deleteApplySuccess() {
-        val token = "token"
         val member = createTestMember()
         val apply = createTestApply(member, createTestRecruit(1L, member, createTestPlace()))
 
         every { applyRepository.findById(1L) } returns Optional.of(apply)
-        every { authService.getLoggedInMember(token) } returns member
         every { applyRepository.deleteById(1L) } returns Unit
 
-        applyService.delete(1L, token)
+        applyService.delete(1L, member)
     }
 
     // 헬퍼 메서드들
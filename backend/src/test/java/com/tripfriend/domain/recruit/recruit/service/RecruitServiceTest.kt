@@ -1,12 +1,15 @@
 package com.tripfriend.domain.recruit.recruit.service
 
+import com.tripfriend.domain.image.service.ImageVariantService
 import com.tripfriend.domain.member.member.entity.AgeRange
 import com.tripfriend.domain.member.member.entity.Gender
 import com.tripfriend.domain.member.member.entity.Member
 import com.tripfriend.domain.member.member.entity.TravelStyle
-import com.tripfriend.domain.member.member.service.AuthService
 import com.tripfriend.domain.place.place.entity.Place
 import com.tripfriend.domain.place.place.repository.PlaceRepository
+import com.tripfriend.domain.place.place.service.PlaceCatalog
+import com.tripfriend.domain.place.place.service.PlaceGeoService
+import com.tripfriend.domain.place.trending.service.TrendingPlaceService
 import com.tripfriend.domain.recruit.apply.entity.Apply
 import com.tripfriend.domain.recruit.recruit.dto.RecruitRequestDto
 import com.tripfriend.domain.recruit.recruit.entity.Recruit
@@ -15,6 +18,7 @@ import com.tripfriend.global.exception.ServiceException
 import io.mockk.clearAllMocks
 import io.mockk.every
 import io.mockk.mockk
+import io.mockk.verify
 import org.junit.jupiter.api.Assertions.*
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.DisplayName
@@ -26,12 +30,19 @@ import java.util.*
 class RecruitServiceTest {
     private val recruitRepository = mockk<RecruitRepository>()
     private val placeRepository = mockk<PlaceRepository>()
-    private val authService = mockk<AuthService>()
-    private val recruitService = RecruitService(recruitRepository, placeRepository, authService)
+    private val placeCatalog = mockk<PlaceCatalog>()
+    private val placeGeoService = mockk<PlaceGeoService>()
+    private val trendingPlaceService = mockk<TrendingPlaceService>(relaxUnitFun = true)
+    private val imageVariantService = mockk<ImageVariantService>()
+    private val recruitService = RecruitService(
+        recruitRepository, placeRepository, placeCatalog, placeGeoService, trendingPlaceService,
+        imageVariantService
+    )
 
     @BeforeEach
     fun setUp() {
         clearAllMocks()
+        every { imageVariantService.findVariants(any()) } returns emptyMap()
     }
 
     @Test
@@ -80,7 +91,6 @@ class RecruitServiceTest {
     @DisplayName("모집글 생성 - 성공")
     fun createRecruitSuccess() {
         // Given
-        val token = "valid_token"
         val member = createTestMember()
         val place = createTestPlace()
 
@@ -92,44 +102,22 @@ class RecruitServiceTest {
         )
 
         // 🔹 내부 호출 모킹 설정
-        every { authService.getLoggedInMember(token) } returns member                    // 로그인된 멤버 반환
         every { requestDto.placeId } returns place.id                                    // DTO 내부 placeId
-        every { placeRepository.findById(place.id!!) } returns Optional.of(place)        // 장소 찾기
+        every { placeCatalog.findReference(place.id!!) } returns place                   // 장소 찾기 (카탈로그 스냅샷)
         every { requestDto.toEntity(member, place) } returns recruit                     // DTO -> Recruit 변환
         every { recruitRepository.save(recruit) } returns recruit                        // 저장된 Recruit 리턴
 
         // When
-        val result = recruitService.create(requestDto, token)
+        val result = recruitService.create(requestDto, member)
 
         // Then
         assertNotNull(result) // 결과가 null이 아닌지만 검증 (추가적으로 값 비교 가능)
     }
 
-    @Test
-    @DisplayName("모집글 생성 - 실패 (로그인하지 않은 경우)")
-    fun createRecruitFailDueToNoLogin() {
-        // Given
-        val token = "invalid_token" // 로그인 정보가 없는 토큰
-        val requestDto = mockk<RecruitRequestDto>()
-
-        // 🔹 로그인된 멤버가 없도록 설정 (null 반환)
-        every { authService.getLoggedInMember(token) } throws ServiceException("401-1", "로그인이 필요합니다.")
-
-        // When & Then
-        val exception = assertThrows<ServiceException> {
-            recruitService.create(requestDto, token)
-        }
-
-        assertEquals("401-1", exception.code)
-        assertEquals("로그인이 필요합니다.", exception.message)
-    }
-
-
     @Test
     @DisplayName("모집글 생성 - 실패 (존재하지 않는 장소)")
     fun createRecruitFailDueToMissingPlace() {
         // Given
-        val token = "valid_token"
         val member = createTestMember()
         val invalidPlaceId = 999L
 
@@ -138,13 +126,12 @@ class RecruitServiceTest {
         // ✅ 요청 DTO에서 잘못된 placeId 반환하도록 설정
         every { requestDto.placeId } returns invalidPlaceId
 
-        // 🔹 멤버는 정상 반환되지만, 장소는 Optional.empty()를 반환하게 설정
-        every { authService.getLoggedInMember(token) } returns member
-        every { placeRepository.findById(invalidPlaceId) } returns Optional.empty()
+        // 🔹 멤버는 정상 반환되지만, 장소는 카탈로그에 없도록 설정
+        every { placeCatalog.findReference(invalidPlaceId) } returns null
 
         // When & Then
         val exception = assertThrows<ServiceException> {
-            recruitService.create(requestDto, token)
+            recruitService.create(requestDto, member)
         }
 
         assertEquals("404-2", exception.code)
@@ -256,14 +243,12 @@ class RecruitServiceTest {
     @DisplayName("모집글 검색 - 복합 필터 및 정렬 조건 적용 성공")
     fun searchAndFilterSuccess() {
         // Given
-        val token = "valid_token"
         val member = createTestMember()
         val place = createTestPlace()
         val recruit = createTestRecruit(1L, member, place)
 
         val filteredList = listOf(recruit)
 
-        every { authService.getLoggedInMember(token) } returns member
         every {
             recruitRepository.searchFilterSort(
                 keyword = "여행",
@@ -299,7 +284,7 @@ class RecruitServiceTest {
             minGroupSize = 1,
             maxGroupSize = 5,
             sortBy = "budget_desc",
-            token = token
+            member = member
         )
 
         // Then
@@ -307,11 +292,74 @@ class RecruitServiceTest {
         assertEquals(recruit.recruitId, result[0].recruitId)
     }
 
+    @Test
+    @DisplayName("모집글 검색 - 위치 필터 적용 시 반경 안의 여행지로 좁혀서 검색")
+    fun searchAndFilterWithLocation() {
+        // Given
+        val member = createTestMember()
+        val place = createTestPlace()
+        val recruit = createTestRecruit(1L, member, place)
+
+        every { placeGeoService.findPlaceIdsWithin(37.5, 127.0, 5.0) } returns setOf(place.id!!)
+        every {
+            recruitRepository.searchFilterSort(
+                null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, setOf(place.id!!)
+            )
+        } returns listOf(recruit)
+
+        // When
+        val result = recruitService.searchAndFilter(
+            null, null, null, null, null, null, null, null,
+            null, null, null, null, null, null,
+            latitude = 37.5, longitude = 127.0, radiusKm = 5.0
+        )
+
+        // Then
+        assertEquals(1, result.size)
+        verify(exactly = 1) { placeGeoService.findPlaceIdsWithin(37.5, 127.0, 5.0) }
+    }
+
+    @Test
+    @DisplayName("모집글 검색 - 반경 안에 여행지가 없으면 DB 조회 없이 빈 목록 반환")
+    fun searchAndFilterWithLocationNoPlaces() {
+        // Given
+        every { placeGeoService.findPlaceIdsWithin(33.0, 126.0, null) } returns emptySet()
+
+        // When
+        val result = recruitService.searchAndFilter(
+            null, null, null, null, null, null, null, null,
+            null, null, null, null, null, null,
+            latitude = 33.0, longitude = 126.0
+        )
+
+        // Then
+        assertTrue(result.isEmpty())
+        verify(exactly = 0) {
+            recruitRepository.searchFilterSort(
+                any(), any(), any(), any(), any(), any(), any(), any(),
+                any(), any(), any(), any(), any(), any(), any(), any()
+            )
+        }
+    }
+
+    @Test
+    @DisplayName("모집글 검색 - 위도만 입력하면 예외 발생")
+    fun searchAndFilterWithLatitudeOnly() {
+        val exception = assertThrows<ServiceException> {
+            recruitService.searchAndFilter(
+                null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null,
+                latitude = 37.5
+            )
+        }
+        assertEquals("400-3", exception.code)
+    }
+
     @Test
     @DisplayName("모집글 수정 - 성공 (작성자 본인)")
     fun updateRecruitSuccess() {
         // Given
-        val token = "valid_token"
         val member = createTestMember()
         val place = createTestPlace()
         val recruit = createTestRecruit(1L, member, place)
@@ -319,10 +367,9 @@ class RecruitServiceTest {
 
         every { recruitRepository.findById(1L) } returns Optional.of(recruit)
         every { placeRepository.findById(place.id!!) } returns Optional.of(place)
-        every { authService.getLoggedInMember(token) } returns member
 
         // When
-        val result = recruitService.update(1L, requestDto, token)
+        val result = recruitService.update(1L, requestDto, member)
 
         // Then
         assertEquals(recruit.recruitId, result.recruitId)
@@ -334,7 +381,6 @@ class RecruitServiceTest {
     @DisplayName("모집글 수정 - 실패 (모집글이 존재하지 않는 경우)")
     fun updateRecruitFailDueToMissingRecruit() {
         // Given
-        val token = "valid_token"
         val member = createTestMember()
         val place = createTestPlace()
 
@@ -344,7 +390,7 @@ class RecruitServiceTest {
 
         // When & Then
         val exception = assertThrows<ServiceException> {
-            recruitService.update(1L, requestDto, token)
+            recruitService.update(1L, requestDto, member)
         }
 
         assertEquals("404-3", exception.code)
@@ -355,7 +401,6 @@ class RecruitServiceTest {
     @DisplayName("모집글 수정 - 실패 (장소가 존재하지 않는 경우)")
     fun updateRecruitFailDueToMissingPlace() {
         // Given
-        val token = "valid_token"
         val member = createTestMember()
         val place = createTestPlace()
         val recruit = createTestRecruit(1L, member, place)
@@ -363,46 +408,20 @@ class RecruitServiceTest {
 
         every { recruitRepository.findById(1L) } returns Optional.of(recruit)
         every { placeRepository.findById(place.id!!) } returns Optional.empty() // ❌ 존재하지 않는 장소
-        every { authService.getLoggedInMember(token) } returns member
 
         // When & Then
         val exception = assertThrows<ServiceException> {
-            recruitService.update(1L, requestDto, token)
+            recruitService.update(1L, requestDto, member)
         }
 
         assertEquals("404-2", exception.code)
         assertEquals("해당 장소가 존재하지 않습니다.", exception.message)
     }
 
-    @Test
-    @DisplayName("모집글 수정 - 실패 (로그인하지 않은 경우)")
-    fun updateRecruitFailDueToNotLoggedIn() {
-        // Given
-        val invalidToken = "invalid_token"
-        val place = createTestPlace()
-        val member = createTestMember()
-        val recruit = createTestRecruit(1L, member, place)
-        val requestDto = createTestRecruitRequestDto(place)
-
-        every { recruitRepository.findById(1L) } returns Optional.of(recruit)
-        every { placeRepository.findById(place.id!!) } returns Optional.of(place)
-        every { authService.getLoggedInMember(invalidToken) } throws ServiceException("401-1", "로그인이 필요합니다.") // 실제로 null을 리턴하지는 않고 예외 던진다.
-
-        // When & Then
-        val exception = assertThrows<ServiceException> {
-            recruitService.update(1L, requestDto, invalidToken)
-        }
-
-        assertEquals("401-1", exception.code)
-        assertEquals("로그인이 필요합니다.", exception.message)
-    }
-
-
     @Test
     @DisplayName("모집글 수정 - 실패 (작성자가 아니고 관리자도 아닌 경우)")
     fun updateRecruitFailDueToNoPermission() {
         // Given
-        val token = "valid_token"
         val writer = createTestMember() // 모집글 작성자
         val stranger = createTestMember().copy(id = 999L, nickname = "낯선이", authority = "USER") // 다른 사람
         val place = createTestPlace()
@@ -411,11 +430,10 @@ class RecruitServiceTest {
 
         every { recruitRepository.findById(1L) } returns Optional.of(recruit)
         every { placeRepository.findById(place.id!!) } returns Optional.of(place)
-        every { authService.getLoggedInMember(token) } returns stranger
 
         // When & Then
         val exception = assertThrows<ServiceException> {
-            recruitService.update(1L, requestDto, token)
+            recruitService.update(1L, requestDto, stranger)
         }
 
         assertEquals("403-2", exception.code)
@@ -426,17 +444,15 @@ class RecruitServiceTest {
     @DisplayName("모집글 삭제 - 성공 (작성자 본인)")
     fun deleteRecruitSuccessAsOwner() {
         // Given
-        val token = "valid_token"
         val member = createTestMember()
         val place = createTestPlace()
         val recruit = createTestRecruit(1L, member, place)
 
         every { recruitRepository.findById(1L) } returns Optional.of(recruit)
-        every { authService.getLoggedInMember(token) } returns member
         every { recruitRepository.deleteById(1L) } returns Unit // void 함수라는 뜻
 
         // When
-        recruitService.delete(1L, token)
+        recruitService.delete(1L, member)
 
         // Then: 예외 안 나면 성공!
     }
@@ -445,60 +461,33 @@ class RecruitServiceTest {
     @DisplayName("모집글 삭제 - 실패 (모집글이 존재하지 않는 경우)")
     fun deleteRecruitFailDueToMissingRecruit() {
         // Given
-        val token = "valid_token"
         val member = createTestMember()
 
         every { recruitRepository.findById(1L) } returns Optional.empty()
-        every { authService.getLoggedInMember(token) } returns member // 실제로 호출 안 됨 (short-circuit)
 
         // When & Then
         val exception = assertThrows<ServiceException> {
-            recruitService.delete(1L, token)
+            recruitService.delete(1L, member)
         }
 
         assertEquals("404-3", exception.code)
         assertEquals("해당 모집글이 존재하지 않습니다.", exception.message)
     }
 
-    @Test
-    @DisplayName("모집글 삭제 - 실패 (로그인하지 않은 경우)")
-    fun deleteRecruitFailDueToNotLoggedIn() {
-        // Given
-        val invalidToken = "invalid_token"
-        val member = createTestMember()
-        val place = createTestPlace()
-        val recruit = createTestRecruit(1L, member, place)
-
-        // mock 설정
-        every { recruitRepository.findById(1L) } returns Optional.of(recruit)
-        every { authService.getLoggedInMember(invalidToken) } throws ServiceException("401-1", "로그인이 필요합니다.") // ❗ 로그인 실패
-
-        // When & Then
-        val exception = assertThrows<ServiceException> {
-            recruitService.delete(1L, invalidToken)
-        }
-
-        assertEquals("401-1", exception.code)
-        assertEquals("로그인이 필요합니다.", exception.message)
-    }
-
-
     @Test
     @DisplayName("모집글 삭제 - 실패 (작성자가 아니고 관리자도 아님)")
     fun deleteRecruitFailDueToNoPermission() {
         // Given
-        val token = "valid_token"
         val writer = createTestMember() // 글 작성자
         val stranger = createTestMember().copy(id = 999L, authority = "USER", nickname = "낯선이")
         val place = createTestPlace()
         val recruit = createTestRecruit(1L, writer, place)
 
         every { recruitRepository.findById(1L) } returns Optional.of(recruit)
-        every { authService.getLoggedInMember(token) } returns stranger
 
         // When & Then
         val exception = assertThrows<ServiceException> {
-            recruitService.delete(1L, token)
+            recruitService.delete(1L, stranger)
         }
 
         assertEquals("403-2", exception.code)
@@ -2,7 +2,9 @@ package com.tripfriend.domain.review.service
 
 import com.tripfriend.domain.member.member.entity.Member
 import com.tripfriend.domain.place.place.entity.Place
-import com.tripfriend.domain.place.place.repository.PlaceRepository
+import com.tripfriend.domain.place.place.service.PlaceCatalog
+import com.tripfriend.domain.place.place.service.PlaceGeoService
+import com.tripfriend.domain.place.trending.service.TrendingPlaceService
 import com.tripfriend.domain.review.dto.ReviewRequestDto
 import com.tripfriend.domain.review.dto.ReviewResponseDto
 import com.tripfriend.domain.review.entity.Review
@@ -55,7 +57,13 @@ class ReviewServiceTest {
     private lateinit var viewCountRepository: ReviewViewCountRepository
 
     @MockK
-    private lateinit var placeRepository: PlaceRepository
+    private lateinit var placeCatalog: PlaceCatalog
+
+    @MockK
+    private lateinit var placeGeoService: PlaceGeoService
+
+    @MockK(relaxUnitFun = true)
+    private lateinit var trendingPlaceService: TrendingPlaceService
 
     @InjectMockKs
     private lateinit var reviewService: ReviewService
@@ -132,7 +140,7 @@ class ReviewServiceTest {
         @DisplayName("리뷰 생성 성공")
         fun createReviewSuccess() {
             // Given
-            every { placeRepository.findById(1L) } returns Optional.of(testPlace)
+            every { placeCatalog.findReference(1L) } returns testPlace
             every { reviewRepository.save(any()) } returns testReview
             every { viewCountRepository.save(any()) } returns testViewCount
 
@@ -146,7 +154,7 @@ class ReviewServiceTest {
             assertEquals("테스트 사용자", result.memberName)
 
             verify {
-                placeRepository.findById(1L)
+                placeCatalog.findReference(1L)
                 reviewRepository.save(any())
                 viewCountRepository.save(any())
             }
@@ -167,7 +175,7 @@ class ReviewServiceTest {
             assertEquals("여행지 정보는 필수입니다.", exception.msg)
 
             verify(exactly = 0) {
-                placeRepository.findById(any())
+                placeCatalog.findReference(any())
                 reviewRepository.save(any())
             }
         }
@@ -187,7 +195,7 @@ class ReviewServiceTest {
             assertEquals("평점은 1점에서 5점 사이여야 합니다.", exception.msg)
 
             verify(exactly = 0) {
-                placeRepository.findById(any())
+                placeCatalog.findReference(any())
                 reviewRepository.save(any())
             }
         }
@@ -196,7 +204,7 @@ class ReviewServiceTest {
         @DisplayName("존재하지 않는 장소로 리뷰 생성 실패")
         fun createReviewFailWithNonExistentPlace() {
             // Given
-            every { placeRepository.findById(1L) } returns Optional.empty()
+            every { placeCatalog.findReference(1L) } returns null
 
             // When & Then
             val exception = assertFailsWith<ServiceException> {
@@ -207,7 +215,7 @@ class ReviewServiceTest {
             assertEquals("해당 여행지가 존재하지 않습니다.", exception.msg)
 
             verify {
-                placeRepository.findById(1L)
+                placeCatalog.findReference(1L)
             }
             verify(exactly = 0) {
                 reviewRepository.save(any())
@@ -663,6 +671,41 @@ class ReviewServiceTest {
             }
         }
 
+        @Test
+        @DisplayName("주변 여행지 리뷰는 조회수 / 댓글 수를 한 번에 조회해 정렬")
+        fun getNearbyReviewsSortedWithPrefetchedCounts() {
+            // Given - 1: 오래됨, 댓글 1개 / 2: 최신, 댓글 3개
+            val olderReview = mockk<Review>()
+            every { olderReview.reviewId } returns 2L
+            every { olderReview.title } returns "오래된 리뷰"
+            every { olderReview.content } returns "내용"
+            every { olderReview.rating } returns 3.0
+            every { olderReview.member } returns testMember
+            every { olderReview.place } returns testPlace
+            every { olderReview.createdAt } returns LocalDateTime.now().minusDays(1)
+            every { olderReview.updatedAt } returns LocalDateTime.now().minusDays(1)
+
+            every { placeGeoService.findPlaceIdsWithin(37.5, 127.0, null) } returns setOf(1L)
+            every { reviewRepository.findByPlace_IdInOrderByCreatedAtDesc(setOf(1L)) } returns listOf(testReview, olderReview)
+            every { viewCountRepository.findCountsByReviewIds(listOf(1L, 2L)) } returns listOf(arrayOf(1L, 5), arrayOf(2L, 9))
+            every { commentRepository.countByReviewIds(listOf(1L, 2L)) } returns listOf(arrayOf(1L, 1L), arrayOf(2L, 3L))
+
+            // When
+            val oldest = reviewService.getReviews("oldest", null, null, null, 37.5, 127.0)
+            val comments = reviewService.getReviews("comments", null, null, null, 37.5, 127.0)
+
+            // Then
+            assertEquals(listOf(2L, 1L), oldest.map { it.reviewId })
+            assertEquals(listOf(2L, 1L), comments.map { it.reviewId })
+            assertEquals(listOf(9, 5), comments.map { it.viewCount })
+            assertEquals(listOf(3, 1), comments.map { it.commentCount })
+
+            verify(exactly = 0) {
+                viewCountRepository.findById(any())
+                commentRepository.findByReviewReviewIdOrderByCreatedAtAsc(any())
+            }
+        }
+
         @Test
         @DisplayName("잘못된 정렬 옵션으로 리뷰 목록 조회 실패")
         fun getReviewsInvalidSortFail() {
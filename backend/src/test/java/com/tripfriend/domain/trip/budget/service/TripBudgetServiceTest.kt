@@ -0,0 +1,95 @@
+package com.tripfriend.domain.trip.budget.service
+
+import com.tripfriend.domain.member.member.entity.Member
+import com.tripfriend.domain.member.member.repository.MemberRepository
+import com.tripfriend.domain.trip.information.dto.TripInformationReqDto
+import com.tripfriend.domain.trip.information.dto.TripInformationUpdateReqDto
+import com.tripfriend.domain.trip.information.entity.Transportation
+import com.tripfriend.domain.trip.information.service.TripInformationService
+import com.tripfriend.domain.trip.schedule.repository.TripScheduleRepository
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.transaction.annotation.Transactional
+import java.time.LocalDateTime
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TripBudgetServiceTest {
+
+    @Autowired
+    private lateinit var tripBudgetService: TripBudgetService
+
+    @Autowired
+    private lateinit var tripInformationService: TripInformationService
+
+    @Autowired
+    private lateinit var tripScheduleRepository: TripScheduleRepository
+
+    @Autowired
+    private lateinit var memberRepository: MemberRepository
+
+    private lateinit var member: Member
+
+    @BeforeEach
+    fun setup() {
+        member = memberRepository.findByUsername("user1").orElseThrow()
+    }
+
+    @Test
+    @DisplayName("세부 일정 추가/수정/삭제 시 일정 경비 합계가 증분 갱신된다")
+    fun totalCostMaintainedIncrementally() {
+        val schedule = tripScheduleRepository.findById(1L).orElseThrow()
+        val before = schedule.totalCost
+
+        val added = tripInformationService.addTripInformation(
+            TripInformationReqDto(
+                tripScheduleId = 1L,
+                placeId = 2L,
+                visitTime = LocalDateTime.of(2025, 4, 11, 10, 0),
+                duration = 2,
+                transportation = Transportation.BUS,
+                cost = 7000
+            ),
+            member
+        )
+        assertThat(schedule.totalCost).isEqualTo(before + 7000)
+
+        tripInformationService.updateTripInformation(
+            added.tripInformationId!!,
+            TripInformationUpdateReqDto(
+                placeId = 2L,
+                visitTime = LocalDateTime.of(2025, 4, 11, 10, 0),
+                duration = 2,
+                transportation = Transportation.BUS,
+                cost = 1000
+            )
+        )
+        assertThat(schedule.totalCost).isEqualTo(before + 1000)
+
+        tripInformationService.deleteTripInformation(added.tripInformationId!!, member)
+        assertThat(schedule.totalCost).isEqualTo(before)
+    }
+
+    @Test
+    @DisplayName("도시별 교통 수단 1일 경비 통계 집계")
+    fun rollupCityCostStats() {
+        val count = tripBudgetService.rollupCityCostStats()
+        assertThat(count).isGreaterThan(0)
+
+        // 서울 힐링 여행: 지하철 3000원 / 3일
+        val stats = tripBudgetService.getCityCostStats("서울")
+        val subway = stats.first { it.transportation == Transportation.SUBWAY }
+        assertThat(subway.sampleCount).isGreaterThanOrEqualTo(1)
+        assertThat(subway.medianCostPerDay).isEqualTo(1000)
+        assertThat(subway.p90CostPerDay).isGreaterThanOrEqualTo(subway.medianCostPerDay)
+
+        // 통계가 없는 도시
+        assertThat(tripBudgetService.getCityCostStats("없는도시")).isEmpty()
+    }
+}
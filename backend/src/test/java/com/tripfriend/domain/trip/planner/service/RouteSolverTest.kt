@@ -0,0 +1,58 @@
+package com.tripfriend.domain.trip.planner.service
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.util.concurrent.TimeUnit
+import kotlin.math.abs
+import kotlin.random.Random
+
+class RouteSolverTest {
+
+    // 1차원 좌표 사이의 거리 행렬
+    private fun lineMatrix(points: List<Double>): Array<DoubleArray> =
+        Array(points.size) { i -> DoubleArray(points.size) { j -> abs(points[i] - points[j]) } }
+
+    @Test
+    @DisplayName("출발점은 고정되고 모든 장소를 한 번씩 방문한다")
+    fun visitsEveryStopOnceFromFixedStart() {
+        val matrix = lineMatrix(listOf(0.0, 5.0, 1.0, 4.0, 2.0, 3.0))
+
+        val result = RouteSolver.solve(matrix, Long.MAX_VALUE)
+
+        assertThat(result.order[0]).isEqualTo(0)
+        assertThat(result.order.sorted()).containsExactly(0, 1, 2, 3, 4, 5)
+        assertThat(result.cost).isEqualTo(5.0)
+        assertThat(result.completed).isTrue()
+    }
+
+    @Test
+    @DisplayName("2-opt 결과는 최근접 이웃 경로보다 길지 않다")
+    fun twoOptNeverWorseThanNearestNeighbour() {
+        val random = Random(7)
+        val points = List(100) { random.nextDouble() to random.nextDouble() }
+        val matrix = Array(points.size) { i ->
+            DoubleArray(points.size) { j ->
+                val dx = points[i].first - points[j].first
+                val dy = points[i].second - points[j].second
+                Math.sqrt(dx * dx + dy * dy)
+            }
+        }
+
+        val nearestNeighbourCost = RouteSolver.pathCost(matrix, RouteSolver.nearestNeighbour(matrix))
+        val result = RouteSolver.solve(matrix, System.nanoTime() + TimeUnit.SECONDS.toNanos(1))
+
+        assertThat(result.cost).isLessThanOrEqualTo(nearestNeighbourCost)
+    }
+
+    @Test
+    @DisplayName("마감 시각이 지나면 개선을 중단하고 초기 경로를 반환한다")
+    fun stopsAtDeadline() {
+        val matrix = lineMatrix(listOf(0.0, 3.0, 1.0, 2.0))
+
+        val result = RouteSolver.solve(matrix, System.nanoTime() - 1)
+
+        assertThat(result.order.sorted()).containsExactly(0, 1, 2, 3)
+        assertThat(result.completed).isFalse()
+    }
+}
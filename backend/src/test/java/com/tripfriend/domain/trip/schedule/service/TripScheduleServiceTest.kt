@@ -5,11 +5,11 @@ import com.tripfriend.domain.member.member.repository.MemberRepository
 import com.tripfriend.domain.trip.information.dto.TripInformationReqDto
 import com.tripfriend.domain.trip.information.dto.TripInformationUpdateReqDto
 import com.tripfriend.domain.trip.information.entity.Transportation
+import com.tripfriend.domain.trip.schedule.dto.TripScheduleCloneReqDto
 import com.tripfriend.domain.trip.schedule.dto.TripScheduleReqDto
 import com.tripfriend.domain.trip.schedule.dto.TripScheduleUpdateReqDto
 import com.tripfriend.domain.trip.schedule.dto.TripUpdateReqDto
 import com.tripfriend.global.exception.ServiceException
-import com.tripfriend.global.util.JwtUtil
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.DisplayName
@@ -33,17 +33,12 @@ class TripScheduleServiceTest {
     @Autowired
     private lateinit var memberRepository: MemberRepository
 
-    @Autowired
-    private lateinit var jwtUtil: JwtUtil
-
     private lateinit var loggedInMember: Member
-    private lateinit var token: String
 
     @BeforeEach
     fun setup() {
         // test 데이터베이스에 user1이 존재한다고 가정
         loggedInMember = memberRepository.findByUsername("user1").orElseThrow()
-        token = jwtUtil.generateAccessToken(loggedInMember.username, loggedInMember.authority, loggedInMember.verified)
     }
 
     @Test
@@ -72,7 +67,7 @@ class TripScheduleServiceTest {
             )
         }
 
-        val result = tripScheduleService.createSchedule(reqDto, token)
+        val result = tripScheduleService.createSchedule(reqDto, loggedInMember)
         assertThat(result).isNotNull
         assertThat(result.id).isNotNull
         assertThat(result.title).isEqualTo("서울 여행")
@@ -104,7 +99,7 @@ class TripScheduleServiceTest {
         }
 
         val ex = assertThrows<ServiceException> {
-            tripScheduleService.createSchedule(reqDto, token)
+            tripScheduleService.createSchedule(reqDto, loggedInMember)
         }
         assertThat(ex.code).isEqualTo("400-2")
     }
@@ -136,17 +131,109 @@ class TripScheduleServiceTest {
         }
 
         val ex = assertThrows<ServiceException> {
-            tripScheduleService.createSchedule(reqDto, token)
+            tripScheduleService.createSchedule(reqDto, loggedInMember)
         }
         assertThat(ex.code).isEqualTo("400-1")
     }
 
+    @Test
+    @DisplayName("여행 일정 생성 성공 - 기존 일정과 기간이 겹치면 경고 반환")
+    fun createScheduleWithConflictWarning() {
+        // user1의 기존 일정: 서울 힐링 여행 (2025-04-10 ~ 2025-04-12)
+        val reqDto = TripScheduleReqDto(
+            memberId = loggedInMember.id,
+            title = "겹치는 서울 여행",
+            cityName = "서울",
+            description = "기존 일정과 겹치는 일정",
+            startDate = LocalDate.of(2025, 4, 11),
+            endDate = LocalDate.of(2025, 4, 13),
+            tripInformations = mutableListOf(
+                TripInformationReqDto(
+                    null, null, 1L, LocalDateTime.of(2025, 4, 11, 9, 0), 2, Transportation.SUBWAY, 3000, "경복궁 방문"
+                )
+            ),
+        )
+
+        val result = tripScheduleService.createSchedule(reqDto, loggedInMember)
+        assertThat(result.conflicts).hasSize(1)
+        assertThat(result.conflicts[0].title).isEqualTo("서울 힐링 여행")
+    }
+
+    @Test
+    @DisplayName("나의 바쁜 기간 조회 성공 - 겹치는 일정은 하나의 기간으로 병합")
+    fun myBusyPeriodsMerged() {
+        val before = tripScheduleService.getMyBusyPeriods(loggedInMember, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31))
+
+        // 기존 서울 일정(04-10 ~ 04-12)과 맞닿는 일정 추가
+        tripScheduleService.createSchedule(
+            TripScheduleReqDto(
+                memberId = loggedInMember.id,
+                title = "연장 일정",
+                cityName = "서울",
+                description = "연장",
+                startDate = LocalDate.of(2025, 4, 13),
+                endDate = LocalDate.of(2025, 4, 14),
+                tripInformations = mutableListOf(
+                    TripInformationReqDto(
+                        null, null, 1L, LocalDateTime.of(2025, 4, 13, 9, 0), 2, Transportation.WALK, 0, null
+                    )
+                ),
+            ), loggedInMember
+        )
+
+        val after = tripScheduleService.getMyBusyPeriods(loggedInMember, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31))
+        assertThat(after).hasSameSizeAs(before)
+        val april = after.first { it.startDate == LocalDate.of(2025, 4, 10) }
+        assertThat(april.endDate).isEqualTo(LocalDate.of(2025, 4, 14))
+        assertThat(april.schedules).hasSize(2)
+    }
+
+    @Test
+    @DisplayName("여행 일정 복사 성공 - 세부 일정 방문 시간이 새 시작일 기준으로 이동")
+    fun cloneScheduleShiftsDates() {
+        // 원본: 서울 힐링 여행 (2025-04-10 ~ 2025-04-12), 세부 일정 3개
+        val result = tripScheduleService.cloneSchedule(1L, TripScheduleCloneReqDto(LocalDate.of(2026, 1, 5)), loggedInMember)
+
+        assertThat(result.id).isNotEqualTo(1L)
+        assertThat(result.memberName).isEqualTo("user1")
+        assertThat(result.title).isEqualTo("서울 힐링 여행")
+        assertThat(result.startDate).isEqualTo(LocalDate.of(2026, 1, 5))
+        assertThat(result.endDate).isEqualTo(LocalDate.of(2026, 1, 7))
+        assertThat(result.tripInformations).hasSize(3)
+        assertThat(result.tripInformations.map { it.visitTime!!.toLocalDate() }).containsOnly(LocalDate.of(2026, 1, 5))
+        assertThat(result.tripInformations.none { it.isVisited }).isTrue()
+        assertThat(result.totalCost).isEqualTo(result.tripInformations.sumOf { it.cost.toLong() })
+    }
+
+    @Test
+    @DisplayName("여행 일정 복사 - 다른 회원의 일정은 복사할 수 없고 관리자는 가능")
+    fun cloneScheduleOwnerOrAdmin() {
+        val otherMember = memberRepository.findByUsername("user2").orElseThrow()
+        val ex = assertThrows<ServiceException> {
+            tripScheduleService.cloneSchedule(1L, TripScheduleCloneReqDto(LocalDate.of(2026, 1, 5)), otherMember)
+        }
+        assertThat(ex.code).isEqualTo("403-1")
+
+        val admin = memberRepository.findByUsername("admin").orElseThrow()
+        val result = tripScheduleService.cloneSchedule(1L, TripScheduleCloneReqDto(LocalDate.of(2026, 1, 5)), admin)
+        assertThat(result.memberName).isEqualTo("admin")
+    }
+
+    @Test
+    @DisplayName("여행 일정 복사 실패 - 시작일 누락")
+    fun cloneScheduleFailNoStartDate() {
+        val ex = assertThrows<ServiceException> {
+            tripScheduleService.cloneSchedule(1L, TripScheduleCloneReqDto(null), loggedInMember)
+        }
+        assertThat(ex.code).isEqualTo("400-2")
+    }
+
     @Test
     @DisplayName("여행 일정 삭제 성공")
     fun deleteScheduleSuccess() {
         val scheduleId = 1L
         // 삭제 수행
-        tripScheduleService.deleteSchedule(scheduleId, token)
+        tripScheduleService.deleteSchedule(scheduleId, loggedInMember)
         // 삭제 후 조회 시 ServiceException 또는 null 반환 등의 방식으로 검증할 수 있음
     }
 
@@ -154,12 +241,11 @@ class TripScheduleServiceTest {
     @DisplayName("여행 일정 삭제 실패 - 소유자가 아님")
     fun deleteScheduleFailNotOwner() {
         val scheduleId = 1L
-        // user2의 토큰을 사용하여 삭제 시도
+        // user2로 삭제 시도
         val otherMember = memberRepository.findByUsername("user2").orElseThrow()
-        val otherToken = jwtUtil.generateAccessToken(otherMember.username, otherMember.authority, otherMember.verified)
 
         val ex = assertThrows<ServiceException> {
-            tripScheduleService.deleteSchedule(scheduleId, otherToken)
+            tripScheduleService.deleteSchedule(scheduleId, otherMember)
         }
         assertThat(ex.code).isEqualTo("403-1")
     }
@@ -193,7 +279,7 @@ class TripScheduleServiceTest {
             tripInformationUpdates = listOf(updateTripInfo)
         )
 
-        val updateRes = tripScheduleService.updateTrip(updateReq, token)
+        val updateRes = tripScheduleService.updateTrip(updateReq, loggedInMember)
 
         assertThat(updateRes.updatedSchedule.title).isEqualTo("수정된 제목")
         assertThat(updateRes.updatedSchedule.description).isEqualTo("수정된 설명")
@@ -229,12 +315,11 @@ class TripScheduleServiceTest {
             tripInformationUpdates = listOf(updateTripInfo)
         )
 
-        // user2의 토큰 생성 (user1이 생성한 일정을 수정할 수 없음)
+        // user2로 수정 시도 (user1이 생성한 일정을 수정할 수 없음)
         val otherMember = memberRepository.findByUsername("user2").orElseThrow()
-        val otherToken = jwtUtil.generateAccessToken(otherMember.username, otherMember.authority, otherMember.verified)
 
         val ex = assertThrows<ServiceException> {
-            tripScheduleService.updateTrip(updateReq, otherToken)
+            tripScheduleService.updateTrip(updateReq, otherMember)
         }
         // 일정 생성자가 아니므로 "403-1" 에러 코드가 발생해야 함
         assertThat(ex.code).isEqualTo("403-1")
@@ -243,7 +328,7 @@ class TripScheduleServiceTest {
     @Test
     @DisplayName("내 여행 일정 조회 성공")
     fun schedulesByCreatorSuccess() {
-        val schedules = tripScheduleService.getSchedulesByCreator(token)
+        val schedules = tripScheduleService.getSchedulesByCreator(loggedInMember)
         assertThat(schedules).isNotEmpty
     }
 
@@ -251,7 +336,7 @@ class TripScheduleServiceTest {
     @DisplayName("여행 일정 세부 정보 조회 성공")
     fun tripInfoSuccess() {
         val scheduleId = 1L
-        val tripInfoList = tripScheduleService.getTripInfo(token, scheduleId)
+        val tripInfoList = tripScheduleService.getTripInfo(loggedInMember, scheduleId)
         assertThat(tripInfoList).isNotEmpty
     }
 
@@ -260,10 +345,9 @@ class TripScheduleServiceTest {
     fun tripInfoFailNotOwner() {
         val scheduleId = 1L
         val otherMember = memberRepository.findByUsername("user2").orElseThrow()
-        val otherToken = jwtUtil.generateAccessToken(otherMember.username, otherMember.authority, otherMember.verified)
 
         val ex = assertThrows<ServiceException> {
-            tripScheduleService.getTripInfo(otherToken, scheduleId)
+            tripScheduleService.getTripInfo(otherMember, scheduleId)
         }
         assertThat(ex.code).isEqualTo("403-1")
     }
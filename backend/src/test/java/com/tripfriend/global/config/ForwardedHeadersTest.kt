@@ -0,0 +1,55 @@
+package com.tripfriend.global.config
+
+import org.apache.catalina.filters.RemoteIpFilter
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.config.YamlPropertiesFactoryBean
+import org.springframework.core.io.ClassPathResource
+import org.springframework.mock.web.MockFilterChain
+import org.springframework.mock.web.MockFilterConfig
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+
+// application.yml의 신뢰 프록시 설정으로 클라이언트 IP가 정해지는지 확인 (RemoteIpValve와 같은 규칙의 RemoteIpFilter 사용)
+class ForwardedHeadersTest {
+
+    private lateinit var filter: RemoteIpFilter
+
+    @BeforeEach
+    fun setUp() {
+        val properties = YamlPropertiesFactoryBean().apply { setResources(ClassPathResource("application.yml")) }.getObject()!!
+        filter = RemoteIpFilter()
+        filter.init(MockFilterConfig().apply {
+            addInitParameter("internalProxies", properties.getProperty("server.tomcat.remoteip.internal-proxies"))
+            addInitParameter("remoteIpHeader", properties.getProperty("server.tomcat.remoteip.remote-ip-header"))
+        })
+    }
+
+    private fun resolve(remoteAddr: String, forwardedFor: String): String {
+        val request = MockHttpServletRequest("POST", "/member/login")
+        request.remoteAddr = remoteAddr
+        request.addHeader("X-Forwarded-For", forwardedFor)
+        val chain = MockFilterChain()
+        filter.doFilter(request, MockHttpServletResponse(), chain)
+        return chain.request!!.remoteAddr
+    }
+
+    @Test
+    @DisplayName("nginx(Docker 브리지 / 같은 호스트)가 보낸 X-Forwarded-For의 클라이언트 IP를 사용")
+    fun resolveClientBehindProxy() {
+        assertEquals("203.0.113.7", resolve("172.18.0.1", "203.0.113.7"))
+        assertEquals("203.0.113.7", resolve("127.0.0.1", "203.0.113.7"))
+    }
+
+    @Test
+    @DisplayName("클라이언트가 직접 붙인 X-Forwarded-For 값은 무시")
+    fun ignoreSpoofedHeader() {
+        // 신뢰하지 않는 주소에서 직접 온 요청
+        assertEquals("198.51.100.9", resolve("198.51.100.9", "10.0.0.1"))
+
+        // 프록시를 거쳤어도 가장 오른쪽의 신뢰하지 않는 주소가 클라이언트
+        assertEquals("203.0.113.7", resolve("172.18.0.1", "1.2.3.4, 203.0.113.7"))
+    }
+}
@@ -0,0 +1,187 @@
+package com.tripfriend.global.redis
+
+import java.io.BufferedInputStream
+import java.io.BufferedOutputStream
+import java.io.IOException
+import java.io.InputStream
+import java.io.OutputStream
+import java.net.InetAddress
+import java.net.InetSocketAddress
+import java.net.ServerSocket
+import java.net.Socket
+import java.nio.charset.StandardCharsets
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * 테스트용 인메모리 Redis 호환 서버 (RESP2, 단일 데이터베이스).
+ * 문자열(GET / SET / DEL / EXISTS), 해시(HGET / HSET / HDEL / HGETALL), PUBLISH 를 처리하고 만료 시간은 무시한다.
+ * Lua 스크립트는 실행할 수 없으므로 EVAL / EVALSHA 는 테스트가 넘긴 scriptHandler(KEYS, ARGV)의 결과를 반환한다.
+ * stop()으로 연결까지 모두 끊어 Redis 장애를 흉내 내고, start()로 같은 포트에서 다시 받을 수 있다.
+ */
+class InMemoryRedisServer(
+    private val scriptHandler: (keys: List<String>, args: List<String>) -> Long? = { _, _ -> null }
+) : AutoCloseable {
+
+    val strings = ConcurrentHashMap<String, String>()
+    val hashes = ConcurrentHashMap<String, ConcurrentHashMap<String, String>>()
+
+    // 처리한 명령 수 (연결 설정 명령 제외)
+    val commandCount = AtomicInteger()
+
+    private val clients = CopyOnWriteArrayList<Socket>()
+
+    @Volatile
+    private var serverSocket: ServerSocket? = null
+
+    var port: Int = 0
+        private set
+
+    init {
+        start()
+    }
+
+    @Synchronized
+    fun start() {
+        if (serverSocket != null) return
+        val socket = ServerSocket()
+        socket.reuseAddress = true
+        socket.bind(InetSocketAddress(InetAddress.getLoopbackAddress(), port))
+        port = socket.localPort
+        serverSocket = socket
+        daemon("redis-accept") { accept(socket) }
+    }
+
+    // 서버를 내리고 열려 있는 연결을 모두 끊는다
+    @Synchronized
+    fun stop() {
+        serverSocket?.close()
+        serverSocket = null
+        clients.forEach { runCatching { it.close() } }
+        clients.clear()
+    }
+
+    override fun close() {
+        stop()
+    }
+
+    private fun accept(socket: ServerSocket) {
+        while (!socket.isClosed) {
+            val client = try {
+                socket.accept()
+            } catch (e: IOException) {
+                return
+            }
+            clients.add(client)
+            daemon("redis-client") { serve(client) }
+        }
+    }
+
+    private fun serve(client: Socket) {
+        try {
+            client.use {
+                val input = BufferedInputStream(it.getInputStream())
+                val output = BufferedOutputStream(it.getOutputStream())
+                while (true) {
+                    val command = readCommand(input) ?: return
+                    reply(output, handle(command))
+                    output.flush()
+                }
+            }
+        } catch (e: IOException) {
+            // 연결 종료
+        } finally {
+            clients.remove(client)
+        }
+    }
+
+    private fun handle(command: List<String>): Any? {
+        val args = command.drop(1)
+        return when (command[0].uppercase()) {
+            "HELLO" -> Error("ERR unknown command 'HELLO'") // RESP2로 접속하도록 함
+            "CLIENT", "SELECT" -> Status("OK")
+            "PING" -> Status("PONG")
+            else -> {
+                commandCount.incrementAndGet()
+                handleData(command[0].uppercase(), args)
+            }
+        }
+    }
+
+    private fun handleData(name: String, args: List<String>): Any? = when (name) {
+        "GET" -> strings[args[0]]
+        "SET" -> {
+            strings[args[0]] = args[1]
+            Status("OK")
+        }
+        "DEL" -> args.count { strings.remove(it) != null || hashes.remove(it) != null }.toLong()
+        "EXISTS" -> args.count { strings.containsKey(it) || hashes.containsKey(it) }.toLong()
+        "EXPIRE", "PEXPIRE", "EXPIREAT" -> if (strings.containsKey(args[0]) || hashes.containsKey(args[0])) 1L else 0L
+        "HGET" -> hashes[args[0]]?.get(args[1])
+        "HSET" -> {
+            val hash = hashes.computeIfAbsent(args[0]) { ConcurrentHashMap() }
+            args.drop(1).chunked(2).count { (field, value) -> hash.put(field, value) == null }.toLong()
+        }
+        "HDEL" -> args.drop(1).count { hashes[args[0]]?.remove(it) != null }.toLong()
+        "HGETALL" -> hashes[args[0]]?.flatMap { listOf(it.key, it.value) } ?: emptyList<String>()
+        "PUBLISH" -> 0L
+        "EVAL", "EVALSHA" -> {
+            val keyCount = args[1].toInt()
+            scriptHandler(args.subList(2, 2 + keyCount), args.drop(2 + keyCount))
+        }
+        else -> Error("ERR unknown command '$name'")
+    }
+
+    private class Status(val message: String)
+    private class Error(val message: String)
+
+    // 클라이언트 명령은 벌크 문자열 배열로 온다 (*<개수>\r\n $<길이>\r\n<내용>\r\n ...)
+    private fun readCommand(input: InputStream): List<String>? {
+        val header = readLine(input) ?: return null
+        require(header.startsWith("*")) { "unsupported request: $header" }
+        return List(header.substring(1).toInt()) {
+            val length = readLine(input)!!.substring(1).toInt()
+            val bytes = input.readNBytes(length)
+            input.readNBytes(2) // \r\n
+            String(bytes, StandardCharsets.UTF_8)
+        }
+    }
+
+    private fun readLine(input: InputStream): String? {
+        val line = StringBuilder()
+        while (true) {
+            val b = input.read()
+            if (b == -1) return null
+            if (b == '\r'.code) {
+                input.read() // \n
+                return line.toString()
+            }
+            line.append(b.toChar())
+        }
+    }
+
+    private fun reply(output: OutputStream, value: Any?) {
+        when (value) {
+            null -> output.write("$-1\r\n".toByteArray())
+            is Status -> output.write("+${value.message}\r\n".toByteArray())
+            is Error -> output.write("-${value.message}\r\n".toByteArray())
+            is Long -> output.write(":$value\r\n".toByteArray())
+            is String -> {
+                val bytes = value.toByteArray(StandardCharsets.UTF_8)
+                output.write("$${bytes.size}\r\n".toByteArray())
+                output.write(bytes)
+                output.write("\r\n".toByteArray())
+            }
+            is List<*> -> {
+                output.write("*${value.size}\r\n".toByteArray())
+                value.forEach { reply(output, it) }
+            }
+            else -> error("unsupported reply: $value")
+        }
+    }
+
+    private fun daemon(name: String, task: () -> Unit) {
+        Thread(task, name).apply { isDaemon = true }.start()
+    }
+}
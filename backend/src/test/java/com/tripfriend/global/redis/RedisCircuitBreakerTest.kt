@@ -0,0 +1,91 @@
+package com.tripfriend.global.redis
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.springframework.data.redis.RedisConnectionFailureException
+import java.util.concurrent.atomic.AtomicInteger
+
+class RedisCircuitBreakerTest {
+    private val meterRegistry = SimpleMeterRegistry()
+
+    private fun fail(): String = throw RedisConnectionFailureException("connection refused")
+
+    @Test
+    @DisplayName("연속 실패가 기준 횟수에 이르면 서킷을 열고 Redis를 호출하지 않음")
+    fun openAfterThreshold() {
+        // Given
+        val circuitBreaker = RedisCircuitBreaker(meterRegistry, 3, 60_000, 300)
+        val calls = AtomicInteger()
+
+        // When
+        repeat(5) {
+            assertThrows<RedisCircuitBreaker.RedisUnavailableException> {
+                circuitBreaker.execute("test") { calls.incrementAndGet(); fail() }
+            }
+        }
+
+        // Then
+        assertEquals(3, calls.get())
+        assertEquals(RedisCircuitBreaker.State.OPEN, circuitBreaker.currentState)
+        assertTrue(circuitBreaker.isDegraded())
+        assertEquals(3.0, meterRegistry.counter("redis.circuit.failures", "operation", "test").count())
+        assertEquals(2.0, meterRegistry.counter("redis.circuit.rejected", "operation", "test").count())
+        assertEquals(1.0, meterRegistry.get("redis.circuit.state").gauge().value())
+    }
+
+    @Test
+    @DisplayName("성공하면 연속 실패 횟수를 초기화")
+    fun successResetsFailures() {
+        val circuitBreaker = RedisCircuitBreaker(meterRegistry, 2, 60_000, 300)
+
+        assertThrows<RedisCircuitBreaker.RedisUnavailableException> { circuitBreaker.execute("test") { fail() } }
+        assertEquals("ok", circuitBreaker.execute("test") { "ok" })
+        assertThrows<RedisCircuitBreaker.RedisUnavailableException> { circuitBreaker.execute("test") { fail() } }
+
+        assertEquals(RedisCircuitBreaker.State.CLOSED, circuitBreaker.currentState)
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나면 요청 하나로 복구를 확인하고, 성공하면 서킷을 닫음")
+    fun closeAfterSuccessfulProbe() {
+        // Given
+        val circuitBreaker = RedisCircuitBreaker(meterRegistry, 1, 50, 300)
+        assertThrows<RedisCircuitBreaker.RedisUnavailableException> { circuitBreaker.execute("test") { fail() } }
+        Thread.sleep(100)
+
+        // When & Then - 시험 요청이 실패하면 다시 열림
+        assertThrows<RedisCircuitBreaker.RedisUnavailableException> { circuitBreaker.execute("test") { fail() } }
+        assertEquals(RedisCircuitBreaker.State.OPEN, circuitBreaker.currentState)
+        assertThrows<RedisCircuitBreaker.RedisUnavailableException> { circuitBreaker.execute("test") { "ok" } }
+
+        // 시험 요청이 성공하면 닫힘
+        Thread.sleep(100)
+        assertEquals("ok", circuitBreaker.execute("test") { "ok" })
+        assertEquals(RedisCircuitBreaker.State.CLOSED, circuitBreaker.currentState)
+        assertEquals(1L, meterRegistry.timer("redis.circuit.degraded").count())
+    }
+
+    @Test
+    @DisplayName("Redis 오류가 아닌 예외는 그대로 전달하고 실패로 세지 않음")
+    fun propagateOtherExceptions() {
+        val circuitBreaker = RedisCircuitBreaker(meterRegistry, 1, 60_000, 300)
+
+        assertThrows<IllegalStateException> { circuitBreaker.execute("test") { throw IllegalStateException() } }
+
+        assertEquals(RedisCircuitBreaker.State.CLOSED, circuitBreaker.currentState)
+    }
+
+    @Test
+    @DisplayName("장애가 허용 시간보다 길어지면 장애 허용 시간을 벗어남")
+    fun degradedWindow() {
+        val circuitBreaker = RedisCircuitBreaker(meterRegistry, 1, 60_000, 0)
+        assertTrue(circuitBreaker.isWithinDegradedWindow())
+
+        assertThrows<RedisCircuitBreaker.RedisUnavailableException> { circuitBreaker.execute("test") { fail() } }
+
+        assertFalse(circuitBreaker.isWithinDegradedWindow())
+    }
+}
@@ -0,0 +1,120 @@
+package com.tripfriend.global.redis
+
+import com.tripfriend.global.config.RedisConfig
+import com.tripfriend.global.security.AccessTokenValidator
+import com.tripfriend.global.security.AuthContext
+import com.tripfriend.global.security.LocalRevocationCache
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.mockk.mockk
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.listener.RedisMessageListenerContainer
+import org.springframework.data.redis.serializer.StringRedisSerializer
+import java.time.Duration
+import java.util.*
+import java.util.concurrent.ConcurrentHashMap
+
+// 실제 Lettuce 연결로 Redis 장애(서버 종료) -> 로컬 검증 -> 복구 흐름을 확인
+class RedisOutageTest {
+
+    private lateinit var server: InMemoryRedisServer
+    private lateinit var connectionFactory: LettuceConnectionFactory
+    private lateinit var meterRegistry: SimpleMeterRegistry
+    private lateinit var circuitBreaker: RedisCircuitBreaker
+    private lateinit var localRevocationCache: LocalRevocationCache
+    private lateinit var accessTokenValidator: AccessTokenValidator
+
+    private val now = System.currentTimeMillis()
+
+    private fun context(token: String, sessionId: String) =
+        AuthContext(token, "user1", "USER", true, false, Date(now + 3_600_000), "jti-$token", Date(now), sessionId)
+
+    @BeforeEach
+    fun setUp() {
+        // 검증 스크립트 흉내: 블랙리스트 키가 있으면 1, 세션의 액세스 토큰 jti가 같으면 0, 아니면 2
+        server = InMemoryRedisServer { keys, args ->
+            when {
+                server.strings.containsKey(keys[0]) -> 1L
+                server.hashes[keys[1]]?.get(args[2])?.startsWith(args[0] + " ") == true -> 0L
+                else -> 2L
+            }
+        }
+        server.hashes["sessions:user1"] = ConcurrentHashMap(mapOf("session1" to "jti-token1 jti-refresh1 9999999999"))
+
+        connectionFactory = LettuceConnectionFactory(
+            RedisStandaloneConfiguration("127.0.0.1", server.port),
+            RedisConfig.clientConfiguration(Duration.ofMillis(500), Duration.ofMillis(500))
+        )
+        connectionFactory.afterPropertiesSet()
+        connectionFactory.start()
+
+        val redisTemplate = RedisTemplate<String, String>()
+        redisTemplate.connectionFactory = connectionFactory
+        redisTemplate.keySerializer = StringRedisSerializer()
+        redisTemplate.valueSerializer = StringRedisSerializer()
+        redisTemplate.afterPropertiesSet()
+
+        meterRegistry = SimpleMeterRegistry()
+        circuitBreaker = RedisCircuitBreaker(meterRegistry, 2, 1000, 300)
+        localRevocationCache = LocalRevocationCache(1000)
+        accessTokenValidator = AccessTokenValidator(
+            redisTemplate,
+            mockk<RedisMessageListenerContainer>(relaxed = true),
+            circuitBreaker,
+            localRevocationCache,
+            meterRegistry,
+            0, // 캐시 없이 매번 Redis 확인
+            100
+        )
+    }
+
+    @AfterEach
+    fun tearDown() {
+        connectionFactory.destroy()
+        server.close()
+    }
+
+    @Test
+    @DisplayName("Redis가 중단되면 바로 로컬 검증으로 전환하고, 복구되면 다시 Redis로 확인")
+    fun degradeAndRecover() {
+        // Redis 정상: 세션에 저장된 토큰만 유효
+        assertEquals(AccessTokenValidator.Status.VALID, accessTokenValidator.validate(context("token1", "session1")))
+        assertEquals(AccessTokenValidator.Status.REPLACED, accessTokenValidator.validate(context("token3", "session3")))
+        localRevocationCache.revokeToken("jti-token2", now + 3_600_000) // 이 서버에서 로그아웃한 토큰
+
+        // Redis 중단
+        server.stop()
+
+        // 서명 / 만료 시간만으로 통과, 이 서버에서 무효화한 토큰은 거부
+        assertEquals(AccessTokenValidator.Status.VALID, accessTokenValidator.validate(context("token1", "session1")))
+        assertEquals(AccessTokenValidator.Status.BLACKLISTED, accessTokenValidator.validate(context("token2", "session1")))
+        assertEquals(RedisCircuitBreaker.State.OPEN, circuitBreaker.currentState)
+
+        // 서킷이 열린 동안에는 명령 제한 시간(500ms)을 기다리지 않음
+        val start = System.nanoTime()
+        repeat(100) { accessTokenValidator.validate(context("token1", "session1")) }
+        assertTrue(Duration.ofNanos(System.nanoTime() - start) < Duration.ofMillis(200))
+        assertTrue(meterRegistry.counter("redis.circuit.rejected", "operation", "token.validate").count() >= 100.0)
+        assertTrue(meterRegistry.counter("auth.token.validation.degraded", "result", "valid").count() >= 101.0)
+        assertEquals(1.0, meterRegistry.get("redis.circuit.state").gauge().value())
+
+        // Redis 복구: 재연결되면 시험 요청이 성공해 서킷이 닫힘
+        server.start()
+        val deadline = System.nanoTime() + Duration.ofSeconds(20).toNanos()
+        while (circuitBreaker.currentState != RedisCircuitBreaker.State.CLOSED && System.nanoTime() < deadline) {
+            Thread.sleep(100)
+            accessTokenValidator.validate(context("token3", "session3"))
+        }
+
+        assertEquals(RedisCircuitBreaker.State.CLOSED, circuitBreaker.currentState)
+        assertEquals(AccessTokenValidator.Status.REPLACED, accessTokenValidator.validate(context("token3", "session3")))
+        assertEquals(AccessTokenValidator.Status.VALID, accessTokenValidator.validate(context("token1", "session1")))
+        assertEquals(1L, meterRegistry.timer("redis.circuit.degraded").count())
+    }
+}
@@ -0,0 +1,176 @@
+package com.tripfriend.global.security
+
+import com.tripfriend.global.redis.RedisCircuitBreaker
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.data.redis.RedisConnectionFailureException
+import org.springframework.data.redis.connection.Message
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.script.RedisScript
+import org.springframework.data.redis.listener.RedisMessageListenerContainer
+import java.util.*
+
+class AccessTokenValidatorTest {
+    private val redisTemplate = mockk<RedisTemplate<String, String>>(relaxed = true)
+    private val listenerContainer = mockk<RedisMessageListenerContainer>(relaxUnitFun = true)
+    private val meterRegistry = SimpleMeterRegistry()
+    private val localRevocationCache = LocalRevocationCache(100)
+    private val accessTokenValidator = validator(RedisCircuitBreaker(meterRegistry, 2, 60_000, 300))
+
+    // 2025-01-01 00:00:00 UTC에 발급된 토큰
+    private val issuedAt = Date(1_735_689_600_000)
+
+    private fun validator(circuitBreaker: RedisCircuitBreaker) =
+        AccessTokenValidator(redisTemplate, listenerContainer, circuitBreaker, localRevocationCache, meterRegistry, 60, 100)
+
+    private fun context(username: String = "user1", token: String = "token") =
+        AuthContext(token, username, "USER", true, false, Date(issuedAt.time + 3_600_000), "jti-$token", issuedAt, "session1")
+
+    private fun stubScript(vararg results: Long) {
+        every { redisTemplate.execute(any<RedisScript<Long>>(), any<List<String>>(), *anyVararg()) } returnsMany results.toList()
+    }
+
+    private fun stubScriptFailure() {
+        every { redisTemplate.execute(any<RedisScript<Long>>(), any<List<String>>(), *anyVararg()) } throws
+                RedisConnectionFailureException("connection refused")
+    }
+
+    private fun verifyScriptCalls(count: Int) {
+        verify(exactly = count) { redisTemplate.execute(any<RedisScript<Long>>(), any<List<String>>(), *anyVararg()) }
+    }
+
+    @Test
+    @DisplayName("블랙리스트(jti) / 세션 / 무효화 기준 시각 키를 스크립트 한 번으로 확인")
+    fun validateInSingleScript() {
+        // Given
+        stubScript(0L)
+
+        // When
+        val status = accessTokenValidator.validate(context())
+
+        // Then
+        assertEquals(AccessTokenValidator.Status.VALID, status)
+        verify(exactly = 1) {
+            redisTemplate.execute(
+                any<RedisScript<Long>>(),
+                listOf("blacklist:jti-token", "sessions:user1", "token-not-before:user1"),
+                "jti-token", "1735689600", "session1"
+            )
+        }
+    }
+
+    @Test
+    @DisplayName("스크립트 결과를 토큰 상태로 변환하고, 유효하지 않은 결과는 캐시하지 않음")
+    fun mapScriptResult() {
+        stubScript(1L, 3L, 2L, 2L)
+
+        assertEquals(AccessTokenValidator.Status.BLACKLISTED, accessTokenValidator.validate(context()))
+        assertEquals(AccessTokenValidator.Status.REVOKED, accessTokenValidator.validate(context()))
+        assertEquals(AccessTokenValidator.Status.REPLACED, accessTokenValidator.validate(context()))
+        assertEquals(AccessTokenValidator.Status.REPLACED, accessTokenValidator.validate(context()))
+        verifyScriptCalls(4)
+    }
+
+    @Test
+    @DisplayName("캐시 적중 - 유효한 토큰은 다시 Redis를 거치지 않음")
+    fun validateFromNearCache() {
+        stubScript(0L)
+
+        accessTokenValidator.validate(context())
+        val status = accessTokenValidator.validate(context())
+
+        assertEquals(AccessTokenValidator.Status.VALID, status)
+        verifyScriptCalls(1)
+    }
+
+    @Test
+    @DisplayName("토큰 무효화 - 캐시를 비우고 다른 서버에 알림")
+    fun revokeEvictsAndPublishes() {
+        // Given
+        stubScript(0L, 1L)
+        accessTokenValidator.validate(context())
+
+        // When
+        accessTokenValidator.revoke("user1")
+
+        // Then
+        verify { redisTemplate.convertAndSend(AccessTokenValidator.REVOKE_CHANNEL, "user1") }
+        assertEquals(AccessTokenValidator.Status.BLACKLISTED, accessTokenValidator.validate(context()))
+        verifyScriptCalls(2)
+    }
+
+    @Test
+    @DisplayName("다른 서버의 무효화 메시지를 받으면 해당 회원의 캐시만 비움")
+    fun evictOnRevokeMessage() {
+        // Given
+        stubScript(0L, 0L, 2L)
+        accessTokenValidator.validate(context("user1", "token1"))
+        accessTokenValidator.validate(context("user2", "token2"))
+        val message = mockk<Message>()
+        every { message.body } returns "user1".toByteArray()
+
+        // When
+        accessTokenValidator.onMessage(message, null)
+
+        // Then
+        assertEquals(AccessTokenValidator.Status.VALID, accessTokenValidator.validate(context("user2", "token2")))
+        assertEquals(AccessTokenValidator.Status.REPLACED, accessTokenValidator.validate(context("user1", "token1")))
+        verifyScriptCalls(3)
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 서명 검증만으로 통과시키되, 이 서버에서 무효화한 토큰은 거부")
+    fun validateLocallyWhenRedisFails() {
+        // Given
+        stubScriptFailure()
+        val expiresAt = System.currentTimeMillis() + 60_000
+        localRevocationCache.revokeToken("jti-token2", expiresAt)
+        localRevocationCache.revokeAll("user3", issuedAt.time / 1000 + 1, expiresAt)
+
+        // When & Then
+        assertEquals(AccessTokenValidator.Status.VALID, accessTokenValidator.validate(context("user1", "token1")))
+        assertEquals(AccessTokenValidator.Status.BLACKLISTED, accessTokenValidator.validate(context("user1", "token2")))
+        assertEquals(AccessTokenValidator.Status.REVOKED, accessTokenValidator.validate(context("user3", "token3")))
+        assertEquals(1.0, meterRegistry.counter("auth.token.validation.degraded", "result", "valid").count())
+    }
+
+    @Test
+    @DisplayName("서킷이 열리면 Redis를 호출하지 않고, 로컬 검증 결과는 캐시하지 않음")
+    fun skipRedisWhileCircuitOpen() {
+        stubScriptFailure()
+
+        repeat(5) { accessTokenValidator.validate(context()) }
+
+        verifyScriptCalls(2)
+        assertEquals(5.0, meterRegistry.counter("auth.token.validation.degraded", "result", "valid").count())
+    }
+
+    @Test
+    @DisplayName("장애가 허용 시간보다 길어지면 확인할 수 없음(UNAVAILABLE)")
+    fun unavailableAfterDegradedWindow() {
+        // Given
+        stubScriptFailure()
+        val validator = validator(RedisCircuitBreaker(meterRegistry, 1, 60_000, 0))
+
+        // When
+        val status = validator.validate(context())
+
+        // Then
+        assertEquals(AccessTokenValidator.Status.UNAVAILABLE, status)
+    }
+
+    @Test
+    @DisplayName("Redis 장애 중에도 토큰 무효화는 실패하지 않음")
+    fun revokeWhileRedisDown() {
+        every { redisTemplate.convertAndSend(any(), any()) } throws RedisConnectionFailureException("connection refused")
+
+        accessTokenValidator.revoke("user1")
+
+        verify { redisTemplate.convertAndSend(AccessTokenValidator.REVOKE_CHANNEL, "user1") }
+    }
+}
@@ -0,0 +1,100 @@
+package com.tripfriend.global.security
+
+import com.tripfriend.global.exception.ServiceException
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.security.crypto.password.PasswordEncoder
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import kotlin.concurrent.thread
+
+class BoundedPasswordEncoderTest {
+    private val delegate = mockk<PasswordEncoder>()
+    private val passwordEncoder = BoundedPasswordEncoder(delegate, 1, 1, 1_000)
+
+    @AfterEach
+    fun tearDown() {
+        passwordEncoder.shutdown()
+    }
+
+    @Test
+    @DisplayName("작업자 풀에서 실제 인코더의 결과를 그대로 반환")
+    fun delegatesToEncoder() {
+        every { delegate.encode("password") } returns "encoded"
+        every { delegate.matches("password", "encoded") } returns true
+
+        assertEquals("encoded", passwordEncoder.encode("password"))
+        assertTrue(passwordEncoder.matches("password", "encoded"))
+    }
+
+    @Test
+    @DisplayName("작업자와 대기열이 모두 차 있으면 바로 503 예외 발생")
+    fun rejectWhenSaturated() {
+        // Given - 작업자 1개가 계산 중이고 대기열 1칸도 차 있음
+        val started = CountDownLatch(1)
+        val release = CountDownLatch(1)
+        every { delegate.matches("slow", any()) } answers {
+            started.countDown()
+            release.await(5, TimeUnit.SECONDS)
+            true
+        }
+        val running = thread { passwordEncoder.matches("slow", "encoded") }
+        assertTrue(started.await(5, TimeUnit.SECONDS))
+        val queued = thread { runCatching { passwordEncoder.matches("slow", "encoded") } }
+        Thread.sleep(100)
+
+        // When
+        val exception = assertThrows(ServiceException::class.java) { passwordEncoder.matches("password", "encoded") }
+
+        // Then
+        assertEquals("503-1", exception.code)
+        release.countDown()
+        running.join()
+        queued.join()
+    }
+
+    @Test
+    @DisplayName("대기열에서 제한 시간을 넘기면 계산하지 않고 503 예외 발생")
+    fun timeoutWhileQueued() {
+        // Given - 작업자 1개가 계산 중
+        val shortTimeoutEncoder = BoundedPasswordEncoder(delegate, 1, 1, 50)
+        val started = CountDownLatch(1)
+        val release = CountDownLatch(1)
+        every { delegate.matches("slow", any()) } answers {
+            started.countDown()
+            release.await(5, TimeUnit.SECONDS)
+            true
+        }
+        every { delegate.matches("queued", any()) } returns true
+        val running = thread { shortTimeoutEncoder.matches("slow", "encoded") }
+        assertTrue(started.await(5, TimeUnit.SECONDS))
+
+        // When
+        val exception = assertThrows(ServiceException::class.java) { shortTimeoutEncoder.matches("queued", "encoded") }
+        release.countDown()
+        running.join()
+        shortTimeoutEncoder.shutdown()
+
+        // Then
+        assertEquals("503-1", exception.code)
+        verify(exactly = 0) { delegate.matches("queued", any()) }
+    }
+
+    @Test
+    @DisplayName("이미 계산을 시작한 작업은 제한 시간이 지나도 결과를 기다림")
+    fun waitForRunningTask() {
+        val shortTimeoutEncoder = BoundedPasswordEncoder(delegate, 1, 1, 50)
+        every { delegate.matches("slow", any()) } answers {
+            Thread.sleep(200)
+            true
+        }
+
+        assertTrue(shortTimeoutEncoder.matches("slow", "encoded"))
+        shortTimeoutEncoder.shutdown()
+    }
+}
@@ -0,0 +1,111 @@
+package com.tripfriend.global.security
+
+import com.tripfriend.domain.member.member.entity.AgeRange
+import com.tripfriend.domain.member.member.entity.Gender
+import com.tripfriend.domain.member.member.entity.Member
+import com.tripfriend.domain.member.member.entity.TravelStyle
+import com.tripfriend.domain.member.member.repository.MemberRepository
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.data.redis.connection.Message
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.listener.RedisMessageListenerContainer
+import org.springframework.security.core.userdetails.UsernameNotFoundException
+import java.time.LocalDateTime
+import java.util.*
+
+class CustomUserDetailsServiceTest {
+    private val memberRepository = mockk<MemberRepository>()
+    private val redisTemplate = mockk<RedisTemplate<String, String>>(relaxed = true)
+    private val listenerContainer = mockk<RedisMessageListenerContainer>(relaxUnitFun = true)
+    private val customUserDetailsService =
+        CustomUserDetailsService(memberRepository, redisTemplate, listenerContainer, 600, 100)
+
+    private fun member(username: String = "user1", verified: Boolean = true) = Member(
+        id = 1L,
+        username = username,
+        email = "$username@example.com",
+        password = "encrypted_password",
+        nickname = username,
+        gender = Gender.MALE,
+        ageRange = AgeRange.TWENTIES,
+        travelStyle = TravelStyle.TOURISM,
+        aboutMe = "안녕하세요",
+        rating = 0.0,
+        authority = "USER",
+        verified = verified,
+        createdAt = LocalDateTime.now(),
+        updatedAt = LocalDateTime.now()
+    )
+
+    private fun memberOf(username: String) =
+        (customUserDetailsService.loadUserByUsername(username) as PrincipalDetails).getMember()
+
+    @Test
+    @DisplayName("캐시 적중 - 같은 회원은 다시 조회하지 않고, 요청마다 복사본을 반환")
+    fun loadFromCache() {
+        // Given
+        every { memberRepository.findByUsername("user1") } returns Optional.of(member())
+
+        // When
+        val first = memberOf("user1")
+        val second = memberOf("user1")
+
+        // Then
+        assertEquals(first, second)
+        assertNotSame(first, second)
+        verify(exactly = 1) { memberRepository.findByUsername("user1") }
+    }
+
+    @Test
+    @DisplayName("검증되지 않은 회원은 예외가 발생하고 캐시하지 않음")
+    fun unverifiedNotCached() {
+        every { memberRepository.findByUsername("user1") } returns Optional.of(member(verified = false))
+
+        assertThrows(UsernameNotFoundException::class.java) { customUserDetailsService.loadUserByUsername("user1") }
+        assertThrows(UsernameNotFoundException::class.java) { customUserDetailsService.loadUserByUsername("user1") }
+        verify(exactly = 2) { memberRepository.findByUsername("user1") }
+    }
+
+    @Test
+    @DisplayName("회원 정보 변경 - 캐시를 비우고 다른 서버에 알림")
+    fun evictReloadsAndPublishes() {
+        // Given
+        every { memberRepository.findByUsername("user1") } returnsMany
+                listOf(Optional.of(member()), Optional.of(member().apply { nickname = "변경된닉네임" }))
+        memberOf("user1")
+
+        // When
+        customUserDetailsService.evict("user1")
+
+        // Then
+        verify { redisTemplate.convertAndSend(CustomUserDetailsService.EVICT_CHANNEL, match<String> { it.endsWith(" user1") }) }
+        assertEquals("변경된닉네임", memberOf("user1").nickname)
+        verify(exactly = 2) { memberRepository.findByUsername("user1") }
+    }
+
+    @Test
+    @DisplayName("회원 정보 변경 / 토큰 무효화 메시지를 받으면 해당 회원의 캐시만 비움")
+    fun evictOnMessage() {
+        // Given
+        every { memberRepository.findByUsername("user1") } returns Optional.of(member("user1"))
+        every { memberRepository.findByUsername("user2") } returns Optional.of(member("user2"))
+        memberOf("user1")
+        memberOf("user2")
+        val message = mockk<Message>()
+        every { message.body } returns "user1".toByteArray()
+
+        // When
+        customUserDetailsService.onMessage(message, null)
+        memberOf("user1")
+        memberOf("user2")
+
+        // Then
+        verify(exactly = 2) { memberRepository.findByUsername("user1") }
+        verify(exactly = 1) { memberRepository.findByUsername("user2") }
+    }
+}
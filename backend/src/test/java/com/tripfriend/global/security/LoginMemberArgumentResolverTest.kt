@@ -0,0 +1,108 @@
+package com.tripfriend.global.security
+
+import com.tripfriend.domain.member.member.entity.Member
+import com.tripfriend.global.annotation.LoginMember
+import com.tripfriend.global.exception.ServiceException
+import com.tripfriend.global.util.JwtUtil
+import io.jsonwebtoken.Claims
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.core.MethodParameter
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken
+import org.springframework.security.core.context.SecurityContextHolder
+import org.springframework.web.context.request.ServletWebRequest
+import java.util.*
+
+class LoginMemberArgumentResolverTest {
+    private val resolver = LoginMemberArgumentResolver()
+
+    // 파라미터 선언용 핸들러
+    @Suppress("UNUSED_PARAMETER")
+    private class Handler {
+        fun required(@LoginMember member: Member) {}
+        fun optional(@LoginMember(required = false) member: Member?) {}
+        fun plain(member: Member) {}
+    }
+
+    private fun parameterOf(name: String) =
+        MethodParameter(Handler::class.java.declaredMethods.first { it.name == name }, 0)
+
+    private fun resolve(name: String) =
+        resolver.resolveArgument(parameterOf(name), null, ServletWebRequest(MockHttpServletRequest()), null)
+
+    @AfterEach
+    fun tearDown() {
+        SecurityContextHolder.clearContext()
+    }
+
+    @Test
+    @DisplayName("@LoginMember가 붙은 회원 파라미터만 처리")
+    fun supportsParameter() {
+        assertTrue(resolver.supportsParameter(parameterOf("required")))
+        assertTrue(resolver.supportsParameter(parameterOf("optional")))
+        assertFalse(resolver.supportsParameter(parameterOf("plain")))
+    }
+
+    @Test
+    @DisplayName("인증 필터가 조회한 회원을 그대로 주입")
+    fun resolveAuthenticatedMember() {
+        // Given
+        val member = mockk<Member>()
+        val principal = PrincipalDetails(member, emptyMap())
+        SecurityContextHolder.getContext().authentication =
+            UsernamePasswordAuthenticationToken(principal, null, emptyList())
+
+        // When & Then
+        assertSame(member, resolve("required"))
+        assertSame(member, resolve("optional"))
+    }
+
+    @Test
+    @DisplayName("로그인하지 않은 경우 - 필수면 예외 발생, 선택이면 null")
+    fun resolveAnonymous() {
+        val exception = assertThrows(ServiceException::class.java) { resolve("required") }
+        assertEquals("401-1", exception.code)
+
+        assertNull(resolve("optional"))
+    }
+
+    @Test
+    @DisplayName("요청당 토큰은 한 번만 파싱")
+    fun authContextParsedOnce() {
+        // Given
+        val jwtUtil = mockk<JwtUtil>()
+        val claims = mockk<Claims>()
+        every { claims.subject } returns "user1"
+        every { claims["authority"] } returns "USER"
+        every { claims["verified"] } returns true
+        every { claims["deleted"] } returns null
+        every { claims.expiration } returns Date()
+        every { claims.id } returns "token-id"
+        every { claims.issuedAt } returns Date()
+        every { claims["sid"] } returns "session1"
+        every { jwtUtil.getClaims("access-token") } returns claims
+
+        val request = MockHttpServletRequest().apply { addHeader("Authorization", "Bearer access-token") }
+        val authContextResolver = AuthContextResolver(jwtUtil)
+
+        // When
+        val first = authContextResolver.resolve(request)
+        val second = authContextResolver.resolve(request)
+
+        // Then
+        assertSame(first, second)
+        assertEquals("user1", first!!.username)
+        assertTrue(first.verified)
+        assertFalse(first.deleted)
+        assertEquals("token-id", first.tokenId)
+        assertEquals("session1", first.sessionId)
+        verify(exactly = 1) { jwtUtil.getClaims("access-token") }
+        assertNull(authContextResolver.resolve(MockHttpServletRequest()))
+    }
+}
@@ -0,0 +1,59 @@
+package com.tripfriend.global.security
+
+import com.tripfriend.global.redis.RedisCircuitBreaker
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.assertEquals
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.data.redis.RedisConnectionFailureException
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.script.RedisScript
+
+class RateLimiterTest {
+    private val redisTemplate = mockk<RedisTemplate<String, String>>()
+    private val rateLimiter = RateLimiter(redisTemplate, RedisCircuitBreaker(SimpleMeterRegistry(), 5, 60_000, 300))
+
+    private fun stubScript(vararg results: Long) {
+        every { redisTemplate.execute(any<RedisScript<Long>>(), any<List<String>>(), *anyVararg()) } returnsMany results.toList()
+    }
+
+    @Test
+    @DisplayName("버킷 하나를 스크립트 한 번으로 확인하고, 거부되면 기다릴 시간을 반환")
+    fun tryAcquire() {
+        // Given
+        stubScript(-1L, 30_000L)
+
+        // When & Then
+        assertEquals(0L, rateLimiter.tryAcquire("login:ip:127.0.0.1", 5, 2))
+        assertEquals(30_000L, rateLimiter.tryAcquire("login:ip:127.0.0.1", 5, 2))
+        verify(exactly = 2) {
+            redisTemplate.execute(any<RedisScript<Long>>(), listOf("rate-limit:login:ip:127.0.0.1"), "5", any(), any(), "1")
+        }
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시에는 요청을 허용")
+    fun allowWhenRedisFails() {
+        every { redisTemplate.execute(any<RedisScript<Long>>(), any<List<String>>(), *anyVararg()) } throws
+                RedisConnectionFailureException("connection refused")
+
+        assertEquals(0L, rateLimiter.tryAcquire("login:ip:127.0.0.1", 5, 2))
+    }
+
+    @Test
+    @DisplayName("확인만 할 때는 토큰을 차감하지 않음")
+    fun checkWithoutTaking() {
+        // Given
+        stubScript(-1L, 30_000L)
+
+        // When & Then
+        assertEquals(0L, rateLimiter.check("login:account:user1", 5, 1))
+        assertEquals(30_000L, rateLimiter.check("login:account:user1", 5, 1))
+        verify(exactly = 2) {
+            redisTemplate.execute(any<RedisScript<Long>>(), listOf("rate-limit:login:account:user1"), "5", any(), any(), "0")
+        }
+    }
+}
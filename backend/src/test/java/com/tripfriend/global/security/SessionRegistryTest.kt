@@ -0,0 +1,102 @@
+package com.tripfriend.global.security
+
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.data.redis.core.HashOperations
+import org.springframework.data.redis.core.RedisTemplate
+import org.springframework.data.redis.core.script.RedisScript
+
+class SessionRegistryTest {
+    private val redisTemplate = mockk<RedisTemplate<String, String>>(relaxed = true)
+    private val hashOperations = mockk<HashOperations<String, String, String>>()
+    private val sessionRegistry = SessionRegistry(redisTemplate, 5)
+
+    private val now = System.currentTimeMillis() / 1000
+
+    init {
+        every { redisTemplate.opsForHash<String, String>() } returns hashOperations
+    }
+
+    @Test
+    @DisplayName("세션 저장 - 회원별 해시 하나에 jti와 만료 시각만 기록")
+    fun saveWritesCompactEntry() {
+        // When
+        sessionRegistry.saveAccessToken("user1", "session1", "access-id", 1_735_689_600_000)
+        sessionRegistry.saveRefreshToken("user1", "session1", "refresh-id", 1_736_294_400_000)
+
+        // Then
+        verify {
+            redisTemplate.execute(
+                any<RedisScript<Long>>(), listOf("sessions:user1"),
+                "session1", "access-id", "", "1735689600", any(), "5"
+            )
+        }
+        verify {
+            redisTemplate.execute(
+                any<RedisScript<Long>>(), listOf("sessions:user1"),
+                "session1", "", "refresh-id", "1736294400", any(), "5"
+            )
+        }
+    }
+
+    @Test
+    @DisplayName("세션 조회 - 만료되었거나 형식이 잘못된 세션은 제외")
+    fun findSkipsExpired() {
+        // Given
+        every { hashOperations.get("sessions:user1", "session1") } returns "access-id refresh-id ${now + 60}"
+        every { hashOperations.get("sessions:user1", "expired") } returns "access-id refresh-id ${now - 1}"
+        every { hashOperations.get("sessions:user1", "broken") } returns "access-id"
+        every { hashOperations.get("sessions:user1", "none") } returns null
+
+        // When & Then
+        assertEquals(
+            SessionRegistry.Session("session1", "access-id", "refresh-id", now + 60),
+            sessionRegistry.find("user1", "session1")
+        )
+        assertNull(sessionRegistry.find("user1", "expired"))
+        assertNull(sessionRegistry.find("user1", "broken"))
+        assertNull(sessionRegistry.find("user1", "none"))
+    }
+
+    @Test
+    @DisplayName("세션 목록 - 만료가 늦은 순으로 정렬")
+    fun findAllSortedByExpiry() {
+        // Given
+        every { hashOperations.entries("sessions:user1") } returns mapOf(
+            "phone" to "a1 r1 ${now + 60}",
+            "laptop" to "a2 r2 ${now + 120}",
+            "old" to "a3 r3 ${now - 1}"
+        )
+
+        // When
+        val sessions = sessionRegistry.findAll("user1")
+
+        // Then
+        assertEquals(listOf("laptop", "phone"), sessions.map { it.sessionId })
+    }
+
+    @Test
+    @DisplayName("세션 삭제 - 다른 세션은 유지")
+    fun removeSingleSession() {
+        every { hashOperations.delete("sessions:user1", "phone") } returns 1L
+        every { hashOperations.delete("sessions:user1", "unknown") } returns 0L
+
+        assertTrue(sessionRegistry.remove("user1", "phone"))
+        assertFalse(sessionRegistry.remove("user1", "unknown"))
+        verify(exactly = 0) { redisTemplate.delete("sessions:user1") }
+    }
+
+    @Test
+    @DisplayName("클라이언트 기기 ID 형식 검증")
+    fun validateSessionId() {
+        assertTrue(SessionRegistry.isValidSessionId("device_01-abc"))
+        assertFalse(SessionRegistry.isValidSessionId(null))
+        assertFalse(SessionRegistry.isValidSessionId(""))
+        assertFalse(SessionRegistry.isValidSessionId("has space"))
+        assertFalse(SessionRegistry.isValidSessionId("a".repeat(37)))
+    }
+}
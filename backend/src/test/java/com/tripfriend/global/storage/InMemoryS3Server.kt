@@ -0,0 +1,208 @@
+package com.tripfriend.global.storage
+
+import com.sun.net.httpserver.HttpExchange
+import com.sun.net.httpserver.HttpServer
+import java.io.ByteArrayOutputStream
+import java.io.InputStream
+import java.net.InetSocketAddress
+import java.net.URLDecoder
+import java.nio.charset.StandardCharsets
+import java.security.MessageDigest
+import java.util.*
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * 테스트용 인메모리 S3 호환 서버 (path-style 요청만 지원).
+ * PutObject / GetObject / HeadObject / DeleteObject 와 멀티파트 업로드(생성, 파트 업로드, 완료, 중단)를 처리한다.
+ * 외부 네트워크 없이 업로드 파이프라인을 검증하고 측정하기 위해 사용한다.
+ */
+class InMemoryS3Server : AutoCloseable {
+
+    companion object {
+        private const val PUT_LATENCY_MILLIS = 100L
+    }
+
+    // "bucket/key" -> 객체 내용
+    val objects = ConcurrentHashMap<String, ByteArray>()
+
+    // "bucket/key" -> 업로드 시 Content-Type
+    val contentTypes = ConcurrentHashMap<String, String>()
+
+    // 요청 통계
+    val putObjectCount = AtomicInteger()
+    val uploadPartCount = AtomicInteger()
+    val completedMultipartCount = AtomicInteger()
+    val maxConcurrentPuts = AtomicInteger() // 동시에 처리 중이던 업로드(객체 / 파트) 요청 수의 최댓값
+
+    private val inFlightPuts = AtomicInteger()
+    private val uploads = ConcurrentHashMap<String, ConcurrentHashMap<Int, ByteArray>>()
+    private val executor: ExecutorService = Executors.newFixedThreadPool(16)
+    private val server: HttpServer = HttpServer.create(InetSocketAddress("127.0.0.1", 0), 0).apply {
+        createContext("/") { exchange ->
+            try {
+                handle(exchange)
+            } catch (e: Exception) {
+                runCatching { sendError(exchange, 500, "InternalError") }
+            } finally {
+                exchange.close()
+            }
+        }
+        executor = this@InMemoryS3Server.executor
+        start()
+    }
+
+    val endpoint: String
+        get() = "http://127.0.0.1:${server.address.port}"
+
+    override fun close() {
+        server.stop(0)
+        executor.shutdownNow()
+    }
+
+    private fun handle(exchange: HttpExchange) {
+        val objectKey = exchange.requestURI.rawPath.removePrefix("/").let { URLDecoder.decode(it, StandardCharsets.UTF_8) }
+        val query = parseQuery(exchange.requestURI.rawQuery)
+        val uploadId = query["uploadId"]
+
+        when (exchange.requestMethod) {
+            "PUT" -> {
+                val body = readBody(exchange)
+                trackInFlight {
+                    if (uploadId != null) {
+                        uploads.getValue(uploadId)[query.getValue("partNumber").toInt()] = body
+                        uploadPartCount.incrementAndGet()
+                    } else {
+                        objects[objectKey] = body
+                        exchange.requestHeaders.getFirst("Content-Type")?.let { contentTypes[objectKey] = it }
+                        putObjectCount.incrementAndGet()
+                    }
+                }
+                exchange.responseHeaders.add("ETag", etag(body))
+                exchange.sendResponseHeaders(200, -1)
+            }
+
+            "POST" -> {
+                val body = readBody(exchange)
+                if ("uploads" in query) {
+                    val newUploadId = UUID.randomUUID().toString()
+                    uploads[newUploadId] = ConcurrentHashMap()
+                    sendXml(
+                        exchange,
+                        "<InitiateMultipartUploadResult><Bucket>${bucket(objectKey)}</Bucket>" +
+                            "<Key>${key(objectKey)}</Key><UploadId>$newUploadId</UploadId></InitiateMultipartUploadResult>"
+                    )
+                } else {
+                    val parts = uploads.remove(uploadId) ?: return sendError(exchange, 404, "NoSuchUpload")
+                    val partNumbers = Regex("<PartNumber>(\\d+)</PartNumber>").findAll(String(body))
+                        .map { it.groupValues[1].toInt() }
+                        .toList()
+                    val merged = ByteArrayOutputStream()
+                    partNumbers.forEach { merged.write(parts.getValue(it)) }
+                    objects[objectKey] = merged.toByteArray()
+                    completedMultipartCount.incrementAndGet()
+                    sendXml(
+                        exchange,
+                        "<CompleteMultipartUploadResult><Bucket>${bucket(objectKey)}</Bucket><Key>${key(objectKey)}</Key>" +
+                            "<ETag>${etag(merged.toByteArray())}</ETag></CompleteMultipartUploadResult>"
+                    )
+                }
+            }
+
+            "GET", "HEAD" -> {
+                val content = objects[objectKey] ?: return sendError(exchange, 404, "NoSuchKey")
+                exchange.responseHeaders.add("ETag", etag(content))
+                if (exchange.requestMethod == "HEAD") {
+                    exchange.responseHeaders.add("Content-Length", content.size.toString())
+                    contentTypes[objectKey]?.let { exchange.responseHeaders.add("Content-Type", it) }
+                    exchange.sendResponseHeaders(200, -1)
+                } else {
+                    exchange.sendResponseHeaders(200, content.size.toLong())
+                    exchange.responseBody.write(content)
+                }
+            }
+
+            "DELETE" -> {
+                if (uploadId != null) uploads.remove(uploadId) else objects.remove(objectKey)
+                exchange.sendResponseHeaders(204, -1)
+            }
+
+            else -> sendError(exchange, 405, "MethodNotAllowed")
+        }
+    }
+
+    // 동시 업로드 요청 수를 기록하며 실행 (네트워크 지연을 흉내 내어 요청이 겹치는지 확인할 수 있게 함)
+    private fun trackInFlight(store: () -> Unit) {
+        val current = inFlightPuts.incrementAndGet()
+        maxConcurrentPuts.accumulateAndGet(current, ::maxOf)
+        try {
+            Thread.sleep(PUT_LATENCY_MILLIS)
+            store()
+        } finally {
+            inFlightPuts.decrementAndGet()
+        }
+    }
+
+    // aws-chunked 인코딩(스트리밍 서명)으로 온 본문은 청크 헤더를 벗겨 원본만 남긴다
+    private fun readBody(exchange: HttpExchange): ByteArray {
+        val raw = exchange.requestBody.use(InputStream::readBytes)
+        val contentSha = exchange.requestHeaders.getFirst("x-amz-content-sha256") ?: ""
+        val encoding = exchange.requestHeaders.getFirst("Content-Encoding") ?: ""
+        return if (contentSha.startsWith("STREAMING-") || encoding.contains("aws-chunked")) decodeAwsChunked(raw) else raw
+    }
+
+    private fun decodeAwsChunked(raw: ByteArray): ByteArray {
+        val out = ByteArrayOutputStream()
+        var pos = 0
+        while (pos < raw.size) {
+            val lineEnd = indexOfCrlf(raw, pos)
+            val size = String(raw, pos, lineEnd - pos).substringBefore(';').trim().toInt(16)
+            pos = lineEnd + 2
+            if (size == 0) break
+            out.write(raw, pos, size)
+            pos += size + 2
+        }
+        return out.toByteArray()
+    }
+
+    private fun indexOfCrlf(bytes: ByteArray, from: Int): Int {
+        for (i in from until bytes.size - 1) {
+            if (bytes[i] == '\r'.code.toByte() && bytes[i + 1] == '\n'.code.toByte()) return i
+        }
+        return bytes.size
+    }
+
+    private fun parseQuery(rawQuery: String?): Map<String, String> =
+        rawQuery?.split('&')?.filter { it.isNotEmpty() }?.associate { param ->
+            val name = URLDecoder.decode(param.substringBefore('='), StandardCharsets.UTF_8)
+            val value = URLDecoder.decode(param.substringAfter('=', ""), StandardCharsets.UTF_8)
+            name to value
+        } ?: emptyMap()
+
+    private fun sendXml(exchange: HttpExchange, xml: String) {
+        val bytes = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>$xml").toByteArray()
+        exchange.responseHeaders.add("Content-Type", "application/xml")
+        exchange.sendResponseHeaders(200, bytes.size.toLong())
+        exchange.responseBody.write(bytes)
+    }
+
+    private fun sendError(exchange: HttpExchange, status: Int, code: String) {
+        val bytes = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><Error><Code>$code</Code><Message>$code</Message></Error>".toByteArray()
+        exchange.responseHeaders.add("Content-Type", "application/xml")
+        if (exchange.requestMethod == "HEAD") {
+            exchange.sendResponseHeaders(status, -1)
+        } else {
+            exchange.sendResponseHeaders(status, bytes.size.toLong())
+            exchange.responseBody.write(bytes)
+        }
+    }
+
+    private fun bucket(objectKey: String) = objectKey.substringBefore('/')
+
+    private fun key(objectKey: String) = objectKey.substringAfter('/')
+
+    private fun etag(content: ByteArray): String =
+        "\"" + MessageDigest.getInstance("MD5").digest(content).joinToString("") { "%02x".format(it) } + "\""
+}
@@ -0,0 +1,186 @@
+package com.tripfriend.global.storage
+
+import com.tripfriend.domain.image.service.ImageVariantService
+import com.tripfriend.domain.image.service.StoredImageService
+import com.tripfriend.global.util.ImageUtil
+import io.mockk.mockk
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import org.springframework.mock.web.MockMultipartFile
+import java.nio.file.Files
+import java.nio.file.Path
+
+class LocalImageStorageTest {
+
+    @TempDir
+    lateinit var uploadDir: Path
+
+    private lateinit var storage: LocalImageStorage
+    private lateinit var imageUtil: ImageUtil
+    private lateinit var controller: LocalImageController
+
+    // JPEG 매직 바이트로 시작하는 내용 (업로드 시 형식 확인)
+    private val content = ByteArray(1000) { (it % 256).toByte() }.apply {
+        this[0] = 0xFF.toByte()
+        this[1] = 0xD8.toByte()
+        this[2] = 0xFF.toByte()
+    }
+
+    @BeforeEach
+    fun setUp() {
+        storage = LocalImageStorage(uploadDir.toString(), "")
+        imageUtil = ImageUtil(storage, mockk<ImageVariantService>(relaxed = true), mockk<StoredImageService>(relaxed = true))
+        controller = LocalImageController(storage)
+    }
+
+    private fun upload(): String =
+        imageUtil.saveImage(MockMultipartFile("image", "photo.jpg", "image/jpeg", content))!!
+
+    private fun get(url: String, vararg headers: Pair<String, String>): MockHttpServletResponse {
+        val request = MockHttpServletRequest("GET", url)
+        headers.forEach { (name, value) -> request.addHeader(name, value) }
+        val response = MockHttpServletResponse()
+        controller.serve(url.substringAfterLast('/'), request, response)
+        return response
+    }
+
+    @Test
+    @DisplayName("이미지 저장 - 업로드 디렉토리에 저장하고 /images 상대 경로 반환")
+    fun saveImage() {
+        // When
+        val url = upload()
+
+        // Then
+        assertTrue(url.startsWith("/images/"))
+        assertArrayEquals(content, Files.readAllBytes(uploadDir.resolve(url.removePrefix("/images/"))))
+    }
+
+    @Test
+    @DisplayName("목록 조회 - 파일명 순으로 페이지 단위 조회 (형식이 맞지 않는 파일 제외)")
+    fun listInPages() {
+        // Given
+        listOf("c.jpg", "a.jpg", "b.jpg", "한글.jpg").forEach { Files.write(uploadDir.resolve(it), content) }
+
+        // When
+        val first = storage.list(null, 2)
+        val second = storage.list(first.nextToken, 2)
+
+        // Then
+        assertEquals(listOf("images/a.jpg", "images/b.jpg"), first.objects.map { it.key })
+        assertEquals(listOf("images/c.jpg"), second.objects.map { it.key })
+        assertNull(second.nextToken)
+    }
+
+    @Test
+    @DisplayName("이미지 서빙 - 전체 응답에 장기 캐시 헤더 포함")
+    fun serveFullImage() {
+        // When
+        val response = get(upload())
+
+        // Then
+        assertEquals(200, response.status)
+        assertEquals("image/jpeg", response.contentType)
+        assertEquals("public, max-age=31536000, immutable", response.getHeader("Cache-Control"))
+        assertEquals("bytes", response.getHeader("Accept-Ranges"))
+        assertEquals("nosniff", response.getHeader("X-Content-Type-Options"))
+        assertArrayEquals(content, response.contentAsByteArray)
+    }
+
+    @Test
+    @DisplayName("이미지 서빙 - 허용하지 않는 확장자의 파일은 있어도 404")
+    fun serveRejectsNonImageFile() {
+        // Given
+        Files.write(uploadDir.resolve("page.html"), "<script>alert(1)</script>".toByteArray())
+
+        // When
+        val response = get("/images/page.html")
+
+        // Then
+        assertEquals(404, response.status)
+        assertEquals(0, response.contentAsByteArray.size)
+    }
+
+    @Test
+    @DisplayName("이미지 서빙 - Range 요청은 206으로 해당 구간만 응답")
+    fun servePartialImage() {
+        // When
+        val response = get(upload(), "Range" to "bytes=100-199")
+
+        // Then
+        assertEquals(206, response.status)
+        assertEquals("bytes 100-199/1000", response.getHeader("Content-Range"))
+        assertArrayEquals(content.copyOfRange(100, 200), response.contentAsByteArray)
+    }
+
+    @Test
+    @DisplayName("이미지 서빙 - 마지막 n바이트 요청 및 범위를 벗어난 요청")
+    fun serveSuffixAndUnsatisfiableRange() {
+        val url = upload()
+
+        val suffix = get(url, "Range" to "bytes=-10")
+        assertEquals(206, suffix.status)
+        assertArrayEquals(content.copyOfRange(990, 1000), suffix.contentAsByteArray)
+
+        val unsatisfiable = get(url, "Range" to "bytes=5000-")
+        assertEquals(416, unsatisfiable.status)
+        assertEquals("bytes */1000", unsatisfiable.getHeader("Content-Range"))
+    }
+
+    @Test
+    @DisplayName("이미지 서빙 - ETag가 같으면 304")
+    fun serveNotModified() {
+        val url = upload()
+        val etag = get(url).getHeader("ETag")!!
+
+        val response = get(url, "If-None-Match" to etag)
+
+        assertEquals(304, response.status)
+        assertEquals(0, response.contentAsByteArray.size)
+    }
+
+    @Test
+    @DisplayName("이미지 서빙 - 업로드 디렉토리 밖을 가리키는 파일명은 404")
+    fun serveRejectsInvalidFileName() {
+        val response = MockHttpServletResponse()
+        controller.serve("..", MockHttpServletRequest("GET", "/images/.."), response)
+
+        assertEquals(404, response.status)
+        assertNull(storage.resolve("images/../secret"))
+        assertNull(storage.resolve("images/sub/a.jpg"))
+        assertNull(storage.resolve("images/..\\secret"))
+        assertNull(storage.resolve("images/.upload-1.tmp"))
+    }
+
+    @Test
+    @DisplayName("이미지 서빙 - 함께 배포된 한글 / 공백 파일명 이미지 (초기 데이터의 여행지 이미지)")
+    fun serveBundledNonAsciiImage() {
+        // Given - BaseInitData의 여행지 이미지 URL이 가리키는 파일
+        val bundledDir = Path.of("src/main/resources/static/images")
+        val bundledController = LocalImageController(LocalImageStorage(bundledDir.toString(), ""))
+        val fileName = "스타벅스 더종로점.png"
+
+        // When
+        val response = MockHttpServletResponse()
+        bundledController.serve(fileName, MockHttpServletRequest("GET", "/images/$fileName"), response)
+
+        // Then
+        assertEquals(200, response.status)
+        assertEquals("image/png", response.contentType)
+        assertArrayEquals(Files.readAllBytes(bundledDir.resolve(fileName)), response.contentAsByteArray)
+    }
+
+    @Test
+    @DisplayName("파일 삭제 - URL에서 추출한 키로 삭제")
+    fun deleteFile() {
+        val url = upload()
+
+        storage.delete(storage.keyOf(url)!!)
+
+        assertFalse(Files.exists(uploadDir.resolve(url.removePrefix("/images/"))))
+    }
+}
@@ -0,0 +1,181 @@
+package com.tripfriend.global.storage
+
+import com.tripfriend.domain.image.service.ImageVariantService
+import com.tripfriend.domain.image.service.StoredImageService
+import com.tripfriend.global.config.S3Config
+import com.tripfriend.global.util.ImageUtil
+import io.mockk.mockk
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.mock.web.MockMultipartFile
+import software.amazon.awssdk.services.s3.S3AsyncClient
+import software.amazon.awssdk.services.s3.S3Client
+import software.amazon.awssdk.services.s3.presigner.S3Presigner
+import java.net.URI
+import java.net.http.HttpClient
+import java.net.http.HttpRequest
+import java.net.http.HttpResponse
+import java.security.MessageDigest
+import java.time.Duration
+import java.util.*
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+import kotlin.random.Random
+
+class S3ImageStorageTest {
+    private val bucket = "tripfriend"
+    private val baseUrl = "https://cdn.tripfriend.test"
+
+    private lateinit var server: InMemoryS3Server
+    private lateinit var s3Client: S3Client
+    private lateinit var s3AsyncClient: S3AsyncClient
+    private lateinit var s3Presigner: S3Presigner
+
+    @BeforeEach
+    fun setUp() {
+        server = InMemoryS3Server()
+        s3Client = S3Config.buildClient("ap-northeast-2", "test", "test", server.endpoint, 10)
+        s3AsyncClient = S3Config.buildAsyncClient(
+            "ap-northeast-2", "test", "test", server.endpoint, 10,
+            8 * S3Config.MB, 5 * S3Config.MB
+        )
+        s3Presigner = S3Config.buildPresigner("ap-northeast-2", "test", "test", server.endpoint)
+    }
+
+    @AfterEach
+    fun tearDown() {
+        s3Client.close()
+        s3AsyncClient.close()
+        s3Presigner.close()
+        server.close()
+    }
+
+    private fun storage(maxConcurrentUploads: Int = 4) =
+        S3ImageStorage(s3Client, s3AsyncClient, s3Presigner, bucket, baseUrl, maxConcurrentUploads)
+
+    private fun imageUtil(maxConcurrentUploads: Int = 4) =
+        ImageUtil(
+            storage(maxConcurrentUploads),
+            mockk<ImageVariantService>(relaxed = true),
+            mockk<StoredImageService>(relaxed = true) // 항상 새 이미지로 취급
+        )
+
+    // JPEG 매직 바이트로 시작하는 임의 내용
+    private fun image(size: Int, name: String = "photo.jpg") =
+        MockMultipartFile("image", name, "image/jpeg", Random(size).nextBytes(size).apply {
+            this[0] = 0xFF.toByte()
+            this[1] = 0xD8.toByte()
+            this[2] = 0xFF.toByte()
+        })
+
+    @Test
+    @DisplayName("이미지 업로드 - 작은 파일은 단일 요청으로 업로드")
+    fun saveSmallImage() {
+        // Given
+        val file = image(64 * 1024)
+
+        // When
+        val url = imageUtil().saveImage(file)!!
+
+        // Then
+        assertTrue(url.startsWith("$baseUrl/images/"))
+        assertTrue(url.matches(Regex(".*/images/[0-9a-f]{64}\\.jpg")))
+        assertArrayEquals(file.bytes, server.objects["$bucket/${url.removePrefix("$baseUrl/")}"])
+        assertEquals(1, server.putObjectCount.get())
+        assertEquals(0, server.completedMultipartCount.get())
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 - 임계값을 넘는 파일은 멀티파트로 나눠 병렬 업로드")
+    fun saveLargeImageWithMultipart() {
+        // Given: 12MB (파트 5MB 기준 3개)
+        val file = image(12 * 1024 * 1024)
+
+        // When
+        val url = imageUtil().saveImage(file)!!
+
+        // Then
+        assertArrayEquals(file.bytes, server.objects["$bucket/${url.removePrefix("$baseUrl/")}"])
+        assertEquals(0, server.putObjectCount.get())
+        assertEquals(3, server.uploadPartCount.get())
+        assertEquals(1, server.completedMultipartCount.get())
+        assertTrue(server.maxConcurrentPuts.get() > 1)
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 - 동시 업로드 수는 설정값을 넘지 않음")
+    fun saveImageBoundedConcurrency() {
+        // Given
+        val util = imageUtil(maxConcurrentUploads = 2)
+        val callers = Executors.newFixedThreadPool(8)
+
+        // When
+        val urls = try {
+            callers.invokeAll(List(8) { Callable { util.saveImage(image(1024 + it)) } }).map { it.get() }
+        } finally {
+            callers.shutdown()
+        }
+
+        // Then
+        assertEquals(8, urls.toSet().size)
+        assertEquals(8, server.putObjectCount.get())
+        assertTrue(server.maxConcurrentPuts.get() <= 2)
+    }
+
+    @Test
+    @DisplayName("객체 삭제 - URL에서 추출한 키로 삭제")
+    fun deleteObject() {
+        // Given
+        val storage = storage()
+        val url = imageUtil().saveImage(image(1024))!!
+
+        // When
+        storage.delete(storage.keyOf(url)!!)
+
+        // Then
+        assertTrue(server.objects.isEmpty())
+    }
+
+    @Test
+    @DisplayName("이미지 업로드 - 빈 파일이면 업로드하지 않고 null 반환")
+    fun saveEmptyImage() {
+        assertNull(imageUtil().saveImage(MockMultipartFile("image", ByteArray(0))))
+        assertEquals(0, server.putObjectCount.get())
+    }
+
+    @Test
+    @DisplayName("직접 업로드 - 서명된 주소로 올린 객체의 크기와 형식을 조회")
+    fun presignedUpload() {
+        // Given
+        val storage = storage()
+        val content = Random(7).nextBytes(4096)
+        val sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content))
+        val key = "images/$sha256.png"
+
+        // When: 클라이언트가 발급받은 주소와 헤더로 직접 PUT
+        val presigned = storage.presignUpload(key, "image/png", content.size.toLong(), sha256, Duration.ofMinutes(5))
+        val request = HttpRequest.newBuilder(URI.create(presigned.url))
+            .apply {
+                presigned.headers
+                    .filterKeys { !it.equals("content-length", ignoreCase = true) } // HttpClient가 직접 설정
+                    .forEach { (name, value) -> header(name, value) }
+            }
+            .PUT(HttpRequest.BodyPublishers.ofByteArray(content))
+            .build()
+        val status = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.discarding()).statusCode()
+
+        // Then
+        assertEquals(200, status)
+        assertTrue(presigned.url.contains("X-Amz-Signature"))
+        assertEquals("image/png", presigned.headers.entries.first { it.key.equals("content-type", true) }.value)
+        assertArrayEquals(content, server.objects["$bucket/$key"])
+
+        val info = storage.stat(key)!!
+        assertEquals(content.size.toLong(), info.size)
+        assertEquals("image/png", info.contentType)
+        assertNull(storage.stat("images/missing.png"))
+    }
+}
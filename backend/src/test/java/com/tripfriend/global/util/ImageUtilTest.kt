@@ -0,0 +1,109 @@
+package com.tripfriend.global.util
+
+import com.tripfriend.domain.image.service.ImageVariantService
+import com.tripfriend.domain.image.service.StoredImageService
+import com.tripfriend.global.exception.ServiceException
+import com.tripfriend.global.storage.LocalImageStorage
+import io.mockk.every
+import io.mockk.mockk
+import io.mockk.verify
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import org.springframework.mock.web.MockMultipartFile
+import java.nio.file.Files
+import java.nio.file.Path
+import java.security.MessageDigest
+import java.util.*
+
+class ImageUtilTest {
+
+    @TempDir
+    lateinit var uploadDir: Path
+
+    private val imageVariantService = mockk<ImageVariantService>(relaxUnitFun = true)
+    private val storedImageService = mockk<StoredImageService>(relaxUnitFun = true)
+    private lateinit var imageUtil: ImageUtil
+
+    // 형식은 파일 앞부분(매직 바이트)으로 판별
+    private val content = byteArrayOf(0xFF.toByte(), 0xD8.toByte(), 0xFF.toByte(), 0xE0.toByte()) + "같은 사진".toByteArray()
+    private val sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content))
+
+    @BeforeEach
+    fun setUp() {
+        imageUtil = ImageUtil(LocalImageStorage(uploadDir.toString(), ""), imageVariantService, storedImageService)
+    }
+
+    private fun fileCount() = Files.list(uploadDir).use { it.count() }
+
+    @Test
+    @DisplayName("이미지 저장 - 내용 해시를 키로 저장하고 등록 후 참조 수 증가")
+    fun saveNewImage() {
+        // Given: 처음 올라온 내용
+        val key = "images/$sha256.jpg"
+        every { storedImageService.acquire(key) } returnsMany listOf(false, true)
+
+        // When
+        val url = imageUtil.saveImage(MockMultipartFile("image", "My Photo.JPEG", "image/jpeg", content))
+
+        // Then
+        assertEquals("/$key", url)
+        assertArrayEquals(content, Files.readAllBytes(uploadDir.resolve("$sha256.jpg")))
+        verify { storedImageService.register(key, sha256, content.size.toLong(), "image/jpeg") }
+        verify(exactly = 2) { storedImageService.acquire(key) }
+        verify { imageVariantService.requestVariants("/$key") }
+    }
+
+    @Test
+    @DisplayName("이미지 저장 - 같은 내용이 이미 있으면 업로드 없이 참조 수만 증가")
+    fun saveDuplicateImage() {
+        // Given
+        every { storedImageService.acquire(any()) } returns true
+
+        // When: 파일명 / Content-Type과 관계없이 내용 기준 확장자 사용
+        val url = imageUtil.saveImage(MockMultipartFile("image", "copy.png", "image/png", content))
+
+        // Then
+        assertEquals("/images/$sha256.jpg", url)
+        assertEquals(0, fileCount())
+        verify(exactly = 0) { storedImageService.register(any(), any(), any(), any()) }
+        verify(exactly = 0) { imageVariantService.requestVariants(any()) }
+    }
+
+    @Test
+    @DisplayName("이미지 저장 - 이미지가 아닌 내용은 파일명이 이미지여도 400 예외 발생")
+    fun rejectNonImageContent() {
+        // Given
+        val html = "<html><script>alert(1)</script></html>".toByteArray()
+
+        // When & Then
+        val exception = assertThrows(ServiceException::class.java) {
+            imageUtil.saveImage(MockMultipartFile("image", "photo.html", "image/png", html))
+        }
+        assertEquals("400-1", exception.code)
+        assertEquals(0, fileCount())
+        verify(exactly = 0) { storedImageService.acquire(any()) }
+    }
+
+    @Test
+    @DisplayName("형식 판별 - 매직 바이트로 JPEG / PNG / GIF / WebP만 인식")
+    fun detectContentType() {
+        assertEquals("image/png", ImageUtil.detectContentType(byteArrayOf(0x89.toByte(), 'P'.code.toByte(), 'N'.code.toByte(), 'G'.code.toByte(), 0x0D, 0x0A, 0x1A, 0x0A)))
+        assertEquals("image/gif", ImageUtil.detectContentType("GIF89a".toByteArray()))
+        assertEquals("image/webp", ImageUtil.detectContentType("RIFF\u0000\u0000\u0000\u0000WEBP".toByteArray()))
+        assertNull(ImageUtil.detectContentType("<svg xmlns=".toByteArray()))
+        assertNull(ImageUtil.detectContentType(ByteArray(0)))
+    }
+
+    @Test
+    @DisplayName("이미지 삭제 - 파일은 남기고 참조 수만 감소")
+    fun deleteImageReleasesReference() {
+        // When
+        imageUtil.deleteImage("https://cdn.example.com/images/$sha256.jpg")
+
+        // Then
+        verify { storedImageService.release("images/$sha256.jpg") }
+    }
+}
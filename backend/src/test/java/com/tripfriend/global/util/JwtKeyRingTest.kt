@@ -0,0 +1,67 @@
+package com.tripfriend.global.util
+
+import io.jsonwebtoken.JwtException
+import io.jsonwebtoken.Jwts
+import io.jsonwebtoken.SignatureAlgorithm
+import org.junit.jupiter.api.Assertions.*
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.util.*
+
+class JwtKeyRingTest {
+    private val oldSecret = "old-secret-".repeat(8)
+    private val newSecret = "new-secret-".repeat(8)
+
+    private fun claims() = Jwts.builder()
+        .setSubject("user1")
+        .setExpiration(Date(System.currentTimeMillis() + 60_000))
+        .claim("authority", "USER")
+
+    @Test
+    @DisplayName("현재 키로 서명하고 kid 헤더로 검증")
+    fun signAndVerify() {
+        val keyRing = JwtKeyRing("v1", oldSecret)
+
+        val token = keyRing.sign(claims())
+
+        assertEquals("user1", keyRing.verify(token).subject)
+        assertEquals("USER", keyRing.verify(token)["authority"])
+    }
+
+    @Test
+    @DisplayName("키 교체 - 이전 키로 발급된 토큰은 이전 키 목록으로 검증")
+    fun verifyAfterRotation() {
+        val oldToken = JwtKeyRing("v1", oldSecret).sign(claims())
+
+        val rotated = JwtKeyRing("v2", newSecret, mapOf("v1" to oldSecret))
+        val newToken = rotated.sign(claims())
+
+        assertEquals("user1", rotated.verify(oldToken).subject)
+        assertEquals("user1", rotated.verify(newToken).subject)
+
+        // 이전 키를 목록에서 빼면 기존 토큰은 거부
+        assertThrows(JwtException::class.java) { JwtKeyRing("v2", newSecret).verify(oldToken) }
+    }
+
+    @Test
+    @DisplayName("kid 없이 발급된 기존 토큰은 default 키로 검증")
+    fun verifyLegacyTokenWithoutKeyId() {
+        val legacyToken = claims()
+            .signWith(JwtKeyRing.toSecretKey(oldSecret), SignatureAlgorithm.HS512)
+            .compact()
+
+        val keyRing = JwtKeyRing("v2", newSecret, mapOf(JwtKeyRing.DEFAULT_KEY_ID to oldSecret))
+
+        assertEquals("user1", keyRing.verify(legacyToken).subject)
+    }
+
+    @Test
+    @DisplayName("이전 키 설정 파싱 - 형식이 잘못되면 예외 발생")
+    fun parseKeys() {
+        assertEquals(
+            mapOf("v1" to "a:b", "v2" to "c"),
+            JwtKeyRing.parseKeys(listOf("v1:a:b", " v2 : c ", ""))
+        )
+        assertThrows(IllegalArgumentException::class.java) { JwtKeyRing.parseKeys(listOf("secret-only")) }
+    }
+}